@@ -45,6 +45,12 @@ public abstract class CommonConstants {
 	 */
 	public static boolean ENABLE_CONSOLE_LOGGING = true;
 
+	/**
+	 * If true, every game records the time spent in its subsystems with its own {@link jsettlers.common.logging.TickProfiler}. The profile is shown
+	 * in the overlay of the map.
+	 */
+	public static boolean ENABLE_PROFILING = false;
+
 	/**
 	 * Makes the graphics print timing information to the console.
 	 */
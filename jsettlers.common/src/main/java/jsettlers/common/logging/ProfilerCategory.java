@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.common.logging;
+
+/**
+ * Measurements of one category of the {@link TickProfiler}. Besides the number of measurements and their durations, a category can count
+ * additional units, e.g. the nodes expanded by path searches.
+ * <p />
+ * The durations are stored in a histogram with buckets of exponentially growing size: bucket 0 holds durations below 1 us, bucket i holds
+ * durations below 2^i us and the last bucket holds all longer durations.
+ * 
+ * @author agent
+ * 
+ */
+public final class ProfilerCategory {
+	public static final int NUMBER_OF_BUCKETS = 22;
+
+	private final String name;
+
+	private long count;
+	private long totalNanos;
+	private long maxNanos;
+	private long lastNanos;
+	private long units;
+	private final long[] histogram = new long[NUMBER_OF_BUCKETS];
+
+	ProfilerCategory(String name) {
+		this.name = name;
+	}
+
+	ProfilerCategory(ProfilerCategory category) {
+		synchronized (category) {
+			this.name = category.name;
+			this.count = category.count;
+			this.totalNanos = category.totalNanos;
+			this.maxNanos = category.maxNanos;
+			this.lastNanos = category.lastNanos;
+			this.units = category.units;
+			System.arraycopy(category.histogram, 0, histogram, 0, NUMBER_OF_BUCKETS);
+		}
+	}
+
+	synchronized void add(long nanos, long units) {
+		count++;
+		totalNanos += nanos;
+		maxNanos = Math.max(maxNanos, nanos);
+		lastNanos = nanos;
+		this.units += units;
+		histogram[getBucket(nanos)]++;
+	}
+
+	static int getBucket(long nanos) {
+		long micros = nanos / 1000;
+		if (micros <= 0) {
+			return 0;
+		}
+		return Math.min(NUMBER_OF_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+	}
+
+	/**
+	 * @param bucket
+	 * @return The exclusive upper bound of the given bucket in microseconds or {@link Long#MAX_VALUE} for the last bucket.
+	 */
+	public static long getBucketUpperBoundMicros(int bucket) {
+		return bucket < NUMBER_OF_BUCKETS - 1 ? 1L << bucket : Long.MAX_VALUE;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public long getCount() {
+		return count;
+	}
+
+	public long getTotalNanos() {
+		return totalNanos;
+	}
+
+	public long getMaxNanos() {
+		return maxNanos;
+	}
+
+	/**
+	 * @return The duration of the last measurement.
+	 */
+	public long getLastNanos() {
+		return lastNanos;
+	}
+
+	public long getUnits() {
+		return units;
+	}
+
+	public long getAverageNanos() {
+		return count > 0 ? totalNanos / count : 0;
+	}
+
+	public long getHistogramCount(int bucket) {
+		return histogram[bucket];
+	}
+
+	/**
+	 * @param percentile
+	 *            The percentile in the range of 0 to 1.
+	 * @return The upper bound of the histogram bucket containing the given percentile in microseconds.
+	 */
+	public long getPercentileMicros(double percentile) {
+		long threshold = (long) Math.ceil(count * percentile);
+		long sum = 0;
+		for (int bucket = 0; bucket < NUMBER_OF_BUCKETS; bucket++) {
+			sum += histogram[bucket];
+			if (sum >= threshold && sum > 0) {
+				return Math.min(getBucketUpperBoundMicros(bucket), Math.max(1, maxNanos / 1000));
+			}
+		}
+		return 0;
+	}
+}
@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.common.logging;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Records the time spent in the subsystems of the game loop. Every match has its own profiler, which is set on its match context. The profiler is
+ * disabled by default (see {@link jsettlers.common.CommonConstants#ENABLE_PROFILING}) and the instrumented code only checks it for null in that
+ * case.
+ * <p />
+ * The measurements are grouped into {@link ProfilerCategory}s by keys. A key can be a class, an enum constant (e.g. a movable or building type) or a
+ * string. The results can be exported as CSV or JSON and are shown in the debug overlay of the map.
+ * 
+ * @author agent
+ * 
+ */
+public final class TickProfiler {
+	public static final String RESCHEDULE_TIMER_TICK = "RescheduleTimer.tick";
+	public static final String NETWORK_TIMER_RUN = "NetworkTimer.run";
+	public static final String LOCKSTEP_WAIT = "NetworkTimer.lockstepWait";
+	public static final String PATH_SEARCH = "AStar.findPath";
+
+	private final HashMap<Object, ProfilerCategory> categories = new HashMap<>();
+
+	public void record(Object key, long nanos) {
+		getCategory(key).add(nanos, 0);
+	}
+
+	/**
+	 * Records a measurement with the given number of additional units (e.g. the expanded nodes of a path search or the events of a tick).
+	 * 
+	 * @param key
+	 * @param nanos
+	 * @param units
+	 */
+	public void record(Object key, long nanos, long units) {
+		getCategory(key).add(nanos, units);
+	}
+
+	private ProfilerCategory getCategory(Object key) {
+		synchronized (categories) {
+			ProfilerCategory category = categories.get(key);
+			if (category == null) {
+				category = new ProfilerCategory(getName(key));
+				categories.put(key, category);
+			}
+			return category;
+		}
+	}
+
+	private static String getName(Object key) {
+		if (key instanceof Class) {
+			Class<?> clazz = (Class<?>) key;
+			return clazz.getSimpleName().isEmpty() ? clazz.getName() : clazz.getSimpleName();
+		} else if (key instanceof Enum) {
+			Enum<?> enumKey = (Enum<?>) key;
+			return enumKey.getDeclaringClass().getSimpleName() + "." + enumKey.name();
+		} else {
+			return String.valueOf(key);
+		}
+	}
+
+	/**
+	 * @param key
+	 * @return A snapshot of the category of the given key or null if nothing has been recorded for it.
+	 */
+	public ProfilerCategory getSnapshot(Object key) {
+		synchronized (categories) {
+			ProfilerCategory category = categories.get(key);
+			return category == null ? null : new ProfilerCategory(category);
+		}
+	}
+
+	/**
+	 * @return Snapshots of all categories sorted by their total time in descending order.
+	 */
+	public List<ProfilerCategory> getSnapshots() {
+		List<ProfilerCategory> snapshots = new ArrayList<>();
+		synchronized (categories) {
+			for (ProfilerCategory category : categories.values()) {
+				snapshots.add(new ProfilerCategory(category));
+			}
+		}
+		Collections.sort(snapshots, (first, second) -> Long.compare(second.getTotalNanos(), first.getTotalNanos()));
+		return snapshots;
+	}
+
+	/**
+	 * @param numberOfTopCategories
+	 *            Number of categories listed after the tick times.
+	 * @return Short text lines for the debug overlay.
+	 */
+	public List<String> getOverlayLines(int numberOfTopCategories) {
+		List<String> lines = new ArrayList<>();
+		ProfilerCategory tick = getSnapshot(RESCHEDULE_TIMER_TICK);
+		if (tick != null) {
+			lines.add(String.format(Locale.ENGLISH, "tick: %.2f ms (avg %.2f ms, max %.2f ms, %d events)", toMillis(tick.getLastNanos()),
+					toMillis(tick.getAverageNanos()), toMillis(tick.getMaxNanos()), tick.getCount() > 0 ? tick.getUnits() / tick.getCount() : 0));
+		}
+		ProfilerCategory lockstepWait = getSnapshot(LOCKSTEP_WAIT);
+		if (lockstepWait != null) {
+			lines.add(String.format(Locale.ENGLISH, "lockstep wait: %.1f ms total", toMillis(lockstepWait.getTotalNanos())));
+		}
+
+		int added = 0;
+		for (ProfilerCategory category : getSnapshots()) {
+			if (added >= numberOfTopCategories) {
+				break;
+			}
+			if (!isTimerCategory(category.getName())) {
+				lines.add(String.format(Locale.ENGLISH, "%s: %.1f ms (%d calls)", category.getName(), toMillis(category.getTotalNanos()),
+						category.getCount()));
+				added++;
+			}
+		}
+		return lines;
+	}
+
+	private static boolean isTimerCategory(String name) {
+		return RESCHEDULE_TIMER_TICK.equals(name) || NETWORK_TIMER_RUN.equals(name) || LOCKSTEP_WAIT.equals(name);
+	}
+
+	private static double toMillis(long nanos) {
+		return nanos / 1000000.0;
+	}
+
+	/**
+	 * Writes one line per category with the summary and the histogram of the category.
+	 * 
+	 * @param writer
+	 * @throws IOException
+	 */
+	public void exportCsv(Writer writer) throws IOException {
+		StringBuilder header = new StringBuilder("category,count,total_ns,avg_ns,max_ns,units,p50_us,p90_us,p99_us");
+		for (int bucket = 0; bucket < ProfilerCategory.NUMBER_OF_BUCKETS; bucket++) {
+			header.append(',').append(getBucketName(bucket));
+		}
+		writer.write(header.append('\n').toString());
+
+		for (ProfilerCategory category : getSnapshots()) {
+			StringBuilder line = new StringBuilder();
+			line.append(category.getName()).append(',').append(category.getCount()).append(',').append(category.getTotalNanos()).append(',')
+					.append(category.getAverageNanos()).append(',').append(category.getMaxNanos()).append(',').append(category.getUnits()).append(',')
+					.append(category.getPercentileMicros(0.5)).append(',').append(category.getPercentileMicros(0.9)).append(',')
+					.append(category.getPercentileMicros(0.99));
+			for (int bucket = 0; bucket < ProfilerCategory.NUMBER_OF_BUCKETS; bucket++) {
+				line.append(',').append(category.getHistogramCount(bucket));
+			}
+			writer.write(line.append('\n').toString());
+		}
+		writer.flush();
+	}
+
+	/**
+	 * Writes the categories as JSON array. The histogram of every category is written as object mapping the bucket names to the counts.
+	 * 
+	 * @param writer
+	 * @throws IOException
+	 */
+	public void exportJson(Writer writer) throws IOException {
+		StringBuilder json = new StringBuilder("[\n");
+		List<ProfilerCategory> snapshots = getSnapshots();
+		for (int i = 0; i < snapshots.size(); i++) {
+			ProfilerCategory category = snapshots.get(i);
+			json.append("  {\"category\": \"").append(category.getName().replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+			json.append(", \"count\": ").append(category.getCount());
+			json.append(", \"totalNs\": ").append(category.getTotalNanos());
+			json.append(", \"avgNs\": ").append(category.getAverageNanos());
+			json.append(", \"maxNs\": ").append(category.getMaxNanos());
+			json.append(", \"units\": ").append(category.getUnits());
+			json.append(", \"histogram\": {");
+			for (int bucket = 0; bucket < ProfilerCategory.NUMBER_OF_BUCKETS; bucket++) {
+				json.append(bucket > 0 ? ", " : "").append('"').append(getBucketName(bucket)).append("\": ").append(category.getHistogramCount(bucket));
+			}
+			json.append("}}").append(i < snapshots.size() - 1 ? ",\n" : "\n");
+		}
+		writer.write(json.append("]\n").toString());
+		writer.flush();
+	}
+
+	private static String getBucketName(int bucket) {
+		if (bucket < ProfilerCategory.NUMBER_OF_BUCKETS - 1) {
+			return "lt" + ProfilerCategory.getBucketUpperBoundMicros(bucket) + "us";
+		} else {
+			return "ge" + ProfilerCategory.getBucketUpperBoundMicros(bucket - 1) + "us";
+		}
+	}
+}
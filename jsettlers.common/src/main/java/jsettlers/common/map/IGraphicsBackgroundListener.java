@@ -15,14 +15,14 @@
 package jsettlers.common.map;
 
 /**
- * This interface can be used by the user of the IGraphicsGrid to get notified if the background (landscape type or height) has changed.
+ * This interface can be used by the user of the IGraphicsGrid to get notified if the background (landscape type, height or fog of war) has changed.
  * 
  * @author Andreas Eberle
  * 
  */
 public interface IGraphicsBackgroundListener {
 	/**
-	 * This method is called if the landscape type or height has changed at the given position.
+	 * This method is called if the landscape type, the height or the visible status of the fog of war has changed at the given position.
 	 * 
 	 * @param x
 	 *            x coordinate
@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.common.map.shapes;
+
+import jsettlers.common.utils.mutables.MutableInt;
+
+/**
+ * The positions of a hexagon around (0|0) up to a maximum radius, stored ring by ring in the order of {@link HexGridArea#stream(int, int, int, int)}.
+ * <p />
+ * The rings from startRadius to maxRadius are the indexes from {@link #getStartIndex(int)} of startRadius (inclusive) to the one of maxRadius + 1
+ * (exclusive). Iterating them with primitive coordinates doesn't allocate any streams or lambdas, so it can be used in code that runs on every step
+ * of every movable.
+ *
+ * @author agent
+ */
+public final class HexGridSpiral {
+	private final int maxRadius;
+	private final short[] dx;
+	private final short[] dy;
+
+	public HexGridSpiral(int maxRadius) {
+		this.maxRadius = maxRadius;
+		this.dx = new short[getStartIndex(maxRadius + 1)];
+		this.dy = new short[dx.length];
+
+		MutableInt index = new MutableInt(0);
+		HexGridArea.stream(0, 0, 0, maxRadius).forEach((x, y) -> {
+			dx[index.value] = (short) x;
+			dy[index.value] = (short) y;
+			index.value++;
+		});
+	}
+
+	/**
+	 * @param radius
+	 *            A radius greater or equal to 0.
+	 * @return The index of the first position of the ring with the given radius.
+	 */
+	public static int getStartIndex(int radius) {
+		return radius == 0 ? 0 : 3 * radius * (radius - 1) + 1;
+	}
+
+	public int getMaxRadius() {
+		return maxRadius;
+	}
+
+	public int getX(int centerX, int index) {
+		return centerX + dx[index];
+	}
+
+	public int getY(int centerY, int index) {
+		return centerY + dy[index];
+	}
+}
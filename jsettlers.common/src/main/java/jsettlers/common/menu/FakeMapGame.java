@@ -14,6 +14,7 @@
  *******************************************************************************/
 package jsettlers.common.menu;
 
+import jsettlers.common.logging.TickProfiler;
 import jsettlers.common.map.IGraphicsGrid;
 import jsettlers.common.player.IInGamePlayer;
 import jsettlers.common.statistics.IGameTimeProvider;
@@ -52,6 +53,11 @@ public class FakeMapGame implements IStartedGame {
 		return player;
 	}
 
+	@Override
+	public TickProfiler getProfiler() {
+		return null;
+	}
+
 	@Override
 	public void setGameExitListener(IGameExitListener exitListener) {
 	}
@@ -14,6 +14,7 @@
  *******************************************************************************/
 package jsettlers.common.menu;
 
+import jsettlers.common.logging.TickProfiler;
 import jsettlers.common.map.IGraphicsGrid;
 import jsettlers.common.player.IInGamePlayer;
 import jsettlers.common.statistics.IGameTimeProvider;
@@ -41,6 +42,13 @@ public interface IStartedGame {
 
 	IInGamePlayer getInGamePlayer();
 
+	/**
+	 * Gets the profiler of the game, which is shown in the overlay of the map.
+	 * 
+	 * @return The profiler or null if profiling is disabled.
+	 */
+	TickProfiler getProfiler();
+
 	void setGameExitListener(IGameExitListener exitListener);
 
 	boolean isShutdownFinished();
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.common.logging;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.Test;
+
+import jsettlers.common.movable.EDirection;
+
+public class TickProfilerTest {
+
+	@Test
+	public void testCategoriesAreNamedByTheirKeys() {
+		TickProfiler profiler = new TickProfiler();
+		profiler.record(EDirection.NORTH_EAST, 1000);
+		profiler.record(String.class, 2000);
+		profiler.record(TickProfiler.PATH_SEARCH, 3000, 17);
+
+		assertEquals("EDirection.NORTH_EAST", profiler.getSnapshot(EDirection.NORTH_EAST).getName());
+		assertEquals("String", profiler.getSnapshot(String.class).getName());
+		assertEquals(17, profiler.getSnapshot(TickProfiler.PATH_SEARCH).getUnits());
+	}
+
+	@Test
+	public void testSummaryAndHistogram() {
+		TickProfiler profiler = new TickProfiler();
+		profiler.record("test", 500); // < 1 us
+		profiler.record("test", 1500); // < 2 us
+		profiler.record("test", 3000); // < 4 us
+		profiler.record("test", 3500); // < 4 us
+
+		ProfilerCategory category = profiler.getSnapshot("test");
+		assertEquals(4, category.getCount());
+		assertEquals(8500, category.getTotalNanos());
+		assertEquals(3500, category.getMaxNanos());
+		assertEquals(3500, category.getLastNanos());
+		assertEquals(2125, category.getAverageNanos());
+		assertEquals(1, category.getHistogramCount(0));
+		assertEquals(1, category.getHistogramCount(1));
+		assertEquals(2, category.getHistogramCount(2));
+		assertEquals(2, category.getPercentileMicros(0.5));
+		assertEquals(3, category.getPercentileMicros(0.99)); // capped by the maximum
+	}
+
+	@Test
+	public void testLongDurationsGoToTheLastBucket() {
+		TickProfiler profiler = new TickProfiler();
+		profiler.record("slow", 60L * 1000 * 1000 * 1000);
+
+		assertEquals(1, profiler.getSnapshot("slow").getHistogramCount(ProfilerCategory.NUMBER_OF_BUCKETS - 1));
+	}
+
+	@Test
+	public void testSnapshotsAreSortedByTotalTime() {
+		TickProfiler profiler = new TickProfiler();
+		profiler.record("fast", 100);
+		profiler.record("slow", 10000);
+		profiler.record("medium", 1000);
+
+		List<ProfilerCategory> snapshots = profiler.getSnapshots();
+		assertEquals("slow", snapshots.get(0).getName());
+		assertEquals("medium", snapshots.get(1).getName());
+		assertEquals("fast", snapshots.get(2).getName());
+	}
+
+	@Test
+	public void testCsvExport() throws IOException {
+		TickProfiler profiler = new TickProfiler();
+		profiler.record("test", 1500, 3);
+
+		StringWriter writer = new StringWriter();
+		profiler.exportCsv(writer);
+		String[] lines = writer.toString().split("\n");
+
+		assertEquals(2, lines.length);
+		assertEquals(9 + ProfilerCategory.NUMBER_OF_BUCKETS, lines[0].split(",").length);
+		assertTrue(lines[0].startsWith("category,count,total_ns,avg_ns,max_ns,units,p50_us,p90_us,p99_us,lt1us,lt2us"));
+		assertTrue(lines[1].startsWith("test,1,1500,1500,1500,3,1,1,1,0,1,0"));
+	}
+
+	@Test
+	public void testJsonExport() throws IOException {
+		TickProfiler profiler = new TickProfiler();
+		profiler.record("te\"st", 1500);
+
+		StringWriter writer = new StringWriter();
+		profiler.exportJson(writer);
+		String json = writer.toString();
+
+		assertTrue(json.startsWith("[\n  {\"category\": \"te\\\"st\", \"count\": 1, \"totalNs\": 1500"));
+		assertTrue(json.contains("\"histogram\": {\"lt1us\": 0, \"lt2us\": 1"));
+		assertTrue(json.endsWith("}}\n]\n"));
+	}
+
+	@Test
+	public void testOverlayLines() {
+		TickProfiler profiler = new TickProfiler();
+		profiler.record(TickProfiler.RESCHEDULE_TIMER_TICK, 2000000, 10);
+		profiler.record("work", 1500000);
+
+		List<String> lines = profiler.getOverlayLines(3);
+		assertEquals(2, lines.size());
+		assertEquals("tick: 2.00 ms (avg 2.00 ms, max 2.00 ms, 10 events)", lines.get(0));
+		assertEquals("work: 1.5 ms (1 calls)", lines.get(1));
+	}
+}
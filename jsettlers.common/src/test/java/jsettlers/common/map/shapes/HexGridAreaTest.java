@@ -208,4 +208,23 @@ public class HexGridAreaTest {
 
 		assertEquals(expectedCount, counter.value);
 	}
+
+	@Test
+	public void testSpiralHasOrderOfStream() {
+		HexGridSpiral spiral = new HexGridSpiral(8);
+
+		for (int startRadius = 0; startRadius <= 8; startRadius++) {
+			for (int maxRadius = startRadius; maxRadius <= 8; maxRadius++) {
+				MutableInt index = new MutableInt(HexGridSpiral.getStartIndex(startRadius));
+
+				HexGridArea.stream(10, 20, startRadius, maxRadius).forEach((x, y) -> {
+					assertEquals(x, spiral.getX(10, index.value));
+					assertEquals(y, spiral.getY(20, index.value));
+					index.value++;
+				});
+
+				assertEquals(HexGridSpiral.getStartIndex(maxRadius + 1), index.value);
+			}
+		}
+	}
 }
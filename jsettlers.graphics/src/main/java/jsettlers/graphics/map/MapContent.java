@@ -35,6 +35,7 @@ import jsettlers.common.CommitInfo;
 import jsettlers.common.CommonConstants;
 import jsettlers.common.buildings.EBuildingType;
 import jsettlers.common.images.AnimationSequence;
+import jsettlers.common.logging.TickProfiler;
 import jsettlers.common.images.EImageLinkType;
 import jsettlers.common.images.ImageLink;
 import jsettlers.common.images.OriginalImageLink;
@@ -141,6 +142,7 @@ public final class MapContent implements RegionContent, IMapInterfaceListener, A
 	private static final int MESSAGE_LINE_HEIGHT = 18;
 	private static final long GOTO_MARK_TIME = 1500;
 	private static final long DOUBLE_CLICK_TIME = 500;
+	private static final int PROFILER_OVERLAY_CATEGORIES = 5;
 	/**
 	 * Sound ID when we are attacked.
 	 */
@@ -167,6 +169,7 @@ public final class MapContent implements RegionContent, IMapInterfaceListener, A
 
 	private final ReplaceableTextDrawer textDrawer;
 	private final IGameTimeProvider gameTimeProvider;
+	private final TickProfiler profiler;
 
 	private final ETextDrawPosition textDrawPosition;
 
@@ -224,6 +227,7 @@ public final class MapContent implements RegionContent, IMapInterfaceListener, A
 	public MapContent(IStartedGame game, SoundPlayer soundPlayer, ETextDrawPosition textDrawPosition, IControls controls) {
 		this.map = game.getMap();
 		this.gameTimeProvider = game.getGameTimeProvider();
+		this.profiler = game.getProfiler();
 		this.textDrawPosition = textDrawPosition;
 		this.messenger = new Messenger(this.gameTimeProvider);
 		this.textDrawer = new ReplaceableTextDrawer();
@@ -425,6 +429,19 @@ public final class MapContent implements RegionContent, IMapInterfaceListener, A
 		drawer.drawString(getConfiguredX(sideXOffset, windowWidth, 7 * letterWidth), yFirstLine, fps);
 		drawer.drawString(getConfiguredX(sideXOffset + 9 * letterWidth, windowWidth, 9 * letterWidth), yFirstLine, timeString);
 		drawer.drawString(getConfiguredX(sideXOffset, windowWidth, 7 * letterWidth), ySecondLine, CommitInfo.COMMIT_HASH_SHORT);
+
+		if (profiler != null) {
+			drawProfilerOverlay(drawer, profiler, sideXOffset, ySecondLine, letterWidth, textLineHeight);
+		}
+	}
+
+	private void drawProfilerOverlay(TextDrawer drawer, TickProfiler profiler, float sideXOffset, float yLastLine, float letterWidth,
+			float textLineHeight) {
+		float y = yLastLine;
+		for (String line : profiler.getOverlayLines(PROFILER_OVERLAY_CATEGORIES)) {
+			y -= 1.5f * textLineHeight;
+			drawer.drawString(getConfiguredX(sideXOffset, windowWidth, line.length() * letterWidth), y, line);
+		}
 	}
 
 	private float getConfiguredX(float borderDistance, int windowWidth, float fixedTextLength) {
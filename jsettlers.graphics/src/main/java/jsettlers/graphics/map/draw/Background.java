@@ -1270,13 +1270,8 @@ public class Background implements IGraphicsBackgroundListener {
 				if (mapViewResized || oldMinX > x || oldMaxX <= x) {
 					redrawPoint(boundBuffer, context, x, y, false, bufferPosition);
 				} else if (lineIsInMap && x >= 0 && x < width) {
-					if (hasInvalidFields && getAndResetInvalid(bufferPosition)) {
+					if (hasInvalidFields && getAndResetInvalid(bufferPosition)) { // fog of war changes are reported by backgroundChangedAt()
 						redrawPoint(boundBuffer, context, x, y, true, bufferPosition);
-					} else if (context.getVisibleStatus(x, y) != fogOfWarStatus[bufferPosition * 4]) {
-						redrawPoint(boundBuffer, context, x, y, true, bufferPosition);
-						invalidatePoint(x - 1, y); // only for next pass
-						invalidatePoint(x - 1, y - 1);
-						invalidatePoint(x - 1, y - 1);
 					}
 				}
 			}
@@ -1314,10 +1309,13 @@ public class Background implements IGraphicsBackgroundListener {
 
 		if (x >= 0 && y >= 0 && x < context.getMap().getWidth() - 1 && y < context.getMap().getHeight() - 1) {
 			if (wasVisible) {
-				dimFogOfWarBuffer(context, (pointOffset * 4), x, y);
-				dimFogOfWarBuffer(context, (pointOffset * 4) + 1, x + 1, y);
-				dimFogOfWarBuffer(context, (pointOffset * 4) + 2, x, y + 1);
-				dimFogOfWarBuffer(context, (pointOffset * 4) + 3, x + 1, y + 1);
+				boolean dimFinished = dimFogOfWarBuffer(context, (pointOffset * 4), x, y);
+				dimFinished &= dimFogOfWarBuffer(context, (pointOffset * 4) + 1, x + 1, y);
+				dimFinished &= dimFogOfWarBuffer(context, (pointOffset * 4) + 2, x, y + 1);
+				dimFinished &= dimFogOfWarBuffer(context, (pointOffset * 4) + 3, x + 1, y + 1);
+				if (!dimFinished) {
+					invalidatePoint(x, y); // continue dimming in the next pass
+				}
 			} else {
 				addFogOfWarBuffer(context, (pointOffset * 4), x, y);
 				addFogOfWarBuffer(context, (pointOffset * 4) + 1, x + 1, y);
@@ -1351,12 +1349,13 @@ public class Background implements IGraphicsBackgroundListener {
 	 *            The y coordinate of the tile.
 	 * @return true if and only if the dim has finished.
 	 */
-	private void dimFogOfWarBuffer(MapDrawContext context, int offset, int x, int y) {
+	private boolean dimFogOfWarBuffer(MapDrawContext context, int offset, int x, int y) {
+		byte newFog = context.getVisibleStatus(x, y);
 		if (!fowDimmed.get(offset)) {
-			byte newFog = context.getVisibleStatus(x, y);
 			fogOfWarStatus[offset] = dim(fogOfWarStatus[offset], newFog);
 			fowDimmed.set(offset);
 		}
+		return fogOfWarStatus[offset] == newFog;
 	}
 
 	private static byte dim(byte value, byte dimTo) {
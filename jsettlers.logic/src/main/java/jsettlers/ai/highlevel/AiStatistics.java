@@ -103,7 +103,7 @@ public class AiStatistics {
 
 	public AiStatistics(MainGrid mainGrid) {
 		this.mainGrid = mainGrid;
-		buildings = Building.getAllBuildings();
+		buildings = mainGrid.getMatchContext().getAllBuildings();
 		landscapeGrid = mainGrid.getLandscapeGrid();
 		objectsGrid = mainGrid.getObjectsGrid();
 		partitionsGrid = mainGrid.getPartitionsGrid();
@@ -444,6 +444,13 @@ public class AiStatistics {
 		return landscapeGrid.getBlockedPartitionAt(x, y) == playerStatistics[playerId].blockedPartitionId;
 	}
 
+	/**
+	 * @return true if a building or movable of the given team currently sees the given position.
+	 */
+	public boolean isVisibleForTeam(byte teamId, ShortPoint2D position) {
+		return mainGrid.getTeamVisibilityGrid().isVisible(teamId, position.x, position.y);
+	}
+
 	public List<ShortPoint2D> getPositionsOfMovablesWithTypeForPlayer(byte playerId, EMovableType movableType) {
 		if (!playerStatistics[playerId].movablePositions.containsKey(movableType)) {
 			return Collections.emptyList();
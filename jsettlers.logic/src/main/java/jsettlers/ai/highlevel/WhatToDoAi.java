@@ -461,8 +461,8 @@ class WhatToDoAi implements IWhatToDoAi {
 	}
 
 	private void sendOutPioneers() {
-		resourcePioneers.removeDeadPioneers();
-		broadenerPioneers.removeDeadPioneers();
+		resourcePioneers.removeDeadPioneers(mainGrid.getMatchContext());
+		broadenerPioneers.removeDeadPioneers(mainGrid.getMatchContext());
 
 		if (!resourcePioneers.isFull()) {
 			fill(resourcePioneers);
@@ -475,7 +475,7 @@ class WhatToDoAi implements IWhatToDoAi {
 
 	private void setNewTargetForBroadenerPioneers() {
 		if (broadenerPioneers.isNotEmpty()) {
-			PioneerGroup pioneersWithNoAction = broadenerPioneers.getPioneersWithNoAction();
+			PioneerGroup pioneersWithNoAction = broadenerPioneers.getPioneersWithNoAction(mainGrid.getMatchContext());
 			ShortPoint2D broadenTarget = pioneerAi.findBroadenTarget();
 			if (broadenTarget != null) {
 				taskScheduler.scheduleTask(new MoveToGuiTask(playerId, broadenTarget, pioneersWithNoAction.getPioneerIds()));
@@ -27,7 +27,6 @@ import jsettlers.ai.highlevel.pioneers.target.TreesForLumberJackTargetFinder;
 import jsettlers.common.buildings.EBuildingType;
 import jsettlers.common.landscape.EResourceType;
 import jsettlers.common.position.ShortPoint2D;
-import jsettlers.logic.constants.MatchConstants;
 
 /**
  * @author codingberlin
@@ -64,7 +63,7 @@ public class PioneerAi {
 		if (newTarget == null) {
 			AiPositions border = aiStatistics.getBorderIngestibleByPioneersOf(playerId);
 			if (border.size() > 1) {
-				lastResourceTarget = border.get(MatchConstants.aiRandom().nextInt(border.size()));
+				lastResourceTarget = border.get(aiStatistics.getMainGrid().getMatchContext().aiRandom().nextInt(border.size()));
 			}
 		} else {
 			lastResourceTarget = newTarget;
@@ -25,8 +25,8 @@ import jsettlers.common.movable.EMovableAction;
 import jsettlers.common.movable.EMovableType;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.input.tasks.ConvertGuiTask;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.map.grid.movable.MovableGrid;
-import jsettlers.logic.movable.Movable;
 import jsettlers.logic.movable.interfaces.ILogicMovable;
 import jsettlers.network.client.interfaces.ITaskScheduler;
 
@@ -57,10 +57,10 @@ public class PioneerGroup {
 		pioneerIds.clear();
 	}
 
-	public void removeDeadPioneers() {
+	public void removeDeadPioneers(MatchContext context) {
 		Collection<Integer> idsToRemove = new ArrayList<>(pioneerIds.size());
 		for (Integer pioneerId : pioneerIds) {
-			if (Movable.getMovableByID(pioneerId) == null) {
+			if (context.getMovableByID(pioneerId) == null) {
 				idsToRemove.add(pioneerId);
 			}
 		}
@@ -89,8 +89,8 @@ public class PioneerGroup {
 		}
 	}
 
-	public PioneerGroup getPioneersWithNoAction() {
-		List<Integer> pioneersWithNoAction = stream(pioneerIds).filter(pioneerId -> Movable.getMovableByID(pioneerId).getAction() == EMovableAction.NO_ACTION).collect(Collectors.toList());
+	public PioneerGroup getPioneersWithNoAction(MatchContext context) {
+		List<Integer> pioneersWithNoAction = stream(pioneerIds).filter(pioneerId -> context.getMovableByID(pioneerId).getAction() == EMovableAction.NO_ACTION).collect(Collectors.toList());
 		return new PioneerGroup(pioneersWithNoAction);
 	}
 
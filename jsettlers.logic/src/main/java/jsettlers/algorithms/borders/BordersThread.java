@@ -14,13 +14,16 @@
  *******************************************************************************/
 package jsettlers.algorithms.borders;
 
-import jsettlers.common.movable.EDirection;
-import jsettlers.common.position.ShortPoint2D;
+import java.util.BitSet;
 
-import java.util.concurrent.LinkedBlockingQueue;
+import jsettlers.common.movable.EDirection;
 
 /**
  * This thread calculates the positions that represent the border between the areas occupied by different players.
+ * <p />
+ * Positions that need to be checked are marked in a bitmap, so that enqueueing them does not allocate and positions marked several times are
+ * only checked once. The thread takes all marked positions at once and checks them row by row. While it is working, new positions are marked in
+ * a second bitmap.
  * 
  * @author Andreas Eberle
  * 
@@ -28,9 +31,15 @@ import java.util.concurrent.LinkedBlockingQueue;
 public class BordersThread implements Runnable {
 
 	private final IBordersThreadGrid grid;
-	private final LinkedBlockingQueue<ShortPoint2D> positionsQueue = new LinkedBlockingQueue<>();
+	private final int width;
 	private final Thread bordersThread;
 
+	private final Object lock = new Object();
+	private BitSet markedPositions;
+	private BitSet processedPositions;
+	private int firstMarkedIndex = Integer.MAX_VALUE;
+	private int lastMarkedIndex = -1;
+
 	private boolean canceled = false;
 
 	/**
@@ -38,9 +47,16 @@ public class BordersThread implements Runnable {
 	 * 
 	 * @param grid
 	 *            the grid on that the {@link BordersThread} will be operating
+	 * @param width
+	 *            width of the grid
+	 * @param height
+	 *            height of the grid
 	 */
-	public BordersThread(IBordersThreadGrid grid) {
+	public BordersThread(IBordersThreadGrid grid, short width, short height) {
 		this.grid = grid;
+		this.width = width;
+		this.markedPositions = new BitSet(width * height);
+		this.processedPositions = new BitSet(width * height);
 		this.bordersThread = new Thread(this);
 		this.bordersThread.setName("BordersThread");
 		this.bordersThread.setDaemon(true);
@@ -49,23 +65,51 @@ public class BordersThread implements Runnable {
 	@Override
 	public void run() {
 		while (!canceled) {
-			ShortPoint2D position = null;
-			while (position == null && !canceled) {
-				try {
-					position = positionsQueue.take();
-				} catch (InterruptedException e) {
-				}
-			}
-			if (!canceled) {
-				calculateForPosition(position);
+			try {
+				processMarkedPositions(true);
+			} catch (InterruptedException e) {
 			}
 		}
 	}
 
-	private void calculateForPosition(ShortPoint2D position) {
-		short x = position.x;
-		short y = position.y;
+	/**
+	 * Takes all marked positions and checks them.
+	 * 
+	 * @param wait
+	 *            if true, the method waits until a position is marked.
+	 * @return the number of checked positions.
+	 * @throws InterruptedException
+	 *             if the thread is interrupted while waiting.
+	 */
+	int processMarkedPositions(boolean wait) throws InterruptedException {
+		int first;
+		int last;
+		synchronized (lock) {
+			while (wait && lastMarkedIndex < 0) {
+				lock.wait();
+			}
+
+			BitSet positions = markedPositions;
+			markedPositions = processedPositions;
+			processedPositions = positions;
+			first = firstMarkedIndex;
+			last = lastMarkedIndex;
+			firstMarkedIndex = Integer.MAX_VALUE;
+			lastMarkedIndex = -1;
+		}
 
+		int processed = 0;
+		for (int index = processedPositions.nextSetBit(first); index >= 0 && index <= last; index = processedPositions.nextSetBit(index + 1)) {
+			calculateForPosition(index % width, index / width);
+			processed++;
+		}
+		if (last >= 0) {
+			processedPositions.clear(first, last + 1);
+		}
+		return processed;
+	}
+
+	void calculateForPosition(int x, int y) {
 		byte player = grid.getPlayerIdAt(x, y);
 		boolean isBorder = false;
 
@@ -108,18 +152,43 @@ public class BordersThread implements Runnable {
 		grid.setBorderAt(x, y, isBorder && player >= 0);
 	}
 
-	public void checkPosition(ShortPoint2D position) {
-		this.positionsQueue.offer(position);
+	/**
+	 * Marks the given position to be checked by the thread.
+	 * 
+	 * @param x
+	 *            x coordinate
+	 * @param y
+	 *            y coordinate
+	 */
+	public void checkPosition(int x, int y) {
+		int index = x + y * width;
+		synchronized (lock) {
+			if (lastMarkedIndex < 0) { // the thread only waits if no position is marked
+				lock.notify();
+			}
+			markedPositions.set(index);
+			if (index < firstMarkedIndex) {
+				firstMarkedIndex = index;
+			}
+			if (index > lastMarkedIndex) {
+				lastMarkedIndex = index;
+			}
+		}
 	}
 
 	public void checkArea(int x, int y, short width, short height) {
 		int endX = x + width;
 		int endY = y + height;
 
-		for (; y < endY; y += 2) {
-			for (int currX = x; currX < endX; currX += 2) {
-				this.positionsQueue.offer(new ShortPoint2D(currX, y));
+		synchronized (lock) {
+			for (int currY = y; currY < endY; currY += 2) { // the neighbors of a checked position are checked, too
+				for (int currX = x; currX < endX; currX += 2) {
+					markedPositions.set(currX + currY * this.width);
+				}
 			}
+			firstMarkedIndex = Math.min(firstMarkedIndex, x + y * this.width);
+			lastMarkedIndex = Math.max(lastMarkedIndex, endX - 1 + (endY - 1) * this.width);
+			lock.notify();
 		}
 	}
 
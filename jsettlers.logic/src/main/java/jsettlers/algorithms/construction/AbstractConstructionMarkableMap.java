@@ -80,4 +80,12 @@ public abstract class AbstractConstructionMarkableMap {
 	public abstract boolean canConstructAt(int x, int y, EBuildingType type, byte playerId);
 
 	public abstract byte calculateConstructionMarkValue(int mapX, int mapY, final RelativePoint[] flattenPositions);
+
+	/**
+	 * Sets the listener that is informed about all changes of the map that may change construction marks.
+	 * 
+	 * @param listener
+	 *            The listener or null.
+	 */
+	public abstract void setConstructionStateChangedListener(IConstructionStateChangedListener listener);
 }
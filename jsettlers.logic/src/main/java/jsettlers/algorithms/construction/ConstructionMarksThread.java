@@ -30,6 +30,7 @@ import jsettlers.network.client.interfaces.IPausingSupplier;
  */
 public final class ConstructionMarksThread implements Runnable {
 
+	private final AbstractConstructionMarkableMap map;
 	private final NewConstructionMarksAlgorithm algorithm;
 	private final IPausingSupplier pausingSupplier;
 	private final Thread thread;
@@ -43,8 +44,10 @@ public final class ConstructionMarksThread implements Runnable {
 	private EBuildingType buildingType = null;
 
 	public ConstructionMarksThread(AbstractConstructionMarkableMap map, IPausingSupplier pausingSupplier, byte player) {
+		this.map = map;
 		this.algorithm = new NewConstructionMarksAlgorithm(map, player);
 		this.pausingSupplier = pausingSupplier;
+		map.setConstructionStateChangedListener(algorithm);
 
 		thread = new Thread(this, "ConstructionMarksThread");
 		thread.setDaemon(true);
@@ -97,6 +100,7 @@ public final class ConstructionMarksThread implements Runnable {
 	}
 
 	public void cancel() {
+		map.setConstructionStateChangedListener(null);
 		canceled = true;
 		thread.interrupt();
 	}
@@ -24,26 +24,113 @@ import java.util.BitSet;
 
 /**
  * Algorithm to calculate the construction marks for the user.
+ * <p />
+ * The marks of the last calculation are kept. As long as the building type stays the same, only the marks of positions that entered the area and
+ * of positions whose building area contains a position reported to {@link #constructionStateChangedAt(int, int)} are calculated again.
  * 
  * @author Andreas Eberle
  * 
  */
-public final class NewConstructionMarksAlgorithm {
+public final class NewConstructionMarksAlgorithm implements IConstructionStateChangedListener {
 	private final AbstractConstructionMarkableMap map;
 	private final byte playerId;
 
+	private final Object changesLock = new Object();
+	private BitSet changedPositions;
+	private BitSet processedChangedPositions;
+	private boolean allPositionsChanged;
+	private final BitSet positionsToCalculate;
+
 	private MapRectangle lastArea = null;
+	private EBuildingType lastBuildingType = null;
 
 	public NewConstructionMarksAlgorithm(AbstractConstructionMarkableMap map, byte player) {
 		this.map = map;
 		this.playerId = player;
+
+		int positions = map.getWidth() * map.getHeight();
+		this.changedPositions = new BitSet(positions);
+		this.processedChangedPositions = new BitSet(positions);
+		this.positionsToCalculate = new BitSet(positions);
+	}
+
+	@Override
+	public void constructionStateChangedAt(int x, int y) {
+		synchronized (changesLock) {
+			changedPositions.set(x + y * map.getWidth());
+		}
+	}
+
+	@Override
+	public void constructionStateChanged() {
+		synchronized (changesLock) {
+			allPositionsChanged = true;
+		}
 	}
 
 	public void calculateConstructMarks(final MapRectangle mapArea, EBuildingType buildingType) {
+		boolean allChanged;
+		synchronized (changesLock) {
+			BitSet changes = changedPositions;
+			changedPositions = processedChangedPositions;
+			processedChangedPositions = changes;
+			allChanged = allPositionsChanged;
+			allPositionsChanged = false;
+		}
+
 		if (lastArea != null) {
 			removeConstructionMarks(lastArea, mapArea);
 		}
 
+		if (lastArea == null || allChanged || buildingType != lastBuildingType) {
+			calculateConstructMarks(mapArea, buildingType, null);
+		} else {
+			markChangedPositions(mapArea, buildingType);
+			calculateConstructMarks(mapArea, buildingType, positionsToCalculate);
+			positionsToCalculate.clear();
+		}
+
+		processedChangedPositions.clear();
+		lastArea = mapArea;
+		lastBuildingType = buildingType;
+	}
+
+	/**
+	 * Marks the positions of the area that need to be calculated again: The ones that entered the area and the ones whose building area contains a
+	 * changed position.
+	 */
+	private void markChangedPositions(final MapRectangle mapArea, EBuildingType buildingType) {
+		final short width = map.getWidth();
+
+		mapArea.stream()
+				.filterBounds(width, map.getHeight())
+				.filter((x, y) -> !lastArea.contains(x, y))
+				.forEach((x, y) -> positionsToCalculate.set(x + y * width));
+
+		BuildingAreaBitSet buildingArea = buildingType.getBuildingAreaBitSet();
+		for (int index = processedChangedPositions.nextSetBit(0); index >= 0; index = processedChangedPositions.nextSetBit(index + 1)) {
+			int changedX = index % width;
+			int changedY = index / width;
+
+			for (int y = changedY - buildingArea.maxY; y <= changedY - buildingArea.minY; y++) {
+				for (int x = changedX - buildingArea.maxX; x <= changedX - buildingArea.minX; x++) {
+					if (map.isInBounds(x, y) && mapArea.contains(x, y)) {
+						positionsToCalculate.set(x + y * width);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Calculates the construction marks in the given area.
+	 * 
+	 * @param positionsToCalculate
+	 *            If not null, only the marks of the positions contained in this set are calculated. Marks of other positions may only be removed if they
+	 *            are known to be invalid.
+	 */
+	private void calculateConstructMarks(final MapRectangle mapArea, EBuildingType buildingType, BitSet positionsToCalculate) {
+		final short mapWidth = map.getWidth();
 		BuildingAreaBitSet buildingArea = buildingType.getBuildingAreaBitSet();
 		boolean binaryConstructionMarkValues = !buildingType.needsFlattenedGround();
 		RelativePoint[] positionsToBeFlattened = buildingType.getBuildingArea();
@@ -72,18 +159,23 @@ public final class NewConstructionMarksAlgorithm {
 				if (!mapArea.contains(x, y) || doneSet.get(dx + line * lineLength)) { // if this position has already been pruned.
 					continue;
 				}
+				if (positionsToCalculate != null && (!map.isInBounds(x, y) || !positionsToCalculate.get(x + y * mapWidth))) {
+					continue; // this position did not change
+				}
 
 				{ // get the partition and check if the player is allowed to use this partition
 					int firstPosX = buildingArea.aPosition.calculateX(x);
 					int firstPosY = buildingArea.aPosition.calculateY(y);
 
 					if (!map.isInBounds(firstPosX, firstPosY)) {
+						map.setConstructMarking(x, y, false, binaryConstructionMarkValues, null);
 						continue;
 					}
 
 					partitionId = map.getPartitionIdAt(firstPosX, firstPosY);
 
 					if (!map.canPlayerConstructOnPartition(playerId, partitionId)) {
+						map.setConstructMarking(x, y, false, binaryConstructionMarkValues, null); // the mark may be left from the last calculation
 						continue;
 					}
 				}
@@ -126,9 +218,6 @@ public final class NewConstructionMarksAlgorithm {
 				map.setConstructMarking(x, y, true, binaryConstructionMarkValues, positionsToBeFlattened);
 			}
 		}
-
-		// set the lastArea variable for the next run
-		lastArea = mapArea;
 	}
 
 	/**
@@ -140,6 +229,7 @@ public final class NewConstructionMarksAlgorithm {
 					.filterBounds(map.getWidth(), map.getHeight())
 					.forEach((x, y) -> map.setConstructMarking(x, y, false, false, null));
 			lastArea = null;
+			lastBuildingType = null;
 		}
 	}
 
@@ -17,44 +17,46 @@ package jsettlers.algorithms.fogofwar;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.BitSet;
 
-import jsettlers.algorithms.fogofwar.CachedViewCircle.CachedViewCircleIterator;
 import jsettlers.common.CommonConstants;
+import jsettlers.common.map.IGraphicsBackgroundListener;
 import jsettlers.common.player.IPlayer;
-import jsettlers.common.player.IPlayerable;
-import jsettlers.common.position.ShortPoint2D;
 import jsettlers.logic.constants.Constants;
 import jsettlers.logic.constants.MatchConstants;
 
 /**
  * This class holds the fog of war for a given map and team.
+ * <p />
+ * Which positions are seen is taken from the {@link TeamVisibilityGrid} shared by all teams. The fog of war adds the brightness of the view
+ * circles and dims positions no longer seen by the team down to explored over time. All changed positions are reported to the
+ * {@link IGraphicsBackgroundListener}, so that the background only needs to redraw them.
  * 
  * @author Andreas Eberle
  */
-public final class FogOfWar implements Serializable {
+public final class FogOfWar implements Serializable, ITeamVisibilityListener {
 	private static final long serialVersionUID = 1877994785778678510L;
-	/**
-	 * Longest distance any unit may look
-	 */
-	private static final byte MAX_VIEW_DISTANCE = 65;
+	private static final byte DIM_DOWN_SPEED = 10;
 	static final int PADDING = 10;
 
 	private final byte team;
 
 	private final short width;
 	private final short height;
-	private byte[][] sight;
+	private final byte[] sight;
 
 	private transient boolean enabled = Constants.FOG_OF_WAR_DEFAULT_ENABLED;
-	private transient IFogOfWarGrid grid;
-	private transient boolean canceled;
+	private transient TeamVisibilityGrid visibilityGrid;
+	private transient BitSet fadingPositions;
+	private transient BitSet changedPositions;
+	private transient IGraphicsBackgroundListener backgroundListener;
+	private transient volatile boolean allPositionsChanged;
 
 	public FogOfWar(short width, short height, IPlayer player) {
 		this.width = width;
 		this.height = height;
 		this.team = player.getTeamId();
-		this.sight = new byte[width][height];
+		this.sight = new byte[width * height];
 	}
 
 	private void readObject(ObjectInputStream ois) throws ClassNotFoundException, IOException {
@@ -62,10 +64,21 @@ public final class FogOfWar implements Serializable {
 		enabled = true;
 	}
 
-	public void start(IFogOfWarGrid grid) {
-		this.grid = grid;
-		NewFoWThread thread = new NewFoWThread();
-		thread.start();
+	/**
+	 * Starts following the changes of the given {@link TeamVisibilityGrid}.
+	 */
+	public void start(TeamVisibilityGrid visibilityGrid) {
+		this.visibilityGrid = visibilityGrid;
+		this.fadingPositions = new BitSet(width * height);
+		this.changedPositions = new BitSet(width * height);
+
+		for (int index = 0; index < sight.length; index++) { // positions seen before the game has been saved
+			if (sight[index] > CommonConstants.FOG_OF_WAR_EXPLORED) {
+				fadingPositions.set(index);
+			}
+		}
+
+		visibilityGrid.addListener(this);
 	}
 
 	/**
@@ -79,146 +92,132 @@ public final class FogOfWar implements Serializable {
 	 */
 	public final byte getVisibleStatus(int x, int y) {
 		if (enabled) {
-			return (byte) Math.min(sight[x][y], CommonConstants.FOG_OF_WAR_VISIBLE);
+			return (byte) Math.min(sight[x + y * width], CommonConstants.FOG_OF_WAR_VISIBLE);
 		} else {
 			return CommonConstants.FOG_OF_WAR_VISIBLE;
 		}
 	}
 
-	private boolean isPlayerOK(IPlayerable playerable) {
-		return (MatchConstants.ENABLE_ALL_PLAYER_FOG_OF_WAR || (playerable.getPlayer().getTeamId() == team));
+	private boolean isTeamOK(byte team) {
+		return MatchConstants.ENABLE_ALL_PLAYER_FOG_OF_WAR || team == this.team;
+	}
+
+	private boolean isSeen(int x, int y) {
+		if (MatchConstants.ENABLE_ALL_PLAYER_FOG_OF_WAR) {
+			return visibilityGrid.isVisibleForAnyTeam(x, y);
+		} else {
+			return visibilityGrid.isVisible(team, x, y);
+		}
 	}
 
 	public final void toggleEnabled() {
-		enabled = !enabled;
+		setEnabled(!enabled);
 	}
 
+	/**
+	 * Enables or disables the fog of war. The change is reported to the background listener right away, so it is also shown while the game is
+	 * paused.
+	 * 
+	 * @param enabled
+	 *            true to show the fog of war.
+	 */
 	public void setEnabled(boolean enabled) {
 		this.enabled = enabled;
+		reportAllPositions();
 	}
 
-	final class NewFoWThread extends Thread {
-		private static final byte DIM_DOWN_SPEED = 10;
-		private final CircleDrawer drawer = new CircleDrawer();
-		private byte[][] buffer = new byte[width][height];
-
-		NewFoWThread() {
-			super("FoWThread");
-			super.setDaemon(true);
-		}
-
-		@Override
-		public final void run() {
-			mySleep(500L);
-
-			while (!canceled) {
-				// StopWatch watch = new MilliStopWatch();
-				// watch.restart();
-				if (enabled) {
-					rebuildSight();
+	private void reportAllPositions() {
+		IGraphicsBackgroundListener listener = backgroundListener;
+		if (listener != null) {
+			for (int y = 0; y < height; y++) {
+				for (int x = 0; x < width; x++) {
+					listener.backgroundChangedAt(x, y);
 				}
-				// watch.stop("NewFoWThread needed: ");
-
-				mySleep(800L);
 			}
 		}
+	}
 
-		private void rebuildSight() {
-			drawer.setBuffer(buffer);
-
-			for (short x = 0; x < width; x++) {
-				for (short y = 0; y < height; y++) {
-					byte currSight = sight[x][y];
-
-					if (currSight >= CommonConstants.FOG_OF_WAR_EXPLORED) {
-						byte newSight = (byte) (currSight - DIM_DOWN_SPEED);
-						if (newSight < CommonConstants.FOG_OF_WAR_EXPLORED) {
-							buffer[x][y] = CommonConstants.FOG_OF_WAR_EXPLORED;
-						} else {
-							buffer[x][y] = newSight;
-						}
-					} else {
-						buffer[x][y] = sight[x][y];
-					}
-				}
-			}
-
-			ConcurrentLinkedQueue<? extends IViewDistancable> buildings = grid.getBuildingViewDistancables();
-			applyViewDistances(buildings);
-
-			ConcurrentLinkedQueue<? extends IViewDistancable> movables = grid.getMovableViewDistancables();
-			applyViewDistances(movables);
+	/**
+	 * Sets the listener that is informed about every position whose visible status changed.
+	 * 
+	 * @param backgroundListener
+	 *            The listener or null.
+	 */
+	public void setBackgroundListener(IGraphicsBackgroundListener backgroundListener) {
+		this.backgroundListener = backgroundListener;
+		allPositionsChanged = true;
+	}
 
-			byte[][] temp = sight;
-			sight = buffer;
-			buffer = temp;
+	@Override
+	public void viewCircleAdded(byte team, CachedViewCircle circle, int centerX, int centerY) {
+		if (!isTeamOK(team)) {
+			return;
 		}
 
-		private void applyViewDistances(ConcurrentLinkedQueue<? extends IViewDistancable> objects) {
-			for (IViewDistancable curr : objects) {
-				if (isPlayerOK(curr)) {
-					short distance = curr.getViewDistance();
-					if (distance > 0) {
-						ShortPoint2D pos = curr.getPos();
-						if (pos != null)
-							drawer.drawCircleToBuffer(pos.x, pos.y, distance);
-					}
+		for (int i = 0; i < circle.size; i++) {
+			int x = circle.x[i] + centerX;
+			int y = circle.y[i] + centerY;
+
+			if (x >= 0 && x < width && y >= 0 && y < height) {
+				int index = x + y * width;
+				byte circleSight = circle.sight[i];
+				if (sight[index] < circleSight) {
+					sight[index] = circleSight;
+					changedPositions.set(index);
 				}
 			}
 		}
+	}
 
-		private void mySleep(long ms) {
-			try {
-				Thread.sleep(ms);
-			} catch (InterruptedException e) {
-				e.printStackTrace();
-			}
+	@Override
+	public void positionHidden(byte team, int x, int y) {
+		int index = x + y * width;
+		if (isTeamOK(team) && sight[index] > CommonConstants.FOG_OF_WAR_EXPLORED) {
+			fadingPositions.set(index);
 		}
+	}
 
+	@Override
+	public void visibilityUpdated() {
+		dimFadingPositions();
+		reportChangedPositions();
 	}
 
-	final class CircleDrawer {
-		private byte[][] buffer;
-		private final CachedViewCircle[] cachedCircles = new CachedViewCircle[MAX_VIEW_DISTANCE];
+	private void dimFadingPositions() {
+		for (int index = fadingPositions.nextSetBit(0); index >= 0; index = fadingPositions.nextSetBit(index + 1)) {
+			if (isSeen(index % width, index / width)) { // seen again, it is added again when it gets hidden
+				fadingPositions.clear(index);
+				continue;
+			}
 
-		public final void setBuffer(byte[][] buffer) {
-			this.buffer = buffer;
+			int newSight = sight[index] - DIM_DOWN_SPEED;
+			if (newSight <= CommonConstants.FOG_OF_WAR_EXPLORED) {
+				newSight = CommonConstants.FOG_OF_WAR_EXPLORED;
+				fadingPositions.clear(index);
+			}
+			sight[index] = (byte) newSight;
+			changedPositions.set(index);
 		}
+	}
 
-		/**
-		 * Draws a circle to the buffer line. Each point is only brightened and onlydrawn if its x coordinate is in [0, mapWidth - 1] and its computed y coordinate is bigger than 0.
-		 */
-		final void drawCircleToBuffer(int bufferX, int bufferY, int viewDistance) {
-			CachedViewCircle circle = getCachedCircle(viewDistance);
-			CachedViewCircleIterator iterator = circle.iterator(bufferX, bufferY);
-
-			while (iterator.hasNext()) {
-				final int x = iterator.getCurrX();
-				final int y = iterator.getCurrY();
-
-				if (x >= 0 && x < width && y > 0 && y < height) {
-					byte oldSight = buffer[x][y];
-					if (oldSight < CommonConstants.FOG_OF_WAR_VISIBLE) {
-						byte newSight = iterator.getCurrSight();
-						if (oldSight < newSight) {
-							buffer[x][y] = newSight;
-						}
-					}
-				}
-			}
+	private void reportChangedPositions() {
+		if (allPositionsChanged) {
+			allPositionsChanged = false;
+			changedPositions.set(0, width * height);
 		}
 
-		private CachedViewCircle getCachedCircle(int viewDistance) {
-			int radius = Math.min(viewDistance + PADDING, MAX_VIEW_DISTANCE - 1);
-			if (cachedCircles[radius] == null) {
-				cachedCircles[radius] = new CachedViewCircle(radius);
+		IGraphicsBackgroundListener listener = backgroundListener;
+		if (listener != null) {
+			for (int index = changedPositions.nextSetBit(0); index >= 0; index = changedPositions.nextSetBit(index + 1)) {
+				listener.backgroundChangedAt(index % width, index / width);
 			}
-
-			return cachedCircles[radius];
 		}
+		changedPositions.clear();
 	}
 
 	public void cancel() {
-		this.canceled = true;
+		if (visibilityGrid != null) {
+			visibilityGrid.removeListener(this);
+		}
 	}
 }
@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.fogofwar;
+
+/**
+ * Listener that is informed by the {@link TeamVisibilityGrid} about the changes of the visibility of all teams.
+ * 
+ * @author agent
+ */
+public interface ITeamVisibilityListener {
+
+	/**
+	 * Called when an object of the given team starts to see the positions of the given circle.
+	 * 
+	 * @param team
+	 *            The team of the object.
+	 * @param circle
+	 *            The view circle of the object.
+	 * @param centerX
+	 *            The x coordinate of the center of the circle.
+	 * @param centerY
+	 *            The y coordinate of the center of the circle.
+	 */
+	void viewCircleAdded(byte team, CachedViewCircle circle, int centerX, int centerY);
+
+	/**
+	 * Called when the last object of the given team stops seeing the given position.
+	 */
+	void positionHidden(byte team, int x, int y);
+
+	/**
+	 * Called after all changes of an update have been reported.
+	 */
+	void visibilityUpdated();
+}
@@ -0,0 +1,416 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.fogofwar;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+
+import jsettlers.common.CommonConstants;
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.network.synchronic.timer.INetworkTimerable;
+
+/**
+ * Stores which positions are currently visible to which team and which positions have been explored by them.
+ * <p />
+ * Every team has a bit per position for visible and explored. Visible positions are the ones a building or movable of the team sees. To update
+ * them incrementally, the number of objects seeing a position is counted. These counters are allocated in chunks of {@link #CHUNK_SIZE}x
+ * {@link #CHUNK_SIZE} positions when a team sees a chunk for the first time, so teams only pay for the area they have seen.
+ * <p />
+ * The grid is owned by the game clock thread: it is updated by the game clock, so that all players see the same state at the same game time, and it
+ * is read by the AI and the {@link ITeamVisibilityListener}s in the same thread. Only objects that moved, changed their view distance or team or
+ * appeared or disappeared since the last update change the counters. The first update has to apply the views of all objects, so it is done by
+ * the loading thread with {@link #applyInitialViews()} before the game clock starts.
+ * <p />
+ * Only the explored bits and the applied views are saved with the game. The counters and the visible bits are rebuilt from the applied views when
+ * the game is loaded, so that a loaded game continues with the explored positions and the same visibility as the saved one.
+ * 
+ * @author agent
+ */
+public final class TeamVisibilityGrid implements INetworkTimerable, Serializable {
+	private static final long serialVersionUID = -3390318021548466154L;
+
+	public static final short UPDATE_PERIOD = 800; // ms
+	static final byte MAX_VIEW_DISTANCE = 65;
+	static final int CHUNK_SIZE_SHIFT = 5;
+	static final int CHUNK_SIZE = 1 << CHUNK_SIZE_SHIFT;
+
+	private final short width;
+	private final short height;
+	private final int chunksPerRow;
+	private final int chunksPerColumn;
+	private final IFogOfWarGrid grid;
+
+	private final TeamVisibility[] teams = new TeamVisibility[CommonConstants.MAX_PLAYERS];
+	private int updateCounter;
+
+	private transient IdentityHashMap<Object, AppliedView> appliedViews;
+	private transient CachedViewCircle[] cachedCircles;
+	private transient List<ITeamVisibilityListener> listeners;
+
+	public TeamVisibilityGrid(short width, short height, IFogOfWarGrid grid) {
+		this.width = width;
+		this.height = height;
+		this.chunksPerRow = (width + CHUNK_SIZE - 1) >> CHUNK_SIZE_SHIFT;
+		this.chunksPerColumn = (height + CHUNK_SIZE - 1) >> CHUNK_SIZE_SHIFT;
+		this.grid = grid;
+		this.appliedViews = new IdentityHashMap<>();
+		initTransients();
+	}
+
+	/**
+	 * Writes the applied views in the order of the buildings and movables of the game instead of the order of the identity hash codes, so that
+	 * the savegames of a game are the same on every run. Views of objects removed since the last update are written without their object and
+	 * removed by the next update after loading. All applied views belong to the last update, so their update counter isn't written.
+	 */
+	private void writeObject(ObjectOutputStream oos) throws IOException {
+		oos.defaultWriteObject();
+
+		List<IViewDistancable> viewers = new ArrayList<>();
+		for (IViewDistancable building : grid.getBuildingViewDistancables()) {
+			if (appliedViews.containsKey(building)) {
+				viewers.add(building);
+			}
+		}
+		for (IViewDistancable movable : grid.getMovableViewDistancables()) {
+			if (appliedViews.containsKey(movable)) {
+				viewers.add(movable);
+			}
+		}
+
+		IdentityHashMap<Object, AppliedView> removedViews = new IdentityHashMap<>(appliedViews);
+		oos.writeInt(viewers.size());
+		for (IViewDistancable viewer : viewers) {
+			oos.writeObject(viewer);
+			writeView(oos, removedViews.remove(viewer));
+		}
+
+		List<AppliedView> sortedRemovedViews = new ArrayList<>(removedViews.values());
+		Collections.sort(sortedRemovedViews);
+		oos.writeInt(sortedRemovedViews.size());
+		for (AppliedView removedView : sortedRemovedViews) {
+			writeView(oos, removedView);
+		}
+	}
+
+	private static void writeView(ObjectOutputStream oos, AppliedView view) throws IOException {
+		oos.writeByte(view.team);
+		oos.writeShort(view.x);
+		oos.writeShort(view.y);
+		oos.writeByte(view.radius);
+	}
+
+	private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+		ois.defaultReadObject();
+
+		appliedViews = new IdentityHashMap<>();
+		int numberOfViewers = ois.readInt();
+		for (int i = 0; i < numberOfViewers; i++) {
+			Object viewer = ois.readObject();
+			appliedViews.put(viewer, readView(ois));
+		}
+		int numberOfRemovedViews = ois.readInt();
+		for (int i = 0; i < numberOfRemovedViews; i++) {
+			appliedViews.put(new Object(), readView(ois));
+		}
+
+		initTransients();
+
+		for (TeamVisibility team : teams) {
+			if (team != null) {
+				team.initCounters(chunksPerRow * chunksPerColumn);
+			}
+		}
+		for (AppliedView view : appliedViews.values()) {
+			addViewCircle(view);
+		}
+	}
+
+	private AppliedView readView(ObjectInputStream ois) throws IOException {
+		AppliedView view = new AppliedView(ois.readByte(), ois.readShort(), ois.readShort(), ois.readByte());
+		view.updateCounter = updateCounter;
+		return view;
+	}
+
+	private void initTransients() {
+		cachedCircles = new CachedViewCircle[MAX_VIEW_DISTANCE];
+		listeners = new ArrayList<>();
+	}
+
+	/**
+	 * Applies the views of all buildings and movables if the grid has never been updated. This is called while the game is loaded, so that the
+	 * game clock only has to apply the changes since then.
+	 */
+	public void applyInitialViews() {
+		if (updateCounter == 0) {
+			update();
+		}
+	}
+
+	@Override
+	public void timerEvent() {
+		update();
+	}
+
+	/**
+	 * Applies the changes of all buildings and movables since the last update.
+	 */
+	public void update() {
+		updateCounter++;
+
+		updateViews(grid.getBuildingViewDistancables());
+		updateViews(grid.getMovableViewDistancables());
+
+		for (Iterator<AppliedView> iterator = appliedViews.values().iterator(); iterator.hasNext();) {
+			AppliedView view = iterator.next();
+			if (view.updateCounter != updateCounter) { // the object has been removed from the game
+				removeViewCircle(view);
+				iterator.remove();
+			}
+		}
+
+		for (ITeamVisibilityListener listener : listeners) {
+			listener.visibilityUpdated();
+		}
+	}
+
+	private void updateViews(Iterable<? extends IViewDistancable> objects) {
+		for (IViewDistancable curr : objects) {
+			ShortPoint2D pos = curr.getPos();
+			short distance = curr.getViewDistance();
+			AppliedView view = appliedViews.get(curr);
+
+			if (pos == null || distance <= 0) {
+				if (view != null) {
+					removeViewCircle(view);
+					appliedViews.remove(curr);
+				}
+				continue;
+			}
+
+			byte team = curr.getPlayer().getTeamId();
+			int radius = Math.min(distance + FogOfWar.PADDING, MAX_VIEW_DISTANCE - 1);
+			if (view == null) {
+				view = new AppliedView(team, pos.x, pos.y, radius);
+				addViewCircle(view);
+				appliedViews.put(curr, view);
+			} else if (view.x != pos.x || view.y != pos.y || view.radius != radius || view.team != team) {
+				AppliedView oldView = new AppliedView(view.team, view.x, view.y, view.radius);
+				view.team = team;
+				view.x = pos.x;
+				view.y = pos.y;
+				view.radius = radius;
+				addViewCircle(view); // add the new one first, so that positions seen by both circles stay visible
+				removeViewCircle(oldView);
+			}
+			view.updateCounter = updateCounter;
+		}
+	}
+
+	private void addViewCircle(AppliedView view) {
+		TeamVisibility team = getTeam(view.team);
+		CachedViewCircle circle = getCachedCircle(view.radius);
+
+		for (int i = 0; i < circle.size; i++) {
+			int x = circle.x[i] + view.x;
+			int y = circle.y[i] + view.y;
+
+			if (x >= 0 && x < width && y >= 0 && y < height && circle.sight[i] > CommonConstants.FOG_OF_WAR_EXPLORED) {
+				short[] chunk = team.getOrCreateChunk(getChunkIndex(x, y));
+				int indexInChunk = getIndexInChunk(x, y);
+				if (chunk[indexInChunk]++ == 0) {
+					int index = x + y * width;
+					team.visible[index >> 6] |= 1L << index;
+					team.explored[index >> 6] |= 1L << index;
+				}
+			}
+		}
+
+		for (ITeamVisibilityListener listener : listeners) {
+			listener.viewCircleAdded(view.team, circle, view.x, view.y);
+		}
+	}
+
+	private void removeViewCircle(AppliedView view) {
+		TeamVisibility team = teams[view.team];
+		CachedViewCircle circle = getCachedCircle(view.radius);
+
+		for (int i = 0; i < circle.size; i++) {
+			int x = circle.x[i] + view.x;
+			int y = circle.y[i] + view.y;
+
+			if (x >= 0 && x < width && y >= 0 && y < height && circle.sight[i] > CommonConstants.FOG_OF_WAR_EXPLORED) {
+				short[] chunk = team.chunks[getChunkIndex(x, y)];
+				if (--chunk[getIndexInChunk(x, y)] == 0) {
+					int index = x + y * width;
+					team.visible[index >> 6] &= ~(1L << index);
+
+					for (ITeamVisibilityListener listener : listeners) {
+						listener.positionHidden(view.team, x, y);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return true if a building or movable of the given team currently sees the given position.
+	 */
+	public boolean isVisible(byte team, int x, int y) {
+		TeamVisibility teamVisibility = teams[team];
+		if (teamVisibility == null) {
+			return false;
+		}
+		int index = x + y * width;
+		return (teamVisibility.visible[index >> 6] & (1L << index)) != 0;
+	}
+
+	/**
+	 * @return true if a building or movable of any team currently sees the given position.
+	 */
+	public boolean isVisibleForAnyTeam(int x, int y) {
+		for (byte team = 0; team < teams.length; team++) {
+			if (isVisible(team, x, y)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return true if the given position has been visible to the given team at any time.
+	 */
+	public boolean isExplored(byte team, int x, int y) {
+		TeamVisibility teamVisibility = teams[team];
+		if (teamVisibility == null) {
+			return false;
+		}
+		int index = x + y * width;
+		return (teamVisibility.explored[index >> 6] & (1L << index)) != 0;
+	}
+
+	/**
+	 * @return The number of bytes used for the bits and counters of all teams.
+	 */
+	public long getUsedBytes() {
+		long bytes = 0;
+		for (TeamVisibility team : teams) {
+			if (team != null) {
+				bytes += (team.visible.length + team.explored.length) * 8L;
+				for (short[] chunk : team.chunks) {
+					if (chunk != null) {
+						bytes += chunk.length * 2L;
+					}
+				}
+			}
+		}
+		return bytes;
+	}
+
+	public void addListener(ITeamVisibilityListener listener) {
+		listeners.add(listener);
+	}
+
+	public void removeListener(ITeamVisibilityListener listener) {
+		listeners.remove(listener);
+	}
+
+	private TeamVisibility getTeam(byte team) {
+		if (teams[team] == null) {
+			teams[team] = new TeamVisibility(width * height, chunksPerRow * chunksPerColumn);
+		}
+		return teams[team];
+	}
+
+	private int getChunkIndex(int x, int y) {
+		return (x >> CHUNK_SIZE_SHIFT) + (y >> CHUNK_SIZE_SHIFT) * chunksPerRow;
+	}
+
+	private static int getIndexInChunk(int x, int y) {
+		return (x & (CHUNK_SIZE - 1)) + ((y & (CHUNK_SIZE - 1)) << CHUNK_SIZE_SHIFT);
+	}
+
+	private CachedViewCircle getCachedCircle(int radius) {
+		if (cachedCircles[radius] == null) {
+			cachedCircles[radius] = new CachedViewCircle(radius);
+		}
+
+		return cachedCircles[radius];
+	}
+
+	private static final class TeamVisibility implements Serializable {
+		private static final long serialVersionUID = 8460813316720473359L;
+
+		final long[] explored;
+		transient long[] visible;
+		transient short[][] chunks;
+
+		TeamVisibility(int positions, int numberOfChunks) {
+			explored = new long[(positions + 63) >> 6];
+			initCounters(numberOfChunks);
+		}
+
+		void initCounters(int numberOfChunks) {
+			visible = new long[explored.length];
+			chunks = new short[numberOfChunks][];
+		}
+
+		short[] getOrCreateChunk(int chunkIndex) {
+			if (chunks[chunkIndex] == null) {
+				chunks[chunkIndex] = new short[CHUNK_SIZE * CHUNK_SIZE];
+			}
+			return chunks[chunkIndex];
+		}
+	}
+
+	/**
+	 * The view circle of an object as it has been added to the counters.
+	 */
+	private static final class AppliedView implements Comparable<AppliedView> {
+		byte team;
+		short x;
+		short y;
+		int radius;
+		int updateCounter;
+
+		AppliedView(byte team, short x, short y, int radius) {
+			this.team = team;
+			this.x = x;
+			this.y = y;
+			this.radius = radius;
+		}
+
+		@Override
+		public int compareTo(AppliedView other) {
+			if (team != other.team) {
+				return team - other.team;
+			} else if (x != other.x) {
+				return x - other.x;
+			} else if (y != other.y) {
+				return y - other.y;
+			} else if (radius != other.radius) {
+				return radius - other.radius;
+			} else {
+				return updateCounter - other.updateCounter;
+			}
+		}
+	}
+}
@@ -0,0 +1,469 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.landmarks;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import jsettlers.algorithms.interfaces.IContainingProvider;
+import jsettlers.common.movable.EDirection;
+import jsettlers.common.position.ShortPoint2D;
+
+/**
+ * Finds blocked areas that are enclosed by the land of a player and lets the player take them over, like the
+ * {@link EnclosedBlockedAreaFinderAlgorithm}, but without traversing the border of the areas on every check.
+ * <p />
+ * The positions that are pioneer blocked and not protected by a tower are kept in a union-find structure. For every area, it counts the pairs
+ * of an area position and a neighbor outside of the area per player of the outside position. Furthermore, it counts the positions, edges and
+ * triangles of the area. An area is enclosed by a player if all its outside neighbors belong to the player or are blocked partitions. If the
+ * area has no holes (positions - edges + triangles == 1) its outside neighbors are exactly the positions visited by the border traversal.
+ * Areas with holes and areas at the map border are still checked with the border traversal.
+ * <p />
+ * Positions joining an area are added in nearly constant time. When a position leaves an area, the area is only marked and rebuilt by the
+ * next check, so that all positions leaving it between two checks only need one rebuild.
+ *
+ * @author agent
+ */
+public final class EnclosedBlockedAreaFinder implements ILandmarkStateChangedListener {
+	private static final int  NO_AREA                 = -1;
+	private static final byte BLOCKED_PARTITION_CLASS = 0;
+	private static final int  NO_BATCH                = -1;
+
+	private final IEnclosedBlockedAreaFinderGrid grid;
+	private final IContainingProvider            containingProvider;
+	private final short                          width;
+	private final short                          height;
+	private final int                            numberOfClasses;
+
+	private final BitSet blockedPositions;
+	private final int[]  parents;
+	private final byte[] outsideClasses;
+	private final Area[] areas;
+
+	private final BitSet rebuiltPositions;
+	private int[]        removedPositions         = new int[16];
+	private int          numberOfRemovedPositions = 0;
+	private int[]        rebuildStartPositions    = new int[16];
+	private int[]        rebuildQueue             = new int[16];
+
+	private int     batch   = 0;
+	private boolean inBatch = false;
+
+	public EnclosedBlockedAreaFinder(IEnclosedBlockedAreaFinderGrid grid) {
+		this.grid = grid;
+		this.containingProvider = grid::isPioneerBlockedAndWithoutTowerProtection;
+		this.width = grid.getWidth();
+		this.height = grid.getHeight();
+		this.numberOfClasses = grid.getNumberOfPlayers() + 2;
+
+		int size = width * height;
+		this.blockedPositions = new BitSet(size);
+		this.parents = new int[size];
+		this.outsideClasses = new byte[size];
+		this.areas = new Area[size];
+		this.rebuiltPositions = new BitSet(size);
+
+		Arrays.fill(parents, NO_AREA);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				outsideClasses[x + y * width] = getOutsideClass(x, y);
+			}
+		}
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				if (grid.isPioneerBlockedAndWithoutTowerProtection(x, y)) {
+					addPosition(x, y, x + y * width);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Starts a batch of checks. An area is only taken over once per batch and player, even if it is next to several of the checked positions.
+	 */
+	public void startBatch() {
+		batch++;
+		inBatch = true;
+	}
+
+	public void endBatch() {
+		inBatch = false;
+	}
+
+	/**
+	 * Checks the blocked areas next to the given position. If one of them is enclosed by the player of the position, the player takes it over
+	 * and the buildings of other players in it are destroyed.
+	 *
+	 * @param startX
+	 *            x coordinate of the position that changed its player.
+	 * @param startY
+	 *            y coordinate of the position that changed its player.
+	 */
+	public void checkLandmark(int startX, int startY) {
+		if (!inBatch) {
+			batch++;
+		}
+		if (isBlocked(startX, startY)) {
+			return;
+		}
+
+		final byte startPlayer = grid.getPlayerIdAt(startX, startY);
+
+		for (EDirection currDir : EDirection.VALUES) {
+			int x = startX + currDir.gridDeltaX;
+			int y = startY + currDir.gridDeltaY;
+
+			if (isBlocked(x, y)) {
+				rebuildChangedAreas();
+
+				Area area = areas[findRoot(x + y * width)];
+				if (area.takenOverInBatch == batch && area.takenOverBy == startPlayer) {
+					continue; // the area did not change since the player took it over
+				}
+
+				if (isEnclosedBy(area, x, y, startPlayer)) {
+					area.takenOverInBatch = batch;
+					area.takenOverBy = startPlayer;
+					EnclosedBlockedAreaFinderAlgorithm.destroyBuildingsOrTakeOver(grid, containingProvider, new ShortPoint2D(x, y), startPlayer);
+				}
+			}
+		}
+	}
+
+	@Override
+	public void landmarkStateChangedAt(int x, int y) {
+		int index = x + y * width;
+		boolean blocked = grid.isPioneerBlockedAndWithoutTowerProtection(x, y);
+
+		if (blocked != blockedPositions.get(index)) {
+			if (blocked) {
+				addPosition(x, y, index);
+			} else {
+				removePosition(index);
+			}
+		}
+
+		if (!blocked) {
+			updateOutsideClass(x, y, index);
+		}
+	}
+
+	private boolean isEnclosedBy(Area area, int x, int y, byte player) {
+		if (area.borderPairs == 0) {
+			int enclosingPairs = area.outsidePairs[BLOCKED_PARTITION_CLASS] + area.outsidePairs[getPlayerClass(player)];
+			if (enclosingPairs == area.numberOfOutsidePairs) {
+				return true;
+			} else if (area.hasNoHoles()) {
+				return false;
+			}
+		}
+
+		return EnclosedBlockedAreaFinderAlgorithm.needsRelabel(grid, containingProvider, new ShortPoint2D(x, y), player);
+	}
+
+	private void addPosition(int x, int y, int index) {
+		blockedPositions.set(index);
+
+		if (parents[index] != NO_AREA) { // the position left its area but the area has not been rebuilt since then
+			int root = findRoot(index);
+			for (EDirection direction : EDirection.VALUES) {
+				int neighborX = x + direction.gridDeltaX;
+				int neighborY = y + direction.gridDeltaY;
+				if (isBlocked(neighborX, neighborY)) {
+					root = union(root, findRoot(neighborX + neighborY * width));
+				}
+			}
+			return;
+		}
+
+		parents[index] = index;
+		areas[index] = new Area(numberOfClasses);
+		areas[index].positions = 1;
+
+		int root = index;
+		int blockedNeighbors = 0;
+		for (int i = 0; i < EDirection.NUMBER_OF_DIRECTIONS; i++) {
+			int neighborX = x + EDirection.VALUES[i].gridDeltaX;
+			int neighborY = y + EDirection.VALUES[i].gridDeltaY;
+
+			if (isBlocked(neighborX, neighborY)) {
+				int neighborRoot = findRoot(neighborX + neighborY * width);
+				areas[neighborRoot].removeOutsidePair(outsideClasses[index]); // the new position has been an outside neighbor of this area
+				root = union(root, neighborRoot);
+				blockedNeighbors |= 1 << i;
+			}
+		}
+
+		Area area = areas[root];
+		area.edges += Integer.bitCount(blockedNeighbors);
+		area.triangles += countTriangles(blockedNeighbors);
+
+		for (int i = 0; i < EDirection.NUMBER_OF_DIRECTIONS; i++) {
+			if ((blockedNeighbors & (1 << i)) == 0) {
+				int neighborX = x + EDirection.VALUES[i].gridDeltaX;
+				int neighborY = y + EDirection.VALUES[i].gridDeltaY;
+
+				if (isInBounds(neighborX, neighborY)) {
+					area.addOutsidePair(outsideClasses[neighborX + neighborY * width]);
+				} else {
+					area.borderPairs++;
+				}
+			}
+		}
+	}
+
+	private void removePosition(int index) {
+		blockedPositions.clear(index);
+		areas[findRoot(index)].changed = true;
+
+		if (numberOfRemovedPositions >= removedPositions.length) {
+			removedPositions = Arrays.copyOf(removedPositions, removedPositions.length * 2);
+		}
+		removedPositions[numberOfRemovedPositions++] = index;
+	}
+
+	private void updateOutsideClass(int x, int y, int index) {
+		byte newClass = getOutsideClass(x, y);
+		byte oldClass = outsideClasses[index];
+		if (newClass == oldClass) {
+			return;
+		}
+
+		outsideClasses[index] = newClass;
+		for (EDirection direction : EDirection.VALUES) {
+			int neighborX = x + direction.gridDeltaX;
+			int neighborY = y + direction.gridDeltaY;
+
+			if (isBlocked(neighborX, neighborY)) {
+				Area area = areas[findRoot(neighborX + neighborY * width)];
+				area.outsidePairs[oldClass]--;
+				area.outsidePairs[newClass]++;
+			}
+		}
+	}
+
+	/**
+	 * Rebuilds the areas positions have been removed from. Every part of such an area contains a neighbor of a removed position, so the parts are
+	 * found by traversing the blocked positions starting at these neighbors.
+	 */
+	private void rebuildChangedAreas() {
+		if (numberOfRemovedPositions == 0) {
+			return;
+		}
+
+		int numberOfStartPositions = 0;
+		for (int i = 0; i < numberOfRemovedPositions; i++) {
+			int removedIndex = removedPositions[i];
+			areas[findRoot(removedIndex)] = null;
+
+			int removedX = removedIndex % width;
+			int removedY = removedIndex / width;
+			for (EDirection direction : EDirection.VALUES) {
+				int neighborX = removedX + direction.gridDeltaX;
+				int neighborY = removedY + direction.gridDeltaY;
+
+				if (isBlocked(neighborX, neighborY)) {
+					int neighborIndex = neighborX + neighborY * width;
+					int neighborRoot = findRoot(neighborIndex);
+					if (areas[neighborRoot] == null || areas[neighborRoot].changed) {
+						areas[neighborRoot] = null;
+
+						if (numberOfStartPositions >= rebuildStartPositions.length) {
+							rebuildStartPositions = Arrays.copyOf(rebuildStartPositions, rebuildStartPositions.length * 2);
+						}
+						rebuildStartPositions[numberOfStartPositions++] = neighborIndex;
+					}
+				}
+			}
+			if (blockedPositions.get(removedIndex)) { // the position has been added again
+				if (numberOfStartPositions >= rebuildStartPositions.length) {
+					rebuildStartPositions = Arrays.copyOf(rebuildStartPositions, rebuildStartPositions.length * 2);
+				}
+				rebuildStartPositions[numberOfStartPositions++] = removedIndex;
+			}
+		}
+
+		int queueEnd = 0;
+		for (int i = 0; i < numberOfStartPositions; i++) {
+			int startIndex = rebuildStartPositions[i];
+			if (!rebuiltPositions.get(startIndex)) {
+				queueEnd = rebuildArea(startIndex, queueEnd);
+			}
+		}
+
+		for (int i = 0; i < queueEnd; i++) {
+			rebuiltPositions.clear(rebuildQueue[i]);
+		}
+		for (int i = 0; i < numberOfRemovedPositions; i++) {
+			int removedIndex = removedPositions[i];
+			if (!blockedPositions.get(removedIndex)) {
+				parents[removedIndex] = NO_AREA;
+			}
+		}
+		numberOfRemovedPositions = 0;
+	}
+
+	private int rebuildArea(int startIndex, int queueStart) {
+		Area area = new Area(numberOfClasses);
+		int doubleCountedEdges = 0;
+		int tripleCountedTriangles = 0;
+
+		int queueEnd = enqueue(startIndex, queueStart);
+		for (int queueIndex = queueStart; queueIndex < queueEnd; queueIndex++) {
+			int index = rebuildQueue[queueIndex];
+			int x = index % width;
+			int y = index / width;
+
+			parents[index] = startIndex;
+			area.positions++;
+
+			int blockedNeighbors = 0;
+			for (int i = 0; i < EDirection.NUMBER_OF_DIRECTIONS; i++) {
+				int neighborX = x + EDirection.VALUES[i].gridDeltaX;
+				int neighborY = y + EDirection.VALUES[i].gridDeltaY;
+				int neighborIndex = neighborX + neighborY * width;
+
+				if (!isInBounds(neighborX, neighborY)) {
+					area.borderPairs++;
+				} else if (blockedPositions.get(neighborIndex)) {
+					blockedNeighbors |= 1 << i;
+					if (!rebuiltPositions.get(neighborIndex)) {
+						queueEnd = enqueue(neighborIndex, queueEnd);
+					}
+				} else {
+					area.addOutsidePair(outsideClasses[neighborIndex]);
+				}
+			}
+			doubleCountedEdges += Integer.bitCount(blockedNeighbors);
+			tripleCountedTriangles += countTriangles(blockedNeighbors);
+		}
+
+		area.edges = doubleCountedEdges / 2;
+		area.triangles = tripleCountedTriangles / 3;
+		areas[startIndex] = area;
+		return queueEnd;
+	}
+
+	private int enqueue(int index, int queueEnd) {
+		if (queueEnd >= rebuildQueue.length) {
+			rebuildQueue = Arrays.copyOf(rebuildQueue, rebuildQueue.length * 2);
+		}
+		rebuiltPositions.set(index);
+		rebuildQueue[queueEnd] = index;
+		return queueEnd + 1;
+	}
+
+	private int findRoot(int index) {
+		int root = index;
+		while (parents[root] != root) {
+			root = parents[root];
+		}
+
+		while (parents[index] != root) { // path compression
+			int next = parents[index];
+			parents[index] = root;
+			index = next;
+		}
+		return root;
+	}
+
+	private int union(int root1, int root2) {
+		if (root1 == root2) {
+			return root1;
+		}
+
+		int bigRoot = areas[root1].positions >= areas[root2].positions ? root1 : root2;
+		int smallRoot = bigRoot == root1 ? root2 : root1;
+
+		parents[smallRoot] = bigRoot;
+		areas[bigRoot].merge(areas[smallRoot]);
+		areas[smallRoot] = null;
+		return bigRoot;
+	}
+
+	/**
+	 * @param blockedNeighbors
+	 *            Bit i is set if the neighbor in direction {@link EDirection#VALUES}[i] is blocked.
+	 * @return The number of pairs of blocked neighbors next to each other.
+	 */
+	private static int countTriangles(int blockedNeighbors) {
+		int rotated = (blockedNeighbors >>> 1) | (blockedNeighbors << (EDirection.NUMBER_OF_DIRECTIONS - 1));
+		return Integer.bitCount(blockedNeighbors & rotated & ((1 << EDirection.NUMBER_OF_DIRECTIONS) - 1));
+	}
+
+	private byte getOutsideClass(int x, int y) {
+		return grid.isBlockedPartition(x, y) ? BLOCKED_PARTITION_CLASS : getPlayerClass(grid.getPlayerIdAt(x, y));
+	}
+
+	private static byte getPlayerClass(byte playerId) {
+		return (byte) (playerId + 2); // players start at -1 for no player
+	}
+
+	private boolean isBlocked(int x, int y) {
+		return isInBounds(x, y) && blockedPositions.get(x + y * width);
+	}
+
+	private boolean isInBounds(int x, int y) {
+		return x >= 0 && y >= 0 && x < width && y < height;
+	}
+
+	/**
+	 * Counters of an area of blocked positions, stored at its root.
+	 */
+	private static final class Area {
+		final int[] outsidePairs;
+		int         numberOfOutsidePairs;
+		int         borderPairs;
+
+		int positions;
+		int edges;
+		int triangles;
+
+		boolean changed          = false;
+		int     takenOverInBatch = NO_BATCH;
+		byte    takenOverBy;
+
+		Area(int numberOfClasses) {
+			outsidePairs = new int[numberOfClasses];
+		}
+
+		void addOutsidePair(byte outsideClass) {
+			outsidePairs[outsideClass]++;
+			numberOfOutsidePairs++;
+		}
+
+		void removeOutsidePair(byte outsideClass) {
+			outsidePairs[outsideClass]--;
+			numberOfOutsidePairs--;
+		}
+
+		boolean hasNoHoles() {
+			return positions - edges + triangles == 1;
+		}
+
+		void merge(Area other) {
+			for (int i = 0; i < outsidePairs.length; i++) {
+				outsidePairs[i] += other.outsidePairs[i];
+			}
+			numberOfOutsidePairs += other.numberOfOutsidePairs;
+			borderPairs += other.borderPairs;
+			positions += other.positions;
+			edges += other.edges;
+			triangles += other.triangles;
+			changed |= other.changed;
+			takenOverInBatch = NO_BATCH;
+		}
+	}
+}
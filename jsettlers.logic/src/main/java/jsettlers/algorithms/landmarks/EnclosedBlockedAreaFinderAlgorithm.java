@@ -22,6 +22,9 @@ import jsettlers.common.position.ShortPoint2D;
 
 /**
  * Algorithm to correct the landmarks. For example if Pioneers set all landmarks around a lake, this Thread will recognize it and take over the area of the lake.
+ * <p />
+ * Every check traverses the border of the blocked areas next to the given position. The {@link EnclosedBlockedAreaFinder} answers the same
+ * question from incrementally maintained areas and only falls back to this traversal for areas with holes or at the map border.
  * 
  * @author Andreas Eberle
  * 
@@ -47,7 +50,7 @@ public final class EnclosedBlockedAreaFinderAlgorithm {
 		}
 	}
 
-	private static void destroyBuildingsOrTakeOver(IEnclosedBlockedAreaFinderGrid grid, IContainingProvider containingProvider, ShortPoint2D blockedStartPos, byte newPlayer) {
+	static void destroyBuildingsOrTakeOver(IEnclosedBlockedAreaFinderGrid grid, IContainingProvider containingProvider, ShortPoint2D blockedStartPos, byte newPlayer) {
 		AreaTraversingAlgorithm.traverseArea(containingProvider, grid.getDestroyBuildingOrTakeOverVisitor(newPlayer), blockedStartPos, grid.getWidth(), grid.getHeight());
 	}
 
@@ -59,7 +62,7 @@ public final class EnclosedBlockedAreaFinderAlgorithm {
 	 * @param blockedStartPos
 	 * @return
 	 */
-	private static boolean needsRelabel(IEnclosedBlockedAreaFinderGrid grid, IContainingProvider containingProvider, ShortPoint2D blockedStartPos, byte player) {
+	static boolean needsRelabel(IEnclosedBlockedAreaFinderGrid grid, IContainingProvider containingProvider, ShortPoint2D blockedStartPos, byte player) {
 		return BorderTraversingAlgorithm.traverseBorder(containingProvider, blockedStartPos,
 				(insideX, insideY, outsideX, outsideY) -> grid.isOfPlayerOrBlocked(outsideX, outsideY, player), true);
 	}
@@ -36,5 +36,12 @@ public interface IEnclosedBlockedAreaFinderGrid {
 
 	boolean isOfPlayerOrBlocked(int x, int y, byte playerId);
 
+	boolean isBlockedPartition(int x, int y);
+
+	/**
+	 * @return The number of players. All player ids of the grid are smaller than this number.
+	 */
+	byte getNumberOfPlayers();
+
 	IAreaVisitor getDestroyBuildingOrTakeOverVisitor(byte newPlayer);
 }
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.matching;
+
+import java.util.Arrays;
+
+/**
+ * Solves the assignment problem: Given n workers, n jobs and the costs of every worker doing every job, every worker gets exactly one job, so
+ * that the sum of the costs is minimal.
+ * <p />
+ * This is the Hungarian algorithm with potentials in O(n^3). It only uses integer arithmetic, so the result is deterministic. If several
+ * assignments have the same minimal costs, the same one is always returned for the same input.
+ *
+ * @author agent
+ */
+public final class MinimumCostAssignment {
+
+	private MinimumCostAssignment() {
+	}
+
+	/**
+	 * Calculates the assignment with the minimal sum of costs.
+	 *
+	 * @param costs
+	 *            A square matrix. costs[worker][job] are the costs of the worker doing the job. The costs must not be negative and their sum must fit
+	 *            into an int.
+	 * @return An array containing the index of the job assigned to every worker.
+	 */
+	public static int[] assign(int[][] costs) {
+		int n = costs.length;
+
+		// all arrays are 1 based, index 0 is used as virtual start column
+		int[] workerPotential = new int[n + 1];
+		int[] jobPotential = new int[n + 1];
+		int[] workerOfJob = new int[n + 1];
+		int[] previousJob = new int[n + 1];
+		int[] minSlack = new int[n + 1];
+		boolean[] usedJobs = new boolean[n + 1];
+
+		for (int worker = 1; worker <= n; worker++) {
+			workerOfJob[0] = worker;
+			int currentJob = 0;
+			Arrays.fill(minSlack, Integer.MAX_VALUE);
+			Arrays.fill(usedJobs, false);
+
+			do { // search an augmenting path
+				usedJobs[currentJob] = true;
+				int currentWorker = workerOfJob[currentJob];
+				int delta = Integer.MAX_VALUE;
+				int nextJob = 0;
+
+				for (int job = 1; job <= n; job++) {
+					if (!usedJobs[job]) {
+						int slack = costs[currentWorker - 1][job - 1] - workerPotential[currentWorker] - jobPotential[job];
+						if (slack < minSlack[job]) {
+							minSlack[job] = slack;
+							previousJob[job] = currentJob;
+						}
+						if (minSlack[job] < delta) {
+							delta = minSlack[job];
+							nextJob = job;
+						}
+					}
+				}
+
+				for (int job = 0; job <= n; job++) {
+					if (usedJobs[job]) {
+						workerPotential[workerOfJob[job]] += delta;
+						jobPotential[job] -= delta;
+					} else {
+						minSlack[job] -= delta;
+					}
+				}
+				currentJob = nextJob;
+			} while (workerOfJob[currentJob] != 0);
+
+			do { // flip the augmenting path
+				int job = previousJob[currentJob];
+				workerOfJob[currentJob] = workerOfJob[job];
+				currentJob = job;
+			} while (currentJob != 0);
+		}
+
+		int[] jobOfWorker = new int[n];
+		for (int job = 1; job <= n; job++) {
+			jobOfWorker[workerOfJob[job] - 1] = job - 1;
+		}
+		return jobOfWorker;
+	}
+}
@@ -0,0 +1,330 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.partitions;
+
+import java.util.Arrays;
+
+import jsettlers.common.movable.EDirection;
+
+/**
+ * Keeps the connected areas of free positions up to date while positions get blocked and unblocked.
+ * <p />
+ * In contrast to the blocked partitions calculated when a map is loaded, these partitions are also separated by buildings, trees and other
+ * positions that are blocked during the game. Two free positions with different partitions can't be connected by a path of free positions.
+ * <p />
+ * When a position gets unblocked, the partitions next to it are merged by relabeling the smaller ones. When a position gets blocked, its
+ * partition can only split if its free neighbors form several separated runs around it. In this case, a search is started at every run and the
+ * searches are advanced in turns, so that the work is proportional to the size of the smaller parts. A part whose search ends without meeting
+ * another search gets a new partition id.
+ *
+ * @author agent
+ */
+public final class DynamicBlockedPartitions {
+	/**
+	 * Partition of blocked positions.
+	 */
+	public static final int NO_PARTITION = 0;
+
+	private static final int MAX_SEARCHES = EDirection.NUMBER_OF_DIRECTIONS / 2; // a position has at most three separated runs of free neighbors
+
+	private final short width;
+	private final short height;
+
+	private final int[] partitions;
+	private final int[] visitStamps;
+	private int         stamp = 0;
+
+	private int[] partitionSizes        = new int[16];
+	private int[] freePartitionIds      = new int[16];
+	private int   numberOfFreeIds       = 0;
+	private int   nextUnusedPartitionId = NO_PARTITION + 1;
+
+	private final int[][] queues        = new int[MAX_SEARCHES][16];
+	private final int[]   queueHeads    = new int[MAX_SEARCHES];
+	private final int[]   queueTails    = new int[MAX_SEARCHES];
+	private final int[]   searchGroups  = new int[MAX_SEARCHES];
+	private final int[]   searchStarts  = new int[MAX_SEARCHES];
+
+	/**
+	 * Creates the partitions of the given area.
+	 *
+	 * @param blockingProvider
+	 *            Provides the blocked positions at the time of the creation. Later changes are reported with {@link #blockedChanged(int, int, boolean)}.
+	 * @param width
+	 *            Width of the area.
+	 * @param height
+	 *            Height of the area.
+	 */
+	public DynamicBlockedPartitions(IBlockingProvider blockingProvider, short width, short height) {
+		this.width = width;
+		this.height = height;
+		this.partitions = new int[width * height];
+		this.visitStamps = new int[width * height];
+
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				if (!blockingProvider.isBlocked(x, y)) {
+					partitions[x + y * width] = -1; // free, but not labeled yet
+				}
+			}
+		}
+		for (int index = 0; index < partitions.length; index++) {
+			if (partitions[index] == -1) {
+				relabel(index, -1, allocatePartition());
+			}
+		}
+	}
+
+	/**
+	 * @param x
+	 *            x coordinate of the position.
+	 * @param y
+	 *            y coordinate of the position.
+	 * @return The partition of the given position or {@link #NO_PARTITION} if it is blocked.
+	 */
+	public int getPartitionAt(int x, int y) {
+		return partitions[x + y * width];
+	}
+
+	/**
+	 * Updates the partitions after the given position has been blocked or unblocked.
+	 *
+	 * @param x
+	 *            x coordinate of the position.
+	 * @param y
+	 *            y coordinate of the position.
+	 * @param blocked
+	 *            The new blocked state of the position.
+	 */
+	public void blockedChanged(int x, int y, boolean blocked) {
+		int index = x + y * width;
+		if (blocked && partitions[index] != NO_PARTITION) {
+			block(x, y, index);
+		} else if (!blocked && partitions[index] == NO_PARTITION) {
+			unblock(x, y, index);
+		}
+	}
+
+	private void unblock(int x, int y, int index) {
+		int biggestPartition = NO_PARTITION;
+		for (EDirection direction : EDirection.VALUES) {
+			int neighborPartition = getFreePartition(x + direction.gridDeltaX, y + direction.gridDeltaY);
+			if (neighborPartition != NO_PARTITION && (biggestPartition == NO_PARTITION || partitionSizes[neighborPartition] > partitionSizes[biggestPartition])) {
+				biggestPartition = neighborPartition;
+			}
+		}
+
+		if (biggestPartition == NO_PARTITION) {
+			biggestPartition = allocatePartition();
+		}
+		partitions[index] = biggestPartition;
+		partitionSizes[biggestPartition]++;
+
+		for (EDirection direction : EDirection.VALUES) { // merge the smaller partitions into the biggest one
+			int neighborX = x + direction.gridDeltaX;
+			int neighborY = y + direction.gridDeltaY;
+			int neighborPartition = getFreePartition(neighborX, neighborY);
+
+			if (neighborPartition != NO_PARTITION && neighborPartition != biggestPartition) {
+				relabel(neighborX + neighborY * width, neighborPartition, biggestPartition);
+				releasePartition(neighborPartition);
+			}
+		}
+	}
+
+	private void block(int x, int y, int index) {
+		int partition = partitions[index];
+		partitions[index] = NO_PARTITION;
+		partitionSizes[partition]--;
+		if (partitionSizes[partition] == 0) {
+			releasePartition(partition);
+			return;
+		}
+
+		int freeNeighbors = 0;
+		for (int i = 0; i < EDirection.NUMBER_OF_DIRECTIONS; i++) {
+			if (getFreePartition(x + EDirection.VALUES[i].gridDeltaX, y + EDirection.VALUES[i].gridDeltaY) != NO_PARTITION) {
+				freeNeighbors |= 1 << i;
+			}
+		}
+
+		int numberOfSearches = 0;
+		for (int i = 0; i < EDirection.NUMBER_OF_DIRECTIONS; i++) {
+			int previous = (i + EDirection.NUMBER_OF_DIRECTIONS - 1) % EDirection.NUMBER_OF_DIRECTIONS;
+			if ((freeNeighbors & (1 << i)) != 0 && (freeNeighbors & (1 << previous)) == 0) { // a run of free neighbors starts here
+				searchStarts[numberOfSearches++] = (x + EDirection.VALUES[i].gridDeltaX) + (y + EDirection.VALUES[i].gridDeltaY) * width;
+			}
+		}
+
+		if (numberOfSearches > 1) { // neighbors of the same run stay connected, so only several runs can split the partition
+			splitPartition(partition, numberOfSearches);
+		}
+	}
+
+	private void splitPartition(int partition, int numberOfSearches) {
+		if (stamp > Integer.MAX_VALUE - 2 * MAX_SEARCHES) {
+			Arrays.fill(visitStamps, 0);
+			stamp = 0;
+		}
+		final int firstStamp = stamp + 1;
+		stamp += MAX_SEARCHES;
+
+		for (int search = 0; search < numberOfSearches; search++) {
+			searchGroups[search] = search;
+			queueHeads[search] = 0;
+			queueTails[search] = 0;
+			enqueue(search, searchStarts[search]);
+			visitStamps[searchStarts[search]] = firstStamp + search;
+		}
+
+		int activeGroups = numberOfSearches;
+		while (activeGroups > 1) {
+			for (int search = 0; search < numberOfSearches && activeGroups > 1; search++) {
+				if (queueHeads[search] == queueTails[search]) {
+					continue;
+				}
+
+				int index = queues[search][queueHeads[search]++];
+				int x = index % width;
+				int y = index / width;
+
+				for (EDirection direction : EDirection.VALUES) {
+					int neighborX = x + direction.gridDeltaX;
+					int neighborY = y + direction.gridDeltaY;
+					if (getFreePartition(neighborX, neighborY) == NO_PARTITION) {
+						continue;
+					}
+
+					int neighborIndex = neighborX + neighborY * width;
+					int neighborStamp = visitStamps[neighborIndex];
+					if (neighborStamp >= firstStamp && neighborStamp < firstStamp + numberOfSearches) {
+						int otherGroup = getGroup(neighborStamp - firstStamp);
+						int group = getGroup(search);
+						if (otherGroup != group) { // the searches met, so their parts are still connected
+							searchGroups[otherGroup] = group;
+							activeGroups--;
+						}
+					} else {
+						visitStamps[neighborIndex] = firstStamp + search;
+						enqueue(search, neighborIndex);
+					}
+				}
+
+				if (activeGroups > 1 && isGroupFinished(getGroup(search), numberOfSearches)) { // the search found a separated part
+					moveGroupToNewPartition(getGroup(search), numberOfSearches, partition);
+					activeGroups--;
+				}
+			}
+		}
+	}
+
+	private int getGroup(int search) {
+		while (searchGroups[search] != search) {
+			search = searchGroups[search];
+		}
+		return search;
+	}
+
+	private boolean isGroupFinished(int group, int numberOfSearches) {
+		for (int search = 0; search < numberOfSearches; search++) {
+			if (getGroup(search) == group && queueHeads[search] != queueTails[search]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void moveGroupToNewPartition(int group, int numberOfSearches, int oldPartition) {
+		int newPartition = allocatePartition();
+		for (int search = 0; search < numberOfSearches; search++) {
+			if (getGroup(search) == group) {
+				int[] queue = queues[search];
+				for (int i = 0; i < queueTails[search]; i++) {
+					partitions[queue[i]] = newPartition;
+				}
+				partitionSizes[newPartition] += queueTails[search];
+				partitionSizes[oldPartition] -= queueTails[search];
+			}
+		}
+	}
+
+	/**
+	 * Sets the partition of all positions connected to the given start position by positions of the old partition.
+	 */
+	private void relabel(int startIndex, int oldPartition, int newPartition) {
+		queueHeads[0] = 0;
+		queueTails[0] = 0;
+		partitions[startIndex] = newPartition;
+		enqueue(0, startIndex);
+
+		while (queueHeads[0] < queueTails[0]) {
+			int index = queues[0][queueHeads[0]++];
+			int x = index % width;
+			int y = index / width;
+
+			for (EDirection direction : EDirection.VALUES) {
+				int neighborX = x + direction.gridDeltaX;
+				int neighborY = y + direction.gridDeltaY;
+				if (isInBounds(neighborX, neighborY) && partitions[neighborX + neighborY * width] == oldPartition) {
+					partitions[neighborX + neighborY * width] = newPartition;
+					enqueue(0, neighborX + neighborY * width);
+				}
+			}
+		}
+
+		if (oldPartition < 0) { // newly labeled positions
+			partitionSizes[newPartition] += queueTails[0];
+		} else {
+			partitionSizes[newPartition] += partitionSizes[oldPartition];
+		}
+	}
+
+	private void enqueue(int search, int index) {
+		if (queueTails[search] >= queues[search].length) {
+			queues[search] = Arrays.copyOf(queues[search], queues[search].length * 2);
+		}
+		queues[search][queueTails[search]++] = index;
+	}
+
+	private int allocatePartition() {
+		int partition;
+		if (numberOfFreeIds > 0) {
+			partition = freePartitionIds[--numberOfFreeIds];
+		} else {
+			partition = nextUnusedPartitionId++;
+			if (partition >= partitionSizes.length) {
+				partitionSizes = Arrays.copyOf(partitionSizes, partitionSizes.length * 2);
+			}
+		}
+		partitionSizes[partition] = 0;
+		return partition;
+	}
+
+	private void releasePartition(int partition) {
+		partitionSizes[partition] = 0;
+		if (numberOfFreeIds >= freePartitionIds.length) {
+			freePartitionIds = Arrays.copyOf(freePartitionIds, freePartitionIds.length * 2);
+		}
+		freePartitionIds[numberOfFreeIds++] = partition;
+	}
+
+	private int getFreePartition(int x, int y) {
+		return isInBounds(x, y) ? partitions[x + y * width] : NO_PARTITION;
+	}
+
+	private boolean isInBounds(int x, int y) {
+		return x >= 0 && y >= 0 && x < width && y < height;
+	}
+}
@@ -32,11 +32,24 @@ public class Path implements Serializable {
 
 	private int idx = -1;
 
+	private transient ShortPoint2D targetPos;
+
 	public Path(int length) {
 		pathX = new short[length];
 		pathY = new short[length];
 	}
 
+	/**
+	 * Creates a copy of the given path. The copy starts at the beginning of the path, independent of the progress of the given path.
+	 * 
+	 * @param path
+	 *            The path to be copied.
+	 */
+	public Path(Path path) {
+		pathX = path.pathX.clone();
+		pathY = path.pathY.clone();
+	}
+
 	/**
 	 * Concatenates a path and a prefix of {@link ShortPoint2D} objects.
 	 * 
@@ -85,6 +98,7 @@ public class Path implements Serializable {
 	public final void insertAt(int idx, short x, short y) {
 		pathX[idx] = x;
 		pathY[idx] = y;
+		targetPos = null;
 	}
 
 	public boolean hasNextStep() {
@@ -147,9 +161,15 @@ public class Path implements Serializable {
 		return new ShortPoint2D(getFirstX(), getFirstY());
 	}
 
+	/**
+	 * @return The last position of the path. The position is only created once, because it is needed on every step.
+	 */
 	public final ShortPoint2D getTargetPos() {
-		int lastIdx = pathX.length - 1;
-		return new ShortPoint2D(pathX[lastIdx], pathY[lastIdx]);
+		if (targetPos == null) {
+			int lastIdx = pathX.length - 1;
+			targetPos = new ShortPoint2D(pathX[lastIdx], pathY[lastIdx]);
+		}
+		return targetPos;
 	}
 
 	public int getStep() {
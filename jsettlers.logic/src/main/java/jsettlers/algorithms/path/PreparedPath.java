@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path;
+
+import jsettlers.common.position.ShortPoint2D;
+
+/**
+ * A path that has been calculated in advance, e.g. in the parallel preparation of a time slot. It is only valid as long as the start, the target
+ * and the version of the map it has been calculated on are unchanged.
+ * 
+ * @author agent
+ * 
+ */
+public final class PreparedPath {
+	private final ShortPoint2D start;
+	private final ShortPoint2D target;
+	private final int mapVersion;
+	private final Path path;
+
+	public PreparedPath(ShortPoint2D start, ShortPoint2D target, int mapVersion, Path path) {
+		this.start = start;
+		this.target = target;
+		this.mapVersion = mapVersion;
+		this.path = path;
+	}
+
+	/**
+	 * @param currentStart
+	 * @param currentTarget
+	 * @param currentMapVersion
+	 * @return true if the path has been calculated for the given start and target on the given version of the map.
+	 */
+	public boolean isValid(ShortPoint2D currentStart, ShortPoint2D currentTarget, int currentMapVersion) {
+		return mapVersion == currentMapVersion && start.equals(currentStart) && target.equals(currentTarget);
+	}
+
+	/**
+	 * @return The prepared path or null if there is no path.
+	 */
+	public Path getPath() {
+		return path;
+	}
+}
@@ -17,7 +17,7 @@ package jsettlers.algorithms.path.area;
 import jsettlers.algorithms.path.IPathCalculatable;
 import jsettlers.common.material.ESearchType;
 import jsettlers.common.position.ShortPoint2D;
-import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.constants.MatchContext;
 
 /**
  * 
@@ -31,11 +31,13 @@ public final class InAreaFinder {
 	private final IInAreaFinderMap map;
 	private final short width;
 	private final short height;
+	private final MatchContext context;
 
-	public InAreaFinder(IInAreaFinderMap map, short width, short height) {
+	public InAreaFinder(IInAreaFinderMap map, short width, short height, MatchContext context) {
 		this.map = map;
 		this.width = width;
 		this.height = height;
+		this.context = context;
 	}
 
 	/**
@@ -51,8 +53,8 @@ public final class InAreaFinder {
 	public final ShortPoint2D find(IPathCalculatable requester, short centerX, short centerY, short searchRadius, ESearchType searched) {
 
 		for (int i = 0; i < 100; i++) {
-			double angle = MatchConstants.random().nextDouble() * 2 * Math.PI; // get an angle in the interval [0, 2PI]
-			double radius = Math.pow(MatchConstants.random().nextDouble(), 3.9) * searchRadius; // get a radius in the interval [0, pixelRadius]
+			double angle = context.random().nextDouble() * 2 * Math.PI; // get an angle in the interval [0, 2PI]
+			double radius = Math.pow(context.random().nextDouble(), 3.9) * searchRadius; // get a radius in the interval [0, pixelRadius]
 
 			short tileX = (short) (Math.cos(angle) * radius + centerX);
 			short tileY = (short) (Math.sin(angle) * radius + centerY);
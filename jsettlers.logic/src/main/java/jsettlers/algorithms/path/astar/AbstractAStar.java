@@ -22,4 +22,10 @@ public abstract class AbstractAStar {
 	public abstract Path findPath(IPathCalculatable requester, final short sx, final short sy, final short tx, final short ty);
 
 	public abstract Path findPath(IPathCalculatable aStarPathable, ShortPoint2D targetPos);
+
+	/**
+	 * Checks if {@link #findPath(IPathCalculatable, short, short, short, short)} returns <code>null</code> for the given positions without
+	 * searching, e.g. because the target is blocked or lies in another partition than the start.
+	 */
+	public abstract boolean isRejectedWithoutSearch(IPathCalculatable requester, short sx, short sy, short tx, short ty);
 }
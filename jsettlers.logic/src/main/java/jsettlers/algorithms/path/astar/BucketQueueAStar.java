@@ -14,18 +14,22 @@
  *******************************************************************************/
 package jsettlers.algorithms.path.astar;
 
-import java.util.BitSet;
+import java.util.Arrays;
 
 import jsettlers.algorithms.path.IPathCalculatable;
 import jsettlers.algorithms.path.InvalidStartPositionException;
 import jsettlers.algorithms.path.Path;
 import jsettlers.algorithms.path.astar.queues.bucket.AbstractBucketQueue;
 import jsettlers.algorithms.path.astar.queues.bucket.ListMinBucketQueue;
+import jsettlers.common.logging.TickProfiler;
 import jsettlers.common.movable.EDirection;
 import jsettlers.common.position.ShortPoint2D;
 
 /**
  * AStar algorithm to find paths from A to B on a hex grid
+ * <p />
+ * The open and closed state of the nodes is stored as a stamp of the current search generation. Starting a new search only increments the
+ * generation, so the state of the last search does not need to be cleared.
  * 
  * @author Andreas Eberle
  * 
@@ -39,8 +43,8 @@ public final class BucketQueueAStar extends AbstractAStar {
 	private final short height;
 	private final short width;
 
-	private final BitSet openBitSet;
-	private final BitSet closedBitSet;
+	private final int[] nodeStamps;
+	private int generation = 0;
 
 	final float[] costs;
 
@@ -48,6 +52,8 @@ public final class BucketQueueAStar extends AbstractAStar {
 
 	private final AbstractBucketQueue open;
 
+	private TickProfiler profiler;
+
 	public BucketQueueAStar(IAStarPathMap map, short width, short height) {
 		this.map = map;
 		this.width = width;
@@ -55,13 +61,22 @@ public final class BucketQueueAStar extends AbstractAStar {
 
 		this.open = new ListMinBucketQueue(width * height);
 
-		this.openBitSet = new BitSet(width * height);
-		this.closedBitSet = new BitSet(width * height);
+		this.nodeStamps = new int[width * height];
 		this.costs = new float[width * height];
 
 		this.depthParentHeap = new int[width * height * 2];
 	}
 
+	/**
+	 * Sets the profiler that records the time and the expanded nodes of every search.
+	 * 
+	 * @param profiler
+	 *            The profiler or null to disable profiling.
+	 */
+	public void setProfiler(TickProfiler profiler) {
+		this.profiler = profiler;
+	}
+
 	@Override
 	public final Path findPath(IPathCalculatable requester, ShortPoint2D target) {
 		ShortPoint2D pos = requester.getPos();
@@ -70,23 +85,23 @@ public final class BucketQueueAStar extends AbstractAStar {
 
 	@Override
 	public final Path findPath(IPathCalculatable requester, final short sx, final short sy, final short tx, final short ty) {
-		final short blockedAtStartPartition;
 		if (!isInBounds(sx, sy)) {
 			throw new InvalidStartPositionException("Start position is out of bounds!", sx, sy);
-		} else if (!isInBounds(tx, ty) || isBlocked(requester, tx, ty) || map.getBlockedPartition(sx, sy) != map.getBlockedPartition(tx, ty)) {
-			return null; // target can not be reached
-		} else if (sx == tx && sy == ty) {
+		} else if (isRejectedWithoutSearch(requester, sx, sy, tx, ty)) {
 			return null;
-		} else if (isBlocked(requester, sx, sy)) {
-			blockedAtStartPartition = map.getBlockedPartition(sx, sy);
-		} else {
-			blockedAtStartPartition = -1;
 		}
 
+		final short blockedAtStartPartition = isBlocked(requester, sx, sy) ? map.getBlockedPartition(sx, sy) : -1;
+
 		final int targetFlatIdx = getFlatIdx(tx, ty);
 
-		closedBitSet.clear();
-		openBitSet.clear();
+		final TickProfiler profiler = this.profiler;
+		final long searchStart = profiler != null ? System.nanoTime() : 0;
+		int expandedNodes = 0;
+
+		nextGeneration();
+		final int openStamp = getOpenStamp();
+		final int closedStamp = getClosedStamp();
 
 		open.clear();
 		boolean found = false;
@@ -94,6 +109,7 @@ public final class BucketQueueAStar extends AbstractAStar {
 
 		while (!open.isEmpty()) {
 			int currFlatIdx = open.deleteMin();
+			expandedNodes++;
 
 			final int x = getX(currFlatIdx);
 			final int y = getY(currFlatIdx);
@@ -114,10 +130,11 @@ public final class BucketQueueAStar extends AbstractAStar {
 				if (isValidPosition(requester, x, y, neighborX, neighborY, blockedAtStartPartition)) {
 					final int flatNeighborIdx = getFlatIdx(neighborX, neighborY);
 
-					if (!closedBitSet.get(flatNeighborIdx)) {
+					final int neighborStamp = nodeStamps[flatNeighborIdx];
+					if (neighborStamp != closedStamp) {
 						final float newCosts = currPositionCosts + map.getCost(x, y, neighborX, neighborY);
 
-						if (openBitSet.get(flatNeighborIdx)) {
+						if (neighborStamp == openStamp) {
 							final float oldCosts = costs[flatNeighborIdx];
 
 							if (oldCosts > newCosts) {
@@ -133,7 +150,7 @@ public final class BucketQueueAStar extends AbstractAStar {
 							costs[flatNeighborIdx] = newCosts;
 							depthParentHeap[getDepthIdx(flatNeighborIdx)] = depthParentHeap[getDepthIdx(currFlatIdx)] + 1;
 							depthParentHeap[getParentIdx(flatNeighborIdx)] = currFlatIdx;
-							openBitSet.set(flatNeighborIdx);
+							nodeStamps[flatNeighborIdx] = openStamp;
 							open.insert(flatNeighborIdx, newCosts + getHeuristicCost(neighborX, neighborY, tx, ty));
 
 							map.markAsOpen(neighborX, neighborY);
@@ -143,6 +160,10 @@ public final class BucketQueueAStar extends AbstractAStar {
 			}
 		}
 
+		if (profiler != null) {
+			profiler.record(TickProfiler.PATH_SEARCH, System.nanoTime() - searchStart, expandedNodes);
+		}
+
 		if (found) {
 			int pathlength = depthParentHeap[getDepthIdx(getFlatIdx(tx, ty))];
 			Path path = new Path(pathlength);
@@ -171,10 +192,26 @@ public final class BucketQueueAStar extends AbstractAStar {
 	}
 
 	private final void setClosed(int x, int y) {
-		closedBitSet.set(getFlatIdx(x, y));
+		nodeStamps[getFlatIdx(x, y)] = getClosedStamp();
 		map.markAsClosed(x, y);
 	}
 
+	private final void nextGeneration() {
+		generation++;
+		if (generation >= Integer.MAX_VALUE / 2) { // the stamps would overflow => reset them
+			Arrays.fill(nodeStamps, 0);
+			generation = 1;
+		}
+	}
+
+	private final int getOpenStamp() {
+		return 2 * generation;
+	}
+
+	private final int getClosedStamp() {
+		return 2 * generation + 1;
+	}
+
 	private final void initStartNode(int sx, int sy, int tx, int ty) {
 		int flatIdx = getFlatIdx(sx, sy);
 		depthParentHeap[getDepthIdx(flatIdx)] = 0;
@@ -182,7 +219,7 @@ public final class BucketQueueAStar extends AbstractAStar {
 		costs[flatIdx] = 0;
 
 		open.insert(flatIdx, 0 + getHeuristicCost(sx, sy, tx, ty));
-		openBitSet.set(flatIdx);
+		nodeStamps[flatIdx] = getOpenStamp();
 	}
 
 	private final boolean isValidPosition(IPathCalculatable requester, int fromX, int fromY, int toX, int toY, short blockedAtStartPartition) {
@@ -197,6 +234,18 @@ public final class BucketQueueAStar extends AbstractAStar {
 					);
 	}
 
+	@Override
+	public final boolean isRejectedWithoutSearch(IPathCalculatable requester, short sx, short sy, short tx, short ty) {
+		if (!isInBounds(tx, ty) || isBlocked(requester, tx, ty) || map.getBlockedPartition(sx, sy) != map.getBlockedPartition(tx, ty)) {
+			return true; // target can not be reached
+		} else if (sx == tx && sy == ty) {
+			return true;
+		} else {
+			// a requester starting on a blocked position may leave through the walls, otherwise the target must not be walled off, e.g. by buildings
+			return !isBlocked(requester, sx, sy) && map.getDynamicBlockedPartition(sx, sy) != map.getDynamicBlockedPartition(tx, ty);
+		}
+	}
+
 	private final boolean isInBounds(int x, int y) {
 		return 0 <= x && x < width && 0 <= y && y < height;
 	}
@@ -217,7 +266,7 @@ public final class BucketQueueAStar extends AbstractAStar {
 		return flatIdx / width;
 	}
 
-	private final int getHeuristicCost(final int sx, final int sy, final int tx, final int ty) {
+	static int getHeuristicCost(final int sx, final int sy, final int tx, final int ty) {
 		final int dx = (tx - sx);
 		final int dy = (ty - sy);
 		final int absDx = Math.abs(dx);
@@ -0,0 +1,245 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.astar;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.Path;
+import jsettlers.common.position.ShortPoint2D;
+
+/**
+ * LRU cache of the paths found by a {@link BucketQueueAStar}.
+ * <p />
+ * The map is divided into square regions of {@link #REGION_SIZE} tiles. Every region stores the version of its last change, which must be reported
+ * with {@link #regionChanged(int, int)} whenever the blocking or the player of a position changes. A cached path stays valid as long as no region
+ * changed that the search could have looked at.
+ * <p />
+ * As the heuristic of the A* is the distance on the grid, a search that finds a path of cost C only expands positions p with dist(start, p) +
+ * dist(p, target) <= C and only looks at their neighbors. Therefore it only reads a bounding box around start and target that grows with the
+ * detour of the path. If no region in this box changed, the search would find exactly the same path again. This requires every step to cost at
+ * least 1.
+ * <p />
+ * Searches that don't find a path are not cached, as they may have read the whole map.
+ * 
+ * @author agent
+ * 
+ */
+public final class CachingAStar extends AbstractAStar {
+	public static final int REGION_SIZE = 16;
+
+	/**
+	 * Additional distance a search can read: the neighbors of expanded positions and the rounding of the bucket queue.
+	 */
+	private static final int EXPLORATION_SLACK = 3;
+
+	private final IAStarPathMap map;
+	private final BucketQueueAStar aStar;
+	private final short width;
+	private final short height;
+
+	private final int regionsPerRow;
+	private final long[] regionVersions;
+	private long version = 0;
+
+	private final LinkedHashMap<PathKey, CachedPath> cache;
+
+	private long hits = 0;
+	private long misses = 0;
+	private long invalidations = 0;
+
+	public CachingAStar(IAStarPathMap map, BucketQueueAStar aStar, short width, short height, final int capacity) {
+		this.map = map;
+		this.aStar = aStar;
+		this.width = width;
+		this.height = height;
+
+		this.regionsPerRow = (width + REGION_SIZE - 1) / REGION_SIZE;
+		this.regionVersions = new long[regionsPerRow * ((height + REGION_SIZE - 1) / REGION_SIZE)];
+
+		this.cache = new LinkedHashMap<PathKey, CachedPath>(capacity, 0.75f, true) {
+			private static final long serialVersionUID = -4096911262066372624L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<PathKey, CachedPath> eldest) {
+				return size() > capacity;
+			}
+		};
+	}
+
+	@Override
+	public Path findPath(IPathCalculatable requester, ShortPoint2D targetPos) {
+		ShortPoint2D pos = requester.getPos();
+		return findPath(requester, pos.x, pos.y, targetPos.x, targetPos.y);
+	}
+
+	@Override
+	public boolean isRejectedWithoutSearch(IPathCalculatable requester, short sx, short sy, short tx, short ty) {
+		return aStar.isRejectedWithoutSearch(requester, sx, sy, tx, ty);
+	}
+
+	@Override
+	public Path findPath(IPathCalculatable requester, short sx, short sy, short tx, short ty) {
+		PathKey key = new PathKey(sx, sy, tx, ty, requester.needsPlayersGround() ? requester.getPlayer().getPlayerId() : -1);
+
+		CachedPath cachedPath = cache.get(key);
+		if (cachedPath != null) {
+			if (isValid(cachedPath)) {
+				hits++;
+				return new Path(cachedPath.path);
+			} else {
+				invalidations++;
+				cache.remove(key);
+			}
+		}
+
+		misses++;
+		Path path = aStar.findPath(requester, sx, sy, tx, ty);
+		if (path != null) {
+			cache.put(key, createCachedPath(path, sx, sy, tx, ty));
+		}
+		return path;
+	}
+
+	/**
+	 * Informs the cache that the blocking or the player of the given position changed.
+	 * 
+	 * @param x
+	 * @param y
+	 */
+	public void regionChanged(int x, int y) {
+		regionVersions[getRegionIdx(x / REGION_SIZE, y / REGION_SIZE)] = ++version;
+	}
+
+	public void clear() {
+		cache.clear();
+	}
+
+	public int size() {
+		return cache.size();
+	}
+
+	public long getHits() {
+		return hits;
+	}
+
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * @return The number of cached paths that were found but had to be discarded because a region they depend on changed.
+	 */
+	public long getInvalidations() {
+		return invalidations;
+	}
+
+	private boolean isValid(CachedPath cachedPath) {
+		for (int regionY = cachedPath.minRegionY; regionY <= cachedPath.maxRegionY; regionY++) {
+			for (int regionX = cachedPath.minRegionX; regionX <= cachedPath.maxRegionX; regionX++) {
+				if (regionVersions[getRegionIdx(regionX, regionY)] > cachedPath.version) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private CachedPath createCachedPath(Path path, int sx, int sy, int tx, int ty) {
+		Path template = new Path(path);
+
+		Path walker = new Path(path);
+		float cost = 0;
+		int x = sx;
+		int y = sy;
+		while (walker.hasNextStep()) {
+			cost += map.getCost(x, y, walker.nextX(), walker.nextY());
+			x = walker.nextX();
+			y = walker.nextY();
+			walker.goToNextStep();
+		}
+
+		int maxReadDistance = (int) Math.ceil(cost) + EXPLORATION_SLACK;
+		int marginX = (maxReadDistance - Math.abs(tx - sx) + 1) / 2;
+		int marginY = (maxReadDistance - Math.abs(ty - sy) + 1) / 2;
+
+		int minX = Math.max(0, Math.min(sx, tx) - marginX);
+		int minY = Math.max(0, Math.min(sy, ty) - marginY);
+		int maxX = Math.min(width - 1, Math.max(sx, tx) + marginX);
+		int maxY = Math.min(height - 1, Math.max(sy, ty) + marginY);
+
+		return new CachedPath(template, version, minX / REGION_SIZE, minY / REGION_SIZE, maxX / REGION_SIZE, maxY / REGION_SIZE);
+	}
+
+	private int getRegionIdx(int regionX, int regionY) {
+		return regionX + regionY * regionsPerRow;
+	}
+
+	private static final class PathKey {
+		private final short sx;
+		private final short sy;
+		private final short tx;
+		private final short ty;
+		private final byte playerId;
+
+		PathKey(short sx, short sy, short tx, short ty, byte playerId) {
+			this.sx = sx;
+			this.sy = sy;
+			this.tx = tx;
+			this.ty = ty;
+			this.playerId = playerId;
+		}
+
+		@Override
+		public int hashCode() {
+			int result = sx;
+			result = 31 * result + sy;
+			result = 31 * result + tx;
+			result = 31 * result + ty;
+			return 31 * result + playerId;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof PathKey)) {
+				return false;
+			}
+			PathKey other = (PathKey) obj;
+			return sx == other.sx && sy == other.sy && tx == other.tx && ty == other.ty && playerId == other.playerId;
+		}
+	}
+
+	private static final class CachedPath {
+		final Path path;
+		final long version;
+		final int minRegionX;
+		final int minRegionY;
+		final int maxRegionX;
+		final int maxRegionY;
+
+		CachedPath(Path path, long version, int minRegionX, int minRegionY, int maxRegionX, int maxRegionY) {
+			this.path = path;
+			this.version = version;
+			this.minRegionX = minRegionX;
+			this.minRegionY = minRegionY;
+			this.maxRegionX = maxRegionX;
+			this.maxRegionY = maxRegionY;
+		}
+	}
+}
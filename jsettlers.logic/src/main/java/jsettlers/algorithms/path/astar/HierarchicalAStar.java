@@ -0,0 +1,514 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.astar;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.InvalidStartPositionException;
+import jsettlers.algorithms.path.Path;
+import jsettlers.algorithms.path.astar.queues.heap.IntMinHeap;
+import jsettlers.common.movable.EDirection;
+import jsettlers.common.player.IPlayer;
+import jsettlers.common.position.ShortPoint2D;
+
+/**
+ * Hierarchical path finder (HPA*) for long distance paths.
+ * <p />
+ * The grid is divided into clusters of {@value #CLUSTER_SIZE}x{@value #CLUSTER_SIZE} positions. For every border between two clusters, the free
+ * crossings are grouped into entrances and the costs between all entrances of a cluster are precomputed. A path request is first solved on this
+ * small abstract graph and then refined with the given {@link BucketQueueAStar}, which only needs to search the short segments between the
+ * waypoints.
+ * <p />
+ * The cluster data is built lazily and repaired incrementally: {@link #blockedChanged(int, int)} marks the affected clusters as dirty and they are
+ * recomputed the next time a search touches them.
+ * <p />
+ * The abstract graph only knows about blocked positions. Requesters that need their player's ground, requesters standing on a blocked position and
+ * short paths are therefore directly handled by the {@link BucketQueueAStar}. The same applies if the abstract search fails.
+ * 
+ * @author agent
+ * 
+ */
+public final class HierarchicalAStar extends AbstractAStar {
+	public static final int CLUSTER_SIZE = 16;
+	/**
+	 * Entrances with at least this number of crossings get an abstract node at each end instead of a single one in the middle.
+	 */
+	private static final int LONG_ENTRANCE_LENGTH = 6;
+	/**
+	 * Maximum distance of the waypoints connected by a single search of the {@link BucketQueueAStar} during the refinement.
+	 */
+	private static final int REFINEMENT_DISTANCE = 2 * CLUSTER_SIZE;
+	private static final int MAX_ENTRANCES_PER_CLUSTER = 4 * CLUSTER_SIZE;
+	private static final float UNREACHABLE = Float.MAX_VALUE;
+
+	private static final byte[] xDeltaArray = EDirection.getXDeltaArray();
+	private static final byte[] yDeltaArray = EDirection.getYDeltaArray();
+
+	/**
+	 * Requester used to build the abstract graph. It doesn't need players ground, so only the blocked state of a position is considered.
+	 */
+	private static final IPathCalculatable UNRESTRICTED_REQUESTER = new IPathCalculatable() {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public ShortPoint2D getPos() {
+			return null;
+		}
+
+		@Override
+		public IPlayer getPlayer() {
+			return null;
+		}
+
+		@Override
+		public boolean needsPlayersGround() {
+			return false;
+		}
+	};
+
+	private final IAStarPathMap map;
+	private final BucketQueueAStar aStar;
+
+	private final short width;
+	private final short height;
+	private final int clustersX;
+
+	private final int[][] entranceTiles;
+	private final int[][] entrancePartners;
+	private final float[][] interCosts;
+	private final float[][] intraCosts;
+	private final BitSet dirtyClusters;
+
+	private final int[] nodeStamps;
+	private final float[] nodeCosts;
+	private final int[] nodeParents;
+	private final IntMinHeap open = new IntMinHeap(256);
+	private int generation = 0;
+
+	private final float[] localCosts = new float[CLUSTER_SIZE * CLUSTER_SIZE];
+	private final IntMinHeap localOpen = new IntMinHeap(CLUSTER_SIZE * CLUSTER_SIZE);
+	private final float[] startCosts = new float[MAX_ENTRANCES_PER_CLUSTER];
+	private final float[] targetCosts = new float[MAX_ENTRANCES_PER_CLUSTER];
+
+	private final int[] tempTiles = new int[MAX_ENTRANCES_PER_CLUSTER];
+	private final int[] tempPartners = new int[MAX_ENTRANCES_PER_CLUSTER];
+	private final float[] tempInterCosts = new float[MAX_ENTRANCES_PER_CLUSTER];
+
+	private int[] waypoints = new int[64];
+
+	public HierarchicalAStar(IAStarPathMap map, BucketQueueAStar aStar, short width, short height) {
+		this.map = map;
+		this.aStar = aStar;
+		this.width = width;
+		this.height = height;
+
+		this.clustersX = (width + CLUSTER_SIZE - 1) / CLUSTER_SIZE;
+		int clustersY = (height + CLUSTER_SIZE - 1) / CLUSTER_SIZE;
+		int numberOfClusters = clustersX * clustersY;
+
+		this.entranceTiles = new int[numberOfClusters][];
+		this.entrancePartners = new int[numberOfClusters][];
+		this.interCosts = new float[numberOfClusters][];
+		this.intraCosts = new float[numberOfClusters][];
+		this.dirtyClusters = new BitSet(numberOfClusters);
+		this.dirtyClusters.set(0, numberOfClusters);
+
+		this.nodeStamps = new int[width * height];
+		this.nodeCosts = new float[width * height];
+		this.nodeParents = new int[width * height];
+	}
+
+	/**
+	 * Informs the path finder that the blocked state of the given position has changed. The clusters containing the position or one of its
+	 * neighbors will be rebuilt on their next use.
+	 * 
+	 * @param x
+	 *            x coordinate
+	 * @param y
+	 *            y coordinate
+	 */
+	public void blockedChanged(int x, int y) {
+		dirtyClusters.set(getCluster(x, y));
+
+		for (int i = 0; i < EDirection.NUMBER_OF_DIRECTIONS; i++) {
+			int neighborX = x + xDeltaArray[i];
+			int neighborY = y + yDeltaArray[i];
+			if (isInBounds(neighborX, neighborY)) {
+				dirtyClusters.set(getCluster(neighborX, neighborY));
+			}
+		}
+	}
+
+	@Override
+	public Path findPath(IPathCalculatable requester, ShortPoint2D target) {
+		ShortPoint2D pos = requester.getPos();
+		return findPath(requester, pos.x, pos.y, target.x, target.y);
+	}
+
+	@Override
+	public boolean isRejectedWithoutSearch(IPathCalculatable requester, short sx, short sy, short tx, short ty) {
+		return aStar.isRejectedWithoutSearch(requester, sx, sy, tx, ty);
+	}
+
+	@Override
+	public Path findPath(IPathCalculatable requester, short sx, short sy, short tx, short ty) {
+		if (!isInBounds(sx, sy)) {
+			throw new InvalidStartPositionException("Start position is out of bounds!", sx, sy);
+		} else if (aStar.isRejectedWithoutSearch(requester, sx, sy, tx, ty)) {
+			return null;
+		}
+
+		int startCluster = getCluster(sx, sy);
+		int targetCluster = getCluster(tx, ty);
+
+		if (requester.needsPlayersGround() || map.isBlocked(requester, sx, sy) || startCluster == targetCluster
+				|| BucketQueueAStar.getHeuristicCost(sx, sy, tx, ty) < 2 * CLUSTER_SIZE) {
+			return aStar.findPath(requester, sx, sy, tx, ty);
+		}
+
+		Path path = findAbstractPath(requester, sx, sy, tx, ty, startCluster, targetCluster);
+		if (path == null) { // the abstract graph is only an approximation => make sure we don't miss a path
+			path = aStar.findPath(requester, sx, sy, tx, ty);
+		}
+		return path;
+	}
+
+	private Path findAbstractPath(IPathCalculatable requester, int sx, int sy, int tx, int ty, int startCluster, int targetCluster) {
+		ensureClusterBuilt(startCluster);
+		ensureClusterBuilt(targetCluster);
+		calculateEntranceCosts(startCluster, sx, sy, startCosts);
+		calculateEntranceCosts(targetCluster, tx, ty, targetCosts); // costs are symmetric, so the distance from the target equals the distance to it
+
+		nextGeneration();
+		open.clear();
+
+		final int startIdx = getFlatIdx(sx, sy);
+		final int targetIdx = getFlatIdx(tx, ty);
+		relax(startIdx, 0, -1, tx, ty);
+
+		while (!open.isEmpty()) {
+			final int currIdx = open.deleteMin();
+			if (nodeStamps[currIdx] != getOpenStamp()) {
+				continue; // stale entry of an already closed node
+			}
+			nodeStamps[currIdx] = getClosedStamp();
+			map.markAsClosed(getX(currIdx), getY(currIdx));
+
+			if (currIdx == targetIdx) {
+				return refinePath(requester, startIdx, targetIdx);
+			}
+
+			final float currCosts = nodeCosts[currIdx];
+
+			if (currIdx == startIdx) {
+				int[] startEntrances = entranceTiles[startCluster];
+				for (int i = 0; i < startEntrances.length; i++) {
+					if (startCosts[i] < UNREACHABLE) {
+						relax(startEntrances[i], currCosts + startCosts[i], currIdx, tx, ty);
+					}
+				}
+			}
+
+			final int cluster = getCluster(getX(currIdx), getY(currIdx));
+			ensureClusterBuilt(cluster);
+
+			final int[] tiles = entranceTiles[cluster];
+			final int numberOfEntrances = tiles.length;
+			final float[] intra = intraCosts[cluster];
+
+			for (int i = 0; i < numberOfEntrances; i++) {
+				if (tiles[i] != currIdx) {
+					continue;
+				}
+
+				relax(entrancePartners[cluster][i], currCosts + interCosts[cluster][i], currIdx, tx, ty);
+
+				for (int j = 0; j < numberOfEntrances; j++) {
+					final float costs = intra[i * numberOfEntrances + j];
+					if (tiles[j] != currIdx && costs < UNREACHABLE) {
+						relax(tiles[j], currCosts + costs, currIdx, tx, ty);
+					}
+				}
+
+				if (cluster == targetCluster && targetCosts[i] < UNREACHABLE) {
+					relax(targetIdx, currCosts + targetCosts[i], currIdx, tx, ty);
+				}
+			}
+		}
+
+		return null;
+	}
+
+	private void relax(int flatIdx, float costs, int parentIdx, int tx, int ty) {
+		final int stamp = nodeStamps[flatIdx];
+		if (stamp == getClosedStamp() || (stamp == getOpenStamp() && nodeCosts[flatIdx] <= costs)) {
+			return;
+		}
+
+		nodeStamps[flatIdx] = getOpenStamp();
+		nodeCosts[flatIdx] = costs;
+		nodeParents[flatIdx] = parentIdx;
+		open.insert(flatIdx, costs + BucketQueueAStar.getHeuristicCost(getX(flatIdx), getY(flatIdx), tx, ty));
+	}
+
+	/**
+	 * Builds the final path by connecting the waypoints of the abstract path with the {@link BucketQueueAStar}. Waypoints closer than
+	 * {@value #REFINEMENT_DISTANCE} are skipped, so the local searches can straighten the path instead of running through every entrance.
+	 */
+	private Path refinePath(IPathCalculatable requester, int startIdx, int targetIdx) {
+		int numberOfWaypoints = 0;
+		for (int idx = targetIdx; idx != -1; idx = nodeParents[idx]) {
+			if (numberOfWaypoints == waypoints.length) {
+				waypoints = Arrays.copyOf(waypoints, waypoints.length * 2);
+			}
+			waypoints[numberOfWaypoints++] = idx;
+		}
+
+		Path[] segments = new Path[numberOfWaypoints - 1];
+		int numberOfSegments = 0;
+		int pathLength = 0;
+
+		int fromWaypoint = numberOfWaypoints - 1;
+		while (fromWaypoint > 0) {
+			int from = waypoints[fromWaypoint];
+			int fromX = getX(from);
+			int fromY = getY(from);
+
+			int toWaypoint = fromWaypoint - 1;
+			while (toWaypoint > 0
+					&& BucketQueueAStar.getHeuristicCost(fromX, fromY, getX(waypoints[toWaypoint - 1]), getY(waypoints[toWaypoint - 1])) <= REFINEMENT_DISTANCE) {
+				toWaypoint--;
+			}
+
+			int to = waypoints[toWaypoint];
+			Path segment = aStar.findPath(requester, (short) fromX, (short) fromY, (short) getX(to), (short) getY(to));
+			if (segment == null) {
+				return null;
+			}
+			segments[numberOfSegments++] = segment;
+			pathLength += segment.getLength();
+
+			fromWaypoint = toWaypoint;
+		}
+
+		Path path = new Path(pathLength);
+		int pathIdx = 0;
+		for (int i = 0; i < numberOfSegments; i++) {
+			Path segment = segments[i];
+			while (segment.hasNextStep()) {
+				path.insertAt(pathIdx++, segment.nextX(), segment.nextY());
+				segment.goToNextStep();
+			}
+		}
+
+		return path;
+	}
+
+	private void ensureClusterBuilt(int cluster) {
+		if (dirtyClusters.get(cluster)) {
+			buildCluster(cluster);
+			dirtyClusters.clear(cluster);
+		}
+	}
+
+	private void buildCluster(int cluster) {
+		final int x0 = getClusterMinX(cluster);
+		final int y0 = getClusterMinY(cluster);
+		final int x1 = getClusterMaxX(cluster);
+		final int y1 = getClusterMaxY(cluster);
+
+		int count = 0;
+		if (x1 + 1 < width) {
+			count = addEntrances(count, x1, y0, 0, 1, 1, 0, y1 - y0 + 1);
+		}
+		if (x0 > 0) {
+			count = addEntrances(count, x0, y0, 0, 1, -1, 0, y1 - y0 + 1);
+		}
+		if (y1 + 1 < height) {
+			count = addEntrances(count, x0, y1, 1, 0, 0, 1, x1 - x0 + 1);
+		}
+		if (y0 > 0) {
+			count = addEntrances(count, x0, y0, 1, 0, 0, -1, x1 - x0 + 1);
+		}
+
+		int[] tiles = Arrays.copyOf(tempTiles, count);
+		float[] intra = new float[count * count];
+
+		for (int i = 0; i < count; i++) {
+			searchInCluster(cluster, getX(tiles[i]), getY(tiles[i]));
+			for (int j = 0; j < count; j++) {
+				intra[i * count + j] = localCosts[getLocalTileIdx(cluster, tiles[j])];
+			}
+		}
+
+		entranceTiles[cluster] = tiles;
+		entrancePartners[cluster] = Arrays.copyOf(tempPartners, count);
+		interCosts[cluster] = Arrays.copyOf(tempInterCosts, count);
+		intraCosts[cluster] = intra;
+	}
+
+	/**
+	 * Collects the entrances along one border of a cluster. The crossings are grouped into runs of consecutive free crossings. Both clusters sharing
+	 * the border see exactly the same runs, so their entrances always match up.
+	 */
+	private int addEntrances(int count, int startX, int startY, int stepX, int stepY, int partnerDx, int partnerDy, int length) {
+		int runStart = -1;
+
+		for (int i = 0; i <= length; i++) {
+			int x = startX + i * stepX;
+			int y = startY + i * stepY;
+			boolean free = i < length && !isBlocked(x, y) && !isBlocked(x + partnerDx, y + partnerDy);
+
+			if (free && runStart < 0) {
+				runStart = i;
+			} else if (!free && runStart >= 0) {
+				int runLength = i - runStart;
+				if (runLength >= LONG_ENTRANCE_LENGTH) {
+					count = addEntrance(count, startX + runStart * stepX, startY + runStart * stepY, partnerDx, partnerDy);
+					count = addEntrance(count, startX + (i - 1) * stepX, startY + (i - 1) * stepY, partnerDx, partnerDy);
+				} else {
+					int middle = runStart + (runLength - 1) / 2;
+					count = addEntrance(count, startX + middle * stepX, startY + middle * stepY, partnerDx, partnerDy);
+				}
+				runStart = -1;
+			}
+		}
+
+		return count;
+	}
+
+	private int addEntrance(int count, int x, int y, int partnerDx, int partnerDy) {
+		tempTiles[count] = getFlatIdx(x, y);
+		tempPartners[count] = getFlatIdx(x + partnerDx, y + partnerDy);
+		tempInterCosts[count] = map.getCost(x, y, x + partnerDx, y + partnerDy);
+		return count + 1;
+	}
+
+	private void calculateEntranceCosts(int cluster, int x, int y, float[] entranceCosts) {
+		searchInCluster(cluster, x, y);
+
+		int[] tiles = entranceTiles[cluster];
+		for (int i = 0; i < tiles.length; i++) {
+			entranceCosts[i] = localCosts[getLocalTileIdx(cluster, tiles[i])];
+		}
+	}
+
+	/**
+	 * Runs a dijkstra search that's limited to the given cluster and stores the results in {@link #localCosts}.
+	 */
+	private void searchInCluster(int cluster, int sourceX, int sourceY) {
+		final int x0 = getClusterMinX(cluster);
+		final int y0 = getClusterMinY(cluster);
+		final int x1 = getClusterMaxX(cluster);
+		final int y1 = getClusterMaxY(cluster);
+
+		Arrays.fill(localCosts, UNREACHABLE);
+		localOpen.clear();
+
+		localCosts[getLocalIdx(sourceX - x0, sourceY - y0)] = 0;
+		localOpen.insert(getLocalIdx(sourceX - x0, sourceY - y0), 0);
+
+		while (!localOpen.isEmpty()) {
+			float currCosts = localOpen.getMinRank();
+			int localIdx = localOpen.deleteMin();
+			if (currCosts > localCosts[localIdx]) {
+				continue;
+			}
+
+			int x = x0 + localIdx % CLUSTER_SIZE;
+			int y = y0 + localIdx / CLUSTER_SIZE;
+
+			for (int i = 0; i < EDirection.NUMBER_OF_DIRECTIONS; i++) {
+				int neighborX = x + xDeltaArray[i];
+				int neighborY = y + yDeltaArray[i];
+
+				if (x0 <= neighborX && neighborX <= x1 && y0 <= neighborY && neighborY <= y1 && !isBlocked(neighborX, neighborY)) {
+					int neighborIdx = getLocalIdx(neighborX - x0, neighborY - y0);
+					float newCosts = currCosts + map.getCost(x, y, neighborX, neighborY);
+					if (newCosts < localCosts[neighborIdx]) {
+						localCosts[neighborIdx] = newCosts;
+						localOpen.insert(neighborIdx, newCosts);
+					}
+				}
+			}
+		}
+	}
+
+	private void nextGeneration() {
+		generation++;
+		if (generation >= Integer.MAX_VALUE / 2) {
+			Arrays.fill(nodeStamps, 0);
+			generation = 1;
+		}
+	}
+
+	private int getOpenStamp() {
+		return 2 * generation;
+	}
+
+	private int getClosedStamp() {
+		return 2 * generation + 1;
+	}
+
+	private boolean isBlocked(int x, int y) {
+		return map.isBlocked(UNRESTRICTED_REQUESTER, x, y);
+	}
+
+	private boolean isInBounds(int x, int y) {
+		return 0 <= x && x < width && 0 <= y && y < height;
+	}
+
+	private int getCluster(int x, int y) {
+		return (y / CLUSTER_SIZE) * clustersX + x / CLUSTER_SIZE;
+	}
+
+	private int getClusterMinX(int cluster) {
+		return (cluster % clustersX) * CLUSTER_SIZE;
+	}
+
+	private int getClusterMinY(int cluster) {
+		return (cluster / clustersX) * CLUSTER_SIZE;
+	}
+
+	private int getClusterMaxX(int cluster) {
+		return Math.min(getClusterMinX(cluster) + CLUSTER_SIZE, width) - 1;
+	}
+
+	private int getClusterMaxY(int cluster) {
+		return Math.min(getClusterMinY(cluster) + CLUSTER_SIZE, height) - 1;
+	}
+
+	private int getLocalTileIdx(int cluster, int flatIdx) {
+		return getLocalIdx(getX(flatIdx) - getClusterMinX(cluster), getY(flatIdx) - getClusterMinY(cluster));
+	}
+
+	private static int getLocalIdx(int localX, int localY) {
+		return localY * CLUSTER_SIZE + localX;
+	}
+
+	private int getFlatIdx(int x, int y) {
+		return y * width + x;
+	}
+
+	private int getX(int flatIdx) {
+		return flatIdx % width;
+	}
+
+	private int getY(int flatIdx) {
+		return flatIdx / width;
+	}
+}
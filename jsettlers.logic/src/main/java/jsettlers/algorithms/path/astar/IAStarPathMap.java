@@ -54,4 +54,15 @@ public interface IAStarPathMap {
 	 */
 	short getBlockedPartition(int x, int y);
 
+	/**
+	 * Gets the id of the dynamic blocked partition of the given coordinates. Unlike the blocked partitions, these partitions are also separated
+	 * by positions blocked during the game, e.g. by buildings. Free positions with different ids can't be connected by a path.
+	 * <p />
+	 * Maps that don't keep track of these partitions return the same id for all positions.
+	 * 
+	 * @param x
+	 * @param y
+	 * @return
+	 */
+	int getDynamicBlockedPartition(int x, int y);
 }
@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.astar;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.IPathRequestListener;
+import jsettlers.algorithms.path.Path;
+import jsettlers.common.logging.TickProfiler;
+import jsettlers.common.position.ShortPoint2D;
+
+/**
+ * Collects path requests and solves them in parallel with one {@link BucketQueueAStar} per worker.
+ * <p />
+ * The start position of a request is captured when the request is issued. The results are delivered to the listeners in the order the requests
+ * have been issued and on the thread calling {@link #solvePendingRequests()}. As every search only depends on the map and its request, the results
+ * are the same as if the searches were done one after another. Therefore this can be used in the lockstep simulation as long as the map isn't
+ * modified while {@link #solvePendingRequests()} is running.
+ * 
+ * @author agent
+ * 
+ */
+public final class ParallelPathService {
+	private final IAStarPathMap map;
+	private final short width;
+	private final short height;
+	private final TickProfiler profiler;
+
+	private final ForkJoinPool pool;
+	private final ConcurrentLinkedQueue<BucketQueueAStar> idleAStars = new ConcurrentLinkedQueue<>();
+
+	private ArrayList<PathRequest> pendingRequests = new ArrayList<>();
+	private ArrayList<PathRequest> solvingRequests = new ArrayList<>();
+
+	public ParallelPathService(IAStarPathMap map, short width, short height, int parallelism) {
+		this(map, width, height, parallelism, null);
+	}
+
+	/**
+	 * @param profiler
+	 *            The profiler the searches of the workers are recorded with or null to disable profiling.
+	 */
+	public ParallelPathService(IAStarPathMap map, short width, short height, int parallelism, TickProfiler profiler) {
+		this.map = map;
+		this.width = width;
+		this.height = height;
+		this.profiler = profiler;
+		this.pool = new ForkJoinPool(parallelism);
+	}
+
+	/**
+	 * Requests a path from the current position of the requester to the given target. The result is delivered to the listener by the next call
+	 * of {@link #solvePendingRequests()}.
+	 * 
+	 * @param requester
+	 * @param targetPos
+	 * @param listener
+	 */
+	public void requestPath(IPathCalculatable requester, ShortPoint2D targetPos, IPathRequestListener listener) {
+		pendingRequests.add(new PathRequest(requester, requester.getPos(), targetPos, listener));
+	}
+
+	public int getNumberOfPendingRequests() {
+		return pendingRequests.size();
+	}
+
+	/**
+	 * Solves all pending requests and informs their listeners in the order of the requests. Requests issued by the listeners are solved by the
+	 * next call of this method.
+	 */
+	public void solvePendingRequests() {
+		if (pendingRequests.isEmpty()) {
+			return;
+		}
+
+		ArrayList<PathRequest> requests = pendingRequests;
+		pendingRequests = solvingRequests;
+		solvingRequests = requests;
+
+		if (requests.size() == 1) {
+			solve(requests, 0, 1);
+		} else {
+			pool.invoke(new SolveRequestsTask(requests, 0, requests.size(), getSplitThreshold(requests.size())));
+		}
+
+		for (PathRequest request : requests) {
+			try {
+				request.listener.pathCalculated(request.result);
+			} catch (Throwable t) {
+				System.err.println("ParallelPathService catched: ");
+				t.printStackTrace();
+			}
+		}
+		requests.clear();
+	}
+
+	public void shutdown() {
+		pool.shutdownNow();
+	}
+
+	private int getSplitThreshold(int numberOfRequests) {
+		return Math.max(1, numberOfRequests / (pool.getParallelism() * 4));
+	}
+
+	private void solve(ArrayList<PathRequest> requests, int from, int to) {
+		BucketQueueAStar aStar = idleAStars.poll();
+		if (aStar == null) {
+			aStar = new BucketQueueAStar(map, width, height);
+			aStar.setProfiler(profiler);
+		}
+
+		try {
+			for (int i = from; i < to; i++) {
+				PathRequest request = requests.get(i);
+				try {
+					request.result = aStar.findPath(request.requester, request.start.x, request.start.y, request.target.x, request.target.y);
+				} catch (RuntimeException e) {
+					e.printStackTrace();
+					request.result = null;
+				}
+			}
+		} finally {
+			idleAStars.offer(aStar);
+		}
+	}
+
+	private final class SolveRequestsTask extends RecursiveAction {
+		private static final long serialVersionUID = 8468418562381208513L;
+
+		private final ArrayList<PathRequest> requests;
+		private final int from;
+		private final int to;
+		private final int threshold;
+
+		SolveRequestsTask(ArrayList<PathRequest> requests, int from, int to, int threshold) {
+			this.requests = requests;
+			this.from = from;
+			this.to = to;
+			this.threshold = threshold;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= threshold) {
+				solve(requests, from, to);
+			} else {
+				int middle = (from + to) >>> 1;
+				invokeAll(new SolveRequestsTask(requests, from, middle, threshold), new SolveRequestsTask(requests, middle, to, threshold));
+			}
+		}
+	}
+
+	private static final class PathRequest {
+		final IPathCalculatable requester;
+		final ShortPoint2D start;
+		final ShortPoint2D target;
+		final IPathRequestListener listener;
+		Path result;
+
+		PathRequest(IPathCalculatable requester, ShortPoint2D start, ShortPoint2D target, IPathRequestListener listener) {
+			this.requester = requester;
+			this.start = start;
+			this.target = target;
+			this.listener = listener;
+		}
+	}
+}
@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.astar.queues.heap;
+
+import java.util.Arrays;
+
+/**
+ * A binary min heap of int ids ranked by float values. The heap stores primitives only and therefore doesn't allocate while searching, once it has
+ * grown to its working size.
+ * <p />
+ * The heap does not support decreasing the rank of an element. Instead, the element can be inserted again with the lower rank. The caller must ignore
+ * stale entries returned by {@link #deleteMin()}.
+ * 
+ * @author agent
+ * 
+ */
+public final class IntMinHeap {
+	private int[] ids;
+	private float[] ranks;
+	private int size = 0;
+
+	public IntMinHeap(int initialCapacity) {
+		this.ids = new int[initialCapacity];
+		this.ranks = new float[initialCapacity];
+	}
+
+	public void insert(int id, float rank) {
+		if (size == ids.length) {
+			int newCapacity = Math.max(16, ids.length * 2);
+			ids = Arrays.copyOf(ids, newCapacity);
+			ranks = Arrays.copyOf(ranks, newCapacity);
+		}
+
+		int idx = size++;
+		while (idx > 0) {
+			int parentIdx = (idx - 1) / 2;
+			if (ranks[parentIdx] <= rank) {
+				break;
+			}
+			ids[idx] = ids[parentIdx];
+			ranks[idx] = ranks[parentIdx];
+			idx = parentIdx;
+		}
+		ids[idx] = id;
+		ranks[idx] = rank;
+	}
+
+	/**
+	 * Gets the rank of the element that will be returned by the next call to {@link #deleteMin()}.
+	 * 
+	 * @return The minimal rank. The heap must not be empty.
+	 */
+	public float getMinRank() {
+		return ranks[0];
+	}
+
+	/**
+	 * Deletes the element with the minimal rank.
+	 * 
+	 * @return The id of the deleted element. The heap must not be empty.
+	 */
+	public int deleteMin() {
+		int result = ids[0];
+		size--;
+
+		int lastId = ids[size];
+		float lastRank = ranks[size];
+
+		int idx = 0;
+		int half = size / 2;
+		while (idx < half) {
+			int childIdx = 2 * idx + 1;
+			int rightIdx = childIdx + 1;
+			if (rightIdx < size && ranks[rightIdx] < ranks[childIdx]) {
+				childIdx = rightIdx;
+			}
+			if (lastRank <= ranks[childIdx]) {
+				break;
+			}
+			ids[idx] = ids[childIdx];
+			ranks[idx] = ranks[childIdx];
+			idx = childIdx;
+		}
+		ids[idx] = lastId;
+		ranks[idx] = lastRank;
+
+		return result;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public void clear() {
+		size = 0;
+	}
+}
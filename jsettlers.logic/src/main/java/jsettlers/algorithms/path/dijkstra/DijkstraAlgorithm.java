@@ -15,6 +15,8 @@
 package jsettlers.algorithms.path.dijkstra;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.EnumSet;
 import java.util.Set;
 
@@ -24,10 +26,16 @@ import jsettlers.algorithms.path.Path;
 import jsettlers.algorithms.path.astar.AbstractAStar;
 import jsettlers.common.map.shapes.MapCircle;
 import jsettlers.common.material.ESearchType;
+import jsettlers.common.movable.EDirection;
 import jsettlers.common.position.ShortPoint2D;
 
 /**
  * this class implements a strict dijkstra algorithm
+ * <p />
+ * The positions are checked ring by ring around the center and the path to the first fitting position is calculated with the A*. When such an A*
+ * search fails after searching everything reachable from the requester, the reachable area is remembered for the rest of the search. All further
+ * fitting positions outside of it are skipped without starting another A* search. As the A* only runs for reachable positions, the resulting paths
+ * are exactly the same as without this shortcut.
  * 
  * @author Andreas Eberle
  * 
@@ -36,16 +44,23 @@ public final class DijkstraAlgorithm {
 	private static final byte[] directionIncreaseX = { -1, 0, 1, 1, 0, -1 };
 	private static final byte[] directionIncreaseY = { 0, 1, 1, 0, -1, -1 };
 	private static final float MAX_RADIUS_MULTIPLIER = 1f / MapCircle.Y_SCALE;
+	private static final byte[] xDeltaArray = EDirection.getXDeltaArray();
+	private static final byte[] yDeltaArray = EDirection.getYDeltaArray();
 
 	private final IDijkstraPathMap map;
 	private final short height, width;
 	private final AbstractAStar aStar;
 
+	private final BitSet reachableArea;
+	private boolean reachableAreaCalculated;
+	private int[] reachableAreaStack = new int[256];
+
 	public DijkstraAlgorithm(IDijkstraPathMap map, AbstractAStar aStar, short width, short height) {
 		this.map = map;
 		this.aStar = aStar;
 		this.width = width;
 		this.height = height;
+		this.reachableArea = new BitSet(width * height);
 	}
 
 	public final Path find(final IPathCalculatable requester, final short cX, final short cY, final short minRadius, final short maxRadius,
@@ -53,6 +68,7 @@ public final class DijkstraAlgorithm {
 		if (!isInBounds(cX, cY)) {
 			throw new InvalidStartPositionException("dijkstra center position is not in bounds!", cX, cY);
 		}
+		reachableAreaCalculated = false;
 
 		// check center position (special case for minRadius <= 0
 		if (minRadius <= 0) {
@@ -88,11 +104,63 @@ public final class DijkstraAlgorithm {
 	}
 
 	private final Path findPathTo(IPathCalculatable requester, short tx, short ty) {
+		if (reachableAreaCalculated && !reachableArea.get(ty * width + tx)) {
+			return null;
+		}
+
 		ShortPoint2D pos = requester.getPos();
-		return aStar.findPath(requester, pos.x, pos.y, tx, ty);
+		Path path = aStar.findPath(requester, pos.x, pos.y, tx, ty);
+
+		// only if the A* had to search the whole reachable area before failing, calculating the reachable area costs less than it saves
+		if (path == null && !reachableAreaCalculated && !aStar.isRejectedWithoutSearch(requester, pos.x, pos.y, tx, ty)) {
+			calculateReachableArea(requester, pos.x, pos.y);
+		}
+		return path;
+	}
+
+	/**
+	 * Marks all positions the A* can reach from the given start position in {@link #reachableArea}. The rules for the steps are the same as in the A*.
+	 */
+	private void calculateReachableArea(IPathCalculatable requester, short sx, short sy) {
+		final short blockedAtStartPartition = map.isBlocked(requester, sx, sy) ? map.getBlockedPartition(sx, sy) : -1;
+
+		reachableArea.clear();
+		reachableArea.set(sy * width + sx);
+		reachableAreaStack[0] = sy * width + sx;
+		int stackSize = 1;
+
+		while (stackSize > 0) {
+			int flatIdx = reachableAreaStack[--stackSize];
+			int x = flatIdx % width;
+			int y = flatIdx / width;
+
+			for (int i = 0; i < EDirection.NUMBER_OF_DIRECTIONS; i++) {
+				int neighborX = x + xDeltaArray[i];
+				int neighborY = y + yDeltaArray[i];
+				int neighborIdx = neighborY * width + neighborX;
+
+				if (isInBounds(neighborX, neighborY) && !reachableArea.get(neighborIdx)
+						&& isValidStep(requester, x, y, neighborX, neighborY, blockedAtStartPartition)) {
+					reachableArea.set(neighborIdx);
+					if (stackSize == reachableAreaStack.length) {
+						reachableAreaStack = Arrays.copyOf(reachableAreaStack, stackSize * 2);
+					}
+					reachableAreaStack[stackSize++] = neighborIdx;
+				}
+			}
+		}
+
+		reachableAreaCalculated = true;
+	}
+
+	private boolean isValidStep(IPathCalculatable requester, int fromX, int fromY, int toX, int toY, short blockedAtStartPartition) {
+		return !map.isBlocked(requester, toX, toY)
+				|| (blockedAtStartPartition >= 0
+						&& map.getBlockedPartition(toX, toY) == blockedAtStartPartition
+						&& map.isBlocked(requester, fromX, fromY));
 	}
 
-	private final boolean isInBounds(short x, short y) {
+	private final boolean isInBounds(int x, int y) {
 		return 0 <= x && x < width && 0 <= y && y < height;
 	}
 
@@ -143,6 +211,7 @@ public final class DijkstraAlgorithm {
 		if (!isInBounds(request.cX, request.cY)) {
 			throw new InvalidStartPositionException("dijkstra center position is not in bounds!", request.cX, request.cY);
 		}
+		reachableAreaCalculated = false;
 
 		MapCircle circle = new MapCircle(request.cX, request.cY, request.maxRadius * MAX_RADIUS_MULTIPLIER);
 
@@ -26,4 +26,8 @@ public interface IDijkstraPathMap {
 	boolean fitsSearchType(int x, int y, Set<ESearchType> types, IPathCalculatable requester);
 
 	void setDijkstraSearched(int x, int y);
+
+	boolean isBlocked(IPathCalculatable requester, int x, int y);
+
+	short getBlockedPartition(int x, int y);
 }
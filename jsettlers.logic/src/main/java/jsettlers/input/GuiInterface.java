@@ -135,7 +135,7 @@ public class GuiInterface implements IMapInterfaceListener, ITaskExecutorGuiInte
 	@Override
 	public void action(IAction action) {
 		if (action.getActionType() != EActionType.SCREEN_CHANGE) {
-			System.out.println("action(Action): " + action.getActionType() + "   at game time: " + MatchConstants.clock().getTime());
+			System.out.println("action(Action): " + action.getActionType() + "   at game time: " + clock.getTime());
 		}
 
 		switch (action.getActionType()) {
@@ -385,7 +385,7 @@ public class GuiInterface implements IMapInterfaceListener, ITaskExecutorGuiInte
 			Building next = null;
 			boolean buildingFound = false;
 
-			for (final Building currBuilding : Building.getAllBuildings()) {
+			for (final Building currBuilding : grid.getMatchContext().getAllBuildings()) {
 				if (currBuilding == building) {
 					buildingFound = true;
 				} else {
@@ -61,7 +61,6 @@ import java8.util.stream.Collectors;
  *
  */
 public class GuiTaskExecutor implements ITaskExecutor {
-	private static GuiTaskExecutor instance = null;
 	private final IGuiInputGrid grid;
 	private final ITaskExecutorGuiInterface guiInterface;
 	private final byte playerId;
@@ -72,10 +71,6 @@ public class GuiTaskExecutor implements ITaskExecutor {
 		this.playerId = playerId;
 	}
 
-	public static GuiTaskExecutor get() {
-		return instance;
-	}
-
 	@Override
 	public void executeTask(TaskPacket iTask) {
 		if (!(iTask instanceof SimpleGuiTask)) {
@@ -260,7 +255,7 @@ public class GuiTaskExecutor implements ITaskExecutor {
 
 	private void convertMovables(ConvertGuiTask guiTask) {
 		for (Integer currID : guiTask.getSelection()) {
-			ILogicMovable movable = Movable.getMovableByID(currID);
+			ILogicMovable movable = grid.getMatchContext().getMovableByID(currID);
 			if (movable != null) {
 				movable.convertTo(guiTask.getTargetType());
 			}
@@ -270,7 +265,7 @@ public class GuiTaskExecutor implements ITaskExecutor {
 
 	private void stopOrStartWorking(List<Integer> selectedMovables, boolean stop) {
 		for (Integer currID : selectedMovables) {
-			ILogicMovable movable = Movable.getMovableByID(currID);
+			ILogicMovable movable = grid.getMatchContext().getMovableByID(currID);
 			if (movable != null) {
 				movable.stopOrStartWorking(stop);
 			}
@@ -279,7 +274,7 @@ public class GuiTaskExecutor implements ITaskExecutor {
 
 	private void killSelectedMovables(List<Integer> selectedMovables) {
 		for (Integer currID : selectedMovables) {
-			ILogicMovable curr = Movable.getMovableByID(currID);
+			ILogicMovable curr = grid.getMatchContext().getMovableByID(currID);
 			if (curr != null) {
 				curr.kill();
 			}
@@ -296,7 +291,7 @@ public class GuiTaskExecutor implements ITaskExecutor {
 	 */
 	private void moveSelectedTo(ShortPoint2D targetPosition, List<Integer> movableIds) {
 		if (movableIds.size() == 1) {
-			ILogicMovable currMovable = Movable.getMovableByID(movableIds.get(0));
+			ILogicMovable currMovable = grid.getMatchContext().getMovableByID(movableIds.get(0));
 			if (currMovable != null) {
 				currMovable.moveTo(targetPosition);
 			}
@@ -306,7 +301,7 @@ public class GuiTaskExecutor implements ITaskExecutor {
 	}
 
 	private void sendMovablesNew(ShortPoint2D targetPosition, List<Integer> movableIds) {
-		List<ILogicMovable> movables = stream(movableIds).map(Movable::getMovableByID).filter(Objects::nonNull).collect(Collectors.toList());
+		List<ILogicMovable> movables = stream(movableIds).map(grid.getMatchContext()::getMovableByID).filter(Objects::nonNull).collect(Collectors.toList());
 		if (movables.isEmpty()) {
 			return;
 		}
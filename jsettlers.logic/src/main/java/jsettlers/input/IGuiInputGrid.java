@@ -22,6 +22,7 @@ import jsettlers.common.buildings.IBuilding;
 import jsettlers.common.material.EMaterialType;
 import jsettlers.common.menu.UIState;
 import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.map.grid.partition.manager.settings.MaterialProductionSettings;
 import jsettlers.logic.player.Player;
 
@@ -46,6 +47,11 @@ public interface IGuiInputGrid {
 
 	IGuiMovable getMovable(int x, int y);
 
+	/**
+	 * @return The {@link MatchContext} of the game this grid belongs to.
+	 */
+	MatchContext getMatchContext();
+
 	/**
 	 * Gets a position where the building can be constructed some points around pos.
 	 *
@@ -20,6 +20,7 @@ import java.io.IOException;
 
 import jsettlers.common.movable.ESoldierType;
 import jsettlers.common.position.ShortPoint2D;
+import jsettlers.network.client.task.packets.ETaskEncoding;
 
 /**
  *
@@ -48,15 +49,15 @@ public class ChangeTowerSoldiersGuiTask extends SimpleBuildingGuiTask {
 	}
 
 	@Override
-	protected void serializeTask(DataOutputStream dos) throws IOException {
-		super.serializeTask(dos);
+	protected void serializeTask(DataOutputStream dos, ETaskEncoding encoding) throws IOException {
+		super.serializeTask(dos, encoding);
 		dos.writeByte(taskType.ordinal());
 		dos.writeByte(soldierType != null ? soldierType.ordinal() : -1);
 	}
 
 	@Override
-	protected void deserializeTask(DataInputStream dis) throws IOException {
-		super.deserializeTask(dis);
+	protected void deserializeTask(DataInputStream dis, ETaskEncoding encoding) throws IOException {
+		super.deserializeTask(dis, encoding);
 		taskType = EChangeTowerSoldierTaskType.values()[dis.readByte()];
 		byte soldierTypeValue = dis.readByte();
 		soldierType = soldierTypeValue >= 0 ? ESoldierType.values()[soldierTypeValue] : null;
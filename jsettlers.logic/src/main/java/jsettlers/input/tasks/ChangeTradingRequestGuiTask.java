@@ -20,6 +20,7 @@ import java.io.IOException;
 
 import jsettlers.common.material.EMaterialType;
 import jsettlers.common.position.ShortPoint2D;
+import jsettlers.network.client.task.packets.ETaskEncoding;
 
 /**
  * Requests to change the number of requested materials for a trading building
@@ -55,18 +56,18 @@ public class ChangeTradingRequestGuiTask extends SimpleBuildingGuiTask {
 	}
 
 	@Override
-	protected void serializeTask(DataOutputStream dos) throws IOException {
-		super.serializeTask(dos);
+	protected void serializeTask(DataOutputStream dos, ETaskEncoding encoding) throws IOException {
+		super.serializeTask(dos, encoding);
 		dos.writeByte(material.ordinal);
-		dos.writeInt(amount);
+		encoding.writeInt(dos, amount);
 		dos.writeBoolean(relative);
 	}
 
 	@Override
-	protected void deserializeTask(DataInputStream dis) throws IOException {
-		super.deserializeTask(dis);
+	protected void deserializeTask(DataInputStream dis, ETaskEncoding encoding) throws IOException {
+		super.deserializeTask(dis, encoding);
 		material = EMaterialType.VALUES[dis.readByte()];
-		amount = dis.readInt();
+		amount = encoding.readInt(dis);
 		relative = dis.readBoolean();
 	}
 
@@ -20,6 +20,7 @@ import java.io.IOException;
 
 import jsettlers.common.buildings.EBuildingType;
 import jsettlers.common.position.ShortPoint2D;
+import jsettlers.network.client.task.packets.ETaskEncoding;
 
 /**
  * 
@@ -49,17 +50,17 @@ public class ConstructBuildingTask extends SimpleGuiTask {
 	}
 
 	@Override
-	protected void serializeTask(DataOutputStream dos) throws IOException {
-		super.serializeTask(dos);
-		SimpleGuiTask.serializePosition(dos, position);
-		dos.writeInt(type.ordinal);
+	protected void serializeTask(DataOutputStream dos, ETaskEncoding encoding) throws IOException {
+		super.serializeTask(dos, encoding);
+		SimpleGuiTask.serializePosition(dos, encoding, position);
+		encoding.writeInt(dos, type.ordinal);
 	}
 
 	@Override
-	protected void deserializeTask(DataInputStream dis) throws IOException {
-		super.deserializeTask(dis);
-		position = SimpleGuiTask.deserializePosition(dis);
-		type = EBuildingType.VALUES[dis.readInt()];
+	protected void deserializeTask(DataInputStream dis, ETaskEncoding encoding) throws IOException {
+		super.deserializeTask(dis, encoding);
+		position = SimpleGuiTask.deserializePosition(dis, encoding);
+		type = EBuildingType.VALUES[encoding.readInt(dis)];
 	}
 
 	@Override
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.util.List;
 
 import jsettlers.common.movable.EMovableType;
+import jsettlers.network.client.task.packets.ETaskEncoding;
 
 /**
  * 
@@ -42,15 +43,15 @@ public class ConvertGuiTask extends MovableGuiTask {
 	}
 
 	@Override
-	protected void serializeTask(DataOutputStream dos) throws IOException {
-		super.serializeTask(dos);
-		dos.writeInt(targetType.ordinal());
+	protected void serializeTask(DataOutputStream dos, ETaskEncoding encoding) throws IOException {
+		super.serializeTask(dos, encoding);
+		encoding.writeInt(dos, targetType.ordinal());
 	}
 
 	@Override
-	protected void deserializeTask(DataInputStream dis) throws IOException {
-		super.deserializeTask(dis);
-		targetType = EMovableType.VALUES[dis.readInt()];
+	protected void deserializeTask(DataInputStream dis, ETaskEncoding encoding) throws IOException {
+		super.deserializeTask(dis, encoding);
+		targetType = EMovableType.VALUES[encoding.readInt(dis)];
 	}
 
 	@Override
@@ -19,6 +19,7 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 
 import jsettlers.common.position.ShortPoint2D;
+import jsettlers.network.client.task.packets.ETaskEncoding;
 
 /**
  * 
@@ -46,15 +47,15 @@ public class DestroyBuildingGuiTask extends SimpleGuiTask {
 	}
 
 	@Override
-	protected void serializeTask(DataOutputStream dos) throws IOException {
-		super.serializeTask(dos);
-		SimpleGuiTask.serializePosition(dos, position);
+	protected void serializeTask(DataOutputStream dos, ETaskEncoding encoding) throws IOException {
+		super.serializeTask(dos, encoding);
+		SimpleGuiTask.serializePosition(dos, encoding, position);
 	}
 
 	@Override
-	protected void deserializeTask(DataInputStream dis) throws IOException {
-		super.deserializeTask(dis);
-		position = SimpleGuiTask.deserializePosition(dis);
+	protected void deserializeTask(DataInputStream dis, ETaskEncoding encoding) throws IOException {
+		super.deserializeTask(dis, encoding);
+		position = SimpleGuiTask.deserializePosition(dis, encoding);
 	}
 
 	@Override
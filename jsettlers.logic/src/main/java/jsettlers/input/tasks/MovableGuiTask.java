@@ -20,6 +20,8 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
+import jsettlers.network.client.task.packets.ETaskEncoding;
+
 /**
  * 
  * @author Andreas Eberle
@@ -41,23 +43,27 @@ public class MovableGuiTask extends SimpleGuiTask {
 	}
 
 	@Override
-	protected void serializeTask(DataOutputStream dos) throws IOException {
-		super.serializeTask(dos);
+	protected void serializeTask(DataOutputStream dos, ETaskEncoding encoding) throws IOException {
+		super.serializeTask(dos, encoding);
 
-		dos.writeInt(selection.size());
-		for (Integer curr : selection) {
-			dos.writeInt(curr);
+		encoding.writeInt(dos, selection.size());
+		int previous = 0;
+		for (Integer curr : selection) { // the ids of selected movables are often close to each other
+			encoding.writeDelta(dos, curr, previous);
+			previous = curr;
 		}
 	}
 
 	@Override
-	protected void deserializeTask(DataInputStream dis) throws IOException {
-		super.deserializeTask(dis);
+	protected void deserializeTask(DataInputStream dis, ETaskEncoding encoding) throws IOException {
+		super.deserializeTask(dis, encoding);
 
-		int numberOfElements = dis.readInt();
+		int numberOfElements = encoding.readInt(dis);
 		selection = new ArrayList<>(numberOfElements);
+		int previous = 0;
 		for (int i = 0; i < numberOfElements; i++) {
-			selection.add(dis.readInt());
+			previous = encoding.readDelta(dis, previous);
+			selection.add(previous);
 		}
 	}
 
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.util.List;
 
 import jsettlers.common.position.ShortPoint2D;
+import jsettlers.network.client.task.packets.ETaskEncoding;
 
 /**
  * 
@@ -42,15 +43,15 @@ public class MoveToGuiTask extends MovableGuiTask {
 	}
 
 	@Override
-	protected void serializeTask(DataOutputStream dos) throws IOException {
-		super.serializeTask(dos);
-		SimpleGuiTask.serializePosition(dos, position);
+	protected void serializeTask(DataOutputStream dos, ETaskEncoding encoding) throws IOException {
+		super.serializeTask(dos, encoding);
+		SimpleGuiTask.serializePosition(dos, encoding, position);
 	}
 
 	@Override
-	protected void deserializeTask(DataInputStream dis) throws IOException {
-		super.deserializeTask(dis);
-		position = SimpleGuiTask.deserializePosition(dis);
+	protected void deserializeTask(DataInputStream dis, ETaskEncoding encoding) throws IOException {
+		super.deserializeTask(dis, encoding);
+		position = SimpleGuiTask.deserializePosition(dis, encoding);
 	}
 
 	@Override
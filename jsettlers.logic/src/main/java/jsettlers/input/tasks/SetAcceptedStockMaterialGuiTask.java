@@ -21,6 +21,8 @@ import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 
+import jsettlers.network.client.task.packets.ETaskEncoding;
+
 /**
  * This task is used to set the stock configuration either globally or locally.
  * 
@@ -61,18 +63,18 @@ public class SetAcceptedStockMaterialGuiTask extends SimpleGuiTask {
 	}
 
 	@Override
-	protected void serializeTask(DataOutputStream dos) throws IOException {
-		super.serializeTask(dos);
-		SimpleGuiTask.serializePosition(dos, position);
+	protected void serializeTask(DataOutputStream dos, ETaskEncoding encoding) throws IOException {
+		super.serializeTask(dos, encoding);
+		SimpleGuiTask.serializePosition(dos, encoding, position);
 		dos.writeByte(materialType.ordinal);
 		dos.writeBoolean(accepted);
 		dos.writeBoolean(local);
 	}
 
 	@Override
-	protected void deserializeTask(DataInputStream dis) throws IOException {
-		super.deserializeTask(dis);
-		position = SimpleGuiTask.deserializePosition(dis);
+	protected void deserializeTask(DataInputStream dis, ETaskEncoding encoding) throws IOException {
+		super.deserializeTask(dis, encoding);
+		position = SimpleGuiTask.deserializePosition(dis, encoding);
 		materialType = EMaterialType.VALUES[dis.readByte()];
 		accepted = dis.readBoolean();
 		local = dis.readBoolean();
@@ -20,6 +20,7 @@ import java.io.IOException;
 
 import jsettlers.common.material.EPriority;
 import jsettlers.common.position.ShortPoint2D;
+import jsettlers.network.client.task.packets.ETaskEncoding;
 
 /**
  * This task is used to set the priority of a building.
@@ -57,16 +58,16 @@ public class SetBuildingPriorityGuiTask extends SimpleGuiTask {
 	}
 
 	@Override
-	protected void serializeTask(DataOutputStream dos) throws IOException {
-		super.serializeTask(dos);
-		SimpleGuiTask.serializePosition(dos, buildingPosition);
+	protected void serializeTask(DataOutputStream dos, ETaskEncoding encoding) throws IOException {
+		super.serializeTask(dos, encoding);
+		SimpleGuiTask.serializePosition(dos, encoding, buildingPosition);
 		dos.writeByte(newPriority.ordinal);
 	}
 
 	@Override
-	protected void deserializeTask(DataInputStream dis) throws IOException {
-		super.deserializeTask(dis);
-		buildingPosition = SimpleGuiTask.deserializePosition(dis);
+	protected void deserializeTask(DataInputStream dis, ETaskEncoding encoding) throws IOException {
+		super.deserializeTask(dis, encoding);
+		buildingPosition = SimpleGuiTask.deserializePosition(dis, encoding);
 		newPriority = EPriority.VALUES[dis.readByte()];
 	}
 
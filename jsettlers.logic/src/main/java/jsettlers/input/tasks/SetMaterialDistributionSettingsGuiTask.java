@@ -21,6 +21,7 @@ import java.io.IOException;
 import jsettlers.common.buildings.EBuildingType;
 import jsettlers.common.material.EMaterialType;
 import jsettlers.common.position.ShortPoint2D;
+import jsettlers.network.client.task.packets.ETaskEncoding;
 
 /**
  * This task is used to set the distribution settings for a material in a manager.
@@ -67,18 +68,18 @@ public class SetMaterialDistributionSettingsGuiTask extends SimpleGuiTask {
 	}
 
 	@Override
-	protected void serializeTask(DataOutputStream dos) throws IOException {
-		super.serializeTask(dos);
-		SimpleGuiTask.serializePosition(dos, managerPosition);
+	protected void serializeTask(DataOutputStream dos, ETaskEncoding encoding) throws IOException {
+		super.serializeTask(dos, encoding);
+		SimpleGuiTask.serializePosition(dos, encoding, managerPosition);
 		dos.writeByte(materialType.ordinal);
 		dos.writeByte(buildingType.ordinal);
 		dos.writeFloat(ratio);
 	}
 
 	@Override
-	protected void deserializeTask(DataInputStream dis) throws IOException {
-		super.deserializeTask(dis);
-		managerPosition = SimpleGuiTask.deserializePosition(dis);
+	protected void deserializeTask(DataInputStream dis, ETaskEncoding encoding) throws IOException {
+		super.deserializeTask(dis, encoding);
+		managerPosition = SimpleGuiTask.deserializePosition(dis, encoding);
 		materialType = EMaterialType.VALUES[dis.readByte()];
 		buildingType = EBuildingType.VALUES[dis.readByte()];
 		ratio = dis.readFloat();
@@ -21,6 +21,7 @@ import java.util.Arrays;
 
 import jsettlers.common.material.EMaterialType;
 import jsettlers.common.position.ShortPoint2D;
+import jsettlers.network.client.task.packets.ETaskEncoding;
 
 /**
  * This {@link Action} is used to set the priority order of {@link EMaterialType}s.
@@ -68,22 +69,22 @@ public class SetMaterialPrioritiesGuiTask extends SimpleGuiTask {
 	}
 
 	@Override
-	protected void serializeTask(DataOutputStream dos) throws IOException {
-		super.serializeTask(dos);
-		SimpleGuiTask.serializePosition(dos, managerPosition);
+	protected void serializeTask(DataOutputStream dos, ETaskEncoding encoding) throws IOException {
+		super.serializeTask(dos, encoding);
+		SimpleGuiTask.serializePosition(dos, encoding, managerPosition);
 
-		dos.writeInt(materialTypeForPriority.length);
+		encoding.writeInt(dos, materialTypeForPriority.length);
 		for (int i = 0; i < materialTypeForPriority.length; i++) {
 			dos.writeByte(materialTypeForPriority[i].ordinal);
 		}
 	}
 
 	@Override
-	protected void deserializeTask(DataInputStream dis) throws IOException {
-		super.deserializeTask(dis);
-		managerPosition = SimpleGuiTask.deserializePosition(dis);
+	protected void deserializeTask(DataInputStream dis, ETaskEncoding encoding) throws IOException {
+		super.deserializeTask(dis, encoding);
+		managerPosition = SimpleGuiTask.deserializePosition(dis, encoding);
 
-		int length = dis.readInt();
+		int length = encoding.readInt(dis);
 		materialTypeForPriority = new EMaterialType[length];
 		for (int i = 0; i < length; i++) {
 			materialTypeForPriority[i] = EMaterialType.VALUES[dis.readByte()];
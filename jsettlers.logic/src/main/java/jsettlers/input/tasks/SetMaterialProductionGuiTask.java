@@ -22,6 +22,8 @@ import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 
+import jsettlers.network.client.task.packets.ETaskEncoding;
+
 /**
  * @author codingberlin
  */
@@ -60,20 +62,20 @@ public class SetMaterialProductionGuiTask extends SimpleGuiTask {
 	}
 
 	@Override
-	protected void serializeTask(DataOutputStream dos) throws IOException {
-		super.serializeTask(dos);
-		SimpleGuiTask.serializePosition(dos, position);
-		dos.writeInt(materialType.ordinal());
-		dos.writeInt(productionType.ordinal());
+	protected void serializeTask(DataOutputStream dos, ETaskEncoding encoding) throws IOException {
+		super.serializeTask(dos, encoding);
+		SimpleGuiTask.serializePosition(dos, encoding, position);
+		encoding.writeInt(dos, materialType.ordinal());
+		encoding.writeInt(dos, productionType.ordinal());
 		dos.writeFloat(ratio);
 	}
 
 	@Override
-	protected void deserializeTask(DataInputStream dis) throws IOException {
-		super.deserializeTask(dis);
-		position = SimpleGuiTask.deserializePosition(dis);
-		materialType = EMaterialType.VALUES[dis.readInt()];
-		productionType = SetMaterialProductionAction.EMaterialProductionType.VALUES[dis.readInt()];
+	protected void deserializeTask(DataInputStream dis, ETaskEncoding encoding) throws IOException {
+		super.deserializeTask(dis, encoding);
+		position = SimpleGuiTask.deserializePosition(dis, encoding);
+		materialType = EMaterialType.VALUES[encoding.readInt(dis)];
+		productionType = SetMaterialProductionAction.EMaterialProductionType.VALUES[encoding.readInt(dis)];
 		ratio = dis.readFloat();
 	}
 }
@@ -20,6 +20,7 @@ import java.io.IOException;
 
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.common.action.SetTradingWaypointAction.EWaypointType;
+import jsettlers.network.client.task.packets.ETaskEncoding;
 
 public class SetTradingWaypointGuiTask extends SimpleBuildingGuiTask {
 
@@ -45,17 +46,17 @@ public class SetTradingWaypointGuiTask extends SimpleBuildingGuiTask {
 	}
 
 	@Override
-	protected void serializeTask(DataOutputStream dos) throws IOException {
-		super.serializeTask(dos);
+	protected void serializeTask(DataOutputStream dos, ETaskEncoding encoding) throws IOException {
+		super.serializeTask(dos, encoding);
 		dos.writeByte(waypointType.ordinal());
-		serializePosition(dos, position);
+		serializePosition(dos, encoding, position);
 	}
 
 	@Override
-	protected void deserializeTask(DataInputStream dis) throws IOException {
-		super.deserializeTask(dis);
+	protected void deserializeTask(DataInputStream dis, ETaskEncoding encoding) throws IOException {
+		super.deserializeTask(dis, encoding);
 		waypointType = EWaypointType.VALUES[dis.readByte()];
-		position = deserializePosition(dis);
+		position = deserializePosition(dis, encoding);
 	}
 
 	@Override
@@ -19,6 +19,7 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 
 import jsettlers.common.position.ShortPoint2D;
+import jsettlers.network.client.task.packets.ETaskEncoding;
 import jsettlers.network.client.task.packets.TaskPacket;
 
 /**
@@ -47,14 +48,14 @@ public class SimpleGuiTask extends TaskPacket {
 	}
 
 	@Override
-	protected void serializeTask(DataOutputStream dos) throws IOException {
-		dos.writeInt(guiAction.ordinal());
+	protected void serializeTask(DataOutputStream dos, ETaskEncoding encoding) throws IOException {
+		encoding.writeInt(dos, guiAction.ordinal());
 		dos.writeByte(playerId);
 	}
 
 	@Override
-	protected void deserializeTask(DataInputStream dis) throws IOException {
-		guiAction = EGuiAction.VALUES[dis.readInt()];
+	protected void deserializeTask(DataInputStream dis, ETaskEncoding encoding) throws IOException {
+		guiAction = EGuiAction.VALUES[encoding.readInt(dis)];
 		playerId = dis.readByte();
 	}
 
@@ -81,13 +82,31 @@ public class SimpleGuiTask extends TaskPacket {
 		return playerId == other.playerId;
 	}
 
-	public static void serializePosition(DataOutputStream dos, ShortPoint2D position) throws IOException {
-		dos.writeShort(position.x);
-		dos.writeShort(position.y);
+	public static void serializePosition(DataOutputStream dos, ETaskEncoding encoding, ShortPoint2D position) throws IOException {
+		encoding.writeShort(dos, position.x, 0);
+		encoding.writeShort(dos, position.y, 0);
 	}
 
-	public static ShortPoint2D deserializePosition(DataInputStream dis) throws IOException {
-		return new ShortPoint2D(dis.readShort(), dis.readShort());
+	public static ShortPoint2D deserializePosition(DataInputStream dis, ETaskEncoding encoding) throws IOException {
+		short x = encoding.readShort(dis, 0);
+		short y = encoding.readShort(dis, 0);
+		return new ShortPoint2D(x, y);
+	}
+
+	/**
+	 * Serializes a position that is usually near the given reference position. With the compact encoding only the difference to the reference is
+	 * written, so that it mostly needs only one byte per coordinate.
+	 */
+	public static void serializePosition(DataOutputStream dos, ETaskEncoding encoding, ShortPoint2D position, ShortPoint2D reference)
+			throws IOException {
+		encoding.writeShort(dos, position.x, reference.x);
+		encoding.writeShort(dos, position.y, reference.y);
+	}
+
+	public static ShortPoint2D deserializePosition(DataInputStream dis, ETaskEncoding encoding, ShortPoint2D reference) throws IOException {
+		short x = encoding.readShort(dis, reference.x);
+		short y = encoding.readShort(dis, reference.y);
+		return new ShortPoint2D(x, y);
 	}
 
 	@Override
@@ -19,6 +19,7 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 
 import jsettlers.common.movable.ESoldierType;
+import jsettlers.network.client.task.packets.ETaskEncoding;
 
 /**
  * @author codingberlin
@@ -41,14 +42,14 @@ public class UpgradeSoldiersGuiTask extends SimpleGuiTask {
 	}
 
 	@Override
-	protected void serializeTask(DataOutputStream dos) throws IOException {
-		super.serializeTask(dos);
-		dos.writeInt(soldierType.ordinal);
+	protected void serializeTask(DataOutputStream dos, ETaskEncoding encoding) throws IOException {
+		super.serializeTask(dos, encoding);
+		encoding.writeInt(dos, soldierType.ordinal);
 	}
 
 	@Override
-	protected void deserializeTask(DataInputStream dis) throws IOException {
-		super.deserializeTask(dis);
-		soldierType = ESoldierType.VALUES[dis.readInt()];
+	protected void deserializeTask(DataInputStream dis, ETaskEncoding encoding) throws IOException {
+		super.deserializeTask(dis, encoding);
+		soldierType = ESoldierType.VALUES[encoding.readInt(dis)];
 	}
 }
@@ -53,20 +53,15 @@ import jsettlers.logic.map.grid.partition.manager.manageables.interfaces.IConstr
 import jsettlers.logic.map.grid.partition.manager.manageables.interfaces.IDiggerRequester;
 import jsettlers.logic.movable.interfaces.IDebugable;
 import jsettlers.logic.player.Player;
-import jsettlers.logic.timer.IScheduledTimerable;
-import jsettlers.logic.timer.RescheduleTimer;
+import jsettlers.logic.timer.IProfiledTimerable;
+import jsettlers.logic.timer.TimerHandle;
 
-import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.concurrent.ConcurrentLinkedQueue;
 
-public abstract class Building extends AbstractHexMapObject implements IConstructableBuilding, IPlayerable, IBuilding, IScheduledTimerable,
+public abstract class Building extends AbstractHexMapObject implements IConstructableBuilding, IPlayerable, IBuilding, IProfiledTimerable,
 		IDebugable, IDiggerRequester, IViewDistancable {
 	private static final long serialVersionUID = 4379555028512391595L;
 
@@ -81,7 +76,6 @@ public abstract class Building extends AbstractHexMapObject implements IConstruc
 	private static final EPriority[] SUPPORTED_PRIORITIES_FOR_CONSTRUCTION = new EPriority[] { EPriority.LOW, EPriority.HIGH, EPriority.STOPPED };
 	private static final EPriority[] SUPPORTED_PRIORITIES_FOR_NON_WORKERS = new EPriority[0];
 
-	private static final ConcurrentLinkedQueue<Building> allBuildings = new ConcurrentLinkedQueue<>();
 
 	protected final EBuildingType type;
 	protected final ShortPoint2D pos;
@@ -97,6 +91,8 @@ public abstract class Building extends AbstractHexMapObject implements IConstruc
 	private short remainingMaterialActions = 0;
 	private List<? extends IRequestStack> stacks;
 
+	private TimerHandle timerHandle;
+
 	private transient boolean selected;
 
 	protected Building(EBuildingType type, Player player, ShortPoint2D position, IBuildingsGrid buildingsGrid) {
@@ -105,17 +101,7 @@ public abstract class Building extends AbstractHexMapObject implements IConstruc
 		this.pos = position;
 		this.grid = buildingsGrid;
 
-		allBuildings.add(this);
-	}
-	
-	@SuppressWarnings("unchecked")
-	public static void readStaticState(ObjectInputStream ois) throws IOException, ClassNotFoundException {
-		allBuildings.clear();
-		allBuildings.addAll((Collection<? extends Building>) ois.readObject());
-	}
-
-	public static void writeStaticState(ObjectOutputStream oos) throws IOException {
-		oos.writeObject(allBuildings);
+		buildingsGrid.getMatchContext().addBuilding(this);
 	}
 
 	@Override
@@ -175,7 +161,7 @@ public abstract class Building extends AbstractHexMapObject implements IConstruc
 		placeAdditionalMapObjects(grid, pos, true);
 
 		this.state = EBuildingState.CREATED;
-		RescheduleTimer.add(this, IS_UNSTOPPED_RECHECK_PERIOD);
+		schedule(IS_UNSTOPPED_RECHECK_PERIOD);
 	}
 
 	private List<IRequestStack> createConstructionStacks() {
@@ -272,6 +258,11 @@ public abstract class Building extends AbstractHexMapObject implements IConstruc
 		}
 	}
 
+	@Override
+	public Object getProfilingKey() {
+		return type;
+	}
+
 	@Override
 	public int timerEvent() {
 		switch (state) {
@@ -369,7 +360,7 @@ public abstract class Building extends AbstractHexMapObject implements IConstruc
 					finishConstruction();
 				} else {
 					state = EBuildingState.WAITING_FOR_MATERIAL;
-					RescheduleTimer.add(this, WAITING_FOR_MATERIAL_PERIOD);
+					schedule(WAITING_FOR_MATERIAL_PERIOD);
 				}
 				return false;
 			}
@@ -405,7 +396,11 @@ public abstract class Building extends AbstractHexMapObject implements IConstruc
 			stacks = new LinkedList<>(); // create a new stacks list
 		}
 		int timerPeriod = constructionFinishedEvent();
-		RescheduleTimer.add(this, timerPeriod);
+		schedule(timerPeriod);
+	}
+
+	private void schedule(int delay) {
+		timerHandle = grid.getMatchContext().getTimer().addCancelable(this, delay);
 	}
 
 	protected abstract int constructionFinishedEvent();
@@ -460,7 +455,12 @@ public abstract class Building extends AbstractHexMapObject implements IConstruc
 		}
 
 		releaseRequestStacks();
-		allBuildings.remove(this);
+		if (grid != null) {
+			grid.getMatchContext().removeBuilding(this);
+		}
+		if (timerHandle != null) {
+			timerHandle.cancel();
+		}
 		this.state = EBuildingState.DESTROYED;
 		this.selected = false;
 	}
@@ -567,14 +567,6 @@ public abstract class Building extends AbstractHexMapObject implements IConstruc
 		return stacks;
 	}
 
-	public static ConcurrentLinkedQueue<Building> getAllBuildings() {
-		return allBuildings;
-	}
-
-	public static void clearState() {
-		allBuildings.clear();
-	}
-
 	@Override
 	public final short getViewDistance() {
 		if (isConstructionFinished()) {
@@ -631,7 +623,7 @@ public abstract class Building extends AbstractHexMapObject implements IConstruc
 
 			case BRICKLAYERS_REQUESTED:
 				state = EBuildingState.WAITING_FOR_MATERIAL;
-				RescheduleTimer.add(this, WAITING_FOR_MATERIAL_PERIOD); // we're not scheduled atm => reschedule!
+				schedule(WAITING_FOR_MATERIAL_PERIOD); // we're not scheduled atm => reschedule!
 				break;
 			}
 		}
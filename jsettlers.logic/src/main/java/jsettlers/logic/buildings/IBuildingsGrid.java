@@ -27,6 +27,7 @@ import jsettlers.common.position.RelativePoint;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.logic.buildings.stack.IRequestsStackGrid;
 import jsettlers.logic.buildings.workers.WorkerBuilding;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.map.grid.objects.MapObjectsManager;
 import jsettlers.logic.map.grid.partition.manager.manageables.interfaces.IBarrack;
 import jsettlers.logic.map.grid.partition.manager.manageables.interfaces.IDiggerRequester;
@@ -171,4 +172,8 @@ public interface IBuildingsGrid {
 
 	ShortPoint2D getClosestReachablePosition(ShortPoint2D start, ShortPoint2D target, boolean needsPlayersGround, IPlayer player, short targetRadius);
 
+	/**
+	 * @return The context of the match this grid belongs to.
+	 */
+	MatchContext getMatchContext();
 }
@@ -44,7 +44,6 @@ import jsettlers.logic.buildings.Building;
 import jsettlers.logic.buildings.IBuildingsGrid;
 import jsettlers.logic.buildings.military.IBuildingOccupyableMovable;
 import jsettlers.logic.constants.Constants;
-import jsettlers.logic.constants.MatchConstants;
 import jsettlers.logic.movable.interfaces.IAttackable;
 import jsettlers.logic.movable.interfaces.IAttackableMovable;
 import jsettlers.logic.movable.interfaces.ILogicMovable;
@@ -93,7 +92,7 @@ public class OccupyingBuilding extends Building implements IBuilding.IOccupied,
 	@Override
 	protected final int constructionFinishedEvent() {
 		setAttackableTowerObject(true);
-		return TIMER_PERIOD + MatchConstants.random().nextInt(200); // adding random prevents simultaneous scan after map creation
+		return TIMER_PERIOD + grid.getMatchContext().random().nextInt(200); // adding random prevents simultaneous scan after map creation
 	}
 
 	private void setAttackableTowerObject(boolean set) {
@@ -23,7 +23,6 @@ import jsettlers.common.position.RelativePoint;
 import jsettlers.common.position.RelativeToRealPointIterable;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.logic.buildings.IBuildingsGrid;
-import jsettlers.logic.constants.MatchConstants;
 import jsettlers.logic.map.grid.objects.MapObjectsManager;
 import jsettlers.logic.player.Player;
 
@@ -65,7 +64,7 @@ public final class MineBuilding extends ResourceBuilding {
 	@Override
 	public boolean tryTakingResource() {
 		RelativePoint[] blockedPositions = super.getBuildingType().getBlockedTiles();
-		int randomPositionIndex = MatchConstants.random().nextInt(blockedPositions.length);
+		int randomPositionIndex = grid.getMatchContext().random().nextInt(blockedPositions.length);
 		ShortPoint2D randomPosition = blockedPositions[randomPositionIndex].calculatePoint(super.pos);
 
 		boolean resourceTaken = super.grid.tryTakingResource(randomPosition, getProducedResource());
@@ -24,6 +24,45 @@ public final class Constants {
 
 	public static boolean FOG_OF_WAR_DEFAULT_ENABLED = true;
 
+	/**
+	 * If true, movables use the {@link jsettlers.algorithms.path.astar.HierarchicalAStar} for their paths. This gives different paths than the plain
+	 * A* and therefore breaks the compatibility to existing replays.
+	 */
+	public static boolean USE_HIERARCHICAL_PATHFINDING = false;
+
+	/**
+	 * If true, the paths for the move commands of the players are collected during a time slot of the {@link jsettlers.logic.timer.RescheduleTimer}
+	 * and calculated in parallel at its end. The results are deterministic, but the movables start walking later than with the direct calculation.
+	 * Therefore this breaks the compatibility to existing replays.
+	 */
+	public static boolean USE_PARALLEL_PATHFINDING = false;
+
+	public static final int PATHFINDING_THREADS = Runtime.getRuntime().availableProcessors();
+
+	/**
+	 * If true, the movables of a time slot of the {@link jsettlers.logic.timer.RescheduleTimer} prepare their paths for move commands in parallel,
+	 * before the time slot is executed serially. Prepared paths are only used if the map hasn't changed in the meantime, so this doesn't influence
+	 * the game.
+	 */
+	public static boolean USE_PARALLEL_TICK = false;
+
+	public static final int PARALLEL_TICK_STRIP_HEIGHT = 32;
+
+	/**
+	 * Number of paths cached by the {@link jsettlers.algorithms.path.astar.CachingAStar}. The cache returns exactly the paths the search would find,
+	 * so it doesn't influence the game. A value of 0 disables the cache.
+	 */
+	public static int PATH_CACHE_SIZE = 2048;
+
+	/**
+	 * If true, the {@link jsettlers.logic.map.grid.partition.manager.materials.MaterialsManager} hands out up to
+	 * {@link #BATCHED_DISTRIBUTION_MAX_JOBS} transport jobs per tick and assigns them to the bearers with minimal total walking distance instead of
+	 * giving one job per material type to the closest bearer. This breaks the compatibility to existing replays.
+	 */
+	public static boolean USE_BATCHED_MATERIAL_DISTRIBUTION = false;
+
+	public static final int BATCHED_DISTRIBUTION_MAX_JOBS = 32;
+
 	public static final float COMBAT_STRENGTH_OWN_GROUND = 1;
 
 	/**
@@ -14,13 +14,8 @@
  *******************************************************************************/
 package jsettlers.logic.constants;
 
-import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
-
-import jsettlers.network.client.interfaces.IGameClock;
-
 /**
+ * Debug settings of the matches. The state of a single match is held by its {@link MatchContext}.
  * 
  * @author Andreas Eberle
  * 
@@ -47,49 +42,4 @@ public final class MatchConstants {
 
 	private MatchConstants() {
 	}
-
-	private static IGameClock clock;
-	private static ExtendedRandom gameRandom;
-	private static ExtendedRandom aiRandom;
-
-	public static void init(IGameClock clock, long randomSeed) {
-		clearState();
-		MatchConstants.clock = clock;
-		MatchConstants.gameRandom = new ExtendedRandom(randomSeed);
-		MatchConstants.aiRandom = new ExtendedRandom(randomSeed);
-	}
-
-	public static void clearState() {
-		if (clock != null) {
-			clock.stopExecution();
-		}
-		clock = null;
-		gameRandom = null;
-		aiRandom = null;
-	}
-
-	public static IGameClock clock() {
-		return clock;
-	}
-
-	public static ExtendedRandom random() {
-		return gameRandom;
-	}
-
-	public static ExtendedRandom aiRandom() {
-		return aiRandom;
-	}
-
-	public static void serialize(ObjectOutputStream oos) throws IOException {
-		oos.writeInt(clock.getTime());
-		oos.writeObject(gameRandom);
-		oos.writeObject(aiRandom);
-	}
-
-	public static void deserialize(ObjectInputStream ois) throws IOException, ClassNotFoundException {
-		clock.setTime(ois.readInt());
-		gameRandom = (ExtendedRandom) ois.readObject();
-		aiRandom = (ExtendedRandom) ois.readObject();
-	}
-
 }
@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.constants;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import jsettlers.common.logging.TickProfiler;
+import jsettlers.logic.buildings.Building;
+import jsettlers.logic.buildings.trading.MarketBuilding;
+import jsettlers.logic.map.grid.partition.manager.materials.TransportStatistics;
+import jsettlers.logic.movable.interfaces.ILogicMovable;
+import jsettlers.logic.timer.RescheduleTimer;
+import jsettlers.network.client.interfaces.IGameClock;
+
+/**
+ * The state of a single match that is not part of the grids: The game clock, the {@link RescheduleTimer}, the random number generators, the
+ * registries of all movables and buildings and the {@link TickProfiler}.
+ * <p />
+ * Every game has its own context, so that several games can run in the same JVM. The context is handed to the {@link jsettlers.logic.map.grid.MainGrid}
+ * when the grid is created. The objects of the game reach it through their grids. When a game is loaded, objects that need the context during
+ * deserialization get it from the {@link MatchContextInputStream} with {@link #of(ObjectInputStream)}.
+ * 
+ * @author agent
+ * 
+ */
+public final class MatchContext {
+	private final IGameClock clock;
+	private final RescheduleTimer timer = new RescheduleTimer();
+	private ExtendedRandom gameRandom;
+	private ExtendedRandom aiRandom;
+
+	private final HashMap<Integer, ILogicMovable> movablesByID = new HashMap<>();
+	private final ConcurrentLinkedQueue<ILogicMovable> allMovables = new ConcurrentLinkedQueue<>();
+	private int nextMovableID = Integer.MIN_VALUE;
+
+	private final ConcurrentLinkedQueue<Building> allBuildings = new ConcurrentLinkedQueue<>();
+	private final List<MarketBuilding> allMarkets = new ArrayList<>();
+
+	private final TransportStatistics transportStatistics = new TransportStatistics();
+
+	private volatile TickProfiler profiler;
+
+	public MatchContext(IGameClock clock, long randomSeed) {
+		this.clock = clock;
+		this.gameRandom = new ExtendedRandom(randomSeed);
+		this.aiRandom = new ExtendedRandom(randomSeed);
+	}
+
+	/**
+	 * Gets the context of the game that is read from the given stream.
+	 * 
+	 * @param ois
+	 *            The stream the game is loaded from.
+	 * @return The context the loaded objects belong to.
+	 * @throws InvalidObjectException
+	 *             If the stream is no {@link MatchContextInputStream}.
+	 */
+	public static MatchContext of(ObjectInputStream ois) throws InvalidObjectException {
+		if (!(ois instanceof MatchContextInputStream)) {
+			throw new InvalidObjectException("Game objects can only be read with a MatchContextInputStream.");
+		}
+		return ((MatchContextInputStream) ois).getMatchContext();
+	}
+
+	public IGameClock clock() {
+		return clock;
+	}
+
+	public ExtendedRandom random() {
+		return gameRandom;
+	}
+
+	public ExtendedRandom aiRandom() {
+		return aiRandom;
+	}
+
+	public RescheduleTimer getTimer() {
+		return timer;
+	}
+
+	/**
+	 * @return The profiler of this match or null if profiling is disabled.
+	 */
+	public TickProfiler getProfiler() {
+		return profiler;
+	}
+
+	/**
+	 * Sets the profiler of this match. It must be set before the grid is created or loaded, as the path finders take it when they are created.
+	 * 
+	 * @param profiler
+	 *            The profiler or null to disable profiling.
+	 */
+	public void setProfiler(TickProfiler profiler) {
+		this.profiler = profiler;
+		timer.setProfiler(profiler);
+	}
+
+	/**
+	 * Stops the timer and the clock of this match.
+	 */
+	public void stop() {
+		timer.stop();
+		if (clock != null) {
+			clock.stopExecution();
+		}
+	}
+
+	/**
+	 * Registers the given movable and assigns it an id that is unique in this match.
+	 * 
+	 * @param movable
+	 * @return The id of the movable.
+	 */
+	public int addMovable(ILogicMovable movable) {
+		int id = nextMovableID++;
+		movablesByID.put(id, movable);
+		allMovables.offer(movable);
+		return id;
+	}
+
+	public void removeMovable(ILogicMovable movable) {
+		movablesByID.remove(movable.getID());
+		allMovables.remove(movable);
+	}
+
+	/**
+	 * Used for networking to identify movables over the network.
+	 *
+	 * @param id
+	 *            id to be looked for
+	 * @return returns the movable with the given ID<br>
+	 *         or null if the id can not be found
+	 */
+	public ILogicMovable getMovableByID(int id) {
+		return movablesByID.get(id);
+	}
+
+	public ConcurrentLinkedQueue<ILogicMovable> getAllMovables() {
+		return allMovables;
+	}
+
+	public void addBuilding(Building building) {
+		allBuildings.add(building);
+	}
+
+	public void removeBuilding(Building building) {
+		allBuildings.remove(building);
+	}
+
+	public ConcurrentLinkedQueue<Building> getAllBuildings() {
+		return allBuildings;
+	}
+
+	public List<MarketBuilding> getAllMarkets() {
+		return allMarkets;
+	}
+
+	public TransportStatistics transportStatistics() {
+		return transportStatistics;
+	}
+
+	public void serialize(ObjectOutputStream oos) throws IOException {
+		oos.writeInt(clock.getTime());
+		oos.writeObject(gameRandom);
+		oos.writeObject(aiRandom);
+	}
+
+	public void deserialize(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+		clock.setTime(ois.readInt());
+		gameRandom = (ExtendedRandom) ois.readObject();
+		aiRandom = (ExtendedRandom) ois.readObject();
+	}
+
+	/**
+	 * Writes the registered buildings and movables. This writes the whole object graph of the game, except for parts of the grids that can't be
+	 * reached from them.
+	 * 
+	 * @param oos
+	 * @throws IOException
+	 */
+	public void writeEntities(ObjectOutputStream oos) throws IOException {
+		oos.writeObject(allBuildings);
+
+		oos.writeInt(nextMovableID);
+		oos.writeObject(allMovables);
+		oos.writeObject(movablesByID);
+	}
+
+	@SuppressWarnings("unchecked")
+	public void readEntities(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+		allBuildings.clear();
+		allBuildings.addAll((Collection<? extends Building>) ois.readObject());
+
+		nextMovableID = ois.readInt();
+		allMovables.clear();
+		allMovables.addAll((Collection<? extends ILogicMovable>) ois.readObject());
+		movablesByID.clear();
+		movablesByID.putAll((Map<? extends Integer, ? extends ILogicMovable>) ois.readObject());
+	}
+}
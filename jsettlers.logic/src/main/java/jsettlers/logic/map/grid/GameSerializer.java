@@ -14,9 +14,9 @@
  *******************************************************************************/
 package jsettlers.logic.map.grid;
 
-import jsettlers.logic.buildings.Building;
+import jsettlers.logic.constants.MatchContext;
+import jsettlers.logic.constants.MatchContextInputStream;
 import jsettlers.logic.map.loading.MapLoadException;
-import jsettlers.logic.movable.Movable;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
@@ -58,6 +58,14 @@ public class GameSerializer {
 		oos.flush();
 	}
 
+	/**
+	 * Loads the grid from the given stream.
+	 *
+	 * @param ois
+	 * 		A {@link MatchContextInputStream} supplying the context of the loaded game.
+	 * @return The loaded grid.
+	 * @throws MapLoadException
+	 */
 	public MainGrid load(final ObjectInputStream ois) throws MapLoadException {
 		try {
 			LoadRunnable runnable = new LoadRunnable(ois);
@@ -88,8 +96,7 @@ public class GameSerializer {
 		@Override
 		public void run() {
 			try {
-				Building.writeStaticState(oos);
-				Movable.writeStaticState(oos);
+				grid.getMatchContext().writeEntities(oos);
 				oos.writeObject(grid);
 			} catch (Throwable t) {
 				t.printStackTrace();
@@ -110,8 +117,7 @@ public class GameSerializer {
 		@Override
 		public void run() {
 			try {
-				Building.readStaticState(ois);
-				Movable.readStaticState(ois);
+				MatchContext.of(ois).readEntities(ois);
 				grid = (MainGrid) ois.readObject();
 			} catch (Throwable t) {
 				t.printStackTrace();
@@ -25,18 +25,26 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import jsettlers.algorithms.borders.BordersThread;
 import jsettlers.algorithms.borders.IBordersThreadGrid;
 import jsettlers.algorithms.construction.AbstractConstructionMarkableMap;
+import jsettlers.algorithms.construction.IConstructionStateChangedListener;
 import jsettlers.algorithms.fogofwar.FogOfWar;
 import jsettlers.algorithms.fogofwar.IFogOfWarGrid;
 import jsettlers.algorithms.fogofwar.IViewDistancable;
-import jsettlers.algorithms.landmarks.EnclosedBlockedAreaFinderAlgorithm;
+import jsettlers.algorithms.fogofwar.TeamVisibilityGrid;
+import jsettlers.algorithms.landmarks.EnclosedBlockedAreaFinder;
 import jsettlers.algorithms.landmarks.IEnclosedBlockedAreaFinderGrid;
+import jsettlers.algorithms.partitions.DynamicBlockedPartitions;
 import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.IPathRequestListener;
 import jsettlers.algorithms.path.Path;
+import jsettlers.algorithms.path.PreparedPath;
 import jsettlers.algorithms.path.area.IInAreaFinderMap;
 import jsettlers.algorithms.path.area.InAreaFinder;
 import jsettlers.algorithms.path.astar.AbstractAStar;
 import jsettlers.algorithms.path.astar.BucketQueueAStar;
+import jsettlers.algorithms.path.astar.CachingAStar;
+import jsettlers.algorithms.path.astar.HierarchicalAStar;
 import jsettlers.algorithms.path.astar.IAStarPathMap;
+import jsettlers.algorithms.path.astar.ParallelPathService;
 import jsettlers.algorithms.path.dijkstra.DijkstraAlgorithm;
 import jsettlers.algorithms.path.dijkstra.IDijkstraPathMap;
 import jsettlers.algorithms.previewimage.PreviewImageCreator;
@@ -52,7 +60,7 @@ import jsettlers.common.map.IGraphicsBackgroundListener;
 import jsettlers.common.map.IGraphicsGrid;
 import jsettlers.common.map.partition.IPartitionData;
 import jsettlers.common.map.shapes.FreeMapArea;
-import jsettlers.common.map.shapes.HexGridArea;
+import jsettlers.common.map.shapes.HexGridSpiral;
 import jsettlers.common.map.shapes.MapCircle;
 import jsettlers.common.map.shapes.MapLine;
 import jsettlers.common.map.shapes.MapNeighboursArea;
@@ -65,7 +73,6 @@ import jsettlers.common.movable.EDirection;
 import jsettlers.common.movable.EMovableType;
 import jsettlers.common.movable.IMovable;
 import jsettlers.common.player.IPlayer;
-import jsettlers.common.position.MutablePoint2D;
 import jsettlers.common.position.RelativePoint;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.common.utils.collections.IPredicate;
@@ -81,7 +88,9 @@ import jsettlers.logic.buildings.stack.multi.StockSettings;
 import jsettlers.logic.buildings.workers.WorkerBuilding;
 import jsettlers.logic.constants.Constants;
 import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.map.grid.flags.FlagsGrid;
+import jsettlers.logic.map.grid.flags.FlagsGrid.IBlockedChangedListener;
 import jsettlers.logic.map.grid.landscape.LandscapeGrid;
 import jsettlers.logic.map.grid.movable.MovableGrid;
 import jsettlers.logic.map.grid.objects.AbstractHexMapObject;
@@ -109,6 +118,7 @@ import jsettlers.logic.map.loading.data.objects.MapTreeObject;
 import jsettlers.logic.map.loading.data.objects.MovableObject;
 import jsettlers.logic.map.loading.data.objects.StackMapDataObject;
 import jsettlers.logic.map.loading.data.objects.StoneMapDataObject;
+import jsettlers.logic.map.loading.MapLoader;
 import jsettlers.logic.map.loading.list.MapList;
 import jsettlers.logic.map.loading.newmap.MapFileHeader;
 import jsettlers.logic.map.loading.newmap.MapFileHeader.MapType;
@@ -120,6 +130,8 @@ import jsettlers.logic.objects.arrow.ArrowObject;
 import jsettlers.logic.objects.stack.StackMapObject;
 import jsettlers.logic.player.Player;
 import jsettlers.logic.player.PlayerSetting;
+import jsettlers.logic.timer.ITimeSlotListener;
+import jsettlers.logic.timer.ParallelTick;
 
 import java8.util.Optional;
 
@@ -131,6 +143,9 @@ import java8.util.Optional;
 public final class MainGrid implements Serializable {
 	private static final long serialVersionUID = 3824511313693431423L;
 
+	private static final HexGridSpiral ENEMY_SEARCH_AREA = new HexGridSpiral(Constants.TOWER_SEARCH_RADIUS);
+	private static final HexGridSpiral DECENTRALIZE_AREA = new HexGridSpiral(Constants.MOVABLE_FLOCK_TO_DECENTRALIZE_MAX_RADIUS);
+
 	final String mapId;
 	final String mapName;
 
@@ -146,17 +161,22 @@ public final class MainGrid implements Serializable {
 	final MovablePathfinderGrid movablePathfinderGrid;
 	final MapObjectsManager mapObjectsManager;
 	final BuildingsGrid buildingsGrid;
+	final TeamVisibilityGrid teamVisibilityGrid;
 
 	transient FogOfWar fogOfWar;
 	transient GraphicsGrid graphicsGrid;
 	transient ConstructionMarksGrid constructionMarksGrid;
 	transient BordersThread bordersThread;
 	transient IGuiInputGrid guiInputGrid;
-	private transient IEnclosedBlockedAreaFinderGrid enclosedBlockedAreaFinderGrid;
+	private transient EnclosedBlockedAreaFinder enclosedBlockedAreaFinder;
+	private transient DynamicBlockedPartitions dynamicBlockedPartitions;
+	private transient MatchContext context;
+	private transient volatile MapLoader lastSavegame;
 
-	public MainGrid(String mapId, String mapName, short width, short height, PlayerSetting[] playerSettings) {
+	public MainGrid(String mapId, String mapName, short width, short height, PlayerSetting[] playerSettings, MatchContext context) {
 		this.mapId = mapId;
 		this.mapName = mapName;
+		this.context = context;
 
 		this.width = width;
 		this.height = height;
@@ -166,11 +186,12 @@ public final class MainGrid implements Serializable {
 		this.mapObjectsManager = new MapObjectsManager(new MapObjectsManagerGrid());
 
 		this.objectsGrid = new ObjectsGrid(width, height);
-		this.landscapeGrid = new LandscapeGrid(width, height, flagsGrid);
+		this.landscapeGrid = new LandscapeGrid(width, height, flagsGrid, context);
 		this.movableGrid = new MovableGrid(width, height, landscapeGrid);
 
-		this.partitionsGrid = new PartitionsGrid(width, height, playerSettings, landscapeGrid);
+		this.partitionsGrid = new PartitionsGrid(width, height, playerSettings, landscapeGrid, context);
 		this.buildingsGrid = new BuildingsGrid();
+		this.teamVisibilityGrid = new TeamVisibilityGrid(width, height, new FogOfWarGrid());
 
 		initAdditional();
 	}
@@ -186,11 +207,16 @@ public final class MainGrid implements Serializable {
 	private void initAdditional() {
 		this.graphicsGrid = new GraphicsGrid();
 		this.constructionMarksGrid = new ConstructionMarksGrid();
-		this.bordersThread = new BordersThread(new BordersThreadGrid());
+		this.bordersThread = new BordersThread(new BordersThreadGrid(), width, height);
 		this.guiInputGrid = new GuiInputGrid();
 
 		this.partitionsGrid.setPlayerChangedListener(new PlayerChangedListener());
-		this.enclosedBlockedAreaFinderGrid = new EnclosedBlockedAreaFinderGrid();
+		this.dynamicBlockedPartitions = new DynamicBlockedPartitions(flagsGrid, width, height);
+		this.flagsGrid.setBlockedChangedListener(movablePathfinderGrid);
+		this.enclosedBlockedAreaFinder = new EnclosedBlockedAreaFinder(new EnclosedBlockedAreaFinderGrid());
+		this.flagsGrid.setLandmarkStateChangedListener(enclosedBlockedAreaFinder);
+		this.landscapeGrid.setLandmarkStateChangedListener(enclosedBlockedAreaFinder);
+		this.partitionsGrid.setLandmarkStateChangedListener(enclosedBlockedAreaFinder);
 	}
 
 	public final short getHeight() {
@@ -201,6 +227,17 @@ public final class MainGrid implements Serializable {
 		return width;
 	}
 
+	public MatchContext getMatchContext() {
+		return context;
+	}
+
+	/**
+	 * @return The savegame written by the last call to {@link #save(Byte, UIState)} or <code>null</code> if this grid hasn't been saved yet.
+	 */
+	public MapLoader getLastSavegame() {
+		return lastSavegame;
+	}
+
 	public void initForPlayer(byte playerId, FogOfWar fogOfWar) {
 		if (fogOfWar != null) {
 			this.fogOfWar = fogOfWar;
@@ -210,6 +247,7 @@ public final class MainGrid implements Serializable {
 	}
 
 	private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+		context = MatchContext.of(ois); // set before reading the fields, because the inner grids need it while they are read
 		ois.defaultReadObject();
 		initAdditional();
 		this.bordersThread.checkArea(0, 0, width, height);
@@ -218,19 +256,23 @@ public final class MainGrid implements Serializable {
 	public void startThreads() {
 		bordersThread.start();
 		if (fogOfWar != null) {
-			fogOfWar.start(new FogOfWarGrid());
+			fogOfWar.start(teamVisibilityGrid);
 		}
+		teamVisibilityGrid.applyInitialViews();
+		context.clock().schedule(teamVisibilityGrid, TeamVisibilityGrid.UPDATE_PERIOD);
 	}
 
 	public void stopThreads() {
 		bordersThread.cancel();
+		context.clock().remove(teamVisibilityGrid);
 		if (fogOfWar != null) {
 			fogOfWar.cancel();
 		}
+		movablePathfinderGrid.stopPathService();
 	}
 
-	public MainGrid(String mapId, String mapName, IMapData mapGrid, PlayerSetting[] playerSettings) {
-		this(mapId, mapName, (short) mapGrid.getWidth(), (short) mapGrid.getHeight(), playerSettings);
+	public MainGrid(String mapId, String mapName, IMapData mapGrid, PlayerSetting[] playerSettings, MatchContext context) {
+		this(mapId, mapName, (short) mapGrid.getWidth(), (short) mapGrid.getHeight(), playerSettings, context);
 
 		for (short y = 0; y < height; y++) {
 			for (short x = 0; x < width; x++) {
@@ -323,8 +365,8 @@ public final class MainGrid implements Serializable {
 	}
 
 	public void save(Byte playerId, UIState uiState) throws IOException {
-		boolean savedPausingState = MatchConstants.clock().isPausing();
-		MatchConstants.clock().setPausing(true);
+		boolean savedPausingState = context.clock().isPausing();
+		context.clock().setPausing(true);
 		try {
 			Thread.sleep(300L); // FIXME @Andreas serializer should wait until threads did their work!
 		} catch (InterruptedException e) {
@@ -334,9 +376,9 @@ public final class MainGrid implements Serializable {
 		PlayerState[] playerStates = calculatePlayerStates(playerId, uiState);
 		MapFileHeader header = generateSaveHeader(playerId);
 		MapList list = MapList.getDefaultList();
-		list.saveMap(playerStates, header, MainGrid.this);
+		lastSavegame = list.saveMap(playerStates, header, MainGrid.this);
 
-		MatchConstants.clock().setPausing(savedPausingState);
+		context.clock().setPausing(savedPausingState);
 	}
 
 	private PlayerState[] calculatePlayerStates(Byte playerId, UIState uiState) {
@@ -357,7 +399,7 @@ public final class MainGrid implements Serializable {
 	}
 
 	private UIState calculateUiStateByTower(byte currPlayerId) {
-		for (Building building : Building.getAllBuildings()) {
+		for (Building building : context.getAllBuildings()) {
 			if (building.getPlayer().playerId == currPlayerId && building instanceof OccupyingBuilding) {
 				return new UIState(building.getPos());
 			}
@@ -421,10 +463,24 @@ public final class MainGrid implements Serializable {
 		return guiInputGrid;
 	}
 
+	public TeamVisibilityGrid getTeamVisibilityGrid() {
+		return teamVisibilityGrid;
+	}
+
 	public MovableGrid getMovableGrid() {
 		return movableGrid;
 	}
 
+	/**
+	 * Gives access to the statistics of the path cache. The counters are updated by the game thread, so other threads may read slightly outdated
+	 * values.
+	 * 
+	 * @return The path cache or null if paths are not cached (see {@link Constants#PATH_CACHE_SIZE}).
+	 */
+	public CachingAStar getPathCache() {
+		return movablePathfinderGrid.cachingAStar;
+	}
+
 	public final boolean isInBounds(int x, int y) {
 		return x >= 0 && x < width && y >= 0 && y < height;
 	}
@@ -477,7 +533,7 @@ public final class MainGrid implements Serializable {
 			return;
 		}
 
-		EnclosedBlockedAreaFinderAlgorithm.checkLandmark(enclosedBlockedAreaFinderGrid, x, y);
+		enclosedBlockedAreaFinder.checkLandmark(x, y);
 
 		ILogicMovable movable = movableGrid.getMovableAt(x, y);
 		if (movable != null) {
@@ -735,6 +791,10 @@ public final class MainGrid implements Serializable {
 			return landscapeGrid.getBlockedPartitionAt(x, y);
 		}
 
+		@Override
+		public int getDynamicBlockedPartition(int x, int y) {
+			return dynamicBlockedPartitions.getPartitionAt(x, y);
+		}
 	}
 
 	final class GraphicsGrid implements IGraphicsGrid {
@@ -829,6 +889,7 @@ public final class MainGrid implements Serializable {
 		@Override
 		public final void setBackgroundListener(IGraphicsBackgroundListener backgroundListener) {
 			landscapeGrid.setBackgroundListener(backgroundListener);
+			fogOfWar.setBackgroundListener(backgroundListener);
 		}
 
 		@Override
@@ -850,6 +911,11 @@ public final class MainGrid implements Serializable {
 	final class MapObjectsManagerGrid implements IMapObjectsManagerGrid {
 		private static final long serialVersionUID = 6223899915568781576L;
 
+		@Override
+		public MatchContext getMatchContext() {
+			return context;
+		}
+
 		@Override
 		public final void setLandscape(int x, int y, ELandscapeType landscapeType) {
 			setLandscapeTypeAt(x, y, landscapeType);
@@ -956,6 +1022,16 @@ public final class MainGrid implements Serializable {
 			return partitionsGrid.getPlayerIdAt(x, y) == playerId || landscapeGrid.isBlockedPartition(x, y);
 		}
 
+		@Override
+		public boolean isBlockedPartition(int x, int y) {
+			return landscapeGrid.isBlockedPartition(x, y);
+		}
+
+		@Override
+		public byte getNumberOfPlayers() {
+			return partitionsGrid.getNumberOfPlayers();
+		}
+
 		@Override
 		public final boolean isInBounds(int x, int y) {
 			return MainGrid.this.isInBounds(x, y);
@@ -1092,13 +1168,26 @@ public final class MainGrid implements Serializable {
 		public boolean isInBounds(int x, int y) {
 			return MainGrid.this.isInBounds(x, y);
 		}
+
+		@Override
+		public void setConstructionStateChangedListener(IConstructionStateChangedListener listener) {
+			flagsGrid.setConstructionStateChangedListener(listener);
+			landscapeGrid.setConstructionStateChangedListener(listener);
+			partitionsGrid.setConstructionStateChangedListener(listener);
+		}
 	}
 
-	final class MovablePathfinderGrid extends AbstractMovableGrid {
+	final class MovablePathfinderGrid extends AbstractMovableGrid implements IBlockedChangedListener, ITimeSlotListener {
 		private static final long serialVersionUID = 4006228724969442801L;
 
 		private transient PathfinderGrid pathfinderGrid;
 		private transient AbstractAStar aStar;
+		private transient HierarchicalAStar hierarchicalAStar;
+		private transient CachingAStar cachingAStar;
+		private transient ParallelPathService pathService;
+		private transient ParallelTick parallelTick;
+		private transient ConcurrentLinkedQueue<BucketQueueAStar> preparingAStars;
+		private transient int pathingVersion; // changed whenever the result of a path search may change
 		transient DijkstraAlgorithm dijkstra; // not private, because it's used by BuildingsGrid
 		private transient InAreaFinder inAreaFinder;
 
@@ -1114,9 +1203,84 @@ public final class MainGrid implements Serializable {
 		private void initPathfinders() {
 			pathfinderGrid = new PathfinderGrid();
 
-			aStar = new BucketQueueAStar(pathfinderGrid, width, height);
-			dijkstra = new DijkstraAlgorithm(pathfinderGrid, aStar, width, height);
-			inAreaFinder = new InAreaFinder(pathfinderGrid, width, height);
+			BucketQueueAStar bucketQueueAStar = createBucketQueueAStar();
+			if (Constants.USE_HIERARCHICAL_PATHFINDING) {
+				hierarchicalAStar = new HierarchicalAStar(pathfinderGrid, bucketQueueAStar, width, height);
+				cachingAStar = null;
+				aStar = hierarchicalAStar;
+			} else if (Constants.PATH_CACHE_SIZE > 0) {
+				hierarchicalAStar = null;
+				cachingAStar = new CachingAStar(pathfinderGrid, bucketQueueAStar, width, height, Constants.PATH_CACHE_SIZE);
+				aStar = cachingAStar;
+			} else {
+				hierarchicalAStar = null;
+				cachingAStar = null;
+				aStar = bucketQueueAStar;
+			}
+			dijkstra = new DijkstraAlgorithm(pathfinderGrid, bucketQueueAStar, width, height);
+			inAreaFinder = new InAreaFinder(pathfinderGrid, width, height, context);
+
+			if (Constants.USE_PARALLEL_PATHFINDING) {
+				pathService = new ParallelPathService(pathfinderGrid, width, height, Constants.PATHFINDING_THREADS, context.getProfiler());
+				context.getTimer().setTimeSlotListener(this);
+			} else {
+				pathService = null;
+			}
+
+			if (Constants.USE_PARALLEL_TICK) {
+				preparingAStars = new ConcurrentLinkedQueue<>();
+				parallelTick = new ParallelTick(height, Constants.PARALLEL_TICK_STRIP_HEIGHT, Constants.PATHFINDING_THREADS);
+				context.getTimer().setParallelTick(parallelTick);
+			} else {
+				preparingAStars = null;
+				parallelTick = null;
+			}
+		}
+
+		private BucketQueueAStar createBucketQueueAStar() {
+			BucketQueueAStar bucketQueueAStar = new BucketQueueAStar(pathfinderGrid, width, height);
+			bucketQueueAStar.setProfiler(context.getProfiler());
+			return bucketQueueAStar;
+		}
+
+		void stopPathService() {
+			if (pathService != null) {
+				context.getTimer().setTimeSlotListener(null);
+				pathService.shutdown();
+			}
+			if (parallelTick != null) {
+				context.getTimer().setParallelTick(null);
+				parallelTick.shutdown();
+			}
+		}
+
+		@Override
+		public MatchContext getMatchContext() {
+			return context;
+		}
+
+		@Override
+		public void timeSlotFinished() {
+			pathService.solvePendingRequests();
+		}
+
+		@Override
+		public void blockedChanged(int x, int y, boolean newBlockedState) {
+			dynamicBlockedPartitions.blockedChanged(x, y, newBlockedState);
+			if (hierarchicalAStar != null) {
+				hierarchicalAStar.blockedChanged(x, y);
+			}
+			if (cachingAStar != null) {
+				cachingAStar.regionChanged(x, y);
+			}
+			pathingVersion++;
+		}
+
+		void playerChanged(int x, int y) {
+			if (cachingAStar != null) {
+				cachingAStar.regionChanged(x, y);
+			}
+			pathingVersion++;
 		}
 
 		@Override
@@ -1166,7 +1330,7 @@ public final class MainGrid implements Serializable {
 		@Override
 		public void changePlayerAt(ShortPoint2D position, Player player) {
 			partitionsGrid.changePlayerAt(position, player.playerId);
-			bordersThread.checkPosition(position);
+			bordersThread.checkPosition(position.x, position.y);
 
 			checkPositionThatChangedPlayer(position.x, position.y);
 		}
@@ -1211,6 +1375,26 @@ public final class MainGrid implements Serializable {
 			partitionsGrid.getPartitionAt(bricklayer).removeJobless(bricklayer);
 		}
 
+		@Override
+		public void joblessPositionChanged(IManageableBearer bearer, ShortPoint2D oldPosition) {
+			partitionsGrid.getPartitionAt(oldPosition.x, oldPosition.y).joblessPositionChanged(bearer, oldPosition);
+		}
+
+		@Override
+		public void joblessPositionChanged(IManageableWorker worker, ShortPoint2D oldPosition) {
+			partitionsGrid.getPartitionAt(oldPosition.x, oldPosition.y).joblessPositionChanged(worker, oldPosition);
+		}
+
+		@Override
+		public void joblessPositionChanged(IManageableDigger digger, ShortPoint2D oldPosition) {
+			partitionsGrid.getPartitionAt(oldPosition.x, oldPosition.y).joblessPositionChanged(digger, oldPosition);
+		}
+
+		@Override
+		public void joblessPositionChanged(IManageableBricklayer bricklayer, ShortPoint2D oldPosition) {
+			partitionsGrid.getPartitionAt(oldPosition.x, oldPosition.y).joblessPositionChanged(bricklayer, oldPosition);
+		}
+
 		@Override
 		public boolean takeMaterial(ShortPoint2D position, EMaterialType materialType) {
 			return mapObjectsManager.popMaterial(position.x, position.y, materialType);
@@ -1330,6 +1514,44 @@ public final class MainGrid implements Serializable {
 			return aStar.findPath(pathRequester, targetPos);
 		}
 
+		@Override
+		public Path calculatePathTo(IPathCalculatable pathRequester, ShortPoint2D targetPos, PreparedPath preparedPath) {
+			if (preparedPath != null && preparedPath.isValid(pathRequester.getPos(), targetPos, pathingVersion)) {
+				return preparedPath.getPath();
+			} else {
+				return calculatePathTo(pathRequester, targetPos);
+			}
+		}
+
+		@Override
+		public PreparedPath preparePathTo(IPathCalculatable pathRequester, ShortPoint2D targetPos) {
+			if (preparingAStars == null || hierarchicalAStar != null) { // the hierarchical search finds other paths than the plain A*
+				return null;
+			}
+
+			BucketQueueAStar preparingAStar = preparingAStars.poll();
+			if (preparingAStar == null) {
+				preparingAStar = createBucketQueueAStar();
+			}
+
+			try {
+				ShortPoint2D start = pathRequester.getPos();
+				Path path = preparingAStar.findPath(pathRequester, start.x, start.y, targetPos.x, targetPos.y);
+				return new PreparedPath(start, targetPos, pathingVersion, path);
+			} finally {
+				preparingAStars.offer(preparingAStar);
+			}
+		}
+
+		@Override
+		public void requestPathTo(IPathCalculatable pathRequester, ShortPoint2D targetPos, IPathRequestListener listener) {
+			if (pathService != null) {
+				pathService.requestPath(pathRequester, targetPos, listener);
+			} else {
+				listener.pathCalculated(calculatePathTo(pathRequester, targetPos));
+			}
+		}
+
 		@Override
 		public Path searchDijkstra(IPathCalculatable pathCalculateable, short centerX, short centerY, short radius, ESearchType searchType) {
 			return dijkstra.find(pathCalculateable, centerX, centerY, (short) 0, radius, searchType);
@@ -1384,29 +1606,36 @@ public final class MainGrid implements Serializable {
 				final short maxSearchRadius, final boolean includeTowers) {
 			boolean isBowman = searchingAttackable.getMovableType().isBowman();
 
-			IAttackable enemy = getEnemyInSearchArea(searchingAttackable.getPlayer(), new HexGridArea(position.x, position.y, minSearchRadius,
-					maxSearchRadius), isBowman, includeTowers);
+			IAttackable enemy = getEnemyInSearchArea(searchingAttackable.getPlayer(), position.x, position.y, minSearchRadius, maxSearchRadius,
+					isBowman, includeTowers);
 			if (includeTowers && !isBowman && enemy == null) {
-				enemy = getEnemyInSearchArea(searchingAttackable.getPlayer(), new HexGridArea(position.x, position.y, maxSearchRadius,
-						Constants.TOWER_SEARCH_RADIUS), false, true);
+				enemy = getEnemyInSearchArea(searchingAttackable.getPlayer(), position.x, position.y, maxSearchRadius, Constants.TOWER_SEARCH_RADIUS,
+						false, true);
 			}
 
 			return enemy;
 		}
 
-		private IAttackable getEnemyInSearchArea(IPlayer searchingPlayer, HexGridArea area, boolean isBowman, boolean includeTowers) {
-			return area.stream().filterBounds(width, height).iterateForResult((x, y) -> {
+		private IAttackable getEnemyInSearchArea(IPlayer searchingPlayer, int centerX, int centerY, int minSearchRadius, int maxSearchRadius,
+				boolean isBowman, boolean includeTowers) {
+			int endIndex = HexGridSpiral.getStartIndex(maxSearchRadius + 1);
+			for (int i = HexGridSpiral.getStartIndex(minSearchRadius); i < endIndex; i++) {
+				int x = ENEMY_SEARCH_AREA.getX(centerX, i);
+				int y = ENEMY_SEARCH_AREA.getY(centerY, i);
+				if (!isInBounds(x, y)) {
+					continue;
+				}
+
 				IAttackable currAttackable = movableGrid.getMovableAt(x, y);
 				if (includeTowers && !isBowman && currAttackable == null) {
 					currAttackable = (IAttackable) objectsGrid.getMapObjectAt(x, y, EMapObjectType.ATTACKABLE_TOWER);
 				}
 
 				if (currAttackable != null && MovableGrid.isEnemy(searchingPlayer, currAttackable)) {
-					return Optional.of(currAttackable);
-				} else {
-					return Optional.empty();
+					return currAttackable;
 				}
-			}).orElse(null);
+			}
+			return null;
 		}
 
 		@Override
@@ -1416,9 +1645,13 @@ public final class MainGrid implements Serializable {
 
 		@Override
 		public final ShortPoint2D calcDecentralizeVector(short x, short y) {
-			MutablePoint2D vector = new MutablePoint2D();
+			int vectorX = 0;
+			int vectorY = 0;
 
-			HexGridArea.stream(x, y, 1, Constants.MOVABLE_FLOCK_TO_DECENTRALIZE_MAX_RADIUS).forEach((currX, currY) -> {
+			int endIndex = HexGridSpiral.getStartIndex(Constants.MOVABLE_FLOCK_TO_DECENTRALIZE_MAX_RADIUS + 1);
+			for (int i = HexGridSpiral.getStartIndex(1); i < endIndex; i++) {
+				int currX = DECENTRALIZE_AREA.getX(x, i);
+				int currY = DECENTRALIZE_AREA.getY(y, i);
 				int radius = ShortPoint2D.getOnGridDist(currX - x, currY - y);
 
 				int factor;
@@ -1427,13 +1660,13 @@ public final class MainGrid implements Serializable {
 				} else if (!movableGrid.hasNoMovableAt(currX, currY)) {
 					factor = Constants.MOVABLE_FLOCK_TO_DECENTRALIZE_MAX_RADIUS - radius + 1;
 				} else {
-					return;
+					continue;
 				}
-				vector.x += (x - currX) * factor;
-				vector.y += (y - currY) * factor;
-			});
+				vectorX += (x - currX) * factor;
+				vectorY += (y - currY) * factor;
+			}
 
-			return vector.toShortPoint2D();
+			return new ShortPoint2D(vectorX, vectorY);
 		}
 
 		@Override
@@ -1447,8 +1680,8 @@ public final class MainGrid implements Serializable {
 		}
 
 		@Override
-		public boolean isValidNextPathPosition(IPathCalculatable pathCalculatable, ShortPoint2D nextPos, ShortPoint2D targetPos) {
-			return isValidPosition(pathCalculatable, nextPos.x, nextPos.y) && (!pathCalculatable.needsPlayersGround()
+		public boolean isValidNextPathPosition(IPathCalculatable pathCalculatable, int nextX, int nextY, ShortPoint2D targetPos) {
+			return isValidPosition(pathCalculatable, nextX, nextY) && (!pathCalculatable.needsPlayersGround()
 					|| partitionsGrid.getPartitionAt(pathCalculatable) == partitionsGrid.getPartitionAt(targetPos.x, targetPos.y));
 		}
 
@@ -1485,6 +1718,11 @@ public final class MainGrid implements Serializable {
 
 		private final RequestStackGrid requestStackGrid = new RequestStackGrid();
 
+		@Override
+		public MatchContext getMatchContext() {
+			return context;
+		}
+
 		@Override
 		public final byte getHeightAt(ShortPoint2D position) {
 			return landscapeGrid.getHeightAt(position.x, position.y);
@@ -1656,7 +1894,7 @@ public final class MainGrid implements Serializable {
 		@Override
 		public void occupyAreaByTower(Player player, MapCircle influencingArea, FreeMapArea groundArea) {
 			partitionsGrid.addTowerAndOccupyArea(player.playerId, influencingArea, groundArea);
-			checkAllPositionsForEnclosedBlockedAreas(influencingArea.stream()); // TODO @Andreas Eberle only test the borders of changed areas!!
+			checkAllPositionsForEnclosedBlockedAreas(influencingArea.stream());
 		}
 
 		@Override
@@ -1671,7 +1909,9 @@ public final class MainGrid implements Serializable {
 		}
 
 		private void checkAllPositionsForEnclosedBlockedAreas(CoordinateStream area) {
+			enclosedBlockedAreaFinder.startBatch();
 			area.forEach(MainGrid.this::checkPositionThatChangedPlayer);
+			enclosedBlockedAreaFinder.endBatch();
 		}
 
 		@Override
@@ -1781,6 +2021,11 @@ public final class MainGrid implements Serializable {
 			return movableGrid.getMovableAt(x, y);
 		}
 
+		@Override
+		public MatchContext getMatchContext() {
+			return context;
+		}
+
 		@Override
 		public final short getWidth() {
 			return width;
@@ -1901,8 +2146,8 @@ public final class MainGrid implements Serializable {
 
 		@Override
 		public void playerChangedAt(int x, int y, byte newPlayerId) {
-			final ShortPoint2D position = new ShortPoint2D(x, y);
-			bordersThread.checkPosition(position);
+			bordersThread.checkPosition(x, y);
+			movablePathfinderGrid.playerChanged(x, y);
 
 			Building building = objectsGrid.getBuildingAt(x, y);
 			if (building != null && building.getPlayer().getPlayerId() != newPlayerId) {
@@ -1911,7 +2156,9 @@ public final class MainGrid implements Serializable {
 		}
 	}
 
-	final class FogOfWarGrid implements IFogOfWarGrid {
+	final class FogOfWarGrid implements IFogOfWarGrid, Serializable {
+		private static final long serialVersionUID = 6381482398540276912L;
+
 		@Override
 		public final IMovable getMovableAt(short x, short y) {
 			return movableGrid.getMovableAt(x, y);
@@ -1924,12 +2171,12 @@ public final class MainGrid implements Serializable {
 
 		@Override
 		public final ConcurrentLinkedQueue<? extends IViewDistancable> getMovableViewDistancables() {
-			return Movable.getAllMovables();
+			return context.getAllMovables();
 		}
 
 		@Override
 		public final ConcurrentLinkedQueue<? extends IViewDistancable> getBuildingViewDistancables() {
-			return Building.getAllBuildings();
+			return context.getAllBuildings();
 		}
 	}
 }
@@ -17,6 +17,8 @@ package jsettlers.logic.map.grid.flags;
 import java.io.Serializable;
 import java.util.BitSet;
 
+import jsettlers.algorithms.construction.IConstructionStateChangedListener;
+import jsettlers.algorithms.landmarks.ILandmarkStateChangedListener;
 import jsettlers.algorithms.partitions.IBlockingProvider;
 
 /**
@@ -35,6 +37,9 @@ public final class FlagsGrid implements Serializable, IBlockingProvider, IProtec
 	private final BitSet protectedGrid;
 
 	private IProtectedChangedListener protectedChangedListener = null;
+	private transient IBlockedChangedListener blockedChangedListener = null;
+	private transient IConstructionStateChangedListener constructionStateChangedListener = null;
+	private transient ILandmarkStateChangedListener landmarkStateChangedListener = null;
 
 	public FlagsGrid(final short width, final short height) {
 		this.width = width;
@@ -78,6 +83,7 @@ public final class FlagsGrid implements Serializable, IBlockingProvider, IProtec
 	 */
 	public void setBlockedAndProtected(int x, int y, boolean newBlocked, boolean newProtected) {
 		final int idx = x + y * width;
+		boolean oldBlocked = this.blockedGrid.get(idx);
 		boolean oldProtected = this.protectedGrid.get(idx);
 
 		this.blockedGrid.set(idx, newBlocked);
@@ -86,6 +92,15 @@ public final class FlagsGrid implements Serializable, IBlockingProvider, IProtec
 		if (protectedChangedListener != null && oldProtected != newProtected) {
 			this.protectedChangedListener.protectedChanged(x, y, newProtected);
 		}
+		if (constructionStateChangedListener != null && oldProtected != newProtected) {
+			this.constructionStateChangedListener.constructionStateChangedAt(x, y);
+		}
+		if (blockedChangedListener != null && oldBlocked != newBlocked) {
+			this.blockedChangedListener.blockedChanged(x, y, newBlocked);
+		}
+		if (landmarkStateChangedListener != null && (oldBlocked != newBlocked || oldProtected != newProtected)) {
+			this.landmarkStateChangedListener.landmarkStateChangedAt(x, y);
+		}
 	}
 
 	public boolean isMarked(int x, int y) {
@@ -107,6 +122,12 @@ public final class FlagsGrid implements Serializable, IBlockingProvider, IProtec
 		if (protectedChangedListener != null) {
 			this.protectedChangedListener.protectedChanged(x, y, newProtected);
 		}
+		if (constructionStateChangedListener != null) {
+			this.constructionStateChangedListener.constructionStateChangedAt(x, y);
+		}
+		if (landmarkStateChangedListener != null) {
+			this.landmarkStateChangedListener.landmarkStateChangedAt(x, y);
+		}
 	}
 
 	public boolean isPioneerBlocked(int x, int y) {
@@ -118,4 +139,44 @@ public final class FlagsGrid implements Serializable, IBlockingProvider, IProtec
 	public void setProtectedChangedListener(IProtectedChangedListener protectedChangedListener) {
 		this.protectedChangedListener = protectedChangedListener;
 	}
+
+	/**
+	 * Sets the listener informed about changes of the blocked state. The listener is not serialized and needs to be set again after loading.
+	 *
+	 * @param blockedChangedListener
+	 *            the new listener or null.
+	 */
+	public void setBlockedChangedListener(IBlockedChangedListener blockedChangedListener) {
+		this.blockedChangedListener = blockedChangedListener;
+	}
+
+	/**
+	 * Sets the listener informed about changes of the protected state. The listener is not serialized and needs to be set again after loading.
+	 *
+	 * @param constructionStateChangedListener
+	 *            the new listener or null.
+	 */
+	public void setConstructionStateChangedListener(IConstructionStateChangedListener constructionStateChangedListener) {
+		this.constructionStateChangedListener = constructionStateChangedListener;
+	}
+
+	/**
+	 * Sets the listener informed about changes of the blocked and protected state. The listener is not serialized and needs to be set again after
+	 * loading.
+	 *
+	 * @param landmarkStateChangedListener
+	 *            the new listener or null.
+	 */
+	public void setLandmarkStateChangedListener(ILandmarkStateChangedListener landmarkStateChangedListener) {
+		this.landmarkStateChangedListener = landmarkStateChangedListener;
+	}
+
+	/**
+	 *
+	 * @author agent
+	 *
+	 */
+	public interface IBlockedChangedListener {
+		void blockedChanged(int x, int y, boolean newBlockedState);
+	}
 }
@@ -39,10 +39,10 @@ final class FlattenedResetter implements IScheduledTimerable, Serializable {
 	private transient LinkedList<ShortPoint2D> positions = new LinkedList<>();
 	private final IFlattenedResettable grid;
 
-	FlattenedResetter(IFlattenedResettable grid) {
+	FlattenedResetter(IFlattenedResettable grid, RescheduleTimer timer) {
 		this.grid = grid;
 		positions = new LinkedList<>();
-		RescheduleTimer.add(this, SCHEDULE_INTERVAL);
+		timer.add(this, SCHEDULE_INTERVAL);
 	}
 
 	private void writeObject(ObjectOutputStream oos) throws IOException {
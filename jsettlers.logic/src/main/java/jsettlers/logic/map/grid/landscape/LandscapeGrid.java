@@ -18,6 +18,8 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
 
+import jsettlers.algorithms.construction.IConstructionStateChangedListener;
+import jsettlers.algorithms.landmarks.ILandmarkStateChangedListener;
 import jsettlers.algorithms.partitions.IBlockingProvider;
 import jsettlers.algorithms.previewimage.IPreviewImageDataSupplier;
 import jsettlers.common.landscape.ELandscapeType;
@@ -27,6 +29,7 @@ import jsettlers.common.map.shapes.HexGridArea;
 import jsettlers.common.position.RelativePoint;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.logic.constants.Constants;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.constants.MatchConstants;
 import jsettlers.logic.map.grid.flags.IProtectedProvider;
 import jsettlers.logic.map.grid.flags.IProtectedProvider.IProtectedChangedListener;
@@ -67,11 +70,15 @@ public final class LandscapeGrid implements Serializable, IWalkableGround, IFlat
 
 	public transient int[] debugColors;
 	private transient IGraphicsBackgroundListener backgroundListener;
+	private transient IConstructionStateChangedListener constructionStateChangedListener;
+	private transient ILandmarkStateChangedListener landmarkStateChangedListener;
+	private transient MatchContext context;
 
-	public LandscapeGrid(short width, short height, IProtectedProvider protectedProvider) {
+	public LandscapeGrid(short width, short height, IProtectedProvider protectedProvider, MatchContext context) {
 		this.width = width;
 		this.height = height;
 		this.protectedProvider = protectedProvider;
+		this.context = context;
 		final int tiles = width * height;
 		this.heightGrid = new byte[tiles];
 		this.landscapeGrid = new byte[tiles];
@@ -82,7 +89,7 @@ public final class LandscapeGrid implements Serializable, IWalkableGround, IFlat
 
 		initDebugColors();
 
-		this.flattenedResetter = new FlattenedResetter(this);
+		this.flattenedResetter = new FlattenedResetter(this, context.getTimer());
 		setBackgroundListener(null);
 
 		protectedProvider.setProtectedChangedListener(this);
@@ -90,6 +97,7 @@ public final class LandscapeGrid implements Serializable, IWalkableGround, IFlat
 
 	private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
 		ois.defaultReadObject();
+		context = MatchContext.of(ois);
 		setBackgroundListener(null);
 
 		initDebugColors();
@@ -159,11 +167,13 @@ public final class LandscapeGrid implements Serializable, IWalkableGround, IFlat
 
 		this.landscapeGrid[x + y * width] = landscapeType.ordinal;
 		backgroundListener.backgroundChangedAt(x, y);
+		notifyConstructionStateChanged(x, y);
 	}
 
 	public final void setHeightAt(short x, short y, byte height) {
 		this.heightGrid[x + y * width] = height;
 		backgroundListener.backgroundChangedAt(x, y);
+		notifyConstructionStateChanged(x, y);
 	}
 
 	public void flattenAndChangeHeightTowards(int x, int y, byte targetHeight) {
@@ -174,6 +184,13 @@ public final class LandscapeGrid implements Serializable, IWalkableGround, IFlat
 		this.temporaryFlatened[index] = Byte.MAX_VALUE; // cancel the flattening
 
 		backgroundListener.backgroundChangedAt(x, y);
+		notifyConstructionStateChanged(x, y);
+	}
+
+	private void notifyConstructionStateChanged(int x, int y) {
+		if (constructionStateChangedListener != null) {
+			constructionStateChangedListener.constructionStateChangedAt(x, y);
+		}
 	}
 
 	public final void setBackgroundListener(IGraphicsBackgroundListener backgroundListener) {
@@ -184,6 +201,27 @@ public final class LandscapeGrid implements Serializable, IWalkableGround, IFlat
 		}
 	}
 
+	/**
+	 * Sets the listener informed about changes of the landscape type and height. The listener is not serialized and needs to be set again after
+	 * loading.
+	 * 
+	 * @param constructionStateChangedListener
+	 *            the new listener or null.
+	 */
+	public void setConstructionStateChangedListener(IConstructionStateChangedListener constructionStateChangedListener) {
+		this.constructionStateChangedListener = constructionStateChangedListener;
+	}
+
+	/**
+	 * Sets the listener informed about changes of the blocked partitions. The listener is not serialized and needs to be set again after loading.
+	 * 
+	 * @param landmarkStateChangedListener
+	 *            the new listener or null.
+	 */
+	public void setLandmarkStateChangedListener(ILandmarkStateChangedListener landmarkStateChangedListener) {
+		this.landmarkStateChangedListener = landmarkStateChangedListener;
+	}
+
 	public final void setResourceAt(short x, short y, EResourceType resourceType, byte amount) {
 		this.resourceType[x + y * width] = resourceType.ordinal;
 		this.resourceAmount[x + y * width] = (byte) Math.min(amount, Constants.MAX_RESOURCE_AMOUNT_PER_POSITION);
@@ -276,6 +314,10 @@ public final class LandscapeGrid implements Serializable, IWalkableGround, IFlat
 
 	public void setBlockedPartition(short x, short y, short blockedPartition) {
 		this.blockedPartitions[x + y * width] = blockedPartition;
+
+		if (landmarkStateChangedListener != null) {
+			landmarkStateChangedListener.landmarkStateChangedAt(x, y);
+		}
 	}
 
 	public short getBlockedPartitionAt(int x, int y) {
@@ -319,7 +361,7 @@ public final class LandscapeGrid implements Serializable, IWalkableGround, IFlat
 			return; // do not unflatten mountain or desert.
 		}
 
-		this.temporaryFlatened[x + y * width] = (byte) (40 + MatchConstants.random().nextFloat() * 80);
+		this.temporaryFlatened[x + y * width] = (byte) (40 + context.random().nextFloat() * 80);
 		this.flattenedResetter.addPosition(x, y);
 	}
 
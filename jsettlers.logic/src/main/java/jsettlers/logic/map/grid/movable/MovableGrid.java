@@ -19,13 +19,11 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
-import jsettlers.common.map.shapes.HexGridArea;
+import jsettlers.common.map.shapes.HexGridSpiral;
 import jsettlers.common.movable.EMovableType;
 import jsettlers.common.movable.IMovable;
 import jsettlers.common.player.IPlayer;
 import jsettlers.common.position.ShortPoint2D;
-import jsettlers.common.utils.coordinates.CoordinateStream;
-import jsettlers.common.utils.mutables.MutableBoolean;
 import jsettlers.logic.SerializationUtils;
 import jsettlers.logic.constants.Constants;
 import jsettlers.logic.map.grid.landscape.IWalkableGround;
@@ -40,6 +38,8 @@ import jsettlers.logic.movable.interfaces.ILogicMovable;
 public final class MovableGrid implements Serializable {
 	private static final long serialVersionUID = 7003522358013103962L;
 
+	private static final HexGridSpiral SOLDIER_SEARCH_AREA = new HexGridSpiral(Constants.SOLDIER_SEARCH_RADIUS);
+
 	private transient ILogicMovable[] movableGrid;
 	private final IWalkableGround ground;
 	private final short width;
@@ -106,27 +106,29 @@ public final class MovableGrid implements Serializable {
 	 */
 	public void informMovables(ILogicMovable movable, short x, short y, boolean informFullArea) {
 		// inform all movables of the given movable
-		CoordinateStream area;
-		if (informFullArea) {
-			area = HexGridArea.stream(x, y, (short) 1, Constants.SOLDIER_SEARCH_RADIUS);
-		} else {
-			area = HexGridArea.streamBorder(x, y, Constants.SOLDIER_SEARCH_RADIUS - 1);
-		}
+		int startIndex = HexGridSpiral.getStartIndex(informFullArea ? 1 : Constants.SOLDIER_SEARCH_RADIUS - 1);
+		int endIndex = HexGridSpiral.getStartIndex(Constants.SOLDIER_SEARCH_RADIUS + (informFullArea ? 1 : 0));
 
-		MutableBoolean foundOne = new MutableBoolean();
+		boolean foundOne = false;
 		IPlayer movablePlayer = movable.getPlayer();
 
-		area.filterBounds(width, height).forEach((currX, currY) -> {
+		for (int i = startIndex; i < endIndex; i++) {
+			int currX = SOLDIER_SEARCH_AREA.getX(x, i);
+			int currY = SOLDIER_SEARCH_AREA.getY(y, i);
+			if (currX < 0 || currX >= width || currY < 0 || currY >= height) {
+				continue;
+			}
+
 			ILogicMovable currMovable = getMovableAt(currX, currY);
 			if (currMovable != null && isEnemy(movablePlayer, currMovable)) {
 				currMovable.informAboutAttackable(movable);
 
-				if (!foundOne.value) { // the first found movable is the one closest to the given movable.
+				if (!foundOne) { // the first found movable is the one closest to the given movable.
 					movable.informAboutAttackable(currMovable);
-					foundOne.value = true;
+					foundOne = true;
 				}
 			}
-		});
+		}
 	}
 
 	/**
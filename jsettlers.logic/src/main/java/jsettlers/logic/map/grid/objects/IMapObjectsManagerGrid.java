@@ -20,6 +20,7 @@ import jsettlers.common.landscape.ELandscapeType;
 import jsettlers.common.landscape.EResourceType;
 import jsettlers.common.mapobject.EMapObjectType;
 import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.objects.arrow.IArrowAttackableGrid;
 import jsettlers.logic.player.Player;
 
@@ -55,4 +56,6 @@ public interface IMapObjectsManagerGrid extends Serializable, IArrowAttackableGr
 	boolean hasMapObjectType(int x, int y, EMapObjectType... mapObjectTypes);
 
 	void spawnDonkey(ShortPoint2D position, Player player);
+
+	MatchContext getMatchContext();
 }
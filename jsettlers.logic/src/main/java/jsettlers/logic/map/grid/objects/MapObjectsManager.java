@@ -30,7 +30,6 @@ import jsettlers.common.position.RelativePoint;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.logic.buildings.stack.IStackSizeSupplier;
 import jsettlers.logic.constants.Constants;
-import jsettlers.logic.constants.MatchConstants;
 import jsettlers.logic.movable.interfaces.IInformable;
 import jsettlers.logic.objects.DonkeyMapObject;
 import jsettlers.logic.objects.PigObject;
@@ -51,7 +50,6 @@ import jsettlers.logic.objects.stack.StackMapObject;
 import jsettlers.logic.objects.stone.Stone;
 import jsettlers.logic.player.Player;
 import jsettlers.logic.timer.IScheduledTimerable;
-import jsettlers.logic.timer.RescheduleTimer;
 
 import java8.util.Optional;
 
@@ -70,7 +68,7 @@ public final class MapObjectsManager implements IScheduledTimerable, Serializabl
 
 	public MapObjectsManager(IMapObjectsManagerGrid grid) {
 		this.grid = grid;
-		RescheduleTimer.add(this, 100);
+		grid.getMatchContext().getTimer().add(this, 100);
 	}
 
 	private void readObject(ObjectInputStream ois) throws ClassNotFoundException, IOException {
@@ -83,7 +81,7 @@ public final class MapObjectsManager implements IScheduledTimerable, Serializabl
 			return -1;
 		}
 
-		int gameTime = MatchConstants.clock().getTime();
+		int gameTime = grid.getMatchContext().clock().getTime();
 
 		TimeEvent curr = timingQueue.peek();
 		while (curr != null && curr.isOutDated(gameTime)) {
@@ -142,7 +140,7 @@ public final class MapObjectsManager implements IScheduledTimerable, Serializabl
 		RessourceSignMapObject object = new RessourceSignMapObject(pos, resourceType, resourceAmount
 				/ ((float) Constants.MAX_RESOURCE_AMOUNT_PER_POSITION));
 		addMapObject(pos, object);
-		timingQueue.add(new TimeEvent(object, RessourceSignMapObject.getLivetime(), true));
+		schedule(object, RessourceSignMapObject.getLivetime(grid.getMatchContext().random()), true);
 
 		return true;
 	}
@@ -163,7 +161,7 @@ public final class MapObjectsManager implements IScheduledTimerable, Serializabl
 	}
 
 	private boolean plantTree(ShortPoint2D pos) {
-		Tree tree = new Tree(pos);
+		Tree tree = new Tree(pos, grid.getMatchContext());
 		addMapObject(pos, tree);
 		schedule(tree, Tree.GROWTH_DURATION, false);
 		return true;
@@ -183,7 +181,7 @@ public final class MapObjectsManager implements IScheduledTimerable, Serializabl
 	}
 
 	private boolean plantCorn(ShortPoint2D pos) {
-		Corn corn = new Corn(pos);
+		Corn corn = new Corn(pos, grid.getMatchContext());
 		addMapObject(pos, corn);
 		schedule(corn, Corn.GROWTH_DURATION, false);
 		schedule(corn, Corn.GROWTH_DURATION + Corn.DECOMPOSE_DURATION, false);
@@ -205,7 +203,7 @@ public final class MapObjectsManager implements IScheduledTimerable, Serializabl
 	}
 
 	private boolean plantWine(ShortPoint2D pos) {
-		Wine wine = new Wine(pos);
+		Wine wine = new Wine(pos, grid.getMatchContext());
 		addMapObject(pos, wine);
 		schedule(wine, Wine.GROWTH_DURATION, false);
 		schedule(wine, Wine.GROWTH_DURATION + Wine.DECOMPOSE_DURATION, false);
@@ -265,7 +263,7 @@ public final class MapObjectsManager implements IScheduledTimerable, Serializabl
 	}
 
 	public void plantAdultTree(ShortPoint2D pos) {
-		addMapObject(pos, new AdultTree(pos));
+		addMapObject(pos, new AdultTree(pos, grid.getMatchContext()));
 	}
 
 	/**
@@ -281,10 +279,10 @@ public final class MapObjectsManager implements IScheduledTimerable, Serializabl
 	 * 		Strength of the hit.
 	 */
 	public void addArrowObject(ShortPoint2D attackedPos, ShortPoint2D shooterPos, byte shooterPlayerId, float hitStrength) {
-		ArrowObject arrow = new ArrowObject(grid, attackedPos, shooterPos, shooterPlayerId, hitStrength);
+		ArrowObject arrow = new ArrowObject(grid, attackedPos, shooterPos, shooterPlayerId, hitStrength, grid.getMatchContext());
 		addMapObject(attackedPos, arrow);
 		schedule(arrow, arrow.getEndTime(), false);
-		schedule(arrow, arrow.getEndTime() + ArrowObject.MIN_DECOMPOSE_DELAY * (1 + MatchConstants.random().nextFloat()), true);
+		schedule(arrow, arrow.getEndTime() + ArrowObject.MIN_DECOMPOSE_DELAY * (1 + grid.getMatchContext().random().nextFloat()), true);
 	}
 
 	public void addSimpleMapObject(ShortPoint2D pos, EMapObjectType objectType, boolean blocking, Player player) {
@@ -305,14 +303,14 @@ public final class MapObjectsManager implements IScheduledTimerable, Serializabl
 		switch (mapObjectType) {
 		case GHOST:
 		case BUILDING_DECONSTRUCTION_SMOKE:
-			object = new SoundableSelfDeletingObject(pos, mapObjectType, duration, player);
+			object = new SoundableSelfDeletingObject(pos, mapObjectType, duration, player, grid.getMatchContext());
 			break;
 		default:
-			object = new SelfDeletingMapObject(pos, mapObjectType, duration, player);
+			object = new SelfDeletingMapObject(pos, mapObjectType, duration, player, grid.getMatchContext());
 			break;
 		}
 		addMapObject(pos, object);
-		timingQueue.add(new TimeEvent(object, duration, true));
+		schedule(object, duration, true);
 	}
 
 	public void setConstructionMarking(int x, int y, byte value) {
@@ -515,7 +513,7 @@ public final class MapObjectsManager implements IScheduledTimerable, Serializabl
 		if (place) {
 			AbstractHexMapObject pig = grid.getMapObject(pos.x, pos.y, EMapObjectType.PIG);
 			if (pig == null) {
-				addMapObject(pos, new PigObject());
+				addMapObject(pos, new PigObject(grid.getMatchContext()));
 			}
 		} else {
 			removeMapObjectType(pos.x, pos.y, EMapObjectType.PIG);
@@ -550,7 +548,7 @@ public final class MapObjectsManager implements IScheduledTimerable, Serializabl
 			grid.spawnDonkey(position, player);
 			removeMapObjectType(position.x, position.y, EMapObjectType.DONKEY);
 		} else {
-			timingQueue.add(new TimeEvent(donkey, DonkeyMapObject.FEED_TIME, false));
+			schedule(donkey, DonkeyMapObject.FEED_TIME, false);
 		}
 		return result;
 	}
@@ -573,15 +571,17 @@ public final class MapObjectsManager implements IScheduledTimerable, Serializabl
 		/**
 		 * @param mapObject
 		 * 		map object
+		 * @param gameTime
+		 * 		the current game time in milliseconds
 		 * @param duration
 		 * 		in seconds
 		 * @param shouldRemove
 		 * 		if true, the map object will be removed after this event
 		 */
-		TimeEvent(AbstractObjectsManagerObject mapObject, float duration, boolean shouldRemove) {
+		TimeEvent(AbstractObjectsManagerObject mapObject, int gameTime, float duration, boolean shouldRemove) {
 			this.mapObject = mapObject;
 			this.shouldRemove = shouldRemove;
-			this.eventTime = (int) (MatchConstants.clock().getTime() + duration * 1000);
+			this.eventTime = (int) (gameTime + duration * 1000);
 		}
 
 		boolean isOutDated(int gameTime) {
@@ -603,7 +603,7 @@ public final class MapObjectsManager implements IScheduledTimerable, Serializabl
 	}
 
 	private boolean schedule(AbstractObjectsManagerObject object, float duration, boolean remove) {
-		return timingQueue.offer(new TimeEvent(object, duration, remove));
+		return timingQueue.offer(new TimeEvent(object, grid.getMatchContext().clock().getTime(), duration, remove));
 	}
 
 	/**
@@ -21,11 +21,10 @@ import java.io.Serializable;
 import java.util.Set;
 
 import jsettlers.common.map.shapes.FreeMapArea;
-import jsettlers.common.map.shapes.HexGridArea;
+import jsettlers.common.map.shapes.HexGridSpiral;
 import jsettlers.common.mapobject.EMapObjectType;
 import jsettlers.common.movable.EDirection;
 import jsettlers.common.position.ShortPoint2D;
-import jsettlers.common.utils.coordinates.CoordinateStream;
 import jsettlers.logic.SerializationUtils;
 import jsettlers.logic.buildings.Building;
 import jsettlers.logic.constants.Constants;
@@ -41,6 +40,8 @@ import jsettlers.logic.movable.interfaces.IInformable;
 public final class ObjectsGrid implements Serializable {
 	private static final long serialVersionUID = 2919416226544282748L;
 
+	private static final HexGridSpiral TOWER_SEARCH_AREA = new HexGridSpiral(Constants.TOWER_SEARCH_RADIUS);
+
 	private final short width;
 	private final short height;
 
@@ -192,32 +193,33 @@ public final class ObjectsGrid implements Serializable {
 	 * @param informAttackable
 	 */
 	public void informObjectsAboutAttackable(ShortPoint2D position, IAttackable attackable, boolean informFullArea, boolean informAttackable) {
-		CoordinateStream area;
-		if (informFullArea) {
-			area = HexGridArea.stream(position.x, position.y, 1, Constants.TOWER_SEARCH_RADIUS);
-		} else {
-			area = HexGridArea.streamBorder(position.x, position.y, Constants.TOWER_SEARCH_RADIUS - 1);
-		}
+		int startIndex = HexGridSpiral.getStartIndex(informFullArea ? 1 : Constants.TOWER_SEARCH_RADIUS - 1);
+		int endIndex = HexGridSpiral.getStartIndex(Constants.TOWER_SEARCH_RADIUS + (informFullArea ? 1 : 0));
 
 		byte movableTeam = attackable.getPlayer().getTeamId();
 
-		area.filterBounds(width, height)
-				.forEach((x, y) -> {
-					IAttackable currTower = (IAttackable) getMapObjectAt(x, y, EMapObjectType.ATTACKABLE_TOWER);
+		for (int i = startIndex; i < endIndex; i++) {
+			int x = TOWER_SEARCH_AREA.getX(position.x, i);
+			int y = TOWER_SEARCH_AREA.getY(position.y, i);
+			if (x < 0 || x >= width || y < 0 || y >= height) {
+				continue;
+			}
 
-					if (currTower != null && currTower.getPlayer().getTeamId() != movableTeam) {
-						currTower.informAboutAttackable(attackable);
+			IAttackable currTower = (IAttackable) getMapObjectAt(x, y, EMapObjectType.ATTACKABLE_TOWER);
 
-						if (informAttackable) {
-							attackable.informAboutAttackable(currTower);
-						}
-					}
+			if (currTower != null && currTower.getPlayer().getTeamId() != movableTeam) {
+				currTower.informAboutAttackable(attackable);
 
-					IInformable currInformable = (IInformable) getMapObjectAt(x, y, EMapObjectType.INFORMABLE_MAP_OBJECT);
-					if (currInformable != null) {
-						currInformable.informAboutAttackable(attackable);
-					}
-				});
+				if (informAttackable) {
+					attackable.informAboutAttackable(currTower);
+				}
+			}
+
+			IInformable currInformable = (IInformable) getMapObjectAt(x, y, EMapObjectType.INFORMABLE_MAP_OBJECT);
+			if (currInformable != null) {
+				currInformable.informAboutAttackable(attackable);
+			}
+		}
 	}
 
 	public void setBuildingArea(FreeMapArea area, Building building) {
@@ -16,6 +16,8 @@ package jsettlers.logic.map.grid.partition;
 
 import java.io.Serializable;
 
+import jsettlers.algorithms.interfaces.IContainingProvider;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.map.grid.partition.data.PartitionDataSupplier;
 import jsettlers.logic.map.grid.partition.manager.PartitionManager;
 import jsettlers.logic.map.grid.partition.manager.materials.offers.IOffersCountListener;
@@ -82,6 +84,21 @@ public final class Partition extends PartitionManager implements Serializable {
 		if (isEmpty()) { super.stopManager(); }
 	}
 
+	/**
+	 * Moves the manager objects of the given area to the new partition. The position counters of both partitions must already have been updated with
+	 * {@link #decrement(int, int)} and {@link #increment(int, int)}.
+	 *
+	 * @param area
+	 *            The area that is moved to the new partition.
+	 * @param newPartitionObject
+	 *            The partition now owning the area.
+	 */
+	void removeAreaTo(IContainingProvider area, Partition newPartitionObject) {
+		super.removeAreaTo(area, newPartitionObject, newPartitionObject.playerId == this.playerId);
+
+		if (isEmpty()) { super.stopManager(); }
+	}
+
 	public boolean isEmpty() {
 		return counter <= 0;
 	}
@@ -94,7 +111,7 @@ public final class Partition extends PartitionManager implements Serializable {
 		return counter;
 	}
 
-	public PartitionDataSupplier getPartitionData() {
-		return new PartitionDataSupplier(playerId, partitionId, getPartitionSettings(), getMaterialCounts());
+	public PartitionDataSupplier getPartitionData(MatchContext context) {
+		return new PartitionDataSupplier(playerId, partitionId, getPartitionSettings(), getMaterialCounts(), context.getAllBuildings());
 	}
 }
@@ -26,7 +26,9 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
+import jsettlers.algorithms.construction.IConstructionStateChangedListener;
 import jsettlers.algorithms.interfaces.IContainingProvider;
+import jsettlers.algorithms.landmarks.ILandmarkStateChangedListener;
 import jsettlers.algorithms.partitions.IBlockingProvider;
 import jsettlers.algorithms.partitions.PartitionCalculatorAlgorithm;
 import jsettlers.algorithms.traversing.area.AreaTraversingAlgorithm;
@@ -44,6 +46,7 @@ import jsettlers.common.position.ShortPoint2D;
 import jsettlers.common.utils.Tuple;
 import jsettlers.common.utils.coordinates.CoordinateStream;
 import jsettlers.common.utils.mutables.MutableInt;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.map.grid.partition.manager.settings.MaterialProductionSettings;
 import jsettlers.logic.map.grid.partition.PartitionsListingBorderVisitor.BorderPartitionInfo;
 import jsettlers.logic.map.grid.partition.manager.PartitionManager;
@@ -83,11 +86,15 @@ public final class PartitionsGrid implements Serializable {
 	Partition[] partitionObjects = new Partition[NUMBER_OF_START_PARTITION_OBJECTS];
 
 	private transient IPlayerChangedListener playerChangedListener = IPlayerChangedListener.DEFAULT_IMPLEMENTATION;
+	private transient IConstructionStateChangedListener constructionStateChangedListener;
+	private transient ILandmarkStateChangedListener landmarkStateChangedListener;
+	private transient MatchContext context;
 
-	public PartitionsGrid(short width, short height, PlayerSetting[] playerSettings, IBlockingProvider blockingProvider) {
+	public PartitionsGrid(short width, short height, PlayerSetting[] playerSettings, IBlockingProvider blockingProvider, MatchContext context) {
 		this.width = width;
 		this.height = height;
 		this.blockingProvider = blockingProvider;
+		this.context = context;
 
 		this.players = new Player[playerSettings.length]; // create the players.
 		this.blockedPartitionsForPlayers = new short[playerSettings.length];
@@ -98,7 +105,8 @@ public final class PartitionsGrid implements Serializable {
 			if (playerSetting.isAvailable()) {
 				Maps.computeIfAbsent(teams, playerSetting.getTeamId(), Team::new);
 				Team team = teams.get(playerSetting.getTeamId());
-				this.players[playerId] = new Player(playerId, team, (byte) playerSettings.length, playerSetting.getPlayerType(), playerSetting.getCivilisation());
+				this.players[playerId] = new Player(playerId, team, (byte) playerSettings.length, playerSetting.getPlayerType(), playerSetting.getCivilisation(),
+						context);
 				team.registerPlayer(this.players[playerId]);
 				this.blockedPartitionsForPlayers[playerId] = createNewPartition(playerId); // create a blocked partition for every player
 			}
@@ -136,6 +144,7 @@ public final class PartitionsGrid implements Serializable {
 
 	private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
 		ois.defaultReadObject();
+		context = MatchContext.of(ois);
 	}
 
 	public boolean isDefaultPartition(short partitionId) {
@@ -316,6 +325,8 @@ public final class PartitionsGrid implements Serializable {
 				.forEach(currTower -> area.stream()
 						.filter(currTower.e2.area::contains)
 						.forEach((x, y) -> towers[x + y * width]++));
+
+		area.stream().forEach(this::notifyLandmarkStateChanged);
 	}
 
 	/**
@@ -495,7 +506,10 @@ public final class PartitionsGrid implements Serializable {
 	private void changeTowerCounter(final byte playerId, CoordinateStream influencingArea, int delta) {
 		influencingArea
 				.filter((x, y) -> partitionObjects[partitions[x + y * width]].playerId == playerId)
-				.forEach((x, y) -> towers[x + y * width] += delta);
+				.forEach((x, y) -> {
+					towers[x + y * width] += delta;
+					notifyLandmarkStateChanged(x, y);
+				});
 	}
 
 	/**
@@ -535,6 +549,9 @@ public final class PartitionsGrid implements Serializable {
 		smallerPartitionObject.stopManager();
 
 		partitionObjects[smallerPartition] = biggerPartitionObject;
+		if (constructionStateChangedListener != null) { // the positions of the smaller partition now have the id of the bigger one
+			constructionStateChangedListener.constructionStateChanged();
+		}
 
 		/**
 		 * Flatten all hierarchies: <br>
@@ -581,6 +598,9 @@ public final class PartitionsGrid implements Serializable {
 
 	/**
 	 * Relabels all of the given old partition connected to the start position to the new partition.
+	 * <p />
+	 * The relabeled area is collected first and the offers, requests and jobless of the old partition are moved afterwards in a single pass over
+	 * each of its lists. Moving them position by position would scan all lists for every relabeled position.
 	 * 
 	 * @param oldPartition
 	 *            The id of the old partition.
@@ -589,15 +609,28 @@ public final class PartitionsGrid implements Serializable {
 	 * @param newPartition
 	 *            The id of the new partition.
 	 */
-	private void relabelArea(final short oldPartition, ShortPoint2D relabelStartPos, final short newPartition) {
+	void relabelArea(final short oldPartition, ShortPoint2D relabelStartPos, final short newPartition) { // package private for tests
+		Partition oldPartitionObject = partitionObjects[oldPartition];
+		Partition newPartitionObject = partitionObjects[newPartition];
+		BitSet relabeledArea = new BitSet(width * height);
+
 		// relabel the partition
 		IContainingProvider containingProvider = (x, y) -> partitionObjects[partitions[x + y * width]].partitionId == oldPartition;
 
 		IAreaVisitor relabelAreaVisitor = (x, y) -> {
-			changePartitionUncheckedAt(x, y, newPartition);
+			int idx = x + y * width;
+			relabeledArea.set(idx);
+			oldPartitionObject.decrement(x, y);
+			newPartitionObject.increment(x, y);
+			synchronized (this) {
+				partitions[idx] = newPartition;
+			}
+			notifyConstructionStateChanged(x, y);
 			return true;
 		};
 		AreaTraversingAlgorithm.traverseArea(containingProvider, relabelAreaVisitor, relabelStartPos, width, height);
+
+		oldPartitionObject.removeAreaTo((x, y) -> relabeledArea.get(x + y * width), newPartitionObject);
 	}
 
 	/**
@@ -621,6 +654,8 @@ public final class PartitionsGrid implements Serializable {
 		synchronized (this) {
 			partitions[idx] = newPartition;
 		}
+		notifyConstructionStateChanged(x, y);
+		notifyLandmarkStateChanged(x, y);
 
 		return newPartitionObject.playerId;
 	}
@@ -629,6 +664,18 @@ public final class PartitionsGrid implements Serializable {
 		playerChangedListener.playerChangedAt(x, y, newPlayer);
 	}
 
+	private void notifyConstructionStateChanged(int x, int y) {
+		if (constructionStateChangedListener != null) {
+			constructionStateChangedListener.constructionStateChangedAt(x, y);
+		}
+	}
+
+	private void notifyLandmarkStateChanged(int x, int y) {
+		if (landmarkStateChangedListener != null) {
+			landmarkStateChangedListener.landmarkStateChangedAt(x, y);
+		}
+	}
+
 	short createNewPartition(byte playerId) { // package private for tests
 		checkNormalizePartitions(NUMBER_OF_START_PARTITION_OBJECTS / 2);
 
@@ -652,7 +699,7 @@ public final class PartitionsGrid implements Serializable {
 		}
 
 		Partition newPartitionObject = new Partition(newPartitionId, playerId, players[playerId]);
-		newPartitionObject.startManager();
+		newPartitionObject.startManager(context);
 		partitionObjects[newPartitionId] = newPartitionObject;
 
 		return newPartitionId;
@@ -679,6 +726,26 @@ public final class PartitionsGrid implements Serializable {
 		}
 	}
 
+	/**
+	 * Sets the given listener. The listener will then be informed of any positions that change their partition.
+	 * 
+	 * @param listener
+	 *            The listener to be set or null if no listener should be set.
+	 */
+	public void setConstructionStateChangedListener(IConstructionStateChangedListener listener) {
+		this.constructionStateChangedListener = listener;
+	}
+
+	/**
+	 * Sets the given listener. The listener will then be informed of any positions that change their player or tower protection.
+	 * 
+	 * @param listener
+	 *            The listener to be set or null if no listener should be set.
+	 */
+	public void setLandmarkStateChangedListener(ILandmarkStateChangedListener listener) {
+		this.landmarkStateChangedListener = listener;
+	}
+
 	public byte getNumberOfPlayers() {
 		return (byte) players.length;
 	}
@@ -725,7 +792,7 @@ public final class PartitionsGrid implements Serializable {
 	}
 
 	public IPartitionData getPartitionDataForManagerAt(int x, int y) {
-		return getPartitionAt(x, y).getPartitionData();
+		return getPartitionAt(x, y).getPartitionData(context);
 	}
 
 	public PartitionManagerSettings getPartitionSettings(ShortPoint2D position) {
@@ -16,6 +16,8 @@ package jsettlers.logic.map.grid.partition.data;
 
 import static java8.util.stream.StreamSupport.stream;
 
+import java.util.Collection;
+
 import jsettlers.common.buildings.EBuildingType;
 import jsettlers.common.map.partition.IBuildingCounts;
 import jsettlers.logic.buildings.Building;
@@ -27,8 +29,8 @@ class BuildingCounts implements IBuildingCounts {
 	private final int[] buildingsUnderConstruction = new int[EBuildingType.NUMBER_OF_BUILDINGS];
 	private final int[] buildings = new int[EBuildingType.NUMBER_OF_BUILDINGS];
 
-	public BuildingCounts(byte playerId, short partitionId) {
-		stream(Building.getAllBuildings()).filter(building -> building.getPlayer().getPlayerId() == playerId).forEach(building -> {
+	public BuildingCounts(byte playerId, short partitionId, Collection<Building> allBuildings) {
+		stream(allBuildings).filter(building -> building.getPlayer().getPlayerId() == playerId).forEach(building -> {
 			int buildingTypeIdx = building.getBuildingType().ordinal;
 			boolean finishedConstruction = building.isConstructionFinished();
 
@@ -14,10 +14,13 @@
  *******************************************************************************/
 package jsettlers.logic.map.grid.partition.data;
 
+import java.util.Collection;
+
 import jsettlers.common.map.partition.IBuildingCounts;
 import jsettlers.common.map.partition.IPartitionData;
 import jsettlers.common.map.partition.IPartitionSettings;
 import jsettlers.common.material.EMaterialType;
+import jsettlers.logic.buildings.Building;
 
 public final class PartitionDataSupplier implements IPartitionData {
 
@@ -25,12 +28,15 @@ public final class PartitionDataSupplier implements IPartitionData {
 	private final short partitionId;
 	private final IPartitionSettings settings;
 	private final MaterialCounts materialCounts;
+	private final Collection<Building> allBuildings;
 
-	public PartitionDataSupplier(byte playerId, short partitionId, IPartitionSettings settings, MaterialCounts materialCounts) {
+	public PartitionDataSupplier(byte playerId, short partitionId, IPartitionSettings settings, MaterialCounts materialCounts,
+			Collection<Building> allBuildings) {
 		this.playerId = playerId;
 		this.partitionId = partitionId;
 		this.settings = settings;
 		this.materialCounts = materialCounts;
+		this.allBuildings = allBuildings;
 	}
 
 	@Override
@@ -45,6 +51,6 @@ public final class PartitionDataSupplier implements IPartitionData {
 
 	@Override
 	public IBuildingCounts getBuildingCounts() {
-		return new BuildingCounts(playerId, partitionId);
+		return new BuildingCounts(playerId, partitionId, allBuildings);
 	}
 }
@@ -14,12 +14,14 @@
  *******************************************************************************/
 package jsettlers.logic.map.grid.partition.manager;
 
+import jsettlers.algorithms.interfaces.IContainingProvider;
 import jsettlers.common.material.EMaterialType;
 import jsettlers.common.movable.EDirection;
 import jsettlers.common.movable.EMovableType;
 import jsettlers.common.position.ILocatable;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.logic.buildings.Building;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.map.grid.partition.manager.settings.MaterialProductionSettings;
 import jsettlers.logic.buildings.workers.WorkerBuilding;
 import jsettlers.logic.map.grid.partition.data.MaterialCounts;
@@ -48,8 +50,9 @@ import jsettlers.logic.map.grid.partition.manager.objects.WorkerCreationRequest;
 import jsettlers.logic.map.grid.partition.manager.objects.WorkerRequest;
 import jsettlers.logic.map.grid.partition.manager.settings.PartitionManagerSettings;
 import jsettlers.logic.timer.IScheduledTimerable;
-import jsettlers.logic.timer.RescheduleTimer;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -97,6 +100,8 @@ public class PartitionManager implements IScheduledTimerable, Serializable, IWor
 
 	private boolean stopped = true;
 
+	private transient MatchContext context;
+
 	public PartitionManager(IOffersCountListener offersCountListener) {
 		materialOffers = new OffersList(offersCountListener);
 		materialsManager = new MaterialsManager(new IJoblessSupplier() {
@@ -111,12 +116,23 @@ public class PartitionManager implements IScheduledTimerable, Serializable, IWor
 			public boolean isEmpty() {
 				return joblessBearer.isEmpty();
 			}
+
+			@Override
+			public int size() {
+				return joblessBearer.size();
+			}
 		}, materialOffers, settings);
 	}
 
-	public void startManager() {
+	private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+		ois.defaultReadObject();
+		context = MatchContext.of(ois);
+	}
+
+	public void startManager(MatchContext context) {
+		this.context = context;
 		stopped = false;
-		RescheduleTimer.add(this, SCHEDULING_PERIOD);
+		context.getTimer().add(this, SCHEDULING_PERIOD);
 	}
 
 	public void stopManager() {
@@ -195,6 +211,22 @@ public class PartitionManager implements IScheduledTimerable, Serializable, IWor
 		joblessWorkers.remove(worker);
 	}
 
+	public void joblessPositionChanged(IManageableBearer bearer, ShortPoint2D oldPosition) {
+		joblessBearer.positionChanged(bearer, oldPosition);
+	}
+
+	public void joblessPositionChanged(IManageableDigger digger, ShortPoint2D oldPosition) {
+		joblessDiggers.positionChanged(digger, oldPosition);
+	}
+
+	public void joblessPositionChanged(IManageableBricklayer bricklayer, ShortPoint2D oldPosition) {
+		joblessBricklayers.positionChanged(bricklayer, oldPosition);
+	}
+
+	public void joblessPositionChanged(IManageableWorker worker, ShortPoint2D oldPosition) {
+		joblessWorkers.positionChanged(worker, oldPosition);
+	}
+
 	/**
 	 * @param x
 	 * 		x coordinate of the position to be removed from this manager and added to the given manager
@@ -239,6 +271,51 @@ public class PartitionManager implements IScheduledTimerable, Serializable, IWor
 		removePositionTo(position, this.soldierCreationRequests, newManager.soldierCreationRequests, newHasSamePlayer);
 	}
 
+	/**
+	 * Moves all offers, requests and jobless positioned in the given area to the given manager. In contrast to calling
+	 * {@link #removePositionTo(int, int, PartitionManager, boolean)} for every position of the area, every list is only traversed once.
+	 *
+	 * @param area
+	 * 		area to be removed from this manager and added to the given manager
+	 * @param newManager
+	 * 		new manager of the given area <br>
+	 * 		NOTE: the new manager MUST NOT be null!
+	 * @param newHasSamePlayer
+	 * 		Specifies if the new manager has the same player. If so, requests also need to be moved.
+	 */
+	public void removeAreaTo(IContainingProvider area, PartitionManager newManager, boolean newHasSamePlayer) {
+		materialOffers.moveOffersInAreaTo(area, newManager.materialOffers);
+
+		if (newHasSamePlayer) {
+			materialsManager.moveAreaTo(area, newManager.materialsManager);
+
+			joblessBearer.moveObjectsInAreaTo(area, newManager.joblessBearer);
+			joblessBricklayers.moveObjectsInAreaTo(area, newManager.joblessBricklayers);
+			joblessDiggers.moveObjectsInAreaTo(area, newManager.joblessDiggers);
+			joblessWorkers.moveObjectsInAreaTo(area, newManager.joblessWorkers);
+		}
+
+		removeAreaTo(area, this.workerCreationRequests, newManager.workerCreationRequests, newHasSamePlayer);
+		removeAreaTo(area, this.bricklayerRequests, newManager.bricklayerRequests, newHasSamePlayer);
+		removeAreaTo(area, this.diggerRequests, newManager.diggerRequests, newHasSamePlayer);
+		removeAreaTo(area, this.workerRequests, newManager.workerRequests, newHasSamePlayer);
+		removeAreaTo(area, this.soldierCreationRequests, newManager.soldierCreationRequests, newHasSamePlayer);
+	}
+
+	private <T extends ILocatable> void removeAreaTo(IContainingProvider area, LinkedList<T> fromList, LinkedList<T> toList, boolean newHasSamePlayer) {
+		Iterator<T> iter = fromList.iterator();
+		while (iter.hasNext()) {
+			T curr = iter.next();
+			ShortPoint2D pos = curr.getPos();
+			if (area.contains(pos.x, pos.y)) {
+				iter.remove();
+				if (newHasSamePlayer) {
+					toList.offer(curr);
+				}
+			}
+		}
+	}
+
 	private <T extends ILocatable> void removePositionTo(ShortPoint2D pos, LinkedList<T> fromList, LinkedList<T> toList, boolean newHasSamePlayer) {
 		Iterator<T> iter = fromList.iterator();
 		while (iter.hasNext()) {
@@ -272,7 +349,7 @@ public class PartitionManager implements IScheduledTimerable, Serializable, IWor
 			return -1; // unschedule
 		}
 
-		materialsManager.distributeJobs();
+		materialsManager.distributeJobs(context.random());
 
 		handleDiggerRequest();
 		handleBricklayerRequest();
@@ -15,42 +15,81 @@
 package jsettlers.logic.map.grid.partition.manager.datastructures;
 
 import java8.util.function.Consumer;
+import java8.util.function.Predicate;
+import jsettlers.algorithms.interfaces.IContainingProvider;
 import jsettlers.common.position.ILocatable;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.common.utils.MathUtils;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.NoSuchElementException;
 
 /**
  * This is a data structure for storing and retrieving objects at given positions.<br>
  * It is also possible to find the nearest object around a given position.
+ * <p />
+ * The objects are kept in the order they have been inserted. As soon as the list holds more than {@link #LINEAR_SEARCH_LIMIT} objects, they are
+ * additionally indexed in a grid of buckets of {@link #BUCKET_SIZE}x{@link #BUCKET_SIZE} positions. Lookups by position then only look at a single
+ * bucket and the nearest object is searched in rings of buckets around the position. If several objects have the same distance, the one that has
+ * been inserted first is returned, exactly like a linear search over the insertion order would do.
+ * <p />
+ * The index uses the positions the objects had when they were inserted. If an object changes its position while it is in the list,
+ * {@link #positionChanged(ILocatable, ShortPoint2D)} has to be called.
  *
  * @param <T>
  * @author Andreas Eberle
  */
-public class PositionableList<T extends ILocatable> implements Serializable {
+public class PositionableList<T extends ILocatable> implements Serializable, Iterable<T> {
 	private static final long serialVersionUID = 414099060331344505L;
 
-	protected final LinkedList<T> data;
+	static final int LINEAR_SEARCH_LIMIT = 32;
+	static final int BUCKET_SIZE_SHIFT = 3;
+	static final int BUCKET_SIZE = 1 << BUCKET_SIZE_SHIFT;
+	private static final int GROWTH_MARGIN = 4;
+	private static final int MAX_BUCKETS_PER_OBJECT = 4;
+
+	private transient Entry<T> first;
+	private transient Entry<T> last;
+	private transient int size;
+	private transient long nextSequenceNumber;
+
+	private transient Entry<T>[] buckets;
+	private transient int bucketsOriginX;
+	private transient int bucketsOriginY;
+	private transient int bucketsWidth;
+	private transient int bucketsHeight;
 
 	public PositionableList() {
-		data = new LinkedList<>();
 	}
 
 	public void insert(T object) {
-		data.add(object);
+		Entry<T> entry = new Entry<>(object, nextSequenceNumber++);
+
+		entry.previous = last;
+		if (last == null) {
+			first = entry;
+		} else {
+			last.next = entry;
+		}
+		last = entry;
+		size++;
+
+		if (buckets != null) {
+			addToBucket(entry, object.getPos());
+		}
 	}
 
 	public T removeObjectAt(ShortPoint2D position) {
-		Iterator<T> iterator = data.iterator();
-		while (iterator.hasNext()) {
-			T curr = iterator.next();
-			if (curr.getPos().equals(position)) {
-				iterator.remove();
-				return curr;
-			}
+		Entry<T> entry = getEntryAt(position);
+		if (entry != null) {
+			removeEntry(entry);
+			return entry.object;
 		}
 		return null;
 	}
@@ -63,12 +102,8 @@ public class PositionableList<T extends ILocatable> implements Serializable {
 	 * @return Returns the found object at the given position or null if no object has been found.
 	 */
 	public T getObjectAt(ShortPoint2D position) {
-		for (T curr : data) {
-			if (curr.getPos().equals(position)) {
-				return curr;
-			}
-		}
-		return null;
+		Entry<T> entry = getEntryAt(position);
+		return entry != null ? entry.object : null;
 	}
 
 	/**
@@ -79,71 +114,537 @@ public class PositionableList<T extends ILocatable> implements Serializable {
 	 * @return accepted object that's nearest to position
 	 */
 	public T removeObjectNextTo(ShortPoint2D position) {
-		T currBest = getObjectCloseTo(position);
+		return removeObjectNextTo(position, null);
+	}
+
+	protected T removeObjectNextTo(ShortPoint2D position, Predicate<T> acceptor) {
+		Entry<T> currBest = getEntryCloseTo(position, acceptor);
 
 		if (currBest != null) {
-			data.remove(currBest);
+			removeEntry(currBest);
+			return currBest.object;
 		}
 
-		return currBest;
+		return null;
 	}
 
 	protected T getObjectCloseTo(ShortPoint2D position) {
-		int bestDistance = Integer.MAX_VALUE;
-		T currBest = null;
+		return getObjectCloseTo(position, null);
+	}
+
+	/**
+	 * Finds the object that's closest to the given position and accepted by the given predicate.
+	 *
+	 * @param position
+	 * 		position to be used to find the nearest accepted neighbor around it.
+	 * @param acceptor
+	 * 		if acceptor != null => the result is accepted by the predicate. <br>
+	 * 		if acceptor == null every entry is accepted.
+	 * @return accepted object that's nearest to position or null if there is none.
+	 */
+	protected T getObjectCloseTo(ShortPoint2D position, Predicate<T> acceptor) {
+		Entry<T> entry = getEntryCloseTo(position, acceptor);
+		return entry != null ? entry.object : null;
+	}
+
+	/**
+	 * Objects for which this method returns true are removed when a search for the nearest object comes across them. They are never returned
+	 * by such a search.
+	 *
+	 * @param object
+	 * 		The object to be checked.
+	 * @return true if the object is no longer needed.
+	 */
+	protected boolean isObsolete(T object) {
+		return false;
+	}
+
+	/**
+	 * Updates the index for an object that has moved while it has been in this list. Nothing happens if the object is not in this list.
+	 *
+	 * @param object
+	 * 		The moved object.
+	 * @param oldPosition
+	 * 		The position of the object before it moved.
+	 */
+	public void positionChanged(T object, ShortPoint2D oldPosition) {
+		if (buckets == null) {
+			return;
+		}
 
-		for (T currEntry : data) {
-			int currDist = MathUtils.squareHypot(position, currEntry.getPos());
+		ShortPoint2D newPosition = object.getPos();
+		if (getBucketIndex(oldPosition) == getBucketIndex(newPosition)) {
+			return;
+		}
 
-			if (bestDistance > currDist) {
-				bestDistance = currDist;
-				currBest = currEntry;
+		int oldBucketIndex = getBucketIndex(oldPosition);
+		if (oldBucketIndex < 0) {
+			return;
+		}
+		for (Entry<T> entry = buckets[oldBucketIndex]; entry != null; entry = entry.nextInBucket) {
+			if (entry.object == object) {
+				removeFromBucket(entry);
+				addToBucket(entry, newPosition);
+				return;
 			}
 		}
-		return currBest;
 	}
 
 	@Override
 	public String toString() {
-		return data.toString();
+		StringBuilder builder = new StringBuilder("[");
+		for (Entry<T> entry = first; entry != null; entry = entry.next) {
+			builder.append(entry.object);
+			if (entry.next != null) {
+				builder.append(", ");
+			}
+		}
+		return builder.append(']').toString();
 	}
 
 	public void moveAll(PositionableList<T> otherList) {
-		LinkedList<T> othersData = otherList.data;
-		data.addAll(othersData);
-		othersData.clear();
+		moveAll(otherList, null);
 	}
 
 	public void moveAll(PositionableList<T> otherList, Consumer<T> movedVisitor) {
-		LinkedList<T> othersData = otherList.data;
-		for (T othersDatum : othersData) {
-			movedVisitor.accept(othersDatum);
-			data.add(othersDatum);
+		for (Entry<T> entry = otherList.first; entry != null; entry = entry.next) {
+			if (movedVisitor != null) {
+				movedVisitor.accept(entry.object);
+			}
+			insert(entry.object);
 		}
-		othersData.clear();
+		otherList.clear();
 	}
 
 	public void remove(T object) {
-		this.data.remove(object);
+		Entry<T> entry = null;
+
+		if (buckets != null) {
+			int bucketIndex = getBucketIndex(object.getPos());
+			if (bucketIndex >= 0) {
+				entry = findFirst(buckets[bucketIndex], object);
+			}
+		}
+		if (entry == null) {
+			for (Entry<T> curr = first; curr != null; curr = curr.next) {
+				if (curr.object.equals(object)) {
+					entry = curr;
+					break;
+				}
+			}
+		}
+
+		if (entry != null) {
+			removeEntry(entry);
+		}
 	}
 
 	public boolean isEmpty() {
-		return data.isEmpty();
+		return size == 0;
 	}
 
 	public void moveObjectsAtPositionTo(ShortPoint2D position, PositionableList<T> newList, Consumer<T> movedVisitor) {
-		Iterator<T> iterator = data.iterator();
-		while (iterator.hasNext()) {
-			T curr = iterator.next();
-			if (curr.getPos().equals(position)) {
-				iterator.remove();
-				movedVisitor.accept(curr);
-				newList.data.add(curr);
+		if (size <= LINEAR_SEARCH_LIMIT && buckets == null) {
+			for (Entry<T> entry = first; entry != null; entry = entry.next) {
+				if (entry.object.getPos().equals(position)) {
+					removeEntry(entry);
+					movedVisitor.accept(entry.object);
+					newList.insert(entry.object);
+				}
+			}
+			return;
+		}
+
+		ensureIndex();
+		int bucketIndex = getBucketIndex(position);
+		if (bucketIndex < 0) {
+			return;
+		}
+
+		ArrayList<Entry<T>> entriesAtPosition = new ArrayList<>();
+		for (Entry<T> entry = buckets[bucketIndex]; entry != null; entry = entry.nextInBucket) {
+			if (entry.object.getPos().equals(position)) {
+				entriesAtPosition.add(entry);
+			}
+		}
+		Collections.sort(entriesAtPosition, (entry1, entry2) -> Long.compare(entry1.sequenceNumber, entry2.sequenceNumber));
+
+		for (Entry<T> entry : entriesAtPosition) {
+			removeEntry(entry);
+			movedVisitor.accept(entry.object);
+			newList.insert(entry.object);
+		}
+	}
+
+	public void moveObjectsInAreaTo(IContainingProvider area, PositionableList<T> newList) {
+		moveObjectsInAreaTo(area, newList, null);
+	}
+
+	/**
+	 * Moves all objects positioned in the given area to the new list. The list is only traversed once and the moved objects keep their order.
+	 *
+	 * @param area
+	 *            The area defining which objects are moved.
+	 * @param newList
+	 *            The list the objects are inserted into.
+	 * @param movedVisitor
+	 *            Called for every moved object. May be null.
+	 */
+	public void moveObjectsInAreaTo(IContainingProvider area, PositionableList<T> newList, Consumer<T> movedVisitor) {
+		for (Entry<T> entry = first; entry != null; entry = entry.next) {
+			ShortPoint2D position = entry.object.getPos();
+			if (area.contains(position.x, position.y)) {
+				removeEntry(entry);
+				if (movedVisitor != null) {
+					movedVisitor.accept(entry.object);
+				}
+				newList.insert(entry.object);
 			}
 		}
 	}
 
 	public int size() {
-		return data.size();
+		return size;
+	}
+
+	/**
+	 * Iterates the objects in the order they have been inserted. Objects can be removed with {@link Iterator#remove()}.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			private Entry<T> next = first;
+			private Entry<T> current;
+
+			@Override
+			public boolean hasNext() {
+				return next != null;
+			}
+
+			@Override
+			public T next() {
+				if (next == null) {
+					throw new NoSuchElementException();
+				}
+				current = next;
+				next = next.next;
+				return current.object;
+			}
+
+			@Override
+			public void remove() {
+				if (current == null) {
+					throw new IllegalStateException();
+				}
+				removeEntry(current);
+				current = null;
+			}
+		};
+	}
+
+	private void clear() {
+		first = null;
+		last = null;
+		size = 0;
+		buckets = null;
+		bucketsOriginX = 0;
+		bucketsOriginY = 0;
+		bucketsWidth = 0;
+		bucketsHeight = 0;
+	}
+
+	private Entry<T> getEntryAt(ShortPoint2D position) {
+		Entry<T> found = null;
+
+		if (size <= LINEAR_SEARCH_LIMIT && buckets == null) {
+			for (Entry<T> entry = first; entry != null; entry = entry.next) {
+				if (entry.object.getPos().equals(position)) {
+					return entry;
+				}
+			}
+			return null;
+		}
+
+		ensureIndex();
+		int bucketIndex = getBucketIndex(position);
+		if (bucketIndex < 0) {
+			return null;
+		}
+		for (Entry<T> entry = buckets[bucketIndex]; entry != null; entry = entry.nextInBucket) {
+			if ((found == null || entry.sequenceNumber < found.sequenceNumber) && entry.object.getPos().equals(position)) {
+				found = entry;
+			}
+		}
+		return found;
+	}
+
+	private Entry<T> getEntryCloseTo(ShortPoint2D position, Predicate<T> acceptor) {
+		if (size <= LINEAR_SEARCH_LIMIT && buckets == null) {
+			return getEntryCloseToLinear(position, acceptor);
+		}
+		ensureIndex();
+		if (bucketsWidth * bucketsHeight > size * MAX_BUCKETS_PER_OBJECT) { // the objects are spread too widely for the buckets to pay off
+			return getEntryCloseToLinear(position, acceptor);
+		}
+
+		int centerBucketX = (position.x >> BUCKET_SIZE_SHIFT) - bucketsOriginX;
+		int centerBucketY = (position.y >> BUCKET_SIZE_SHIFT) - bucketsOriginY;
+		int maxRadius = Math.max(Math.max(centerBucketX, bucketsWidth - 1 - centerBucketX), Math.max(centerBucketY, bucketsHeight - 1 - centerBucketY));
+
+		NearestSearch<T> search = new NearestSearch<>(position, acceptor);
+		int visitedBuckets = 0;
+
+		int firstRadius = Math.max(Math.max(-centerBucketX, centerBucketX - bucketsWidth + 1), Math.max(-centerBucketY, centerBucketY - bucketsHeight + 1));
+
+		for (int radius = Math.max(0, firstRadius); radius <= maxRadius; radius++) {
+			int minX = Math.max(0, centerBucketX - radius);
+			int maxX = Math.min(bucketsWidth - 1, centerBucketX + radius);
+			int minY = Math.max(0, centerBucketY - radius);
+			int maxY = Math.min(bucketsHeight - 1, centerBucketY + radius);
+
+			for (int bucketY = minY; bucketY <= maxY; bucketY++) {
+				if (bucketY == centerBucketY - radius || bucketY == centerBucketY + radius) { // top or bottom row of the ring
+					for (int bucketX = minX; bucketX <= maxX; bucketX++) {
+						visitBucket(bucketY * bucketsWidth + bucketX, search);
+					}
+					visitedBuckets += maxX - minX + 1;
+				} else { // only the left and right end of the row belong to the ring
+					if (centerBucketX - radius >= 0) {
+						visitBucket(bucketY * bucketsWidth + centerBucketX - radius, search);
+						visitedBuckets++;
+					}
+					if (centerBucketX + radius < bucketsWidth) {
+						visitBucket(bucketY * bucketsWidth + centerBucketX + radius, search);
+						visitedBuckets++;
+					}
+				}
+			}
+
+			if (search.best != null) {
+				int minDistanceOfNextRing = radius * BUCKET_SIZE + 1;
+				if (search.bestDistance < minDistanceOfNextRing * minDistanceOfNextRing) {
+					break;
+				}
+			}
+
+			if (visitedBuckets > size) { // the accepted objects are too far away for the buckets to pay off
+				return getEntryCloseToLinear(position, acceptor);
+			}
+		}
+
+		return search.best;
+	}
+
+	private void visitBucket(int bucketIndex, NearestSearch<T> search) {
+		Entry<T> entry = buckets[bucketIndex];
+		while (entry != null) {
+			Entry<T> next = entry.nextInBucket;
+
+			if (isObsolete(entry.object)) {
+				removeEntry(entry);
+			} else {
+				search.offer(entry);
+			}
+
+			entry = next;
+		}
+	}
+
+	private Entry<T> getEntryCloseToLinear(ShortPoint2D position, Predicate<T> acceptor) {
+		int bestDistance = Integer.MAX_VALUE;
+		Entry<T> currBest = null;
+
+		Entry<T> entry = first;
+		while (entry != null) {
+			Entry<T> next = entry.next;
+			T object = entry.object;
+
+			if (isObsolete(object)) {
+				removeEntry(entry);
+			} else if (acceptor == null || acceptor.test(object)) {
+				int currDist = MathUtils.squareHypot(position, object.getPos());
+
+				if (bestDistance > currDist) { // the entries are in insertion order, so the first one wins on equal distances
+					bestDistance = currDist;
+					currBest = entry;
+				}
+			}
+
+			entry = next;
+		}
+		return currBest;
+	}
+
+	private void removeEntry(Entry<T> entry) {
+		if (entry.previous == null) {
+			first = entry.next;
+		} else {
+			entry.previous.next = entry.next;
+		}
+		if (entry.next == null) {
+			last = entry.previous;
+		} else {
+			entry.next.previous = entry.previous;
+		}
+		size--;
+
+		if (buckets != null) {
+			removeFromBucket(entry);
+		}
+	}
+
+	private void ensureIndex() {
+		if (buckets == null) {
+			createBuckets();
+		}
+	}
+
+	/**
+	 * (Re)creates the buckets so that they cover the current positions of all objects with some margin and adds all objects to them.
+	 */
+	@SuppressWarnings("unchecked")
+	private void createBuckets() {
+		int minX = Integer.MAX_VALUE;
+		int minY = Integer.MAX_VALUE;
+		int maxX = 0;
+		int maxY = 0;
+		for (Entry<T> entry = first; entry != null; entry = entry.next) {
+			ShortPoint2D position = entry.object.getPos();
+			minX = Math.min(minX, position.x >> BUCKET_SIZE_SHIFT);
+			minY = Math.min(minY, position.y >> BUCKET_SIZE_SHIFT);
+			maxX = Math.max(maxX, position.x >> BUCKET_SIZE_SHIFT);
+			maxY = Math.max(maxY, position.y >> BUCKET_SIZE_SHIFT);
+		}
+		if (first == null) {
+			minX = minY = 0;
+		} else if (buckets != null) { // the index is growing, leave some space for further growth
+			minX = Math.max(0, minX - GROWTH_MARGIN);
+			minY = Math.max(0, minY - GROWTH_MARGIN);
+			maxX += GROWTH_MARGIN;
+			maxY += GROWTH_MARGIN;
+		}
+
+		bucketsOriginX = minX;
+		bucketsOriginY = minY;
+		bucketsWidth = maxX - minX + 1;
+		bucketsHeight = maxY - minY + 1;
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		Entry<T>[] newBuckets = new Entry[bucketsWidth * bucketsHeight];
+		buckets = newBuckets;
+
+		for (Entry<T> entry = first; entry != null; entry = entry.next) {
+			putIntoBucket(entry, getBucketIndex(entry.object.getPos()));
+		}
+	}
+
+	private void addToBucket(Entry<T> entry, ShortPoint2D position) {
+		int bucketIndex = getBucketIndex(position);
+		if (bucketIndex < 0) { // grow the index, this also adds the entry
+			createBuckets();
+		} else {
+			putIntoBucket(entry, bucketIndex);
+		}
+	}
+
+	private void putIntoBucket(Entry<T> entry, int bucketIndex) {
+		Entry<T> head = buckets[bucketIndex];
+		entry.bucketIndex = bucketIndex;
+		entry.previousInBucket = null;
+		entry.nextInBucket = head;
+		if (head != null) {
+			head.previousInBucket = entry;
+		}
+		buckets[bucketIndex] = entry;
+	}
+
+	private void removeFromBucket(Entry<T> entry) {
+		if (entry.previousInBucket == null) {
+			buckets[entry.bucketIndex] = entry.nextInBucket;
+		} else {
+			entry.previousInBucket.nextInBucket = entry.nextInBucket;
+		}
+		if (entry.nextInBucket != null) {
+			entry.nextInBucket.previousInBucket = entry.previousInBucket;
+		}
+		entry.previousInBucket = null;
+		entry.nextInBucket = null;
+	}
+
+	private int getBucketIndex(ShortPoint2D position) {
+		int bucketX = (position.x >> BUCKET_SIZE_SHIFT) - bucketsOriginX;
+		int bucketY = (position.y >> BUCKET_SIZE_SHIFT) - bucketsOriginY;
+		if (bucketX < 0 || bucketY < 0 || bucketX >= bucketsWidth || bucketY >= bucketsHeight) {
+			return -1;
+		}
+		return bucketY * bucketsWidth + bucketX;
+	}
+
+	private static <T extends ILocatable> Entry<T> findFirst(Entry<T> bucketHead, T object) {
+		Entry<T> found = null;
+		for (Entry<T> entry = bucketHead; entry != null; entry = entry.nextInBucket) {
+			if ((found == null || entry.sequenceNumber < found.sequenceNumber) && entry.object.equals(object)) {
+				found = entry;
+			}
+		}
+		return found;
+	}
+
+	private void writeObject(ObjectOutputStream oos) throws IOException {
+		oos.defaultWriteObject();
+		oos.writeInt(size);
+		for (Entry<T> entry = first; entry != null; entry = entry.next) {
+			oos.writeObject(entry.object);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+		ois.defaultReadObject();
+		int size = ois.readInt();
+		for (int i = 0; i < size; i++) {
+			insert((T) ois.readObject()); // the index is built on first use, because the positions may not be readable yet
+		}
+	}
+
+	private static final class Entry<T> {
+		final T object;
+		final long sequenceNumber;
+
+		Entry<T> previous;
+		Entry<T> next;
+
+		int bucketIndex;
+		Entry<T> previousInBucket;
+		Entry<T> nextInBucket;
+
+		Entry(T object, long sequenceNumber) {
+			this.object = object;
+			this.sequenceNumber = sequenceNumber;
+		}
+	}
+
+	private static final class NearestSearch<T extends ILocatable> {
+		private final ShortPoint2D position;
+		private final Predicate<T> acceptor;
+
+		Entry<T> best;
+		int bestDistance = Integer.MAX_VALUE;
+
+		NearestSearch(ShortPoint2D position, Predicate<T> acceptor) {
+			this.position = position;
+			this.acceptor = acceptor;
+		}
+
+		void offer(Entry<T> entry) {
+			if (acceptor != null && !acceptor.test(entry.object)) {
+				return;
+			}
+
+			int distance = MathUtils.squareHypot(position, entry.object.getPos());
+			if (distance < bestDistance || (distance == bestDistance && entry.sequenceNumber < best.sequenceNumber)) {
+				bestDistance = distance;
+				best = entry;
+			}
+		}
 	}
 }
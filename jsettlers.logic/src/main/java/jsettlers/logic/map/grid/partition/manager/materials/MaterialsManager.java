@@ -15,10 +15,15 @@
 package jsettlers.logic.map.grid.partition.manager.materials;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 
+import jsettlers.algorithms.interfaces.IContainingProvider;
+import jsettlers.algorithms.matching.MinimumCostAssignment;
 import jsettlers.common.map.partition.IPartitionSettings;
 import jsettlers.common.material.EMaterialType;
 import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.constants.Constants;
+import jsettlers.logic.constants.ExtendedRandom;
 import jsettlers.logic.map.grid.partition.manager.materials.interfaces.IJoblessSupplier;
 import jsettlers.logic.map.grid.partition.manager.materials.interfaces.IManagerBearer;
 import jsettlers.logic.map.grid.partition.manager.materials.offers.EOfferPriority;
@@ -82,40 +87,108 @@ public final class MaterialsManager implements Serializable {
 		requestQueues[material.ordinal].insertRequest(requestObject);
 	}
 
-	public void distributeJobs() {
+	public void distributeJobs(ExtendedRandom random) {
+		if (Constants.USE_BATCHED_MATERIAL_DISTRIBUTION) {
+			distributeJobsBatched(random);
+			return;
+		}
+
 		for (int i = 0; i < EMaterialType.NUMBER_OF_DROPPABLE_MATERIALS && !joblessSupplier.isEmpty(); i++) {
 			if (joblessSupplier.isEmpty()) // no jobless? just return
 				break;
 
-			distributeJobForMaterial(settings.getMaterialTypeForPriority(i));
+			distributeJobForMaterial(settings.getMaterialTypeForPriority(i), random);
 		}
 	}
 
-	private void distributeJobForMaterial(EMaterialType materialType) {
-		if (offersList.isEmpty(materialType, EOfferPriority.LOWEST)) {
+	private void distributeJobForMaterial(EMaterialType materialType, ExtendedRandom random) {
+		TransportJob job = findJobForMaterial(materialType, random);
+		if (job == null) {
 			return;
 		}
 
+		IManagerBearer jobless = joblessSupplier.removeJoblessCloseTo(job.offer.getPos());
+
+		assert jobless != null : "The jobless can't be null here!";
+
+		jobless.deliver(materialType, job.offer, job.request);
+	}
+
+	private TransportJob findJobForMaterial(EMaterialType materialType, ExtendedRandom random) {
+		if (offersList.isEmpty(materialType, EOfferPriority.LOWEST)) {
+			return null;
+		}
+
 		AbstractMaterialRequestPriorityQueue requestQueue = requestQueues[materialType.ordinal];
-		MaterialRequestObject request = requestQueue.getHighestRequest();
+		MaterialRequestObject request = requestQueue.getHighestRequest(random);
 
 		if (request == null) // no request => return
-			return;
+			return null;
 
 		EOfferPriority minimumIncludedOfferPriority = request.getMinimumAcceptedOfferPriority();
 		if (offersList.isEmpty(materialType, minimumIncludedOfferPriority)) {
-			return; // no offers => return
+			return null; // no offers => return
 		}
 
 		MaterialOffer offer = offersList.getOfferCloseTo(materialType, minimumIncludedOfferPriority, request.getPos());
 
 		assert offer != null : "The offer can't be null here!";
 
-		IManagerBearer jobless = joblessSupplier.removeJoblessCloseTo(offer.getPos());
+		return new TransportJob(materialType, offer, request);
+	}
 
-		assert jobless != null : "The jobless can't be null here!";
+	/**
+	 * Hands out up to {@link Constants#BATCHED_DISTRIBUTION_MAX_JOBS} jobs at once. The jobs are collected by going through the material types in
+	 * the order of their priorities again and again, so that materials with higher priorities still get their jobs first. Every job is reserved at
+	 * its offer and request until all jobs are collected, so that the next one is searched with the remaining offers and requests.
+	 * <p />
+	 * Then the closest jobless of every offer is taken like in the normal distribution. Instead of giving each of them the job they were taken for,
+	 * the jobs are assigned to these bearers so that the sum of their ways to the offers is minimal. This avoids bearers crossing each other on
+	 * the way to the offers.
+	 */
+	private void distributeJobsBatched(ExtendedRandom random) {
+		int maxJobs = Math.min(joblessSupplier.size(), Constants.BATCHED_DISTRIBUTION_MAX_JOBS);
+		ArrayList<TransportJob> jobs = new ArrayList<>(maxJobs);
+
+		boolean foundJob = true;
+		while (foundJob && jobs.size() < maxJobs) {
+			foundJob = false;
+			for (int i = 0; i < EMaterialType.NUMBER_OF_DROPPABLE_MATERIALS && jobs.size() < maxJobs; i++) {
+				TransportJob job = findJobForMaterial(settings.getMaterialTypeForPriority(i), random);
+				if (job != null) {
+					job.offer.distributionAccepted();
+					job.request.deliveryAccepted();
+					jobs.add(job);
+					foundJob = true;
+				}
+			}
+		}
+
+		int numberOfJobs = jobs.size();
+		if (numberOfJobs == 0) {
+			return;
+		}
+
+		IManagerBearer[] bearers = new IManagerBearer[numberOfJobs];
+		for (int i = 0; i < numberOfJobs; i++) {
+			bearers[i] = joblessSupplier.removeJoblessCloseTo(jobs.get(i).offer.getPos());
+			assert bearers[i] != null : "The jobless can't be null here!";
+		}
+
+		int[][] costs = new int[numberOfJobs][numberOfJobs];
+		for (int bearer = 0; bearer < numberOfJobs; bearer++) {
+			for (int job = 0; job < numberOfJobs; job++) {
+				costs[bearer][job] = bearers[bearer].getPos().getOnGridDistTo(jobs.get(job).offer.getPos());
+			}
+		}
+		int[] jobOfBearer = MinimumCostAssignment.assign(costs);
 
-		jobless.deliver(materialType, offer, request);
+		for (int bearer = 0; bearer < numberOfJobs; bearer++) {
+			TransportJob job = jobs.get(jobOfBearer[bearer]);
+			job.offer.distributionAborted(); // the bearer accepts them again
+			job.request.deliveryAborted();
+			bearers[bearer].deliver(job.materialType, job.offer, job.request);
+		}
 	}
 
 	public void movePositionTo(ShortPoint2D position, MaterialsManager newManager) {
@@ -124,9 +197,27 @@ public final class MaterialsManager implements Serializable {
 		}
 	}
 
+	public void moveAreaTo(IContainingProvider area, MaterialsManager newManager) {
+		for (int i = 0; i < EMaterialType.NUMBER_OF_MATERIALS; i++) {
+			requestQueues[i].moveObjectsOfAreaTo(area, newManager.requestQueues[i]);
+		}
+	}
+
 	public void mergeInto(MaterialsManager newManager) {
 		for (int i = 0; i < EMaterialType.NUMBER_OF_MATERIALS; i++) {
 			requestQueues[i].mergeInto(newManager.requestQueues[i]);
 		}
 	}
+
+	private static final class TransportJob {
+		final EMaterialType         materialType;
+		final MaterialOffer         offer;
+		final MaterialRequestObject request;
+
+		TransportJob(EMaterialType materialType, MaterialOffer offer, MaterialRequestObject request) {
+			this.materialType = materialType;
+			this.offer = offer;
+			this.request = request;
+		}
+	}
 }
@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.map.grid.partition.manager.materials;
+
+/**
+ * Counts the material deliveries of the bearers of a match and the steps they walked for them. The counters are only used to compare the job
+ * distribution modes of the {@link MaterialsManager}; they are not saved with the game.
+ *
+ * @author agent
+ */
+public final class TransportStatistics {
+	private int  deliveries;
+	private long walkedSteps;
+
+	public void deliveryFulfilled() {
+		deliveries++;
+	}
+
+	public void stepWalked() {
+		walkedSteps++;
+	}
+
+	/**
+	 * @return The number of materials that have been delivered to their requests.
+	 */
+	public int getDeliveries() {
+		return deliveries;
+	}
+
+	/**
+	 * @return The number of steps the bearers walked to offers and from there to requests.
+	 */
+	public long getWalkedSteps() {
+		return walkedSteps;
+	}
+}
@@ -35,6 +35,11 @@ public interface IJoblessSupplier extends Serializable {
 	 */
 	boolean isEmpty();
 
+	/**
+	 * @return Returns the number of jobless in this {@link IJoblessSupplier}.
+	 */
+	int size();
+
 	/**
 	 * This method returns the jobless closest to the given position.
 	 * 
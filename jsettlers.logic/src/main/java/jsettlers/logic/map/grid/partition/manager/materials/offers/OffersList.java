@@ -14,6 +14,7 @@
  *******************************************************************************/
 package jsettlers.logic.map.grid.partition.manager.materials.offers;
 
+import jsettlers.algorithms.interfaces.IContainingProvider;
 import jsettlers.common.material.EMaterialType;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.logic.map.grid.partition.data.MaterialCounts;
@@ -137,6 +138,12 @@ public final class OffersList implements Serializable {
 		}
 	}
 
+	public void moveOffersInAreaTo(IContainingProvider area, final OffersList otherList) {
+		for (int materialTypeIndex = 0; materialTypeIndex < EMaterialType.NUMBER_OF_MATERIALS; materialTypeIndex++) {
+			offersLists[materialTypeIndex].moveObjectsInAreaTo(area, otherList.offersLists[materialTypeIndex], movedOffer -> movedOffer.changeOffersCountListener(otherList.materialCounts));
+		}
+	}
+
 	public void moveAll(OffersList otherList) {
 		for (int materialTypeIndex = 0; materialTypeIndex < EMaterialType.NUMBER_OF_MATERIALS; materialTypeIndex++) {
 			offersLists[materialTypeIndex].moveAll(otherList.offersLists[materialTypeIndex], movedOffer -> movedOffer.changeOffersCountListener(materialCounts));
@@ -16,7 +16,6 @@ package jsettlers.logic.map.grid.partition.manager.materials.offers.list;
 
 import jsettlers.common.position.ILocatable;
 import jsettlers.common.position.ShortPoint2D;
-import jsettlers.common.utils.MathUtils;
 import jsettlers.logic.map.grid.partition.manager.datastructures.PositionableList;
 
 import java.util.Iterator;
@@ -32,29 +31,16 @@ public class ManagingPositionableList<T extends ILocatable & IListManageable> ex
 
 	@Override
 	protected T getObjectCloseTo(ShortPoint2D position) {
-		int bestDistance = Integer.MAX_VALUE;
-		T currBest = null;
-
-		for (Iterator<T> iterator = data.iterator(); iterator.hasNext(); ) {
-			T currEntry = iterator.next();
-
-			if (currEntry.canBeRemoved()) { // remove old entries no longer needed
-				iterator.remove();
-
-			} else if (currEntry.isActive()) { // only use the active ones
-				int currDist = MathUtils.squareHypot(position, currEntry.getPos());
+		return getObjectCloseTo(position, IListManageable::isActive); // only use the active ones
+	}
 
-				if (bestDistance > currDist) {
-					bestDistance = currDist;
-					currBest = currEntry;
-				}
-			}
-		}
-		return currBest;
+	@Override
+	protected boolean isObsolete(T object) {
+		return object.canBeRemoved(); // remove old entries no longer needed
 	}
 
 	public boolean hasNoActive() {
-		for (Iterator<T> iterator = data.iterator(); iterator.hasNext(); ) {
+		for (Iterator<T> iterator = iterator(); iterator.hasNext(); ) {
 			T datum = iterator.next();
 
 			if (datum.canBeRemoved()) {
@@ -16,6 +16,7 @@ package jsettlers.logic.map.grid.partition.manager.materials.offers.list;
 
 import java.io.Serializable;
 
+import jsettlers.algorithms.interfaces.IContainingProvider;
 import jsettlers.common.position.ILocatable;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.common.utils.MathUtils;
@@ -26,6 +27,8 @@ import java8.util.function.Consumer;
  * Created by Andreas Eberle on 23.08.2016.
  */
 public class PrioritizedPositionableList<P extends Enum, T extends ILocatable & IPrioritizable<P> & IListManageable> implements Serializable {
+	private static final long serialVersionUID = 394190964384458836L;
+
 	private final ManagingPositionableList<T>[] lists;
 
 	@SuppressWarnings("unchecked")
@@ -69,6 +72,12 @@ public class PrioritizedPositionableList<P extends Enum, T extends ILocatable &
 		}
 	}
 
+	public void moveObjectsInAreaTo(IContainingProvider area, PrioritizedPositionableList<P, T> otherList, Consumer<T> movedVisitor) {
+		for (int i = lists.length - 1; i >= 0; i--) {
+			lists[i].moveObjectsInAreaTo(area, otherList.lists[i], movedVisitor);
+		}
+	}
+
 	public void moveAll(PrioritizedPositionableList<P, T> otherList, Consumer<T> movedVisitor) {
 		for (int i = lists.length - 1; i >= 0; i--) {
 			lists[i].moveAll(otherList.lists[i], movedVisitor);
@@ -16,10 +16,12 @@ package jsettlers.logic.map.grid.partition.manager.materials.requests;
 
 import java.io.Serializable;
 
+import jsettlers.algorithms.interfaces.IContainingProvider;
 import jsettlers.common.buildings.EBuildingType;
 import jsettlers.common.material.EPriority;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.common.utils.collections.list.DoubleLinkedList;
+import jsettlers.logic.constants.ExtendedRandom;
 
 /**
  * This class is an abstract priority queue for material requests. The possible priorities are specified in the {@link EPriority} enum.
@@ -58,13 +60,15 @@ public abstract class AbstractMaterialRequestPriorityQueue implements Serializab
 
 	/**
 	 * 
+	 * @param random
+	 *            Random number generator used to pick between equally prioritized requests.
 	 * @return Returns request with the highest priority<br>
 	 *         or null if none exists.
 	 */
-	public final MaterialRequestObject getHighestRequest() {
+	public final MaterialRequestObject getHighestRequest(ExtendedRandom random) {
 		// Start with highest priority to lower ones. Skip the EPriority.STOPPED queue (index 0)
 		for (int priority = EPriority.NUMBER_OF_PRIORITIES - 1; priority >= 1; priority--) {
-			MaterialRequestObject request = getRequestForPriority(priority);
+			MaterialRequestObject request = getRequestForPriority(priority, random);
 			if (request != null) {
 				return request;
 			}
@@ -119,9 +123,11 @@ public abstract class AbstractMaterialRequestPriorityQueue implements Serializab
 	 * 
 	 * @param priority
 	 *            Ordinal value of the priority.
+	 * @param random
+	 *            Random number generator used to pick between equally prioritized requests.
 	 * @return
 	 */
-	protected abstract MaterialRequestObject getRequestForPriority(int priority);
+	protected abstract MaterialRequestObject getRequestForPriority(int priority, ExtendedRandom random);
 
 	@Override
 	public abstract boolean equals(Object obj);
@@ -134,7 +140,20 @@ public abstract class AbstractMaterialRequestPriorityQueue implements Serializab
 	 * @param newQueue
 	 *            The queue that receives the objects removed from this queue.
 	 */
-	public abstract void moveObjectsOfPositionTo(ShortPoint2D position, AbstractMaterialRequestPriorityQueue newQueue);
+	public void moveObjectsOfPositionTo(ShortPoint2D position, AbstractMaterialRequestPriorityQueue newQueue) {
+		moveObjectsOfAreaTo((x, y) -> x == position.x && y == position.y, newQueue);
+	}
+
+	/**
+	 * Removes any requests that are positioned in the given area from this queue and adds them to the given queue. Every request is only checked
+	 * once.
+	 * 
+	 * @param area
+	 *            The area to be checked. Any request in this area will be moved to the given queue.
+	 * @param newQueue
+	 *            The queue that receives the objects removed from this queue.
+	 */
+	public abstract void moveObjectsOfAreaTo(IContainingProvider area, AbstractMaterialRequestPriorityQueue newQueue);
 
 	/**
 	 * Merges this queue into the given {@link AbstractMaterialRequestPriorityQueue}.
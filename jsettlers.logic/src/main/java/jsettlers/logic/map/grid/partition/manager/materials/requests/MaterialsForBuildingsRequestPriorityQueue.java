@@ -19,10 +19,12 @@ import java.io.ObjectInputStream;
 import java.util.Arrays;
 import java.util.Iterator;
 
+import jsettlers.algorithms.interfaces.IContainingProvider;
 import jsettlers.common.buildings.EBuildingType;
 import jsettlers.common.material.EPriority;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.common.utils.collections.list.DoubleLinkedList;
+import jsettlers.logic.constants.ExtendedRandom;
 import jsettlers.logic.map.grid.partition.manager.settings.MaterialDistributionSettings;
 
 /**
@@ -91,10 +93,10 @@ public final class MaterialsForBuildingsRequestPriorityQueue extends AbstractMat
 	}
 
 	@Override
-	protected MaterialRequestObject getRequestForPriority(int priority) {
+	protected MaterialRequestObject getRequestForPriority(int priority, ExtendedRandom random) {
 		DoubleLinkedList<MaterialRequestObject>[] queues = this.queues[priority];
 
-		EBuildingType randomStartBuilding = settings.drawRandomBuilding();
+		EBuildingType randomStartBuilding = settings.drawRandomBuilding(random);
 		if (randomStartBuilding == null) {
 			return null;
 		}
@@ -118,7 +120,7 @@ public final class MaterialsForBuildingsRequestPriorityQueue extends AbstractMat
 	}
 
 	@Override
-	public void moveObjectsOfPositionTo(ShortPoint2D position, AbstractMaterialRequestPriorityQueue newAbstractQueue) {
+	public void moveObjectsOfAreaTo(IContainingProvider area, AbstractMaterialRequestPriorityQueue newAbstractQueue) {
 		assert newAbstractQueue instanceof MaterialsForBuildingsRequestPriorityQueue : "can't move positions between different types of queues.";
 
 		MaterialsForBuildingsRequestPriorityQueue newQueue = (MaterialsForBuildingsRequestPriorityQueue) newAbstractQueue;
@@ -129,7 +131,8 @@ public final class MaterialsForBuildingsRequestPriorityQueue extends AbstractMat
 				Iterator<MaterialRequestObject> iterator = priorityQueue[queueIdx].iterator();
 				while (iterator.hasNext()) {
 					MaterialRequestObject curr = iterator.next();
-					if (curr.getPos().equals(position)) {
+					ShortPoint2D position = curr.getPos();
+					if (area.contains(position.x, position.y)) {
 						iterator.remove();
 						newQueue.queues[priorityIndex][queueIdx].pushEnd(curr);
 						curr.requestQueue = newQueue;
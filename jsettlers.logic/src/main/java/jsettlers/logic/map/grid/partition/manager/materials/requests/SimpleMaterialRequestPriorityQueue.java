@@ -17,10 +17,12 @@ package jsettlers.logic.map.grid.partition.manager.materials.requests;
 import java.util.Arrays;
 import java.util.Iterator;
 
+import jsettlers.algorithms.interfaces.IContainingProvider;
 import jsettlers.common.buildings.EBuildingType;
 import jsettlers.common.material.EPriority;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.common.utils.collections.list.DoubleLinkedList;
+import jsettlers.logic.constants.ExtendedRandom;
 
 /**
  * This class is a simple priority queue for material requests. The possible priorities are specified in the {@link EPriority} enum.
@@ -39,12 +41,12 @@ public final class SimpleMaterialRequestPriorityQueue extends AbstractMaterialRe
 	}
 
 	@Override
-	protected MaterialRequestObject getRequestForPriority(int priority) {
+	protected MaterialRequestObject getRequestForPriority(int priority, ExtendedRandom random) {
 		return super.findRequestInQueue(queues[priority]);
 	}
 
 	@Override
-	public void moveObjectsOfPositionTo(ShortPoint2D position, AbstractMaterialRequestPriorityQueue newAbstractQueue) {
+	public void moveObjectsOfAreaTo(IContainingProvider area, AbstractMaterialRequestPriorityQueue newAbstractQueue) {
 		assert newAbstractQueue instanceof SimpleMaterialRequestPriorityQueue : "can't move positions between diffrent types of queues.";
 
 		SimpleMaterialRequestPriorityQueue newQueue = (SimpleMaterialRequestPriorityQueue) newAbstractQueue;
@@ -53,7 +55,8 @@ public final class SimpleMaterialRequestPriorityQueue extends AbstractMaterialRe
 			Iterator<MaterialRequestObject> iter = queues[queueIdx].iterator();
 			while (iter.hasNext()) {
 				MaterialRequestObject curr = iter.next();
-				if (curr.getPos().equals(position)) {
+				ShortPoint2D position = curr.getPos();
+				if (area.contains(position.x, position.y)) {
 					iter.remove();
 					newQueue.queues[queueIdx].pushEnd(curr);
 					curr.requestQueue = newQueue;
@@ -20,6 +20,7 @@ import jsettlers.common.buildings.EBuildingType;
 import jsettlers.common.buildings.MaterialsOfBuildings;
 import jsettlers.common.map.partition.IMaterialDistributionSettings;
 import jsettlers.common.material.EMaterialType;
+import jsettlers.logic.constants.ExtendedRandom;
 
 import java8.util.J8Arrays;
 
@@ -75,7 +76,7 @@ public final class MaterialDistributionSettings implements IMaterialDistribution
 		return materialType;
 	}
 
-	public EBuildingType drawRandomBuilding() {
-		return distributionSettings.drawRandom();
+	public EBuildingType drawRandomBuilding(ExtendedRandom random) {
+		return distributionSettings.drawRandom(random);
 	}
 }
\ No newline at end of file
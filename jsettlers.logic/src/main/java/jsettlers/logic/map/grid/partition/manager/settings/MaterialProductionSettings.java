@@ -18,9 +18,12 @@ import java.io.Serializable;
 
 import jsettlers.common.buildings.IMaterialProductionSettings;
 import jsettlers.common.material.EMaterialType;
+import jsettlers.logic.constants.ExtendedRandom;
 import jsettlers.logic.map.grid.partition.manager.settings.RelativeSettings.OrdinalToTypeMapper;
 
 public class MaterialProductionSettings implements IMaterialProductionSettings, Serializable {
+	private static final long serialVersionUID = -7092550888968763911L;
+
 	private static final int MAXIMUM_ABSOLUTE_REQUEST_VALUE = 99;
 	private static final OrdinalToTypeMapper<EMaterialType> ordinalToTypeMapper = ordinal -> EMaterialType.VALUES[ordinal];
 
@@ -75,20 +78,20 @@ public class MaterialProductionSettings implements IMaterialProductionSettings,
 		return (int) getAbsoluteSettingsForType(type).getUserValue(type);
 	}
 
-	public EMaterialType getWeaponToProduce() {
-		EMaterialType weapon = absoluteWeaponRequests.drawRandom();
+	public EMaterialType getWeaponToProduce(ExtendedRandom random) {
+		EMaterialType weapon = absoluteWeaponRequests.drawRandom(random);
 		if (weapon != null) {
 			return weapon;
 		} else {
-			return relativeWeaponRequests.drawRandom();
+			return relativeWeaponRequests.drawRandom(random);
 		}
 	}
 
-	public EMaterialType drawRandomAbsolutelyRequestedTool() {
-		return absoluteToolRequests.drawRandom();
+	public EMaterialType drawRandomAbsolutelyRequestedTool(ExtendedRandom random) {
+		return absoluteToolRequests.drawRandom(random);
 	}
 
-	public EMaterialType drawRandomRelativelyRequestedTool() {
-		return relativeToolRequests.drawRandom();
+	public EMaterialType drawRandomRelativelyRequestedTool(ExtendedRandom random) {
+		return relativeToolRequests.drawRandom(random);
 	}
 }
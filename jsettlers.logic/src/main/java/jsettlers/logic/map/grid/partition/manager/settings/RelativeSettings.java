@@ -16,9 +16,11 @@ package jsettlers.logic.map.grid.partition.manager.settings;
 
 import java.io.Serializable;
 
-import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.constants.ExtendedRandom;
 
 public class RelativeSettings<T extends Enum> implements Serializable {
+	private static final long serialVersionUID = 224069136424765967L;
+
 	public interface OrdinalToTypeMapper<T extends Enum> extends Serializable {
 		T map(int ordinal);
 	}
@@ -76,8 +78,8 @@ public class RelativeSettings<T extends Enum> implements Serializable {
 		return userValues[index] / sum;
 	}
 
-	public T drawRandom() {
-		float random = MatchConstants.random().nextFloat() * sum;
+	public T drawRandom(ExtendedRandom random) {
+		float randomValue = random.nextFloat() * sum;
 		if (sum == 0) { // if sum is 0, no elements are in the list => directly return
 			return null;
 		}
@@ -85,7 +87,7 @@ public class RelativeSettings<T extends Enum> implements Serializable {
 		float prefixSum = 0;
 		for (int index = 0; index < userValues.length; index++) {
 			prefixSum += userValues[index];
-			if (random < prefixSum) {
+			if (randomValue < prefixSum) {
 				if (decreaseOnDraw) {
 					changeUserValue(index, -1);
 				}
@@ -15,6 +15,7 @@
 package jsettlers.logic.map.loading;
 
 import jsettlers.input.PlayerState;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.map.grid.MainGrid;
 import jsettlers.logic.player.PlayerSetting;
 
@@ -26,9 +27,9 @@ import jsettlers.logic.player.PlayerSetting;
  */
 public interface IGameCreator {
 
-	MainGridWithUiSettings loadMainGrid(PlayerSetting[] playerSettings) throws MapLoadException;
+	MainGridWithUiSettings loadMainGrid(PlayerSetting[] playerSettings, MatchContext context) throws MapLoadException;
 
-	MainGridWithUiSettings loadMainGrid(PlayerSetting[] playerSettings, EMapStartResources startResources) throws MapLoadException;
+	MainGridWithUiSettings loadMainGrid(PlayerSetting[] playerSettings, EMapStartResources startResources, MatchContext context) throws MapLoadException;
 
 	String getMapName();
 
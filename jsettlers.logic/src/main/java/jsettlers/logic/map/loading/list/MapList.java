@@ -21,12 +21,13 @@ import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 
 import jsettlers.common.CommonConstants;
 import jsettlers.common.logging.MilliStopWatch;
 import jsettlers.common.utils.collections.ChangingList;
 import jsettlers.input.PlayerState;
-import jsettlers.logic.constants.MatchConstants;
 import jsettlers.logic.map.grid.GameSerializer;
 import jsettlers.logic.map.grid.MainGrid;
 import jsettlers.logic.map.loading.MapLoader;
@@ -36,7 +37,6 @@ import jsettlers.logic.map.loading.newmap.FreshMapSerializer;
 import jsettlers.logic.map.loading.newmap.MapFileHeader;
 import jsettlers.logic.map.loading.newmap.MapFileHeader.MapType;
 import jsettlers.logic.map.loading.newmap.RemakeMapLoader;
-import jsettlers.logic.timer.RescheduleTimer;
 
 /**
  * This is the main map list.
@@ -194,25 +194,39 @@ public class MapList implements IMapListerCallable {
 	 * 
 	 * @param playerStates
 	 * @param grid
+	 * @return The loader of the new savegame or <code>null</code> if it can't be found in the list of saved maps.
 	 * @throws IOException
 	 */
-	public synchronized void saveMap(PlayerState[] playerStates, MapFileHeader header, MainGrid grid) throws IOException {
+	public synchronized RemakeMapLoader saveMap(PlayerState[] playerStates, MapFileHeader header, MainGrid grid) throws IOException {
 		MilliStopWatch watch = new MilliStopWatch();
+
+		Set<String> existingSavegames = new HashSet<>();
+		for (RemakeMapLoader savegame : getSavedMaps().getItems()) {
+			existingSavegames.add(savegame.getListedMap().getFileName());
+		}
+
 		OutputStream outStream = saveDirectory.getOutputStream(header);
 
 		header.writeTo(outStream);
 
 		ObjectOutputStream oos = new ObjectOutputStream(outStream);
-		MatchConstants.serialize(oos);
+		grid.getMatchContext().serialize(oos);
 		oos.writeObject(playerStates);
 		GameSerializer gameSerializer = new GameSerializer();
 		gameSerializer.save(grid, oos);
-		RescheduleTimer.saveTo(oos);
+		grid.getMatchContext().getTimer().saveTo(oos);
 
 		oos.close();
 		watch.stop("Writing savegame required");
 
 		loadFileList();
+
+		for (RemakeMapLoader savegame : savedMaps.getItems()) {
+			if (!existingSavegames.contains(savegame.getListedMap().getFileName())) {
+				return savegame;
+			}
+		}
+		return null;
 	}
 
 	public ArrayList<MapLoader> getSavedMultiplayerMaps() {
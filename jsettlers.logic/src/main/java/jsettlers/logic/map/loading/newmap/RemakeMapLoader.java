@@ -32,6 +32,7 @@ import jsettlers.common.menu.UIState;
 import jsettlers.input.PlayerState;
 import jsettlers.logic.map.loading.EMapStartResources;
 import jsettlers.logic.map.loading.MapLoader;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.map.grid.MainGrid;
 import jsettlers.logic.map.loading.list.IListedMap;
 import jsettlers.logic.player.PlayerSetting;
@@ -142,12 +143,13 @@ public abstract class RemakeMapLoader extends MapLoader {
 	}
 
 	@Override
-	public MainGridWithUiSettings loadMainGrid(PlayerSetting[] playerSettings) throws MapLoadException {
-		return loadMainGrid(playerSettings, EMapStartResources.HIGH_GOODS);
+	public MainGridWithUiSettings loadMainGrid(PlayerSetting[] playerSettings, MatchContext context) throws MapLoadException {
+		return loadMainGrid(playerSettings, EMapStartResources.HIGH_GOODS, context);
 	}
 
 	@Override
-	public MainGridWithUiSettings loadMainGrid(PlayerSetting[] playerSettings, EMapStartResources startResources) throws MapLoadException {
+	public MainGridWithUiSettings loadMainGrid(PlayerSetting[] playerSettings, EMapStartResources startResources, MatchContext context)
+			throws MapLoadException {
 		MilliStopWatch watch = new MilliStopWatch();
 		IMapData mapData = getMapData();
 		watch.stop("Loading map data required");
@@ -161,7 +163,7 @@ public abstract class RemakeMapLoader extends MapLoader {
 			}
 		}
 
-		MainGrid mainGrid = new MainGrid(getMapId(), getMapName(), mapData, playerSettings);
+		MainGrid mainGrid = new MainGrid(getMapId(), getMapName(), mapData, playerSettings, context);
 
 		PlayerState[] playerStates = new PlayerState[numberOfPlayers];
 		for (byte playerId = 0; playerId < numberOfPlayers; playerId++) {
@@ -28,6 +28,7 @@ import jsettlers.common.menu.UIState;
 import jsettlers.input.PlayerState;
 import jsettlers.logic.map.loading.EMapStartResources;
 import jsettlers.logic.map.loading.MapLoader;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.map.grid.MainGrid;
 import jsettlers.logic.map.loading.list.IListedMap;
 import jsettlers.logic.map.loading.newmap.MapFileHeader;
@@ -164,12 +165,13 @@ public class OriginalMapLoader extends MapLoader {
 	// ----------------------------//
 
 	@Override
-	public MainGridWithUiSettings loadMainGrid(PlayerSetting[] playerSettings) throws MapLoadException {
-		return loadMainGrid(playerSettings, EMapStartResources.HIGH_GOODS);
+	public MainGridWithUiSettings loadMainGrid(PlayerSetting[] playerSettings, MatchContext context) throws MapLoadException {
+		return loadMainGrid(playerSettings, EMapStartResources.HIGH_GOODS, context);
 	}
 
 	@Override
-	public MainGridWithUiSettings loadMainGrid(PlayerSetting[] playerSettings, EMapStartResources startResources) throws MapLoadException {
+	public MainGridWithUiSettings loadMainGrid(PlayerSetting[] playerSettings, EMapStartResources startResources, MatchContext context)
+			throws MapLoadException {
 		MilliStopWatch watch = new MilliStopWatch();
 
 		loadMapContent(startResources, playerSettings);
@@ -189,7 +191,7 @@ public class OriginalMapLoader extends MapLoader {
 			}
 		}
 
-		MainGrid mainGrid = new MainGrid(getMapId(), getMapName(), mapData, playerSettings);
+		MainGrid mainGrid = new MainGrid(getMapId(), getMapName(), mapData, playerSettings, context);
 
 		PlayerState[] playerStates = new PlayerState[numberOfPlayers];
 
@@ -20,7 +20,8 @@ import java.io.ObjectInputStream;
 import jsettlers.logic.map.loading.data.IMapData;
 import jsettlers.logic.map.loading.MapLoadException;
 import jsettlers.input.PlayerState;
-import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.constants.MatchContext;
+import jsettlers.logic.constants.MatchContextInputStream;
 import jsettlers.logic.map.loading.EMapStartResources;
 import jsettlers.logic.map.grid.GameSerializer;
 import jsettlers.logic.map.grid.MainGrid;
@@ -28,7 +29,6 @@ import jsettlers.logic.map.loading.newmap.RemakeMapLoader;
 import jsettlers.logic.map.loading.list.IListedMap;
 import jsettlers.logic.map.loading.newmap.MapFileHeader;
 import jsettlers.logic.player.PlayerSetting;
-import jsettlers.logic.timer.RescheduleTimer;
 
 /**
  * 
@@ -42,19 +42,20 @@ public class SavegameLoader extends RemakeMapLoader {
 	}
 
 	@Override
-	public MainGridWithUiSettings loadMainGrid(PlayerSetting[] playerSettings) throws MapLoadException {
-		return loadMainGrid(playerSettings, EMapStartResources.HIGH_GOODS);
+	public MainGridWithUiSettings loadMainGrid(PlayerSetting[] playerSettings, MatchContext context) throws MapLoadException {
+		return loadMainGrid(playerSettings, EMapStartResources.HIGH_GOODS, context);
 	}
 
 		@Override
-	public MainGridWithUiSettings loadMainGrid(PlayerSetting[] playerSettings, EMapStartResources startResources) throws MapLoadException {
-		try (ObjectInputStream ois = new ObjectInputStream(super.getMapDataStream())) {
-			MatchConstants.deserialize(ois);
+	public MainGridWithUiSettings loadMainGrid(PlayerSetting[] playerSettings, EMapStartResources startResources, MatchContext context)
+			throws MapLoadException {
+		try (ObjectInputStream ois = new MatchContextInputStream(super.getMapDataStream(), context)) {
+			context.deserialize(ois);
 			PlayerState[] playerStates = (PlayerState[]) ois.readObject();
 			GameSerializer gameSerializer = new GameSerializer();
 			MainGrid mainGrid = gameSerializer.load(ois);
 			mainGrid.initWithPlayerSettings(playerSettings);
-			RescheduleTimer.loadFrom(ois);
+			context.getTimer().loadFrom(ois);
 
 			ois.close();
 
@@ -15,6 +15,7 @@
 package jsettlers.logic.movable;
 
 import jsettlers.algorithms.path.Path;
+import jsettlers.algorithms.path.PreparedPath;
 import jsettlers.common.buildings.EBuildingType;
 import jsettlers.common.mapobject.EMapObjectType;
 import jsettlers.common.material.EMaterialType;
@@ -28,33 +29,24 @@ import jsettlers.common.menu.messages.SimpleMessage;
 import jsettlers.logic.buildings.military.IBuildingOccupyableMovable;
 import jsettlers.logic.buildings.military.occupying.IOccupyableBuilding;
 import jsettlers.logic.constants.Constants;
-import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.movable.interfaces.AbstractMovableGrid;
 import jsettlers.logic.movable.interfaces.IAttackable;
 import jsettlers.logic.movable.interfaces.ILogicMovable;
 import jsettlers.logic.movable.strategies.FleeStrategy;
 import jsettlers.logic.movable.strategies.soldiers.SoldierStrategy;
 import jsettlers.logic.player.Player;
-import jsettlers.logic.timer.RescheduleTimer;
-
-import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import jsettlers.logic.timer.IPreparableTimerable;
+import jsettlers.logic.timer.IProfiledTimerable;
+import jsettlers.logic.timer.TimerHandle;
 
 /**
  * Central Movable class of JSettlers.
  *
  * @author Andreas Eberle
  */
-public final class Movable implements ILogicMovable {
+public final class Movable implements ILogicMovable, IPreparableTimerable, IProfiledTimerable {
 	private static final long serialVersionUID = 2472076796407425256L;
-	private static final HashMap<Integer, ILogicMovable> movablesByID = new HashMap<>();
-	private static final ConcurrentLinkedQueue<ILogicMovable> allMovables = new ConcurrentLinkedQueue<>();
-	private static int nextID = Integer.MIN_VALUE;
 
 	protected final AbstractMovableGrid grid;
 	private final int id;
@@ -86,9 +78,11 @@ public final class Movable implements ILogicMovable {
 	private int flockDelay = 700;
 
 	private EMaterialType takeDropMaterial;
+	private final TimerHandle timerHandle;
 
 	private transient boolean selected = false;
 	private transient boolean soundPlayed = false;
+	private transient PreparedPath preparedPath;
 
 	public Movable(AbstractMovableGrid grid, EMovableType movableType, ShortPoint2D position, Player player) {
 		this.grid = grid;
@@ -98,31 +92,16 @@ public final class Movable implements ILogicMovable {
 		this.movableType = movableType;
 		this.health = movableType.getHealth();
 
-		this.direction = EDirection.VALUES[MatchConstants.random().nextInt(EDirection.NUMBER_OF_DIRECTIONS)];
+		MatchContext context = grid.getMatchContext();
+		this.direction = EDirection.VALUES[context.random().nextInt(EDirection.NUMBER_OF_DIRECTIONS)];
 
-		RescheduleTimer.add(this, Constants.MOVABLE_INTERRUPT_PERIOD);
+		this.timerHandle = context.getTimer().addCancelable(this, Constants.MOVABLE_INTERRUPT_PERIOD);
 
-		this.id = nextID++;
-		movablesByID.put(this.id, this);
-		allMovables.offer(this);
+		this.id = context.addMovable(this);
 
 		grid.enterPosition(position, this, true);
 	}
 
-	@SuppressWarnings("unchecked")
-	public static void readStaticState(ObjectInputStream ois) throws IOException, ClassNotFoundException {
-		nextID = ois.readInt();
-		allMovables.clear();
-		allMovables.addAll((Collection<? extends ILogicMovable>) ois.readObject());
-		movablesByID.putAll((Map<? extends Integer, ? extends ILogicMovable>) ois.readObject());
-	}
-
-	public static void writeStaticState(ObjectOutputStream oos) throws IOException {
-		oos.writeInt(nextID);
-		oos.writeObject(allMovables);
-		oos.writeObject(movablesByID);
-	}
-
 	/**
 	 * Tests if this movable can receive moveTo requests and if so, directs it to go to the given position.
 	 *
@@ -143,7 +122,7 @@ public final class Movable implements ILogicMovable {
 			return;
 		}
 
-		int offset = MatchConstants.random().nextInt(EDirection.NUMBER_OF_DIRECTIONS);
+		int offset = grid.getMatchContext().random().nextInt(EDirection.NUMBER_OF_DIRECTIONS);
 
 		for (int i = 0; i < EDirection.NUMBER_OF_DIRECTIONS; i++) {
 			EDirection currDir = EDirection.VALUES[(i + offset) % EDirection.NUMBER_OF_DIRECTIONS];
@@ -158,6 +137,21 @@ public final class Movable implements ILogicMovable {
 		}
 	}
 
+	@Override
+	public Object getProfilingKey() {
+		return movableType;
+	}
+
+	@Override
+	public void prepareTimerEvent() {
+		ShortPoint2D targetPos = requestedTargetPosition;
+		if (targetPos != null && state != EMovableState.DEAD && !Constants.USE_PARALLEL_PATHFINDING && strategy.canBeControlledByPlayer()) {
+			preparedPath = grid.preparePathTo(this, targetPos);
+		} else {
+			preparedPath = null;
+		}
+	}
+
 	@Override
 	public int timerEvent() {
 		if (state == EMovableState.DEAD) {
@@ -171,7 +165,7 @@ public final class Movable implements ILogicMovable {
 		case DROP:
 		case PATHING:
 		case WAITING:
-			int remainingAnimationTime = animationStartTime + animationDuration - MatchConstants.clock().getTime();
+			int remainingAnimationTime = animationStartTime + animationDuration - grid.getMatchContext().clock().getTime();
 			if (remainingAnimationTime > 0) {
 				return remainingAnimationTime;
 			}
@@ -214,10 +208,16 @@ public final class Movable implements ILogicMovable {
 					this.path = null;
 
 				case DOING_NOTHING:
+					if (Constants.USE_PARALLEL_PATHFINDING) {
+						requestPathToRequestedTarget();
+						return Constants.MOVABLE_INTERRUPT_PERIOD; // the path is delivered at the end of the current time slot
+					}
+
 					ShortPoint2D oldTargetPos = path != null ? path.getTargetPos() : null;
 					ShortPoint2D oldPos = position;
-					boolean foundPath = goToPos(requestedTargetPosition); // progress is reset in here
+					boolean foundPath = goToPos(requestedTargetPosition, preparedPath); // progress is reset in here
 					requestedTargetPosition = null;
+					preparedPath = null;
 
 					if (foundPath) {
 						this.strategy.moveToPathSet(oldPos, oldTargetPos, path.getTargetPos());
@@ -279,6 +279,28 @@ public final class Movable implements ILogicMovable {
 		return animationDuration;
 	}
 
+	private void requestPathToRequestedTarget() {
+		final ShortPoint2D oldTargetPos = path != null ? path.getTargetPos() : null;
+		final ShortPoint2D oldPos = position;
+		final ShortPoint2D targetPos = requestedTargetPosition;
+		requestedTargetPosition = null;
+
+		grid.requestPathTo(this, targetPos, newPath -> {
+			if (state == EMovableState.DEAD) {
+				return;
+			} else if (state != EMovableState.DOING_NOTHING || position != oldPos) { // the movable has been pushed away in the meantime
+				if (requestedTargetPosition == null) {
+					requestedTargetPosition = targetPos;
+				}
+			} else if (newPath != null) {
+				followPath(newPath);
+				if (path != null) {
+					strategy.moveToPathSet(oldPos, oldTargetPos, path.getTargetPos());
+				}
+			}
+		});
+	}
+
 	private void pathingAction() {
 		if (path == null || !path.hasNextStep() || !strategy.checkPathStepPreconditions(path.getTargetPos(), path.getStep())) {
 			// if path is finished, or canceled by strategy return from here
@@ -290,7 +312,7 @@ public final class Movable implements ILogicMovable {
 
 		ILogicMovable blockingMovable = grid.getMovableAt(path.nextX(), path.nextY());
 		if (blockingMovable == null) { // if we can go on to the next step
-			if (grid.isValidNextPathPosition(this, path.getNextPos(), path.getTargetPos())) { // next position is valid
+			if (grid.isValidNextPathPosition(this, path.nextX(), path.nextY(), path.getTargetPos())) { // next position is valid
 				goSinglePathStep();
 
 			} else { // next position is invalid
@@ -342,10 +364,12 @@ public final class Movable implements ILogicMovable {
 	private void initGoingSingleStep(ShortPoint2D position) {
 		direction = EDirection.getDirection(this.position, position);
 		playAnimation(EMovableAction.WALKING, movableType.getStepDurationMs());
+		ShortPoint2D oldPosition = this.position;
 		grid.leavePosition(this.position, this);
 		grid.enterPosition(position, this, false);
 		this.position = position;
 		isRightstep = !isRightstep;
+		strategy.positionChanged(oldPosition);
 	}
 
 	private int doingNothingAction() {
@@ -362,7 +386,7 @@ public final class Movable implements ILogicMovable {
 			if (flockToDecentralize()) {
 				return animationDuration;
 			} else {
-				int turnDirection = MatchConstants.random().nextInt(-8, 8);
+				int turnDirection = grid.getMatchContext().random().nextInt(-8, 8);
 				if (Math.abs(turnDirection) <= 1) {
 					lookInDirection(direction.getNeighbor(turnDirection));
 				}
@@ -380,7 +404,7 @@ public final class Movable implements ILogicMovable {
 	private boolean flockToDecentralize() {
 		ShortPoint2D decentVector = grid.calcDecentralizeVector(position.x, position.y);
 
-		EDirection randomDirection = direction.getNeighbor(MatchConstants.random().nextInt(-1, 1));
+		EDirection randomDirection = direction.getNeighbor(grid.getMatchContext().random().nextInt(-1, 1));
 		int dx = randomDirection.gridDeltaX + decentVector.x;
 		int dy = randomDirection.gridDeltaY + decentVector.y;
 
@@ -437,7 +461,7 @@ public final class Movable implements ILogicMovable {
 				return false; // the other movable just pushed to get space, so we can't do anything for it in this state.
 			}
 
-			if (animationStartTime + animationDuration <= MatchConstants.clock().getTime() && this.path.hasNextStep()) {
+			if (animationStartTime + animationDuration <= grid.getMatchContext().clock().getTime() && this.path.hasNextStep()) {
 				ShortPoint2D nextPos = path.getNextPos();
 				if (pushingMovable.getPosition() == nextPos) { // two movables going in opposite direction and wanting to exchange positions
 					pushingMovable.goSinglePathStep();
@@ -497,7 +521,7 @@ public final class Movable implements ILogicMovable {
 	}
 
 	private boolean goToRandomDirection(ILogicMovable pushingMovable) {
-		int offset = MatchConstants.random().nextInt(EDirection.NUMBER_OF_DIRECTIONS);
+		int offset = grid.getMatchContext().random().nextInt(EDirection.NUMBER_OF_DIRECTIONS);
 		EDirection pushedFromDir = EDirection.getDirection(this.getPos(), pushingMovable.getPos());
 
 		for (int i = 0; i < EDirection.NUMBER_OF_DIRECTIONS; i++) {
@@ -540,7 +564,7 @@ public final class Movable implements ILogicMovable {
 	}
 
 	private void playAnimation(EMovableAction movableAction, short duration) {
-		this.animationStartTime = MatchConstants.clock().getTime();
+		this.animationStartTime = grid.getMatchContext().clock().getTime();
 		this.animationDuration = duration;
 		this.movableAction = movableAction;
 	}
@@ -597,9 +621,13 @@ public final class Movable implements ILogicMovable {
 	 * false if it wasn't possible to get a path.
 	 */
 	final boolean goToPos(ShortPoint2D targetPos) {
+		return goToPos(targetPos, null);
+	}
+
+	private boolean goToPos(ShortPoint2D targetPos, PreparedPath preparedPath) {
 		assert state == EMovableState.DOING_NOTHING : "can't do goToPos() if state isn't DOING_NOTHING. curr state: " + state;
 
-		Path path = grid.calculatePathTo(this, targetPos);
+		Path path = grid.calculatePathTo(this, targetPos, preparedPath);
 		if (path == null) {
 			return false;
 		} else {
@@ -654,7 +682,9 @@ public final class Movable implements ILogicMovable {
 			grid.enterPosition(position, this, true);
 		}
 
+		ShortPoint2D oldPosition = this.position;
 		this.position = position;
+		strategy.positionChanged(oldPosition);
 	}
 
 	final void setVisible(boolean visible) {
@@ -724,28 +754,6 @@ public final class Movable implements ILogicMovable {
 		this.state = newState;
 	}
 
-	/**
-	 * Used for networking to identify movables over the network.
-	 *
-	 * @param id
-	 * 		id to be looked for
-	 * @return returns the movable with the given ID<br>
-	 * or null if the id can not be found
-	 */
-	public static ILogicMovable getMovableByID(int id) {
-		return movablesByID.get(id);
-	}
-
-	public static ConcurrentLinkedQueue<ILogicMovable> getAllMovables() {
-		return allMovables;
-	}
-
-	public static void resetState() {
-		allMovables.clear();
-		movablesByID.clear();
-		nextID = Integer.MIN_VALUE;
-	}
-
 	/**
 	 * kills this movable.
 	 */
@@ -760,9 +768,9 @@ public final class Movable implements ILogicMovable {
 		this.strategy.strategyKilledEvent(path != null ? path.getTargetPos() : null);
 		this.state = EMovableState.DEAD;
 		this.selected = false;
+		timerHandle.cancel();
 
-		movablesByID.remove(this.getID());
-		allMovables.remove(this);
+		grid.getMatchContext().removeMovable(this);
 
 		grid.addSelfDeletingMapObject(position, EMapObjectType.GHOST, Constants.GHOST_PLAY_DURATION, player);
 	}
@@ -828,7 +836,7 @@ public final class Movable implements ILogicMovable {
 
 	@Override
 	public final float getMoveProgress() {
-		return ((float) (MatchConstants.clock().getTime() - animationStartTime)) / animationDuration;
+		return ((float) (grid.getMatchContext().clock().getTime() - animationStartTime)) / animationDuration;
 	}
 
 	@Override
@@ -239,6 +239,15 @@ public abstract class MovableStrategy implements Serializable {
 	protected void moveToPathSet(ShortPoint2D oldPosition, ShortPoint2D oldTargetPos, ShortPoint2D targetPos) {
 	}
 
+	/**
+	 * Called after the movable has been placed on a new position.
+	 *
+	 * @param oldPosition
+	 * 		The position the movable was positioned before.
+	 */
+	protected void positionChanged(ShortPoint2D oldPosition) {
+	}
+
 	/**
 	 * This method may only be called if this movable shall be informed about a movable that's in it's search radius.
 	 *
@@ -14,8 +14,11 @@
  *******************************************************************************/
 package jsettlers.logic.movable.interfaces;
 
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.IPathRequestListener;
 import jsettlers.algorithms.path.Path;
+import jsettlers.algorithms.path.PreparedPath;
 import jsettlers.common.mapobject.EMapObjectType;
 import jsettlers.common.material.ESearchType;
 import jsettlers.common.position.ShortPoint2D;
@@ -29,6 +32,11 @@ import jsettlers.logic.player.Player;
 public abstract class AbstractMovableGrid extends AbstractStrategyGrid {
 	private static final long serialVersionUID = -236805842467532505L;
 
+	/**
+	 * @return The context of the match this grid belongs to.
+	 */
+	public abstract MatchContext getMatchContext();
+
 	/**
 	 * Checks if there is a movable at the given position.
 	 *
@@ -61,6 +69,37 @@ public abstract class AbstractMovableGrid extends AbstractStrategyGrid {
 
 	public abstract Path calculatePathTo(IPathCalculatable pathCalculatable, ShortPoint2D targetPos);
 
+	/**
+	 * Calculates a path to the given target position and uses the given prepared path if it is still valid.
+	 * 
+	 * @param pathCalculatable
+	 * @param targetPos
+	 * @param preparedPath
+	 *            A path prepared by {@link #preparePathTo(IPathCalculatable, ShortPoint2D)} or null.
+	 * @return The same path as {@link #calculatePathTo(IPathCalculatable, ShortPoint2D)}.
+	 */
+	public abstract Path calculatePathTo(IPathCalculatable pathCalculatable, ShortPoint2D targetPos, PreparedPath preparedPath);
+
+	/**
+	 * Calculates a path to the given target position without modifying the grid. This method can be called in parallel by the workers of the
+	 * {@link jsettlers.logic.timer.ParallelTick}.
+	 * 
+	 * @param pathCalculatable
+	 * @param targetPos
+	 * @return The prepared path or null if paths can't be prepared with the current path finder.
+	 */
+	public abstract PreparedPath preparePathTo(IPathCalculatable pathCalculatable, ShortPoint2D targetPos);
+
+	/**
+	 * Requests a path to the given target position. Depending on {@link jsettlers.logic.constants.Constants#USE_PARALLEL_PATHFINDING}, the listener is
+	 * informed immediately or at the end of the current time slot of the {@link jsettlers.logic.timer.RescheduleTimer}.
+	 * 
+	 * @param pathCalculatable
+	 * @param targetPos
+	 * @param listener
+	 */
+	public abstract void requestPathTo(IPathCalculatable pathCalculatable, ShortPoint2D targetPos, IPathRequestListener listener);
+
 	public abstract Path searchDijkstra(IPathCalculatable pathCalculateable, short centerX, short centerY, short radius, ESearchType searchType);
 
 	public abstract Path searchInArea(IPathCalculatable pathCalculateable, short centerX, short centerY, short radius, ESearchType searchType);
@@ -93,5 +132,5 @@ public abstract class AbstractMovableGrid extends AbstractStrategyGrid {
 
 	public abstract boolean isValidPosition(IPathCalculatable pathCalculatable, int x, int y);
 
-	public abstract boolean isValidNextPathPosition(IPathCalculatable pathCalculatable, ShortPoint2D nextPos, ShortPoint2D targetPos);
+	public abstract boolean isValidNextPathPosition(IPathCalculatable pathCalculatable, int nextX, int nextY, ShortPoint2D targetPos);
 }
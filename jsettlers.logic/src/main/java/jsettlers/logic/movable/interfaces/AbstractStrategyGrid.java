@@ -55,6 +55,20 @@ public abstract class AbstractStrategyGrid implements Serializable {
 
 	public abstract void removeJobless(IManageableBricklayer bricklayer);
 
+	/**
+	 * Informs the manager of the jobless at the old position that the given jobless has moved. Nothing happens if it isn't jobless.
+	 *
+	 * @param bearer
+	 * @param oldPosition
+	 */
+	public abstract void joblessPositionChanged(IManageableBearer bearer, ShortPoint2D oldPosition);
+
+	public abstract void joblessPositionChanged(IManageableWorker worker, ShortPoint2D oldPosition);
+
+	public abstract void joblessPositionChanged(IManageableDigger digger, ShortPoint2D oldPosition);
+
+	public abstract void joblessPositionChanged(IManageableBricklayer bricklayer, ShortPoint2D oldPosition);
+
 	/**
 	 * Take a material from the stack at given position of given {@link EMaterialType}.
 	 * 
@@ -152,6 +152,7 @@ public final class BearerMovableStrategy extends MovableStrategy implements IMan
 			if (request.isActive() && request.getPos().equals(movable.getPos())) {
 				request.deliveryFulfilled();
 				request = null;
+				super.getGrid().getMatchContext().transportStatistics().deliveryFulfilled();
 				return false;
 			} else {
 				request.deliveryAborted();
@@ -298,6 +299,14 @@ public final class BearerMovableStrategy extends MovableStrategy implements IMan
 		}
 	}
 
+	@Override
+	protected void positionChanged(ShortPoint2D oldPosition) {
+		if (state == EBearerState.GOING_TO_OFFER || state == EBearerState.GOING_TO_REQUEST) {
+			super.getGrid().getMatchContext().transportStatistics().stepWalked();
+		}
+		super.getGrid().joblessPositionChanged(this, oldPosition);
+	}
+
 	@Override
 	protected void strategyKilledEvent(ShortPoint2D pathTarget) {
 		if (state == EBearerState.JOBLESS) {
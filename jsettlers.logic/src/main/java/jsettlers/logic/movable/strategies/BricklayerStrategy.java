@@ -105,6 +105,11 @@ public class BricklayerStrategy extends MovableStrategy implements IManageableBr
 		}
 	}
 
+	@Override
+	protected void positionChanged(ShortPoint2D oldPosition) {
+		super.getGrid().joblessPositionChanged(this, oldPosition);
+	}
+
 	@Override
 	protected void strategyKilledEvent(ShortPoint2D pathTarget) {
 		if (state == EBricklayerState.JOBLESS) {
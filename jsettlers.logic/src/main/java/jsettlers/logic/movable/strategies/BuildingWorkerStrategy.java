@@ -297,7 +297,7 @@ public final class BuildingWorkerStrategy extends MovableStrategy implements IMa
 	}
 
 	private void popWeaponRequestAction() {
-		poppedMaterial = building.getMaterialProduction().getWeaponToProduce();
+		poppedMaterial = building.getMaterialProduction().getWeaponToProduce(getGrid().getMatchContext().random());
 
 		if (poppedMaterial != null) {
 			jobFinished();
@@ -309,12 +309,12 @@ public final class BuildingWorkerStrategy extends MovableStrategy implements IMa
 	private void popToolRequestAction() {
 		ShortPoint2D pos = building.getDoor();
 
-		poppedMaterial = building.getMaterialProduction().drawRandomAbsolutelyRequestedTool(); // first priority: Absolutely set tool production requests of user
+		poppedMaterial = building.getMaterialProduction().drawRandomAbsolutelyRequestedTool(getGrid().getMatchContext().random()); // first priority: Absolutely set tool production requests of user
 		if (poppedMaterial == null) {
 			poppedMaterial = super.getGrid().popToolProductionRequest(pos); // second priority: Tools needed by settlers (automated production)
 		}
 		if (poppedMaterial == null) {
-			poppedMaterial = building.getMaterialProduction().drawRandomRelativelyRequestedTool(); // third priority: Relatively set tool production requests of user
+			poppedMaterial = building.getMaterialProduction().drawRandomRelativelyRequestedTool(getGrid().getMatchContext().random()); // third priority: Relatively set tool production requests of user
 		}
 
 		if (poppedMaterial != null) {
@@ -479,6 +479,11 @@ public final class BuildingWorkerStrategy extends MovableStrategy implements IMa
 		}
 	}
 
+	@Override
+	protected void positionChanged(ShortPoint2D oldPosition) {
+		super.getGrid().joblessPositionChanged(this, oldPosition);
+	}
+
 	@Override
 	protected void strategyKilledEvent(ShortPoint2D pathTarget) { // used in overriding methods
 		killed = true;
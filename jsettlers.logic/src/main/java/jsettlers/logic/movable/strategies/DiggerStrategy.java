@@ -18,7 +18,6 @@ import jsettlers.common.landscape.ELandscapeType;
 import jsettlers.common.movable.EMovableAction;
 import jsettlers.common.position.RelativePoint;
 import jsettlers.common.position.ShortPoint2D;
-import jsettlers.logic.constants.MatchConstants;
 import jsettlers.logic.map.grid.partition.manager.manageables.IManageableDigger;
 import jsettlers.logic.map.grid.partition.manager.manageables.interfaces.IDiggerRequester;
 import jsettlers.logic.movable.Movable;
@@ -112,7 +111,7 @@ public final class DiggerStrategy extends MovableStrategy implements IManageable
 	private ShortPoint2D getDiggablePosition() {
 		RelativePoint[] blockedTiles = requester.getBuildingType().getProtectedTiles();
 		ShortPoint2D buildingPos = requester.getPos();
-		int offset = MatchConstants.random().nextInt(blockedTiles.length);
+		int offset = getGrid().getMatchContext().random().nextInt(blockedTiles.length);
 
 		for (int i = 0; i < blockedTiles.length; i++) {
 			ShortPoint2D pos = blockedTiles[(i + offset) % blockedTiles.length].calculatePoint(buildingPos);
@@ -157,6 +156,11 @@ public final class DiggerStrategy extends MovableStrategy implements IManageable
 		}
 	}
 
+	@Override
+	protected void positionChanged(ShortPoint2D oldPosition) {
+		super.getGrid().joblessPositionChanged(this, oldPosition);
+	}
+
 	@Override
 	protected void strategyKilledEvent(ShortPoint2D pathTarget) {
 		if (pathTarget != null) {
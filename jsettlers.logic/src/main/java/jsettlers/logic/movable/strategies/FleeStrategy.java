@@ -18,7 +18,6 @@ import jsettlers.common.material.ESearchType;
 import jsettlers.common.movable.EDirection;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.logic.constants.Constants;
-import jsettlers.logic.constants.MatchConstants;
 import jsettlers.logic.movable.EGoInDirectionMode;
 import jsettlers.logic.movable.Movable;
 import jsettlers.logic.movable.MovableStrategy;
@@ -57,9 +56,9 @@ public class FleeStrategy extends MovableStrategy {
 			} else {
 				EDirection currentDirection = movable.getDirection();
 				EDirection newDirection;
-				if (turnNextTime || MatchConstants.random().nextFloat() < 0.10) {
+				if (turnNextTime || getGrid().getMatchContext().random().nextFloat() < 0.10) {
 					turnNextTime = false;
-					newDirection = currentDirection.getNeighbor(MatchConstants.random().nextInt(-1, 1));
+					newDirection = currentDirection.getNeighbor(getGrid().getMatchContext().random().nextInt(-1, 1));
 				} else {
 					newDirection = currentDirection;
 				}
@@ -67,7 +66,7 @@ public class FleeStrategy extends MovableStrategy {
 				ShortPoint2D newPos = newDirection.getNextHexPoint(position);
 
 				if (super.goInDirection(newDirection, EGoInDirectionMode.GO_IF_FREE)) {
-					turnNextTime = MatchConstants.random().nextInt(7) == 0;
+					turnNextTime = getGrid().getMatchContext().random().nextInt(7) == 0;
 				} else {
 					super.lookInDirection(newDirection);
 					turnNextTime = true;
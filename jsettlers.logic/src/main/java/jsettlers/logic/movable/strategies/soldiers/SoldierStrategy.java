@@ -22,7 +22,6 @@ import jsettlers.common.movable.ESoldierClass;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.logic.buildings.military.IBuildingOccupyableMovable;
 import jsettlers.logic.buildings.military.occupying.IOccupyableBuilding;
-import jsettlers.logic.constants.MatchConstants;
 import jsettlers.logic.movable.EGoInDirectionMode;
 import jsettlers.logic.movable.Movable;
 import jsettlers.logic.movable.MovableStrategy;
@@ -364,7 +363,7 @@ public abstract class SoldierStrategy extends MovableStrategy implements IBuildi
 		boolean pos2Free = getGrid().isFreePosition(pos2);
 
 		if (pos1Free && pos2Free) {
-			return MatchConstants.random().nextBoolean() ? pos1 : pos2;
+			return getGrid().getMatchContext().random().nextBoolean() ? pos1 : pos2;
 		} else if (pos1Free) {
 			return pos1;
 		} else if (pos2Free) {
@@ -22,7 +22,6 @@ import jsettlers.common.material.EMaterialType;
 import jsettlers.common.material.ESearchType;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.logic.buildings.trading.MarketBuilding;
-import jsettlers.logic.constants.MatchConstants;
 import jsettlers.logic.movable.Movable;
 import jsettlers.logic.movable.MovableStrategy;
 
@@ -135,7 +134,7 @@ public class DonkeyStrategy extends MovableStrategy {
 			return this.market;
 		}
 
-		Iterable<? extends IDonkeyMarket> markets = MarketBuilding.getAllMarkets(movable.getPlayer());
+		Iterable<? extends IDonkeyMarket> markets = MarketBuilding.getAllMarkets(getGrid().getMatchContext(), movable.getPlayer());
 		List<IDonkeyMarket> marketsNeedingDonkeys = new ArrayList<>();
 
 		for (IDonkeyMarket currMarket : markets) {
@@ -146,7 +145,7 @@ public class DonkeyStrategy extends MovableStrategy {
 
 		if (!marketsNeedingDonkeys.isEmpty()) {
 			// randomly distribute the donkeys onto the markets needing them
-			return marketsNeedingDonkeys.get(MatchConstants.random().nextInt(marketsNeedingDonkeys.size()));
+			return marketsNeedingDonkeys.get(getGrid().getMatchContext().random().nextInt(marketsNeedingDonkeys.size()));
 		} else {
 			return null;
 		}
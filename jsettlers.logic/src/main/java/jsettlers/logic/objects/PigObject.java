@@ -14,8 +14,11 @@
  *******************************************************************************/
 package jsettlers.logic.objects;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+
 import jsettlers.common.mapobject.EMapObjectType;
-import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.map.grid.objects.AbstractHexMapObject;
 
 /**
@@ -33,8 +36,16 @@ public class PigObject extends AbstractHexMapObject {
 
 	private final int starttime;
 
-	public PigObject() {
-		starttime = MatchConstants.clock().getTime();
+	private transient MatchContext context;
+
+	public PigObject(MatchContext context) {
+		this.context = context;
+		this.starttime = context.clock().getTime();
+	}
+
+	private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+		ois.defaultReadObject();
+		context = MatchContext.of(ois);
 	}
 
 	@Override
@@ -54,7 +65,7 @@ public class PigObject extends AbstractHexMapObject {
 
 	@Override
 	public boolean canBeCut() {
-		return (MatchConstants.clock().getTime() - starttime) > LIVE_TIME;
+		return (context.clock().getTime() - starttime) > LIVE_TIME;
 	}
 
 }
@@ -14,8 +14,11 @@
  *******************************************************************************/
 package jsettlers.logic.objects;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+
 import jsettlers.common.position.ShortPoint2D;
-import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.map.grid.objects.AbstractObjectsManagerObject;
 
 /**
@@ -29,13 +32,21 @@ public abstract class ProgressingObject extends AbstractObjectsManagerObject {
 	private int startTime;
 	private int duration;
 
-	protected ProgressingObject(ShortPoint2D pos) {
+	private transient MatchContext context;
+
+	protected ProgressingObject(ShortPoint2D pos, MatchContext context) {
 		super(pos);
+		this.context = context;
+	}
+
+	private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+		ois.defaultReadObject();
+		context = MatchContext.of(ois);
 	}
 
 	@Override
 	public float getStateProgress() {
-		float progress = (MatchConstants.clock().getTime() - startTime) / ((float) duration);
+		float progress = (context.clock().getTime() - startTime) / ((float) duration);
 		if (progress < 1) {
 			return progress;
 		} else {
@@ -53,7 +64,7 @@ public abstract class ProgressingObject extends AbstractObjectsManagerObject {
 		// assert duration > 0 : "duration may never be less or equal to 0.0f"; TODO @Andreas Eberle enable this assertion again!
 
 		this.duration = (int) (duration * 1000);
-		this.startTime = MatchConstants.clock().getTime();
+		this.startTime = context.clock().getTime();
 	}
 
 	/**
@@ -65,7 +76,7 @@ public abstract class ProgressingObject extends AbstractObjectsManagerObject {
 	 */
 	protected final void setDurationWithVariation(float duration) {
 		this.duration = (int) (duration * 1000);
-		this.startTime = MatchConstants.clock().getTime() - MatchConstants.random().nextInt((int) (duration * 100));
+		this.startTime = context.clock().getTime() - context.random().nextInt((int) (duration * 100));
 	}
 
 	/**
@@ -16,14 +16,15 @@ package jsettlers.logic.objects;
 
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.common.sound.ISoundable;
+import jsettlers.logic.constants.MatchContext;
 
 public abstract class ProgressingSoundableObject extends ProgressingObject implements ISoundable {
 	private static final long serialVersionUID = -7740838546551477874L;
 
 	private transient boolean soundPlayed;
 
-	protected ProgressingSoundableObject(ShortPoint2D pos) {
-		super(pos);
+	protected ProgressingSoundableObject(ShortPoint2D pos, MatchContext context) {
+		super(pos, context);
 	}
 
 	@Override
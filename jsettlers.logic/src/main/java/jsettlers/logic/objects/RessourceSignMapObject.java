@@ -17,7 +17,7 @@ package jsettlers.logic.objects;
 import jsettlers.common.landscape.EResourceType;
 import jsettlers.common.mapobject.EMapObjectType;
 import jsettlers.common.position.ShortPoint2D;
-import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.constants.ExtendedRandom;
 import jsettlers.logic.map.grid.objects.AbstractObjectsManagerObject;
 
 public final class RessourceSignMapObject extends AbstractObjectsManagerObject {
@@ -62,8 +62,8 @@ public final class RessourceSignMapObject extends AbstractObjectsManagerObject {
 		throw new UnsupportedOperationException();
 	}
 
-	public static final float getLivetime() {
-		return MatchConstants.random().nextFloat() * MAX_RANDOM_LIVETIME + MINIMUM_LIVETIME;
+	public static final float getLivetime(ExtendedRandom random) {
+		return random.nextFloat() * MAX_RANDOM_LIVETIME + MINIMUM_LIVETIME;
 	}
 
 }
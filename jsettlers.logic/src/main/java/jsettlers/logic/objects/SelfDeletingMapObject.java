@@ -18,6 +18,7 @@ import jsettlers.common.mapobject.EMapObjectType;
 import jsettlers.common.player.IPlayer;
 import jsettlers.common.player.IPlayerable;
 import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.constants.MatchContext;
 
 /**
  * Object that can show any {@link EMapObjectType} on the map for a given time. When the time is finished, it removes itself from the map.
@@ -26,11 +27,13 @@ import jsettlers.common.position.ShortPoint2D;
  * 
  */
 public class SelfDeletingMapObject extends ProgressingObject implements IPlayerable {
+	private static final long serialVersionUID = -5072006223561369525L;
+
 	private final EMapObjectType type;
 	private final IPlayer player;
 
-	public SelfDeletingMapObject(ShortPoint2D pos, EMapObjectType type, float duration, IPlayer player) {
-		super(pos);
+	public SelfDeletingMapObject(ShortPoint2D pos, EMapObjectType type, float duration, IPlayer player, MatchContext context) {
+		super(pos, context);
 		this.player = player;
 		this.type = type;
 		super.setDuration(duration);
@@ -18,12 +18,15 @@ import jsettlers.common.mapobject.EMapObjectType;
 import jsettlers.common.player.IPlayer;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.common.sound.ISoundable;
+import jsettlers.logic.constants.MatchContext;
 
 public class SoundableSelfDeletingObject extends SelfDeletingMapObject implements ISoundable {
+	private static final long serialVersionUID = 4114559167407857784L;
+
 	private transient boolean soundPlayed;
 
-	public SoundableSelfDeletingObject(ShortPoint2D pos, EMapObjectType type, float duration, IPlayer player) {
-		super(pos, type, duration, player);
+	public SoundableSelfDeletingObject(ShortPoint2D pos, EMapObjectType type, float duration, IPlayer player, MatchContext context) {
+		super(pos, type, duration, player, context);
 	}
 
 	@Override
@@ -19,6 +19,7 @@ import jsettlers.common.mapobject.IArrowMapObject;
 import jsettlers.common.movable.EDirection;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.common.utils.MathUtils;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.objects.ProgressingSoundableObject;
 
 public final class ArrowObject extends ProgressingSoundableObject implements IArrowMapObject {
@@ -34,8 +35,9 @@ public final class ArrowObject extends ProgressingSoundableObject implements IAr
 
 	private final IArrowAttackableGrid grid;
 
-	public ArrowObject(IArrowAttackableGrid grid, ShortPoint2D targetPos, ShortPoint2D shooterPos, byte shooterPlayerId, float hitStrength) {
-		super(targetPos);
+	public ArrowObject(IArrowAttackableGrid grid, ShortPoint2D targetPos, ShortPoint2D shooterPos, byte shooterPlayerId, float hitStrength,
+			MatchContext context) {
+		super(targetPos, context);
 
 		this.grid = grid;
 		this.sourceX = shooterPos.x;
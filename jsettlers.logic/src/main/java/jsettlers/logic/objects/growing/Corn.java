@@ -19,6 +19,7 @@ import jsettlers.common.map.shapes.HexGridArea;
 import jsettlers.common.mapobject.EMapObjectType;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.common.utils.coordinates.CoordinateStream;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.map.grid.objects.IMapObjectsManagerGrid;
 import jsettlers.logic.map.grid.objects.MapObjectsManager;
 
@@ -39,9 +40,10 @@ public final class Corn extends GrowingObject {
 	 * Creates a new Corn.
 	 * 
 	 * @param pos
+	 * @param context
 	 */
-	public Corn(ShortPoint2D pos) {
-		super(pos, EMapObjectType.CORN_GROWING);
+	public Corn(ShortPoint2D pos, MatchContext context) {
+		super(pos, EMapObjectType.CORN_GROWING, context);
 	}
 
 	@Override
@@ -16,6 +16,7 @@ package jsettlers.logic.objects.growing;
 
 import jsettlers.common.mapobject.EMapObjectType;
 import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.objects.ProgressingObject;
 
 /**
@@ -29,8 +30,8 @@ public abstract class GrowingObject extends ProgressingObject {
 
 	private EMapObjectType state;
 
-	protected GrowingObject(ShortPoint2D pos, EMapObjectType growing) {
-		super(pos);
+	protected GrowingObject(ShortPoint2D pos, EMapObjectType growing, MatchContext context) {
+		super(pos, context);
 
 		this.state = growing;
 		super.setDuration(getGrowthDuration());
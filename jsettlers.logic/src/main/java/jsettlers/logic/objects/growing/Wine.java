@@ -17,6 +17,7 @@ package jsettlers.logic.objects.growing;
 import jsettlers.common.landscape.ELandscapeType;
 import jsettlers.common.mapobject.EMapObjectType;
 import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.map.grid.objects.IMapObjectsManagerGrid;
 import jsettlers.logic.map.grid.objects.MapObjectsManager;
 
@@ -38,8 +39,8 @@ public final class Wine extends GrowingObject {
 	 * 
 	 * @param grid
 	 */
-	public Wine(ShortPoint2D pos) {
-		super(pos, EMapObjectType.WINE_GROWING);
+	public Wine(ShortPoint2D pos, MatchContext context) {
+		super(pos, EMapObjectType.WINE_GROWING, context);
 	}
 
 	@Override
@@ -15,6 +15,7 @@
 package jsettlers.logic.objects.growing.tree;
 
 import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.constants.MatchContext;
 
 /**
  * This is a tree on the map, that's adult from the beginning.
@@ -28,10 +29,11 @@ public final class AdultTree extends Tree {
 	/**
 	 * Creates a new adult Tree.
 	 * 
-	 * @param grid
+	 * @param pos
+	 * @param context
 	 */
-	public AdultTree(ShortPoint2D pos) {
-		super(pos);
+	public AdultTree(ShortPoint2D pos, MatchContext context) {
+		super(pos, context);
 		super.changeState();
 	}
 
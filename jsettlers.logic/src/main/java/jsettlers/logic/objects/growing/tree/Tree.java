@@ -18,6 +18,7 @@ import jsettlers.common.mapobject.EMapObjectType;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.common.position.RelativePoint;
 import jsettlers.common.sound.ISoundable;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.objects.growing.GrowingObject;
 
 /**
@@ -40,9 +41,10 @@ public class Tree extends GrowingObject implements ISoundable {
 	 * Creates a new Tree.
 	 * 
 	 * @param pos
+	 * @param context
 	 */
-	public Tree(ShortPoint2D pos) {
-		super(pos, EMapObjectType.TREE_GROWING);
+	public Tree(ShortPoint2D pos, MatchContext context) {
+		super(pos, EMapObjectType.TREE_GROWING, context);
 	}
 
 	@Override
@@ -27,6 +27,7 @@ import jsettlers.common.player.ICombatStrengthInformation;
 import jsettlers.common.player.IInGamePlayer;
 import jsettlers.common.player.IPlayer;
 import jsettlers.common.player.ISettlerInformation;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.map.grid.partition.data.MaterialCounts;
 import jsettlers.logic.map.grid.partition.manager.materials.offers.IOffersCountListener;
 
@@ -50,19 +51,22 @@ public class Player implements Serializable, IMessenger, IInGamePlayer, IOffersC
 	private transient ECivilisation civilisation;
 	private transient CombatStrengthInformation combatStrengthInfo = new CombatStrengthInformation();
 	private transient IMessenger messenger;
+	private transient MatchContext context;
 
-	public Player(byte playerId, Team team, byte numberOfPlayers, EPlayerType playerType, ECivilisation civilisation) {
+	public Player(byte playerId, Team team, byte numberOfPlayers, EPlayerType playerType, ECivilisation civilisation, MatchContext context) {
 		this.playerId = playerId;
 		this.team = team;
 		this.numberOfPlayers = numberOfPlayers;
 		this.playerType = playerType;
 		this.civilisation = civilisation;
+		this.context = context;
 		team.registerPlayer(this);
 		updateCombatStrengths();
 	}
 
 	private void readObject(ObjectInputStream ois) throws ClassNotFoundException, IOException {
 		ois.defaultReadObject();
+		context = MatchContext.of(ois);
 		combatStrengthInfo = new CombatStrengthInformation();
 		updateCombatStrengths();
 	}
@@ -105,7 +109,7 @@ public class Player implements Serializable, IMessenger, IInGamePlayer, IOffersC
 
 	@Override
 	public ISettlerInformation getSettlerInformation() {
-		return new SettlerInformation(playerId);
+		return new SettlerInformation(playerId, context.getAllMovables());
 	}
 
 	private int getAmountOf(EMaterialType materialType) {
@@ -17,16 +17,18 @@ package jsettlers.logic.player;
 
 import static java8.util.stream.StreamSupport.stream;
 
+import java.util.Collection;
+
 import jsettlers.common.movable.EMovableType;
 import jsettlers.common.player.ISettlerInformation;
-import jsettlers.logic.movable.Movable;
+import jsettlers.logic.movable.interfaces.ILogicMovable;
 
 class SettlerInformation implements ISettlerInformation {
 
 	private final int[] movables = new int[EMovableType.NUMBER_OF_MOVABLETYPES];
 
-	SettlerInformation(byte playerId) {
-		stream(Movable.getAllMovables())
+	SettlerInformation(byte playerId, Collection<ILogicMovable> allMovables) {
+		stream(allMovables)
 				.filter(movable -> movable.getPlayer().getPlayerId() == playerId)
 				.forEach(movable -> {
 					int movableTypeIndex = movable.getMovableType().ordinal();
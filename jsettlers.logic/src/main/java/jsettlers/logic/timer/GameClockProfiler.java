@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.timer;
+
+import jsettlers.common.logging.TickProfiler;
+import jsettlers.logic.constants.MatchContext;
+import jsettlers.network.synchronic.timer.INetworkTimerProfiler;
+
+/**
+ * Forwards the measurements of the game clock to the {@link TickProfiler} of its match.
+ * 
+ * @author agent
+ * 
+ */
+public final class GameClockProfiler implements INetworkTimerProfiler {
+	private final MatchContext context;
+
+	public GameClockProfiler(MatchContext context) {
+		this.context = context;
+	}
+
+	@Override
+	public void lockstepWaited(long nanos) {
+		TickProfiler profiler = context.getProfiler();
+		if (profiler != null) {
+			profiler.record(TickProfiler.LOCKSTEP_WAIT, nanos);
+		}
+	}
+
+	@Override
+	public void runExecuted(long nanos) {
+		TickProfiler profiler = context.getProfiler();
+		if (profiler != null) {
+			profiler.record(TickProfiler.NETWORK_TIMER_RUN, nanos);
+		}
+	}
+}
@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.timer;
+
+import jsettlers.common.position.ShortPoint2D;
+
+/**
+ * An {@link IScheduledTimerable} that can prepare its next {@link #timerEvent()} in parallel to the other timerables of the same time slot.
+ * 
+ * @author agent
+ * 
+ */
+public interface IPreparableTimerable extends IScheduledTimerable {
+
+	/**
+	 * @return The position used to assign this timerable to a strip of the map.
+	 */
+	ShortPoint2D getPos();
+
+	/**
+	 * Called by the {@link ParallelTick} before the timer event. This method runs in parallel to the other timerables of the time slot, so it may only
+	 * read the grid and write the fields of this object. The following {@link #timerEvent()} must give the same result as without the preparation,
+	 * which means it has to check if the prepared results are still valid.
+	 */
+	void prepareTimerEvent();
+}
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.timer;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import jsettlers.common.position.ShortPoint2D;
+
+/**
+ * Prepares the {@link IPreparableTimerable}s of a time slot of the {@link RescheduleTimer} in parallel.
+ * <p />
+ * The timerables are split into horizontal strips of the map and the strips are prepared by the workers of a {@link ForkJoinPool}. Within a strip,
+ * the timerables are prepared in the order of the slot. As the preparation only reads the grid, the mutations are still done by the serial
+ * {@link IScheduledTimerable#timerEvent()} calls afterwards. Therefore the result of a time slot doesn't depend on the parallel execution.
+ * 
+ * @author agent
+ * 
+ */
+public final class ParallelTick {
+	private static final int MIN_TIMERABLES = 64; // below this, the overhead of the parallel execution isn't worth it
+
+	private final int stripHeight;
+	private final ArrayList<IPreparableTimerable>[] strips;
+	private final ForkJoinPool pool;
+
+	private int lastPreparedCount;
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public ParallelTick(short mapHeight, int stripHeight, int parallelism) {
+		this.stripHeight = stripHeight;
+		this.strips = new ArrayList[(mapHeight + stripHeight - 1) / stripHeight];
+		for (int i = 0; i < strips.length; i++) {
+			strips[i] = new ArrayList<>();
+		}
+		this.pool = new ForkJoinPool(parallelism);
+	}
+
+	/**
+	 * Prepares the {@link IPreparableTimerable}s among the given timerables. Canceled entries (null) and other timerables are ignored.
+	 * 
+	 * @param timerables
+	 * @param size
+	 *            Number of used entries in the timerables array.
+	 */
+	void prepare(IScheduledTimerable[] timerables, int size) {
+		lastPreparedCount = 0;
+		if (size < MIN_TIMERABLES) {
+			return;
+		}
+
+		for (int i = 0; i < size; i++) {
+			if (timerables[i] instanceof IPreparableTimerable) {
+				IPreparableTimerable timerable = (IPreparableTimerable) timerables[i];
+				ShortPoint2D position = timerable.getPos();
+				int strip = position == null ? 0 : Math.min(strips.length - 1, Math.max(0, position.y / stripHeight));
+				strips[strip].add(timerable);
+				lastPreparedCount++;
+			}
+		}
+
+		if (lastPreparedCount > 0) {
+			pool.invoke(new PrepareStripsTask(0, strips.length));
+		}
+
+		for (ArrayList<IPreparableTimerable> strip : strips) {
+			strip.clear();
+		}
+	}
+
+	/**
+	 * @return The number of timerables prepared in the last time slot.
+	 */
+	public int getLastPreparedCount() {
+		return lastPreparedCount;
+	}
+
+	public void shutdown() {
+		pool.shutdownNow();
+	}
+
+	private static void prepareStrip(ArrayList<IPreparableTimerable> strip) {
+		for (IPreparableTimerable timerable : strip) {
+			try {
+				timerable.prepareTimerEvent();
+			} catch (Throwable t) { // a failed preparation only means, the timer event has to do the work itself
+				System.err.println("ParallelTick catched: ");
+				t.printStackTrace();
+			}
+		}
+	}
+
+	private final class PrepareStripsTask extends RecursiveAction {
+		private static final long serialVersionUID = -1866264046449516364L;
+
+		private final int from;
+		private final int to;
+
+		PrepareStripsTask(int from, int to) {
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from == 1) {
+				prepareStrip(strips[from]);
+			} else {
+				int middle = (from + to) >>> 1;
+				invokeAll(new PrepareStripsTask(from, middle), new PrepareStripsTask(middle, to));
+			}
+		}
+	}
+}
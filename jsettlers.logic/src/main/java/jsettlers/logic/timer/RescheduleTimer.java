@@ -18,38 +18,81 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
-import java.util.ArrayList;
+import java.util.Arrays;
 
+import jsettlers.common.logging.TickProfiler;
 import jsettlers.logic.map.loading.MapLoadException;
-import jsettlers.logic.constants.MatchConstants;
 import jsettlers.network.client.interfaces.IGameClock;
 import jsettlers.network.synchronic.timer.INetworkTimerable;
 
+/**
+ * Schedules the {@link IScheduledTimerable}s of the game in time slices of {@value #TIME_SLICE} ms.
+ * <p />
+ * The timerables are stored in a hierarchical timing wheel with {@value #LEVELS} levels of {@value #SLOTS_PER_LEVEL} slots. The first level holds
+ * the timerables due in the current span of {@value #SLOTS_PER_LEVEL} ticks, every further level holds {@value #SLOTS_PER_LEVEL} times longer
+ * spans. When a span starts, the timerables of the corresponding slot of the next level are moved down. Therefore any delay can be scheduled.
+ * <p />
+ * The slots are arrays that are reused after a slot has been executed, so they only grow during the first ticks. The timerables of a tick are
+ * executed in the order they were added, which keeps the game deterministic. Timerables added with {@link #addCancelable(IScheduledTimerable, int)}
+ * can be canceled in O(1) with their {@link TimerHandle}.
+ * <p />
+ * Every match has its own timer, which is provided by its {@link jsettlers.logic.constants.MatchContext}.
+ * 
+ * @author Andreas Eberle
+ * 
+ */
 public final class RescheduleTimer implements INetworkTimerable, Serializable {
-	private static final long serialVersionUID = -1962430988827211391L;
+	private static final long serialVersionUID = 4361850429758103958L;
 
-	private static final int FUTURE_TIME = 32000;
 	private static final short TIME_SLICE = 25; // ms
-	private static final int TIME_SLOTS = FUTURE_TIME / TIME_SLICE;
+	private static final int LEVEL_BITS = 11;
+	private static final int SLOTS_PER_LEVEL = 1 << LEVEL_BITS;
+	private static final int SLOT_MASK = SLOTS_PER_LEVEL - 1;
+	private static final int LEVELS = 3; // 3 * 11 bit => covers the full range of the tick counter
 
-	private static RescheduleTimer uniIns;
+	private transient Slot[][] wheel;
+	private transient int currentTick;
 
-	@SuppressWarnings("unchecked")
-	private final ArrayList<IScheduledTimerable> timerables[] = new ArrayList[TIME_SLOTS];
-	private int currTimeSlot = 0;
+	private transient IGameClock clock;
+	private transient volatile boolean stopped;
+	private transient volatile ITimeSlotListener timeSlotListener;
+	private transient volatile ParallelTick parallelTick;
+	private transient volatile TickProfiler profiler;
 
-	protected RescheduleTimer() {
-		for (int i = 0; i < TIME_SLOTS; i++) {
-			timerables[i] = new ArrayList<>();
-		}
+	public RescheduleTimer() {
+		initWheel();
 	}
 
-	public static synchronized void stopAndClear() {
-		if (uniIns != null) {
-			if (MatchConstants.clock() != null) {
-				MatchConstants.clock().remove(uniIns);
+	private void initWheel() {
+		wheel = new Slot[LEVELS][SLOTS_PER_LEVEL];
+		for (int level = 0; level < LEVELS; level++) {
+			for (int slot = 0; slot < SLOTS_PER_LEVEL; slot++) {
+				wheel[level][slot] = new Slot(level > 0);
 			}
-			uniIns = null;
+		}
+	}
+
+	/**
+	 * Schedules this timer on the given clock.
+	 * 
+	 * @param gameClock
+	 */
+	public void schedule(IGameClock gameClock) {
+		this.clock = gameClock;
+		gameClock.schedule(this, TIME_SLICE);
+	}
+
+	/**
+	 * Stops this timer. The current time slot is aborted and no further time slots are executed.
+	 */
+	public synchronized void stop() {
+		if (stopped) {
+			return;
+		}
+
+		stopped = true;
+		if (clock != null) {
+			clock.remove(this);
 			try {
 				Thread.sleep(100L); // stopping takes some time
 			} catch (InterruptedException e) {
@@ -63,42 +106,116 @@ public final class RescheduleTimer implements INetworkTimerable, Serializable {
 	 * @param t
 	 * @param delay
 	 */
-	public static void add(IScheduledTimerable t, int delay) {
-		get().addTimerable(t, delay);
+	public void add(IScheduledTimerable t, int delay) {
+		addTimerable(t, null, delay);
 	}
 
-	private void addTimerable(IScheduledTimerable t, int delay) {
+	/**
+	 * Schedules the given {@link IScheduledTimerable} in max delay milliseconds and returns a handle to cancel the scheduling.
+	 * 
+	 * @param t
+	 * @param delay
+	 * @return The handle of the scheduling or null if the delay isn't positive and the timerable has not been scheduled.
+	 */
+	public TimerHandle addCancelable(IScheduledTimerable t, int delay) {
 		if (delay <= 0) {
-			return; // don't schedule if requested delay is negative or zero
+			return null;
 		}
 
-		int delaySlots = delay / TIME_SLICE;
-		delaySlots = delaySlots > 0 ? delaySlots : 1; // ensure at least one slot delay
+		TimerHandle handle = new TimerHandle(t);
+		addTimerable(t, handle, delay);
+		return handle;
+	}
 
-		assert delaySlots < TIME_SLOTS : "SCHEDULED TO FAR IN THE FUTURE! " + delay + "ms";
+	/**
+	 * Cancels the scheduling of the given handle. If the timerable is currently executed, it won't be rescheduled.
+	 * 
+	 * @param handle
+	 */
+	public void cancel(TimerHandle handle) {
+		handle.cancel();
+	}
 
-		timerables[(currTimeSlot + delaySlots) % TIME_SLOTS].add(t);
+	/**
+	 * Sets the listener that is informed after every time slot. The listener is called in the timer thread, after all {@link IScheduledTimerable}s of
+	 * the slot have been executed.
+	 * 
+	 * @param listener
+	 *            The listener or null to remove the current listener.
+	 */
+	public void setTimeSlotListener(ITimeSlotListener listener) {
+		timeSlotListener = listener;
 	}
 
-	private static synchronized RescheduleTimer get() {
-		if (uniIns == null) {
-			uniIns = new RescheduleTimer();
+	/**
+	 * Sets the {@link ParallelTick} used to prepare the {@link IPreparableTimerable}s of every time slot before they are executed.
+	 * 
+	 * @param tick
+	 *            The parallel tick or null to execute the time slots completely serial.
+	 */
+	public void setParallelTick(ParallelTick tick) {
+		parallelTick = tick;
+	}
+
+	/**
+	 * Sets the profiler that records the time of every tick and every executed timerable.
+	 * 
+	 * @param profiler
+	 *            The profiler or null to disable profiling.
+	 */
+	public void setProfiler(TickProfiler profiler) {
+		this.profiler = profiler;
+	}
+
+	private void addTimerable(IScheduledTimerable t, TimerHandle handle, int delay) {
+		if (delay <= 0) {
+			return; // don't schedule if requested delay is negative or zero
 		}
-		return uniIns;
+
+		int delaySlots = delay / TIME_SLICE;
+		delaySlots = delaySlots > 0 ? delaySlots : 1; // ensure at least one slot delay
+
+		insert(t, handle, currentTick + delaySlots);
 	}
 
 	@Override
 	public void timerEvent() {
-		ArrayList<IScheduledTimerable> queue = timerables[currTimeSlot];
+		final Slot slot = wheel[0][currentTick & SLOT_MASK];
+		final int slotSize = slot.size; // nothing can be added to the current slot while it is executed
+
+		final TickProfiler profiler = this.profiler;
+		final long tickStart = profiler != null ? System.nanoTime() : 0;
+
+		ParallelTick tick = parallelTick;
+		if (tick != null) {
+			tick.prepare(slot.timerables, slotSize);
+		}
 
-		for (IScheduledTimerable curr : queue) {
-			if (uniIns != this) { // fast stop when stopAndClear() is called.
+		for (int i = 0; i < slotSize; i++) {
+			if (stopped) { // fast stop when stop() is called.
 				return;
 			}
 
+			IScheduledTimerable curr = slot.timerables[i];
+			if (curr == null) { // the scheduling has been canceled
+				continue;
+			}
+
+			TimerHandle handle = slot.getHandle(i);
+			if (handle != null) {
+				handle.slot = null;
+			}
+
 			try {
+				long eventStart = profiler != null ? System.nanoTime() : 0;
 				int delay = curr.timerEvent();
-				addTimerable(curr, delay);
+				if (profiler != null) {
+					profiler.record(getProfilingKey(curr), System.nanoTime() - eventStart);
+				}
+
+				if (handle == null || !handle.cancelled) {
+					addTimerable(curr, handle, delay);
+				}
 			} catch (Throwable t) {
 				System.err.println("RescheduleTimer catched: ");
 				t.printStackTrace();
@@ -111,25 +228,210 @@ public final class RescheduleTimer implements INetworkTimerable, Serializable {
 			}
 		}
 
-		queue.clear();
-		currTimeSlot = (currTimeSlot + 1) % TIME_SLOTS;
+		slot.clear();
+
+		ITimeSlotListener listener = timeSlotListener;
+		if (listener != null) {
+			listener.timeSlotFinished();
+		}
+
+		if (profiler != null) {
+			profiler.record(TickProfiler.RESCHEDULE_TIMER_TICK, System.nanoTime() - tickStart, slotSize);
+		}
+
+		currentTick++;
+		if ((currentTick & SLOT_MASK) == 0) {
+			cascade();
+		}
+	}
+
+	private static Object getProfilingKey(IScheduledTimerable timerable) {
+		return timerable instanceof IProfiledTimerable ? ((IProfiledTimerable) timerable).getProfilingKey() : timerable.getClass();
 	}
 
-	public static void loadFrom(ObjectInputStream ois) throws MapLoadException {
+	/**
+	 * Moves the timerables of the span starting with the current tick down to the lower levels. Higher levels are handled first, so that the
+	 * timerables of every slot stay in the order they have been added. This is done directly after the last tick of the former span, so that no
+	 * timerable can be added to the new span before.
+	 */
+	private void cascade() {
+		for (int level = LEVELS - 1; level > 0; level--) {
+			int levelShift = level * LEVEL_BITS;
+			if ((currentTick & ((1 << levelShift) - 1)) == 0) {
+				Slot slot = wheel[level][(currentTick >>> levelShift) & SLOT_MASK];
+				for (int i = 0; i < slot.size; i++) {
+					if (slot.timerables[i] != null) {
+						insert(slot.timerables[i], slot.getHandle(i), slot.ticks[i]);
+					}
+				}
+				slot.clear();
+			}
+		}
+	}
+
+	private void insert(IScheduledTimerable timerable, TimerHandle handle, int tick) {
+		int level = getLevel(tick);
+		int slotIndex = (tick >>> (level * LEVEL_BITS)) & SLOT_MASK;
+		Slot slot = wheel[level][slotIndex];
+		int index = slot.add(timerable, handle, tick);
+
+		if (handle != null) {
+			handle.slot = slot;
+			handle.index = index;
+		}
+	}
+
+	/**
+	 * @param tick
+	 * @return The lowest level whose span contains the current tick as well as the given tick.
+	 */
+	private int getLevel(int tick) {
+		for (int level = 0; level < LEVELS - 1; level++) {
+			int spanShift = (level + 1) * LEVEL_BITS;
+			if ((tick >>> spanShift) == (currentTick >>> spanShift)) {
+				return level;
+			}
+		}
+		return LEVELS - 1;
+	}
+
+	/**
+	 * Writes the scheduled timerables with their remaining ticks and their {@link TimerHandle}s. They are written level by level and slot by slot, so
+	 * that reading them in the same order restores the order of every slot. Reading them binds the handles to their new slots.
+	 * 
+	 * @param oos
+	 * @throws IOException
+	 */
+	private void writeObject(ObjectOutputStream oos) throws IOException {
+		int numberOfTimerables = 0;
+		for (int level = 0; level < LEVELS; level++) {
+			for (int slotIndex = 0; slotIndex < SLOTS_PER_LEVEL; slotIndex++) {
+				numberOfTimerables += wheel[level][slotIndex].countTimerables();
+			}
+		}
+
+		oos.writeInt(currentTick);
+		oos.writeInt(numberOfTimerables);
+		for (int level = 0; level < LEVELS; level++) {
+			for (int slotIndex = 0; slotIndex < SLOTS_PER_LEVEL; slotIndex++) {
+				Slot slot = wheel[level][slotIndex];
+				for (int i = 0; i < slot.size; i++) {
+					if (slot.timerables[i] != null) {
+						int tick = level == 0 ? (currentTick & ~SLOT_MASK) | slotIndex : slot.ticks[i];
+						oos.writeInt(tick - currentTick);
+						oos.writeObject(slot.timerables[i]);
+						oos.writeObject(slot.getHandle(i));
+					}
+				}
+			}
+		}
+	}
+
+	private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+		initWheel();
+		currentTick = ois.readInt();
+		int numberOfTimerables = ois.readInt();
+		for (int i = 0; i < numberOfTimerables; i++) {
+			int remainingTicks = ois.readInt();
+			IScheduledTimerable timerable = (IScheduledTimerable) ois.readObject();
+			insert(timerable, (TimerHandle) ois.readObject(), currentTick + remainingTicks);
+		}
+	}
+
+	/**
+	 * Replaces the scheduled timerables of this timer with the ones read from the given stream.
+	 * 
+	 * @param ois
+	 * @throws MapLoadException
+	 */
+	public void loadFrom(ObjectInputStream ois) throws MapLoadException {
 		try {
-			stopAndClear();
-			uniIns = (RescheduleTimer) ois.readObject();
+			RescheduleTimer loaded = (RescheduleTimer) ois.readObject();
+			this.wheel = loaded.wheel;
+			this.currentTick = loaded.currentTick;
 		} catch (Throwable t) {
 			throw new MapLoadException(t);
 		}
 	}
 
-	public static void saveTo(ObjectOutputStream oos) throws IOException {
-		oos.writeObject(uniIns);
+	public void saveTo(ObjectOutputStream oos) throws IOException {
+		oos.writeObject(this);
 		oos.flush();
 	}
 
-	public static void schedule(IGameClock gameClock) {
-		gameClock.schedule(get(), TIME_SLICE);
+	/**
+	 * A slot of the timing wheel. Canceled entries are set to null and skipped when the slot is executed. The handles are only allocated when a
+	 * cancelable timerable is added and the ticks are only stored on the higher levels, where they are needed for cascading.
+	 * 
+	 * @author agent
+	 * 
+	 */
+	static final class Slot {
+		private static final int INITIAL_CAPACITY = 8;
+		private static final IScheduledTimerable[] NO_TIMERABLES = new IScheduledTimerable[0];
+		private static final int[] NO_TICKS = new int[0];
+
+		private final boolean storeTicks;
+
+		IScheduledTimerable[] timerables = NO_TIMERABLES;
+		TimerHandle[] handles;
+		int[] ticks = NO_TICKS;
+		int size;
+
+		Slot(boolean storeTicks) {
+			this.storeTicks = storeTicks;
+		}
+
+		int add(IScheduledTimerable timerable, TimerHandle handle, int tick) {
+			int index = size++;
+			if (index == timerables.length) {
+				timerables = Arrays.copyOf(timerables, Math.max(INITIAL_CAPACITY, index * 2));
+			}
+			timerables[index] = timerable;
+
+			if (handle != null) {
+				if (handles == null) {
+					handles = new TimerHandle[timerables.length];
+				} else if (handles.length < timerables.length) {
+					handles = Arrays.copyOf(handles, timerables.length);
+				}
+				handles[index] = handle;
+			}
+
+			if (storeTicks) {
+				if (ticks.length < timerables.length) {
+					ticks = Arrays.copyOf(ticks, timerables.length);
+				}
+				ticks[index] = tick;
+			}
+			return index;
+		}
+
+		TimerHandle getHandle(int index) {
+			return handles == null || index >= handles.length ? null : handles[index];
+		}
+
+		void remove(int index) {
+			timerables[index] = null;
+			handles[index] = null;
+		}
+
+		int countTimerables() {
+			int count = 0;
+			for (int i = 0; i < size; i++) {
+				if (timerables[i] != null) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+		void clear() {
+			Arrays.fill(timerables, 0, size, null);
+			if (handles != null) {
+				Arrays.fill(handles, 0, Math.min(size, handles.length), null);
+			}
+			size = 0;
+		}
 	}
 }
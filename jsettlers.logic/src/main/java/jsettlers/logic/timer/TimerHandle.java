@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.timer;
+
+import java.io.Serializable;
+
+/**
+ * Handle of an {@link IScheduledTimerable} scheduled at the {@link RescheduleTimer}. It can be used to cancel the scheduling in O(1).
+ * <p />
+ * The handle stays valid while the timerable reschedules itself by returning a positive delay. It is saved together with the timer, so a handle
+ * kept by its timerable still cancels the scheduling after the game has been loaded.
+ * 
+ * @author agent
+ * 
+ */
+public final class TimerHandle implements Serializable {
+	private static final long serialVersionUID = -5120712948062950113L;
+
+	final IScheduledTimerable timerable;
+
+	transient RescheduleTimer.Slot slot;
+	transient int index;
+
+	boolean cancelled = false;
+
+	TimerHandle(IScheduledTimerable timerable) {
+		this.timerable = timerable;
+	}
+
+	public IScheduledTimerable getTimerable() {
+		return timerable;
+	}
+
+	/**
+	 * Cancels the scheduling. If the timerable is currently executed, it won't be rescheduled.
+	 */
+	public void cancel() {
+		cancelled = true;
+		if (slot != null) {
+			slot.remove(index);
+			slot = null;
+		}
+	}
+
+	/**
+	 * @return true if the timerable is scheduled and hasn't been canceled.
+	 */
+	public boolean isScheduled() {
+		return slot != null;
+	}
+}
@@ -27,6 +27,7 @@ import java.util.Date;
 import java8.util.Optional;
 import jsettlers.ai.highlevel.AiExecutor;
 import jsettlers.common.CommonConstants;
+import jsettlers.common.logging.TickProfiler;
 import jsettlers.common.map.IGraphicsGrid;
 import jsettlers.common.menu.EGameError;
 import jsettlers.common.menu.EProgressState;
@@ -41,19 +42,17 @@ import jsettlers.common.statistics.IGameTimeProvider;
 import jsettlers.input.GuiInterface;
 import jsettlers.input.IGameStoppable;
 import jsettlers.input.PlayerState;
-import jsettlers.logic.buildings.Building;
-import jsettlers.logic.buildings.trading.MarketBuilding;
 import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.map.grid.MainGrid;
 import jsettlers.logic.map.grid.partition.PartitionsGrid;
 import jsettlers.logic.map.loading.IGameCreator;
 import jsettlers.logic.map.loading.IGameCreator.MainGridWithUiSettings;
 import jsettlers.logic.map.loading.MapLoadException;
 import jsettlers.logic.map.loading.MapLoader;
-import jsettlers.logic.movable.Movable;
 import jsettlers.logic.player.Player;
 import jsettlers.logic.player.PlayerSetting;
-import jsettlers.logic.timer.RescheduleTimer;
+import jsettlers.logic.timer.GameClockProfiler;
 import jsettlers.main.replay.ReplayUtils;
 import jsettlers.network.client.OfflineNetworkConnector;
 import jsettlers.network.client.interfaces.INetworkConnector;
@@ -76,6 +75,7 @@ public class JSettlersGame {
 
 	private final GameRunner gameRunner;
 
+	private TickProfiler profiler;
 	private boolean started = false;
 	private boolean stopped = false;
 	private boolean shutdownFinished;
@@ -110,6 +110,7 @@ public class JSettlersGame {
 		MatchConstants.ENABLE_FOG_OF_WAR_DISABLING = controlAll;
 		MatchConstants.ENABLE_DEBUG_COLORS = controlAll;
 
+		this.profiler = CommonConstants.ENABLE_PROFILING ? new TickProfiler() : null;
 		this.gameRunner = new GameRunner();
 	}
 
@@ -148,6 +149,17 @@ public class JSettlersGame {
 		}
 	}
 
+	/**
+	 * Sets the profiler of this game. By default a new profiler is used if {@link CommonConstants#ENABLE_PROFILING} is set. This must be called
+	 * before the game is started.
+	 * 
+	 * @param profiler
+	 *            The profiler or null to disable profiling.
+	 */
+	public void setProfiler(TickProfiler profiler) {
+		this.profiler = profiler;
+	}
+
 	/**
 	 * Starts the game in a new thread. Returns immediately.
 	 *
@@ -156,7 +168,7 @@ public class JSettlersGame {
 	public synchronized IStartingGame start() {
 		if (!started) {
 			started = true;
-			new Thread(null, gameRunner, "GameThread", 128 * 1024).start();
+			new Thread(null, gameRunner, "GameThread", 256 * 1024).start();
 		}
 		return gameRunner;
 	}
@@ -195,6 +207,7 @@ public class JSettlersGame {
 		private IGameExitListener exitListener;
 		private boolean gameRunning;
 		private AiExecutor aiExecutor;
+		private MatchContext context;
 
 		@Override
 		public void run() {
@@ -204,10 +217,11 @@ public class JSettlersGame {
 				}
 				updateProgressListener(EProgressState.LOADING, 0.1f);
 
-				clearState();
-				MatchConstants.init(networkConnector.getGameClock(), randomSeed);
+				context = new MatchContext(networkConnector.getGameClock(), randomSeed);
+				context.setProfiler(profiler);
+				context.clock().setProfiler(new GameClockProfiler(context));
 				try {
-					MatchConstants.clock().setReplayLogStream(createReplayFileStream());
+					context.clock().setReplayLogStream(createReplayFileStream());
 				} catch (IOException e) {
 					// TODO: log that we do not have write access to resources.
 					System.out.println("Cannot write jsettlers.integration.replay file.");
@@ -215,14 +229,14 @@ public class JSettlersGame {
 
 				updateProgressListener(EProgressState.LOADING_MAP, 0.3f);
 
-				MainGridWithUiSettings gridWithUiState = mapCreator.loadMainGrid(playerSettings);
+				MainGridWithUiSettings gridWithUiState = mapCreator.loadMainGrid(playerSettings, context);
 				mainGrid = gridWithUiState.getMainGrid();
 				PlayerState playerState = gridWithUiState.getPlayerState(playerId);
 
-				RescheduleTimer.schedule(MatchConstants.clock()); // schedule timer
+				context.getTimer().schedule(context.clock()); // schedule timer
 
 				updateProgressListener(EProgressState.LOADING_IMAGES, 0.7f);
-				gameTimeProvider = new GameTimeProvider(MatchConstants.clock());
+				gameTimeProvider = new GameTimeProvider(context.clock());
 
 				mainGrid.initForPlayer(playerId, playerState.getFogOfWar());
 				mainGrid.startThreads();
@@ -233,14 +247,14 @@ public class JSettlersGame {
 				updateProgressListener(EProgressState.WAITING_FOR_OTHER_PLAYERS, 0.98f);
 
 				if (replayFileInputStream != null) {
-					MatchConstants.clock().loadReplayLogFromStream(replayFileInputStream);
+					context.clock().loadReplayLogFromStream(replayFileInputStream);
 				}
 
 				networkConnector.setStartFinished(true);
 				waitForAllPlayersStartFinished(networkConnector);
 
 				final IMapInterfaceConnector connector = startingGameListener.preLoadFinished(this);
-				GuiInterface guiInterface = new GuiInterface(connector, MatchConstants.clock(), networkConnector.getTaskScheduler(),
+				GuiInterface guiInterface = new GuiInterface(connector, context.clock(), networkConnector.getTaskScheduler(),
 						mainGrid.getGuiInputGrid(), this, playerId, multiplayer);
 				connector.loadUIState(playerState.getUiState()); // This is required after the GuiInterface instantiation so that
 				// ConstructionMarksThread has it's mapArea variable initialized via the EActionType.SCREEN_CHANGE event.
@@ -248,7 +262,7 @@ public class JSettlersGame {
 				aiExecutor = new AiExecutor(playerSettings, mainGrid, networkConnector.getTaskScheduler());
 				networkConnector.getGameClock().schedule(aiExecutor, (short) 10000);
 
-				MatchConstants.clock().startExecution(); // WARNING: GAME CLOCK IS STARTED!
+				context.clock().startExecution(); // WARNING: GAME CLOCK IS STARTED!
 				// NO CONFIGURATION AFTER THIS POINT! =================================
 				gameRunning = true;
 
@@ -267,7 +281,7 @@ public class JSettlersGame {
 				mainGrid.stopThreads();
 				connector.shutdown();
 				guiInterface.stop();
-				clearState();
+				context.stop();
 
 				System.setErr(systemErrorStream);
 				System.setOut(systemOutStream);
@@ -362,6 +376,11 @@ public class JSettlersGame {
 			return mainGrid.getPartitionsGrid().getPlayer(playerId);
 		}
 
+		@Override
+		public TickProfiler getProfiler() {
+			return profiler;
+		}
+
 		@Override
 		public boolean isShutdownFinished() {
 			return shutdownFinished;
@@ -385,6 +404,10 @@ public class JSettlersGame {
 		public MainGrid getMainGrid() {
 			return mainGrid;
 		}
+
+		public MatchContext getMatchContext() {
+			return context;
+		}
 	}
 
 	private void configureLogging(final IGameCreator mapcreator) {
@@ -412,12 +435,4 @@ public class JSettlersGame {
 	private static DateFormat getLogDateFormatter() {
 		return new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss");
 	}
-
-	public static void clearState() {
-		RescheduleTimer.stopAndClear();
-		Movable.resetState();
-		Building.clearState();
-		MarketBuilding.clearState();
-		MatchConstants.clearState();
-	}
 }
@@ -23,13 +23,14 @@ import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.List;
 
+import jsettlers.algorithms.path.astar.CachingAStar;
+import jsettlers.common.logging.TickProfiler;
 import jsettlers.common.menu.IStartedGame;
 import jsettlers.common.menu.IStartingGame;
 import jsettlers.common.resources.ResourceManager;
 import jsettlers.common.utils.mutables.MutableInt;
 import jsettlers.input.tasks.EGuiAction;
 import jsettlers.input.tasks.SimpleGuiTask;
-import jsettlers.logic.constants.MatchConstants;
 import jsettlers.logic.map.loading.MapLoadException;
 import jsettlers.logic.map.loading.MapLoader;
 import jsettlers.logic.map.loading.list.MapList;
@@ -51,12 +52,24 @@ public class ReplayUtils {
 
 	public static MapLoader replayAndCreateSavegame(IReplayStreamProvider replayFile, int targetGameTimeMinutes, String newReplayFile)
 			throws MapLoadException, IOException {
+		return replayAndCreateSavegame(replayFile, targetGameTimeMinutes, newReplayFile, null);
+	}
+
+	/**
+	 * Replays the given replay and records the time spent in the subsystems of the game with the given profiler.
+	 * 
+	 * @param profiler
+	 *            The profiler of the replayed game or null to disable profiling.
+	 */
+	public static MapLoader replayAndCreateSavegame(IReplayStreamProvider replayFile, int targetGameTimeMinutes, String newReplayFile,
+			TickProfiler profiler) throws MapLoadException, IOException {
 		OfflineNetworkConnector networkConnector = createPausingOfflineNetworkConnector();
 		ReplayStartInformation replayStartInformation = new ReplayStartInformation();
 		JSettlersGame game = loadGameFromReplay(replayFile, networkConnector, replayStartInformation);
+		game.setProfiler(profiler);
 
 		IStartedGame startedGame = startGame(game); // before we can save the clock reference, the game must be started
-		IGameClock gameClock = MatchConstants.clock(); // after the game, the clock cannot be accessed any more => save reference before the game
+		IGameClock gameClock = networkConnector.getGameClock(); // after the game, the clock cannot be accessed any more => save reference before the game
 		MapLoader newSavegame = playGameToTargetTimeAndGetSavegames(startedGame, networkConnector, targetGameTimeMinutes)[0];
 
 		// create a jsettlers.integration.replay basing on the savegame and containing the remaining tasks.
@@ -102,8 +115,14 @@ public class ReplayUtils {
 
 			networkConnector.scheduleTaskAt(targetGameTimeMs / NetworkConstants.Client.LOCKSTEP_PERIOD,
 					new SimpleGuiTask(EGuiAction.QUICK_SAVE, (byte) 0));
-			MatchConstants.clock().fastForwardTo(targetGameTimeMs);
-			savegames[i] = getNewestSavegame();
+			networkConnector.getGameClock().fastForwardTo(targetGameTimeMs);
+			savegames[i] = ((GameRunner) startedGame).getMainGrid().getLastSavegame();
+		}
+
+		CachingAStar pathCache = ((GameRunner) startedGame).getMainGrid().getPathCache();
+		if (pathCache != null) {
+			System.out.println("Path cache: " + pathCache.getHits() + " hits, " + pathCache.getMisses() + " misses, " + pathCache.getInvalidations()
+					+ " invalidations");
 		}
 
 		awaitShutdown(startedGame);
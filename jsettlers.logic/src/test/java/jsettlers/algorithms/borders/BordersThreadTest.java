@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.borders;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link BordersThread} without starting its thread.
+ * 
+ * @author agent
+ */
+public class BordersThreadTest {
+	private static final short WIDTH = 50;
+	private static final short HEIGHT = 40;
+
+	private final byte[] players = new byte[WIDTH * HEIGHT];
+	private final BitSet borders = new BitSet();
+	private BordersThread bordersThread;
+
+	@Before
+	public void setUp() {
+		Arrays.fill(players, (byte) -1);
+		bordersThread = new BordersThread(new TestGrid(), WIDTH, HEIGHT);
+	}
+
+	@Test
+	public void testNothingMarked() throws InterruptedException {
+		assertEquals(0, bordersThread.processMarkedPositions(false));
+	}
+
+	@Test
+	public void testPositionsMarkedSeveralTimesAreCheckedOnce() throws InterruptedException {
+		bordersThread.checkPosition(10, 10);
+		bordersThread.checkPosition(10, 10);
+		bordersThread.checkPosition(3, 20);
+		bordersThread.checkPosition(10, 10);
+
+		assertEquals(2, bordersThread.processMarkedPositions(false));
+		assertEquals(0, bordersThread.processMarkedPositions(false));
+	}
+
+	@Test
+	public void testBorderOfConqueredArea() throws InterruptedException {
+		for (int y = 10; y < 20; y++) {
+			for (int x = 10; x < 20; x++) {
+				players[x + y * WIDTH] = 1;
+				bordersThread.checkPosition(x, y);
+			}
+		}
+		bordersThread.processMarkedPositions(false);
+
+		assertTrue(borders.get(10 + 15 * WIDTH));
+		assertTrue(borders.get(19 + 19 * WIDTH));
+		assertFalse(borders.get(15 + 15 * WIDTH));
+		assertFalse(borders.get(9 + 15 * WIDTH)); // not occupied
+	}
+
+	@Test
+	public void testCheckArea() throws InterruptedException {
+		for (int y = 0; y < HEIGHT; y++) {
+			for (int x = 0; x < 25; x++) {
+				players[x + y * WIDTH] = 0;
+			}
+			for (int x = 25; x < WIDTH; x++) {
+				players[x + y * WIDTH] = 2;
+			}
+		}
+
+		bordersThread.checkArea(0, 0, WIDTH, HEIGHT);
+		assertEquals(WIDTH * HEIGHT / 4, bordersThread.processMarkedPositions(false));
+
+		for (int y = 0; y < HEIGHT; y++) {
+			for (int x = 0; x < WIDTH; x++) {
+				assertEquals(x + "|" + y, x == 24 || x == 25, borders.get(x + y * WIDTH));
+			}
+		}
+	}
+
+	private class TestGrid implements IBordersThreadGrid {
+		@Override
+		public byte getPlayerIdAt(int x, int y) {
+			return players[x + y * WIDTH];
+		}
+
+		@Override
+		public void setBorderAt(int x, int y, boolean isBorder) {
+			borders.set(x + y * WIDTH, isBorder);
+		}
+
+		@Override
+		public boolean isInBounds(int x, int y) {
+			return x >= 0 && x < WIDTH && y >= 0 && y < HEIGHT;
+		}
+
+		@Override
+		public short getBlockedPartition(int x, int y) {
+			return 1;
+		}
+	}
+}
@@ -17,6 +17,7 @@ package jsettlers.algorithms.construction;
 import static org.junit.Assert.assertEquals;
 
 import java.util.BitSet;
+import java.util.Random;
 import java.util.Set;
 
 import org.junit.Test;
@@ -67,6 +68,51 @@ public class ConstructionMarksAlgorithmTest {
 		}
 	}
 
+	@Test
+	public void testIncrementalCalculationMatchesChangedMap() {
+		Random random = new Random(7);
+		boolean[][] blocked = new boolean[40][50];
+		for (boolean[] line : blocked) {
+			for (int x = 0; x < line.length; x++) {
+				line[x] = random.nextInt(30) == 0;
+			}
+		}
+
+		TestMap map = new TestMap(blocked);
+		BuildingAreaBitSet buildingSet = EBuildingType.TOWER.getBuildingAreaBitSet();
+		NewConstructionMarksAlgorithm algorithm = new NewConstructionMarksAlgorithm(map, (byte) 0);
+		MapRectangle mapArea = new MapRectangle(5, 5, 25, 20);
+		algorithm.calculateConstructMarks(mapArea, EBuildingType.TOWER);
+
+		for (int step = 0; step < 100; step++) {
+			for (int i = 0; i < 5; i++) { // change some positions like settlers or other players do
+				int x = random.nextInt(map.width);
+				int y = random.nextInt(map.height);
+				if (random.nextBoolean()) {
+					map.blockedSet.flip(x + y * map.width);
+				} else {
+					map.partitions[x + y * map.width] = (short) random.nextInt(2);
+				}
+				algorithm.constructionStateChangedAt(x, y);
+			}
+			if (step % 10 == 0) { // scroll
+				mapArea = new MapRectangle(random.nextInt(20) - 5, random.nextInt(20) - 5, 25, 20);
+			}
+			if (step % 25 == 0) { // e.g. partitions have been merged
+				algorithm.constructionStateChanged();
+			}
+
+			algorithm.calculateConstructMarks(mapArea, EBuildingType.TOWER);
+
+			for (int y = 0; y < map.height; y++) {
+				for (int x = 0; x < map.width; x++) {
+					boolean expected = mapArea.contains(x, y) && canCostructAt(map, x, y, buildingSet);
+					assertEquals(step + ": " + x + "|" + y, expected, map.marksSet[x + y * map.width] > 0);
+				}
+			}
+		}
+	}
+
 	@SuppressWarnings("unused")
 	private void print(TestMap map, boolean[][] blocked, BuildingAreaBitSet buildingSet) {
 		System.out.println("blocked | marksSet | canConstruct");
@@ -115,7 +161,8 @@ public class ConstructionMarksAlgorithmTest {
 				int currX = dx + x + buildingSet.minX;
 				int currY = dy + y + buildingSet.minY;
 				if (buildingSet.bitSet.get(dx + dy * buildingSet.width)
-						&& (!map.isInBounds(currX, currY) || map.blockedSet.get(currX + currY * map.width))) {
+						&& (!map.isInBounds(currX, currY) || map.blockedSet.get(currX + currY * map.width)
+								|| map.partitions[currX + currY * map.width] != 0)) {
 					return false;
 				}
 			}
@@ -130,6 +177,7 @@ public class ConstructionMarksAlgorithmTest {
 
 		int[] marksSet;
 		BitSet blockedSet;
+		short[] partitions;
 
 		public TestMap(boolean[][] blocked) {
 			height = (short) blocked.length;
@@ -137,6 +185,7 @@ public class ConstructionMarksAlgorithmTest {
 
 			marksSet = new int[width * height];
 			blockedSet = new BitSet(width * height);
+			partitions = new short[width * height];
 
 			for (int y = 0; y < height; y++) {
 				for (int x = 0; x < width; x++) {
@@ -168,7 +217,7 @@ public class ConstructionMarksAlgorithmTest {
 
 		@Override
 		public boolean canUsePositionForConstruction(int x, int y, Set<ELandscapeType> landscapeTypes, short partitionId) {
-			return isInBounds(x, y) && !blockedSet.get(x + y * width);
+			return isInBounds(x, y) && !blockedSet.get(x + y * width) && partitions[x + y * width] == partitionId;
 		}
 
 		@Override
@@ -187,12 +236,12 @@ public class ConstructionMarksAlgorithmTest {
 
 		@Override
 		public short getPartitionIdAt(int x, int y) {
-			return 0;
+			return partitions[x + y * width];
 		}
 
 		@Override
 		public boolean canPlayerConstructOnPartition(byte playerId, short partitionId) {
-			return true;
+			return partitionId == 0;
 		}
 
 		@Override
@@ -205,5 +254,9 @@ public class ConstructionMarksAlgorithmTest {
 			throw new UnsupportedOperationException("not mocked");
 		}
 
+		@Override
+		public void setConstructionStateChangedListener(IConstructionStateChangedListener listener) {
+		}
+
 	}
 }
@@ -0,0 +1,241 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.construction;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+import jsettlers.algorithms.AlgorithmConstants;
+import jsettlers.common.buildings.EBuildingType;
+import jsettlers.common.landscape.ELandscapeType;
+import jsettlers.common.map.shapes.MapRectangle;
+import jsettlers.common.position.RelativePoint;
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.constants.MatchContext;
+import jsettlers.logic.map.grid.MainGrid;
+import jsettlers.logic.map.grid.MainGridDataAccessor;
+import jsettlers.logic.map.grid.flags.FlagsGrid;
+import jsettlers.logic.map.grid.partition.PartitionsGrid;
+import jsettlers.logic.map.loading.MapLoadException;
+import jsettlers.network.synchronic.timer.NetworkTimer;
+import jsettlers.testutils.map.MapUtils;
+
+/**
+ * Measures the CPU time the {@link NewConstructionMarksAlgorithm} needs per second while the player is in placement mode. The screen of 80x50
+ * positions shows the area of player 0 on the mountain lake map. 10 or 40 positions of the screen per second get protected and the ones protected for
+ * the last calculation are freed again, like settlers building, flattening or cutting trees.
+ * <p />
+ * Two cases are measured: A still screen, which is calculated every {@link AlgorithmConstants#CONSTRUCT_MARKS_MAX_REFRESH_TIME} ms and a scrolling
+ * screen, which is calculated for 30 frames per second. For both, the calculation of the whole area, which was done every time before, is compared
+ * with the incremental calculation. After every incremental calculation, its marks are compared with the marks of a full calculation of the same
+ * area.
+ *
+ * @author agent
+ */
+public class ConstructionMarksSpeedTest {
+	private static final int SCREEN_WIDTH = 80;
+	private static final int SCREEN_HEIGHT = 50;
+	private static final int SCROLLING_CALCULATIONS_PER_SECOND = 30;
+	private static final double STILL_CALCULATIONS_PER_SECOND = 1000.0 / AlgorithmConstants.CONSTRUCT_MARKS_MAX_REFRESH_TIME;
+	private static final int WARMUP_CALCULATIONS = 300;
+	private static final int MEASUREMENT_CALCULATIONS = 300;
+
+	@Test
+	public void testLumberjack() throws MapLoadException {
+		measure(EBuildingType.LUMBERJACK);
+	}
+
+	@Test
+	public void testCastle() throws MapLoadException {
+		measure(EBuildingType.CASTLE);
+	}
+
+	private void measure(EBuildingType buildingType) throws MapLoadException {
+		measure(buildingType, 10);
+		measure(buildingType, 40);
+	}
+
+	private void measure(EBuildingType buildingType, int changesPerSecond) throws MapLoadException {
+		double fullStill = measure(buildingType, changesPerSecond, false, false);
+		double incrementalStill = measure(buildingType, changesPerSecond, true, false);
+		double fullScrolling = measure(buildingType, changesPerSecond, false, true);
+		double incrementalScrolling = measure(buildingType, changesPerSecond, true, true);
+
+		System.out.println(String.format("Construction marks, %dx%d screen, %s, %d changes/s: still screen: full %.2f ms/s, incremental %.2f ms/s; "
+				+ "scrolling screen: full %.2f ms/s, incremental %.2f ms/s", SCREEN_WIDTH, SCREEN_HEIGHT, buildingType, changesPerSecond,
+				fullStill * STILL_CALCULATIONS_PER_SECOND, incrementalStill * STILL_CALCULATIONS_PER_SECOND, fullScrolling * SCROLLING_CALCULATIONS_PER_SECOND,
+				incrementalScrolling * SCROLLING_CALCULATIONS_PER_SECOND));
+	}
+
+	/**
+	 * @return The average milliseconds per calculation.
+	 */
+	private double measure(EBuildingType buildingType, int changesPerSecond, boolean incremental, boolean scrolling) throws MapLoadException {
+		MainGrid grid = MapUtils.getMountainlake().loadMainGrid(null, new MatchContext(new NetworkTimer(true), 0)).getMainGrid();
+		MainGridDataAccessor gridAccessor = new MainGridDataAccessor(grid);
+		FlagsGrid flagsGrid = gridAccessor.getFlagsGrid();
+		AbstractConstructionMarkableMap map = grid.getConstructionMarksGrid();
+
+		MarksRecordingMap marks = new MarksRecordingMap(map, true);
+		NewConstructionMarksAlgorithm algorithm = new NewConstructionMarksAlgorithm(marks, (byte) 0);
+		marks.setConstructionStateChangedListener(algorithm);
+
+		MarksRecordingMap expectedMarks = new MarksRecordingMap(map, false);
+		NewConstructionMarksAlgorithm fullAlgorithm = new NewConstructionMarksAlgorithm(expectedMarks, (byte) 0);
+
+		ShortPoint2D center = getCenterOfPlayer(gridAccessor.getPartitionsGrid(), (byte) 0);
+		int screenX = center.x - SCREEN_WIDTH / 2 - SCREEN_HEIGHT / 4;
+		int screenY = center.y - SCREEN_HEIGHT / 2;
+
+		Random random = new Random(42);
+		List<ShortPoint2D> protectedPositions = new ArrayList<>();
+		double changesPerCalculation = changesPerSecond / (scrolling ? SCROLLING_CALCULATIONS_PER_SECOND : STILL_CALCULATIONS_PER_SECOND);
+		double changes = 0;
+		long time = 0;
+		for (int calculation = 0; calculation < WARMUP_CALCULATIONS + MEASUREMENT_CALCULATIONS; calculation++) {
+			for (ShortPoint2D position : protectedPositions) {
+				flagsGrid.setProtected(position.x, position.y, false);
+			}
+			protectedPositions.clear();
+			for (changes += changesPerCalculation; changes >= 1; changes--) {
+				int x = screenX + SCREEN_HEIGHT / 4 + random.nextInt(SCREEN_WIDTH);
+				int y = screenY + random.nextInt(SCREEN_HEIGHT);
+				if (!flagsGrid.isProtected(x, y)) {
+					flagsGrid.setProtected(x, y, true);
+					protectedPositions.add(new ShortPoint2D(x, y));
+				}
+			}
+			if (scrolling) {
+				screenX = Math.max(0, Math.min(grid.getWidth() - SCREEN_WIDTH * 2, screenX + random.nextInt(5) - 2));
+				screenY = Math.max(0, Math.min(grid.getHeight() - SCREEN_HEIGHT, screenY + random.nextInt(5) - 2));
+			}
+			if (!incremental) {
+				algorithm.constructionStateChanged();
+			}
+
+			MapRectangle area = new MapRectangle(screenX, screenY, SCREEN_WIDTH, SCREEN_HEIGHT);
+			long start = System.nanoTime();
+			algorithm.calculateConstructMarks(area, buildingType);
+			if (calculation >= WARMUP_CALCULATIONS) {
+				time += System.nanoTime() - start;
+			}
+
+			if (incremental) {
+				fullAlgorithm.constructionStateChanged();
+				fullAlgorithm.calculateConstructMarks(area, buildingType);
+				assertArrayEquals("marks differ after calculation " + calculation, expectedMarks.marks, marks.marks);
+			}
+		}
+		return time / 1000000.0 / MEASUREMENT_CALCULATIONS;
+	}
+
+	private static ShortPoint2D getCenterOfPlayer(PartitionsGrid partitionsGrid, byte playerId) {
+		long sumX = 0;
+		long sumY = 0;
+		int count = 0;
+		for (int y = 0; y < partitionsGrid.getHeight(); y++) {
+			for (int x = 0; x < partitionsGrid.getWidth(); x++) {
+				if (partitionsGrid.getPlayerIdAt(x, y) == playerId) {
+					sumX += x;
+					sumY += y;
+					count++;
+				}
+			}
+		}
+		return new ShortPoint2D((int) (sumX / count), (int) (sumY / count));
+	}
+
+	/**
+	 * Records the marks set by the algorithm, so that the marks of two algorithms can be compared.
+	 */
+	private static class MarksRecordingMap extends AbstractConstructionMarkableMap {
+		private final AbstractConstructionMarkableMap map;
+		private final boolean forwardMarks;
+		private final byte[] marks;
+
+		MarksRecordingMap(AbstractConstructionMarkableMap map, boolean forwardMarks) {
+			this.map = map;
+			this.forwardMarks = forwardMarks;
+			this.marks = new byte[map.getWidth() * map.getHeight()];
+			Arrays.fill(marks, (byte) -1);
+		}
+
+		@Override
+		public void setConstructMarking(int x, int y, boolean set, boolean binaryConstructionMarkValues, RelativePoint[] flattenPositions) {
+			if (isInBounds(x, y)) {
+				byte value = -1;
+				if (set) {
+					value = binaryConstructionMarkValues ? 0 : calculateConstructionMarkValue(x, y, flattenPositions);
+				}
+				marks[x + y * getWidth()] = value;
+			}
+			if (forwardMarks) {
+				map.setConstructMarking(x, y, set, binaryConstructionMarkValues, flattenPositions);
+			}
+		}
+
+		@Override
+		public short getWidth() {
+			return map.getWidth();
+		}
+
+		@Override
+		public short getHeight() {
+			return map.getHeight();
+		}
+
+		@Override
+		public boolean canUsePositionForConstruction(int x, int y, Set<ELandscapeType> landscapeTypes, short partitionId) {
+			return map.canUsePositionForConstruction(x, y, landscapeTypes, partitionId);
+		}
+
+		@Override
+		public short getPartitionIdAt(int x, int y) {
+			return map.getPartitionIdAt(x, y);
+		}
+
+		@Override
+		public boolean canPlayerConstructOnPartition(byte playerId, short partitionId) {
+			return map.canPlayerConstructOnPartition(playerId, partitionId);
+		}
+
+		@Override
+		public boolean isInBounds(int x, int y) {
+			return map.isInBounds(x, y);
+		}
+
+		@Override
+		public boolean canConstructAt(int x, int y, EBuildingType type, byte playerId) {
+			return map.canConstructAt(x, y, type, playerId);
+		}
+
+		@Override
+		public byte calculateConstructionMarkValue(int mapX, int mapY, RelativePoint[] flattenPositions) {
+			return map.calculateConstructionMarkValue(mapX, mapY, flattenPositions);
+		}
+
+		@Override
+		public void setConstructionStateChangedListener(IConstructionStateChangedListener listener) {
+			map.setConstructionStateChangedListener(listener);
+		}
+	}
+}
@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.fogofwar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.BitSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import jsettlers.common.CommonConstants;
+import jsettlers.common.mapobject.IMapObject;
+import jsettlers.common.movable.IMovable;
+import jsettlers.common.player.IPlayer;
+import jsettlers.common.position.ShortPoint2D;
+
+/**
+ * Tests the incremental updates of the {@link FogOfWar}.
+ * 
+ * @author agent
+ */
+public class FogOfWarTest {
+	private static final short WIDTH = 100;
+	private static final short HEIGHT = 120;
+	private static final IPlayer TEAM_0 = new IPlayer.DummyPlayer((byte) 0);
+	private static final IPlayer TEAM_1 = new IPlayer.DummyPlayer((byte) 1);
+
+	private final ConcurrentLinkedQueue<TestViewer> movables = new ConcurrentLinkedQueue<>();
+	private final ConcurrentLinkedQueue<TestViewer> buildings = new ConcurrentLinkedQueue<>();
+	private final BitSet reportedPositions = new BitSet();
+
+	private FogOfWar fogOfWar;
+	private TeamVisibilityGrid visibilityGrid;
+
+	@Before
+	public void setUp() {
+		fogOfWar = new FogOfWar(WIDTH, HEIGHT, TEAM_0);
+		fogOfWar.setEnabled(true);
+		visibilityGrid = new TeamVisibilityGrid(WIDTH, HEIGHT, new TestGrid());
+		fogOfWar.start(visibilityGrid);
+	}
+
+	@Test
+	public void testViewerMakesSurroundingVisible() {
+		movables.add(new TestViewer(50, 50, 10, TEAM_0));
+		visibilityGrid.update();
+
+		assertEquals(CommonConstants.FOG_OF_WAR_VISIBLE, fogOfWar.getVisibleStatus(50, 50));
+		assertEquals(CommonConstants.FOG_OF_WAR_VISIBLE, fogOfWar.getVisibleStatus(58, 50));
+		assertEquals(0, fogOfWar.getVisibleStatus(50, 90));
+	}
+
+	@Test
+	public void testViewerOfOtherTeamIsIgnored() {
+		movables.add(new TestViewer(50, 50, 10, TEAM_1));
+		visibilityGrid.update();
+
+		assertEquals(0, fogOfWar.getVisibleStatus(50, 50));
+	}
+
+	@Test
+	public void testLeftPositionsDimToExplored() {
+		TestViewer viewer = new TestViewer(50, 30, 10, TEAM_0);
+		movables.add(viewer);
+		visibilityGrid.update();
+
+		viewer.position = new ShortPoint2D(50, 90);
+		visibilityGrid.update();
+		assertEquals(CommonConstants.FOG_OF_WAR_VISIBLE - 10, fogOfWar.getVisibleStatus(50, 30));
+		assertEquals(CommonConstants.FOG_OF_WAR_VISIBLE, fogOfWar.getVisibleStatus(50, 90));
+
+		for (int i = 0; i < 10; i++) {
+			visibilityGrid.update();
+		}
+		assertEquals(CommonConstants.FOG_OF_WAR_EXPLORED, fogOfWar.getVisibleStatus(50, 30));
+		assertEquals(CommonConstants.FOG_OF_WAR_VISIBLE, fogOfWar.getVisibleStatus(50, 90));
+	}
+
+	@Test
+	public void testPositionSeenByTwoViewersStaysVisibleWhenOneLeaves() {
+		TestViewer building = new TestViewer(50, 50, 10, TEAM_0);
+		TestViewer movable = new TestViewer(52, 50, 10, TEAM_0);
+		buildings.add(building);
+		movables.add(movable);
+		visibilityGrid.update();
+
+		movables.remove(movable);
+		visibilityGrid.update();
+		assertEquals(CommonConstants.FOG_OF_WAR_VISIBLE, fogOfWar.getVisibleStatus(50, 50));
+
+		buildings.remove(building);
+		visibilityGrid.update();
+		assertEquals(CommonConstants.FOG_OF_WAR_VISIBLE - 10, fogOfWar.getVisibleStatus(50, 50));
+	}
+
+	@Test
+	public void testChangedViewDistance() {
+		TestViewer viewer = new TestViewer(50, 50, 5, TEAM_0);
+		movables.add(viewer);
+		visibilityGrid.update();
+		assertTrue(fogOfWar.getVisibleStatus(50, 70) < CommonConstants.FOG_OF_WAR_VISIBLE);
+
+		viewer.viewDistance = 20;
+		visibilityGrid.update();
+		assertEquals(CommonConstants.FOG_OF_WAR_VISIBLE, fogOfWar.getVisibleStatus(50, 70));
+	}
+
+	@Test
+	public void testDisablingIsReportedWithoutVisibilityUpdate() {
+		fogOfWar.setBackgroundListener((x, y) -> reportedPositions.set(x + y * WIDTH));
+		visibilityGrid.update();
+		reportedPositions.clear();
+
+		fogOfWar.setEnabled(false);
+		assertEquals(WIDTH * HEIGHT, reportedPositions.cardinality());
+		assertEquals(CommonConstants.FOG_OF_WAR_VISIBLE, fogOfWar.getVisibleStatus(50, 50));
+	}
+
+	@Test
+	public void testOnlyChangedPositionsAreReported() {
+		TestViewer viewer = new TestViewer(50, 50, 10, TEAM_0);
+		movables.add(viewer);
+		fogOfWar.setBackgroundListener((x, y) -> reportedPositions.set(x + y * WIDTH));
+		visibilityGrid.update();
+		assertEquals(WIDTH * HEIGHT, reportedPositions.cardinality()); // the listener is new, so everything is reported
+
+		reportedPositions.clear();
+		visibilityGrid.update();
+		assertEquals(0, reportedPositions.cardinality());
+
+		viewer.position = new ShortPoint2D(51, 50);
+		visibilityGrid.update();
+		assertTrue(reportedPositions.get(75 + 50 * WIDTH)); // brighter at the border of the circle
+		assertTrue(reportedPositions.cardinality() < 1000); // the half of the circle that got brighter and the left border, not all ~1960 positions
+	}
+
+	private static class TestViewer implements IViewDistancable {
+		private final IPlayer player;
+		private ShortPoint2D position;
+		private short viewDistance;
+
+		TestViewer(int x, int y, int viewDistance, IPlayer player) {
+			this.position = new ShortPoint2D(x, y);
+			this.viewDistance = (short) viewDistance;
+			this.player = player;
+		}
+
+		@Override
+		public ShortPoint2D getPos() {
+			return position;
+		}
+
+		@Override
+		public IPlayer getPlayer() {
+			return player;
+		}
+
+		@Override
+		public short getViewDistance() {
+			return viewDistance;
+		}
+	}
+
+	private class TestGrid implements IFogOfWarGrid {
+		@Override
+		public IMovable getMovableAt(short x, short y) {
+			return null;
+		}
+
+		@Override
+		public IMapObject getMapObjectsAt(short x, short y) {
+			return null;
+		}
+
+		@Override
+		public ConcurrentLinkedQueue<? extends IViewDistancable> getMovableViewDistancables() {
+			return movables;
+		}
+
+		@Override
+		public ConcurrentLinkedQueue<? extends IViewDistancable> getBuildingViewDistancables() {
+			return buildings;
+		}
+	}
+}
@@ -0,0 +1,266 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.fogofwar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import jsettlers.common.mapobject.IMapObject;
+import jsettlers.common.movable.IMovable;
+import jsettlers.common.player.IPlayer;
+import jsettlers.common.position.ShortPoint2D;
+
+/**
+ * Tests the per team visibility of the {@link TeamVisibilityGrid}.
+ * 
+ * @author agent
+ */
+public class TeamVisibilityGridTest {
+	private static final short WIDTH = 100;
+	private static final short HEIGHT = 120;
+	private static final byte TEAM_0 = 0;
+	private static final byte TEAM_3 = 3;
+
+	private TestGrid testGrid;
+	private ConcurrentLinkedQueue<TestViewer> movables;
+	private ConcurrentLinkedQueue<TestViewer> buildings;
+
+	private TeamVisibilityGrid grid;
+
+	@Before
+	public void setUp() {
+		testGrid = new TestGrid();
+		movables = testGrid.movables;
+		buildings = testGrid.buildings;
+		grid = new TeamVisibilityGrid(WIDTH, HEIGHT, testGrid);
+	}
+
+	@Test
+	public void testEmptyGrid() {
+		grid.update();
+
+		assertFalse(grid.isVisible(TEAM_0, 50, 50));
+		assertFalse(grid.isVisibleForAnyTeam(50, 50));
+		assertFalse(grid.isExplored(TEAM_0, 50, 50));
+		assertEquals(0, grid.getUsedBytes());
+	}
+
+	@Test
+	public void testTeamsAreSeparated() {
+		movables.add(new TestViewer(20, 20, 10, TEAM_0));
+		movables.add(new TestViewer(80, 90, 10, TEAM_3));
+		grid.update();
+
+		assertTrue(grid.isVisible(TEAM_0, 20, 20));
+		assertTrue(grid.isVisible(TEAM_0, 28, 20));
+		assertFalse(grid.isVisible(TEAM_0, 80, 90));
+		assertTrue(grid.isVisible(TEAM_3, 80, 90));
+		assertFalse(grid.isVisible(TEAM_3, 20, 20));
+		assertFalse(grid.isVisible((byte) 1, 20, 20));
+
+		assertTrue(grid.isVisibleForAnyTeam(20, 20));
+		assertTrue(grid.isVisibleForAnyTeam(80, 90));
+		assertFalse(grid.isVisibleForAnyTeam(50, 55));
+	}
+
+	@Test
+	public void testInitialViewsAreOnlyAppliedBeforeTheFirstUpdate() {
+		TestViewer viewer = new TestViewer(20, 20, 10, TEAM_0);
+		movables.add(viewer);
+		grid.applyInitialViews();
+		assertTrue(grid.isVisible(TEAM_0, 20, 20));
+
+		viewer.position = new ShortPoint2D(70, 90);
+		grid.applyInitialViews();
+		assertTrue(grid.isVisible(TEAM_0, 20, 20));
+		assertFalse(grid.isVisible(TEAM_0, 70, 90));
+
+		grid.update();
+		assertFalse(grid.isVisible(TEAM_0, 20, 20));
+		assertTrue(grid.isVisible(TEAM_0, 70, 90));
+	}
+
+	@Test
+	public void testMovedViewerLeavesExploredPositions() {
+		TestViewer viewer = new TestViewer(20, 20, 10, TEAM_0);
+		movables.add(viewer);
+		grid.update();
+
+		viewer.position = new ShortPoint2D(70, 90);
+		grid.update();
+
+		assertFalse(grid.isVisible(TEAM_0, 20, 20));
+		assertTrue(grid.isExplored(TEAM_0, 20, 20));
+		assertTrue(grid.isVisible(TEAM_0, 70, 90));
+		assertTrue(grid.isExplored(TEAM_0, 70, 90));
+		assertFalse(grid.isExplored(TEAM_0, 50, 55));
+	}
+
+	@Test
+	public void testOverlappingViewers() {
+		TestViewer building = new TestViewer(50, 50, 10, TEAM_0);
+		TestViewer movable = new TestViewer(55, 50, 10, TEAM_0);
+		buildings.add(building);
+		movables.add(movable);
+		grid.update();
+		assertTrue(grid.isVisible(TEAM_0, 33, 50));
+
+		buildings.remove(building);
+		grid.update();
+		assertTrue(grid.isVisible(TEAM_0, 50, 50));
+		assertTrue(grid.isVisible(TEAM_0, 40, 50));
+		assertFalse(grid.isVisible(TEAM_0, 33, 50)); // only seen by the building
+
+		movables.remove(movable);
+		grid.update();
+		assertFalse(grid.isVisible(TEAM_0, 50, 50));
+		assertFalse(grid.isVisibleForAnyTeam(55, 50));
+	}
+
+	@Test
+	public void testViewerChangingTeam() {
+		TestViewer viewer = new TestViewer(50, 50, 10, TEAM_0);
+		movables.add(viewer);
+		grid.update();
+
+		viewer.team = TEAM_3;
+		grid.update();
+
+		assertFalse(grid.isVisible(TEAM_0, 50, 50));
+		assertTrue(grid.isVisible(TEAM_3, 50, 50));
+	}
+
+	@Test
+	public void testViewersAtTheBorderOfTheMap() {
+		movables.add(new TestViewer(0, 0, 30, TEAM_0));
+		movables.add(new TestViewer(WIDTH - 1, HEIGHT - 1, 30, TEAM_0));
+		grid.update();
+
+		assertTrue(grid.isVisible(TEAM_0, 0, 0));
+		assertTrue(grid.isVisible(TEAM_0, WIDTH - 1, HEIGHT - 1));
+		assertTrue(grid.getUsedBytes() < 2 * WIDTH * HEIGHT / 8 + WIDTH * HEIGHT * 2); // only the counters of the seen chunks are allocated
+
+		movables.clear();
+		grid.update();
+		assertFalse(grid.isVisible(TEAM_0, 0, 0));
+		assertFalse(grid.isVisible(TEAM_0, WIDTH - 1, HEIGHT - 1));
+	}
+
+	@Test
+	public void testSaveAndLoad() throws IOException, ClassNotFoundException {
+		TestViewer viewer = new TestViewer(20, 20, 10, TEAM_0);
+		TestViewer removedBuilding = new TestViewer(80, 20, 10, TEAM_3);
+		movables.add(viewer);
+		buildings.add(removedBuilding);
+		grid.update();
+		viewer.position = new ShortPoint2D(70, 90);
+		grid.update();
+		buildings.remove(removedBuilding); // removed from the game after the last update
+
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream(buffer)) {
+			oos.writeObject(grid);
+			oos.writeObject(testGrid);
+		}
+		try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(buffer.toByteArray()))) {
+			grid = (TeamVisibilityGrid) ois.readObject();
+			testGrid = (TestGrid) ois.readObject();
+		}
+
+		assertTrue(grid.isExplored(TEAM_0, 20, 20));
+		assertFalse(grid.isVisible(TEAM_0, 20, 20));
+		assertTrue(grid.isVisible(TEAM_0, 70, 90));
+		assertFalse(grid.isExplored(TEAM_0, 50, 55));
+		assertTrue(grid.isVisible(TEAM_3, 80, 20));
+
+		TestViewer loadedViewer = testGrid.movables.peek();
+		loadedViewer.position = new ShortPoint2D(20, 90);
+		grid.update();
+
+		assertFalse(grid.isVisible(TEAM_0, 70, 90)); // the view circle applied before saving has been removed
+		assertTrue(grid.isVisible(TEAM_0, 20, 90));
+		assertTrue(grid.isExplored(TEAM_0, 70, 90));
+		assertFalse(grid.isVisible(TEAM_3, 80, 20));
+		assertTrue(grid.isExplored(TEAM_3, 80, 20));
+	}
+
+	private static class TestViewer implements IViewDistancable, Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private byte team;
+		private ShortPoint2D position;
+		private final short viewDistance;
+
+		TestViewer(int x, int y, int viewDistance, byte team) {
+			this.position = new ShortPoint2D(x, y);
+			this.viewDistance = (short) viewDistance;
+			this.team = team;
+		}
+
+		@Override
+		public ShortPoint2D getPos() {
+			return position;
+		}
+
+		@Override
+		public IPlayer getPlayer() {
+			return new IPlayer.DummyPlayer(team);
+		}
+
+		@Override
+		public short getViewDistance() {
+			return viewDistance;
+		}
+	}
+
+	private static class TestGrid implements IFogOfWarGrid, Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private final ConcurrentLinkedQueue<TestViewer> movables = new ConcurrentLinkedQueue<>();
+		private final ConcurrentLinkedQueue<TestViewer> buildings = new ConcurrentLinkedQueue<>();
+
+		@Override
+		public IMovable getMovableAt(short x, short y) {
+			return null;
+		}
+
+		@Override
+		public IMapObject getMapObjectsAt(short x, short y) {
+			return null;
+		}
+
+		@Override
+		public ConcurrentLinkedQueue<? extends IViewDistancable> getMovableViewDistancables() {
+			return movables;
+		}
+
+		@Override
+		public ConcurrentLinkedQueue<? extends IViewDistancable> getBuildingViewDistancables() {
+			return buildings;
+		}
+	}
+}
@@ -0,0 +1,300 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.landmarks;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import jsettlers.algorithms.traversing.area.IAreaVisitor;
+import jsettlers.common.movable.EDirection;
+
+/**
+ * Tests the {@link EnclosedBlockedAreaFinder} against the {@link EnclosedBlockedAreaFinderAlgorithm} by applying the same random changes and
+ * checks to two identical maps.
+ *
+ * @author agent
+ */
+public class EnclosedBlockedAreaFinderTest {
+	private static final short WIDTH = 40;
+	private static final short HEIGHT = 36;
+	private static final byte NUMBER_OF_PLAYERS = 3;
+
+	@Test
+	public void testSmallLakeEnclosedByPlayer() {
+		TestGrid grid = new TestGrid();
+		EnclosedBlockedAreaFinder finder = new EnclosedBlockedAreaFinder(grid);
+		grid.listener = finder;
+
+		for (int y = 10; y < 20; y++) {
+			for (int x = 10; x < 20; x++) {
+				grid.setPlayer(x, y, (byte) 1);
+			}
+		}
+		grid.setPlayer(14, 14, (byte) 0);
+		grid.setPlayer(15, 14, (byte) 0);
+		grid.setBlocked(14, 14, true, true);
+		grid.setBlocked(15, 14, false, true);
+
+		finder.checkLandmark(13, 15);
+		assertEquals(0, grid.getPlayerIdAt(14, 14)); // not next to the lake
+
+		finder.checkLandmark(13, 14);
+		assertEquals(1, grid.getPlayerIdAt(14, 14));
+		assertEquals(0, grid.getPlayerIdAt(15, 14)); // positions that are only protected are not taken over
+	}
+
+	@Test
+	public void testRandomMapsMatchBorderTraversal() {
+		Random random = new Random(7);
+		int takenOverPositions = 0;
+
+		for (int run = 0; run < 40; run++) {
+			long seed = random.nextLong();
+			TestGrid referenceGrid = createRandomGrid(new Random(seed));
+			TestGrid grid = createRandomGrid(new Random(seed));
+			EnclosedBlockedAreaFinder finder = new EnclosedBlockedAreaFinder(grid);
+			grid.listener = finder;
+
+			for (int step = 0; step < 400; step++) {
+				int x = random.nextInt(WIDTH);
+				int y = random.nextInt(HEIGHT);
+				int operation = random.nextInt(10);
+
+				if (operation < 4) { // a pioneer takes over a position
+					byte player = (byte) random.nextInt(NUMBER_OF_PLAYERS);
+					referenceGrid.setPlayer(x, y, player);
+					grid.setPlayer(x, y, player);
+
+					EnclosedBlockedAreaFinderAlgorithm.checkLandmark(referenceGrid, x, y);
+					finder.checkLandmark(x, y);
+
+				} else if (operation < 5) { // a tower takes over an area
+					byte player = (byte) random.nextInt(NUMBER_OF_PLAYERS);
+					int radius = 2 + random.nextInt(4);
+
+					finder.startBatch();
+					for (int areaY = Math.max(0, y - radius); areaY < Math.min(HEIGHT, y + radius); areaY++) {
+						for (int areaX = Math.max(0, x - radius); areaX < Math.min(WIDTH, x + radius); areaX++) {
+							referenceGrid.setPlayer(areaX, areaY, player);
+							grid.setPlayer(areaX, areaY, player);
+						}
+					}
+					for (int areaY = Math.max(0, y - radius); areaY < Math.min(HEIGHT, y + radius); areaY++) {
+						for (int areaX = Math.max(0, x - radius); areaX < Math.min(WIDTH, x + radius); areaX++) {
+							EnclosedBlockedAreaFinderAlgorithm.checkLandmark(referenceGrid, areaX, areaY);
+							finder.checkLandmark(areaX, areaY);
+						}
+					}
+					finder.endBatch();
+
+				} else if (operation < 8) { // trees grow or are cut, buildings are placed or destroyed
+					boolean blocked = random.nextBoolean();
+					boolean protectedPosition = blocked || random.nextInt(4) == 0;
+					referenceGrid.setBlocked(x, y, blocked, protectedPosition);
+					grid.setBlocked(x, y, blocked, protectedPosition);
+
+				} else if (operation < 9) {
+					boolean tower = random.nextBoolean();
+					referenceGrid.setTower(x, y, tower);
+					grid.setTower(x, y, tower);
+
+				} else {
+					boolean blockedPartition = random.nextInt(3) == 0;
+					referenceGrid.setBlockedPartition(x, y, blockedPartition);
+					grid.setBlockedPartition(x, y, blockedPartition);
+				}
+
+				assertArrayEquals("run " + run + " step " + step, referenceGrid.players, grid.players);
+				assertArrayEquals("run " + run + " step " + step, referenceGrid.blocked, grid.blocked);
+			}
+			takenOverPositions += grid.takenOverPositions;
+		}
+
+		assertTrue(takenOverPositions > 100);
+	}
+
+	private static TestGrid createRandomGrid(Random random) {
+		TestGrid grid = new TestGrid();
+
+		int[] centersX = new int[NUMBER_OF_PLAYERS + 1];
+		int[] centersY = new int[NUMBER_OF_PLAYERS + 1];
+		for (int i = 0; i < centersX.length; i++) {
+			centersX[i] = random.nextInt(WIDTH);
+			centersY[i] = random.nextInt(HEIGHT);
+		}
+
+		for (int y = 0; y < HEIGHT; y++) {
+			for (int x = 0; x < WIDTH; x++) {
+				int closest = 0;
+				for (int i = 1; i < centersX.length; i++) {
+					if (squareDistance(x, y, centersX[i], centersY[i]) < squareDistance(x, y, centersX[closest], centersY[closest])) {
+						closest = i;
+					}
+				}
+				grid.setPlayer(x, y, (byte) (closest - 1)); // the last region has no player
+
+				int random100 = random.nextInt(100);
+				if (random100 < 30) {
+					grid.setBlocked(x, y, true, true);
+				} else if (random100 < 35) {
+					grid.setBlocked(x, y, false, true);
+				} else if (random100 < 38) {
+					grid.setBlockedPartition(x, y, true);
+				} else if (random100 < 40) {
+					grid.setTower(x, y, true);
+				}
+			}
+		}
+
+		for (int i = 0; i < 15; i++) { // buildings are blocked areas of several positions that are destroyed together
+			int x = random.nextInt(WIDTH - 2);
+			int y = random.nextInt(HEIGHT - 2);
+			byte player = (byte) random.nextInt(NUMBER_OF_PLAYERS);
+			for (int dy = 0; dy < 2; dy++) {
+				for (int dx = 0; dx < 2; dx++) {
+					grid.buildings[x + dx + (y + dy) * WIDTH] = player;
+					grid.setBlocked(x + dx, y + dy, true, true);
+				}
+			}
+		}
+
+		return grid;
+	}
+
+	private static int squareDistance(int x1, int y1, int x2, int y2) {
+		return (x1 - x2) * (x1 - x2) + (y1 - y2) * (y1 - y2);
+	}
+
+	private static class TestGrid implements IEnclosedBlockedAreaFinderGrid {
+		final byte[] players = new byte[WIDTH * HEIGHT];
+		final boolean[] blocked = new boolean[WIDTH * HEIGHT];
+		final boolean[] protectedPositions = new boolean[WIDTH * HEIGHT];
+		final boolean[] blockedPartitions = new boolean[WIDTH * HEIGHT];
+		final boolean[] towers = new boolean[WIDTH * HEIGHT];
+		final byte[] buildings = new byte[WIDTH * HEIGHT];
+
+		ILandmarkStateChangedListener listener;
+		int takenOverPositions;
+
+		TestGrid() {
+			Arrays.fill(players, (byte) -1);
+			Arrays.fill(buildings, (byte) -1);
+		}
+
+		void setPlayer(int x, int y, byte player) {
+			players[x + y * WIDTH] = player;
+			notifyListener(x, y);
+		}
+
+		void setBlocked(int x, int y, boolean blocked, boolean protectedPosition) {
+			this.blocked[x + y * WIDTH] = blocked;
+			this.protectedPositions[x + y * WIDTH] = protectedPosition;
+			notifyListener(x, y);
+		}
+
+		void setBlockedPartition(int x, int y, boolean blockedPartition) {
+			blockedPartitions[x + y * WIDTH] = blockedPartition;
+			notifyListener(x, y);
+		}
+
+		void setTower(int x, int y, boolean tower) {
+			towers[x + y * WIDTH] = tower;
+			notifyListener(x, y);
+		}
+
+		private void notifyListener(int x, int y) {
+			if (listener != null) {
+				listener.landmarkStateChangedAt(x, y);
+			}
+		}
+
+		private void destroyBuilding(int x, int y) {
+			byte player = buildings[x + y * WIDTH];
+			for (int i = 0; i < EDirection.NUMBER_OF_DIRECTIONS + 1; i++) { // the building covers the position and some of its neighbors
+				int buildingX = i == 0 ? x : x + EDirection.VALUES[i - 1].gridDeltaX;
+				int buildingY = i == 0 ? y : y + EDirection.VALUES[i - 1].gridDeltaY;
+				if (isInBounds(buildingX, buildingY) && buildings[buildingX + buildingY * WIDTH] == player) {
+					buildings[buildingX + buildingY * WIDTH] = -1;
+					setBlocked(buildingX, buildingY, false, false);
+				}
+			}
+		}
+
+		@Override
+		public boolean isPioneerBlockedAndWithoutTowerProtection(int x, int y) {
+			int index = x + y * WIDTH;
+			return isInBounds(x, y) && (blocked[index] || protectedPositions[index]) && !blockedPartitions[index] && !towers[index];
+		}
+
+		@Override
+		public byte getPlayerIdAt(int x, int y) {
+			return players[x + y * WIDTH];
+		}
+
+		@Override
+		public boolean isInBounds(int x, int y) {
+			return x >= 0 && y >= 0 && x < WIDTH && y < HEIGHT;
+		}
+
+		@Override
+		public short getHeight() {
+			return HEIGHT;
+		}
+
+		@Override
+		public short getWidth() {
+			return WIDTH;
+		}
+
+		@Override
+		public boolean isOfPlayerOrBlocked(int x, int y, byte playerId) {
+			if (!isInBounds(x, y)) {
+				return false;
+			}
+			return players[x + y * WIDTH] == playerId || blockedPartitions[x + y * WIDTH];
+		}
+
+		@Override
+		public boolean isBlockedPartition(int x, int y) {
+			return blockedPartitions[x + y * WIDTH];
+		}
+
+		@Override
+		public byte getNumberOfPlayers() {
+			return NUMBER_OF_PLAYERS;
+		}
+
+		@Override
+		public IAreaVisitor getDestroyBuildingOrTakeOverVisitor(byte newPlayer) {
+			return (x, y) -> {
+				int index = x + y * WIDTH;
+				if (blocked[index] && players[index] != newPlayer) {
+					takenOverPositions++;
+					setPlayer(x, y, newPlayer);
+				}
+				if (buildings[index] >= 0 && buildings[index] != newPlayer) {
+					destroyBuilding(x, y);
+				}
+				return true;
+			};
+		}
+	}
+}
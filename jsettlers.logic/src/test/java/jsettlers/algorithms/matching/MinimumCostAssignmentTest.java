@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.matching;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests the {@link MinimumCostAssignment} against trying all possible assignments.
+ *
+ * @author agent
+ */
+public class MinimumCostAssignmentTest {
+
+	@Test
+	public void testSingleWorker() {
+		assertArrayEquals(new int[] { 0 }, MinimumCostAssignment.assign(new int[][] { { 7 } }));
+	}
+
+	@Test
+	public void testCrossingAssignmentIsResolved() {
+		int[][] costs = {
+				{ 10, 1 },
+				{ 1, 10 } };
+
+		assertArrayEquals(new int[] { 1, 0 }, MinimumCostAssignment.assign(costs));
+	}
+
+	@Test
+	public void testRandomMatricesMatchBruteForce() {
+		Random random = new Random(3);
+
+		for (int run = 0; run < 500; run++) {
+			int n = 1 + random.nextInt(7);
+			int[][] costs = new int[n][n];
+			for (int worker = 0; worker < n; worker++) {
+				for (int job = 0; job < n; job++) {
+					costs[worker][job] = random.nextInt(run % 2 == 0 ? 5 : 1000); // small values produce many equal assignments
+				}
+			}
+
+			int[] assignment = MinimumCostAssignment.assign(costs);
+
+			boolean[] assignedJobs = new boolean[n];
+			for (int job : assignment) {
+				assertTrue(!assignedJobs[job]);
+				assignedJobs[job] = true;
+			}
+			assertEquals(bruteForceMinimum(costs, 0, new boolean[n]), getCosts(costs, assignment));
+		}
+	}
+
+	private static int getCosts(int[][] costs, int[] assignment) {
+		int sum = 0;
+		for (int worker = 0; worker < assignment.length; worker++) {
+			sum += costs[worker][assignment[worker]];
+		}
+		return sum;
+	}
+
+	private static int bruteForceMinimum(int[][] costs, int worker, boolean[] usedJobs) {
+		if (worker == costs.length) {
+			return 0;
+		}
+
+		int minimum = Integer.MAX_VALUE;
+		for (int job = 0; job < costs.length; job++) {
+			if (!usedJobs[job]) {
+				usedJobs[job] = true;
+				minimum = Math.min(minimum, costs[worker][job] + bruteForceMinimum(costs, worker + 1, usedJobs));
+				usedJobs[job] = false;
+			}
+		}
+		return minimum;
+	}
+}
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.partitions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.Test;
+
+import jsettlers.common.movable.EDirection;
+
+/**
+ * Tests the {@link DynamicBlockedPartitions} against a full recalculation of the partitions after every change.
+ *
+ * @author agent
+ */
+public class DynamicBlockedPartitionsTest {
+	private static final short WIDTH = 60;
+	private static final short HEIGHT = 50;
+
+	private final BitSet blocked = new BitSet(WIDTH * HEIGHT);
+
+	@Test
+	public void testWallSplitsAndGapMerges() {
+		DynamicBlockedPartitions partitions = new DynamicBlockedPartitions(this::isBlocked, WIDTH, HEIGHT);
+		assertEquals(partitions.getPartitionAt(0, 0), partitions.getPartitionAt(WIDTH - 1, HEIGHT - 1));
+
+		for (int y = 0; y < HEIGHT; y++) {
+			setBlocked(partitions, 30, y, true);
+		}
+		assertEquals(DynamicBlockedPartitions.NO_PARTITION, partitions.getPartitionAt(30, 10));
+		assertNotEquals(partitions.getPartitionAt(0, 0), partitions.getPartitionAt(WIDTH - 1, HEIGHT - 1));
+		assertEquals(partitions.getPartitionAt(0, 0), partitions.getPartitionAt(29, HEIGHT - 1));
+
+		setBlocked(partitions, 30, 20, false);
+		assertEquals(partitions.getPartitionAt(0, 0), partitions.getPartitionAt(WIDTH - 1, HEIGHT - 1));
+	}
+
+	@Test
+	public void testRandomChangesMatchFullRecalculation() {
+		Random random = new Random(11);
+		for (int i = 0; i < WIDTH * HEIGHT; i++) {
+			blocked.set(i, random.nextInt(100) < 40);
+		}
+		DynamicBlockedPartitions partitions = new DynamicBlockedPartitions(this::isBlocked, WIDTH, HEIGHT);
+		assertSamePartitions(partitions);
+
+		for (int step = 0; step < 5000; step++) {
+			int x = random.nextInt(WIDTH);
+			int y = random.nextInt(HEIGHT);
+			setBlocked(partitions, x, y, random.nextInt(100) < 48); // close to the percolation threshold, so that many changes split or merge
+
+			assertSamePartitions(partitions);
+		}
+	}
+
+	private void setBlocked(DynamicBlockedPartitions partitions, int x, int y, boolean newBlocked) {
+		blocked.set(x + y * WIDTH, newBlocked);
+		partitions.blockedChanged(x, y, newBlocked);
+	}
+
+	private boolean isBlocked(int x, int y) {
+		return blocked.get(x + y * WIDTH);
+	}
+
+	private void assertSamePartitions(DynamicBlockedPartitions partitions) {
+		int[] expectedPartitions = calculatePartitions();
+		int[] expectedOfActual = new int[WIDTH * HEIGHT + 1];
+		int[] actualOfExpected = new int[WIDTH * HEIGHT + 1];
+		Arrays.fill(expectedOfActual, -1);
+		Arrays.fill(actualOfExpected, -1);
+
+		for (int y = 0; y < HEIGHT; y++) {
+			for (int x = 0; x < WIDTH; x++) {
+				int actual = partitions.getPartitionAt(x, y);
+				int expected = expectedPartitions[x + y * WIDTH];
+				if (expected == DynamicBlockedPartitions.NO_PARTITION) {
+					assertEquals(DynamicBlockedPartitions.NO_PARTITION, actual);
+					continue;
+				}
+
+				if (expectedOfActual[actual] == -1) {
+					expectedOfActual[actual] = expected;
+				}
+				if (actualOfExpected[expected] == -1) {
+					actualOfExpected[expected] = actual;
+				}
+				assertEquals(expected, expectedOfActual[actual]);
+				assertEquals(actual, actualOfExpected[expected]);
+			}
+		}
+	}
+
+	/**
+	 * Calculates the partitions from scratch with a flood fill.
+	 */
+	private int[] calculatePartitions() {
+		int[] result = new int[WIDTH * HEIGHT];
+		int[] queue = new int[WIDTH * HEIGHT];
+		int numberOfPartitions = 0;
+
+		for (int start = 0; start < result.length; start++) {
+			if (blocked.get(start) || result[start] != DynamicBlockedPartitions.NO_PARTITION) {
+				continue;
+			}
+
+			numberOfPartitions++;
+			result[start] = numberOfPartitions;
+			queue[0] = start;
+			for (int head = 0, tail = 1; head < tail; head++) {
+				int x = queue[head] % WIDTH;
+				int y = queue[head] / WIDTH;
+				for (EDirection direction : EDirection.VALUES) {
+					int neighborX = x + direction.gridDeltaX;
+					int neighborY = y + direction.gridDeltaY;
+					int neighbor = neighborX + neighborY * WIDTH;
+					if (neighborX >= 0 && neighborY >= 0 && neighborX < WIDTH && neighborY < HEIGHT && !blocked.get(neighbor)
+							&& result[neighbor] == DynamicBlockedPartitions.NO_PARTITION) {
+						result[neighbor] = numberOfPartitions;
+						queue[tail++] = neighbor;
+					}
+				}
+			}
+		}
+		return result;
+	}
+}
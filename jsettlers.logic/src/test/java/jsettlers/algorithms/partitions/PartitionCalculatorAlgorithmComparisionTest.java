@@ -19,7 +19,7 @@ import static org.junit.Assert.assertEquals;
 import java.util.BitSet;
 
 import jsettlers.logic.map.loading.MapLoadException;
-import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.map.grid.MainGrid;
 import jsettlers.logic.map.grid.MainGridDataAccessor;
 import jsettlers.logic.map.grid.landscape.LandscapeGrid;
@@ -37,9 +37,8 @@ public class PartitionCalculatorAlgorithmComparisionTest {
 
 	@Test
 	public void testCompareOldAndNew() throws MapLoadException {
-		MatchConstants.init(new NetworkTimer(true), 0);
 
-		MainGrid grid = MapUtils.getBigMap().loadMainGrid(null).getMainGrid();
+		MainGrid grid = MapUtils.getBigMap().loadMainGrid(null, new MatchContext(new NetworkTimer(true), 0)).getMainGrid();
 		MainGridDataAccessor gridAccessor = new MainGridDataAccessor(grid);
 
 		short width = gridAccessor.getWidth();
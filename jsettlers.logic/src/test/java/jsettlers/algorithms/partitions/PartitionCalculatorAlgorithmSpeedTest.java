@@ -21,7 +21,7 @@ import java.util.BitSet;
 import jsettlers.logic.map.grid.MainGridDataAccessor;
 import jsettlers.common.logging.MilliStopWatch;
 import jsettlers.logic.map.loading.MapLoadException;
-import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.map.grid.MainGrid;
 import jsettlers.logic.map.grid.landscape.LandscapeGrid;
 import jsettlers.network.synchronic.timer.NetworkTimer;
@@ -36,9 +36,8 @@ public class PartitionCalculatorAlgorithmSpeedTest {
 
 	@Test
 	public void testSpeed() throws MapLoadException, InterruptedException {
-		MatchConstants.init(new NetworkTimer(true), 0);
 
-		MainGrid grid = MapUtils.getBigMap().loadMainGrid(null).getMainGrid();
+		MainGrid grid = MapUtils.getBigMap().loadMainGrid(null, new MatchContext(new NetworkTimer(true), 0)).getMainGrid();
 		MainGridDataAccessor gridAccessor = new MainGridDataAccessor(grid);
 
 		short width = gridAccessor.getWidth();
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.astar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.Path;
+import jsettlers.common.player.IPlayer;
+import jsettlers.common.position.ShortPoint2D;
+
+public class CachingAStarTest {
+
+	private static final short WIDTH = 200;
+	private static final short HEIGHT = 200;
+
+	private final DummyEmptyAStarMap map = new DummyEmptyAStarMap(WIDTH, HEIGHT);
+	private final BucketQueueAStar aStar = new BucketQueueAStar(map, WIDTH, HEIGHT);
+	private final CachingAStar cachingAStar = new CachingAStar(map, new BucketQueueAStar(map, WIDTH, HEIGHT), WIDTH, HEIGHT, 100);
+
+	@Test
+	public void testHitReturnsSamePath() {
+		Path first = findPath(20, 20, 60, 40);
+		Path second = findPath(20, 20, 60, 40);
+
+		assertSamePath(first, second);
+		assertEquals(1, cachingAStar.getHits());
+		assertEquals(1, cachingAStar.getMisses());
+	}
+
+	@Test
+	public void testReturnedPathsAreIndependent() {
+		Path first = findPath(20, 20, 60, 40);
+		first.goToNextStep();
+		first.goToNextStep();
+
+		assertSamePath(aStar.findPath(getPathable(20, 20), new ShortPoint2D(60, 40)), findPath(20, 20, 60, 40));
+	}
+
+	@Test
+	public void testChangeOnPathInvalidates() {
+		Path path = findPath(20, 20, 60, 20);
+		path.goToNextStep();
+		setBlocked(path.nextX(), path.nextY(), true);
+
+		assertSamePath(aStar.findPath(getPathable(20, 20), new ShortPoint2D(60, 20)), findPath(20, 20, 60, 20));
+		assertEquals(0, cachingAStar.getHits());
+		assertEquals(1, cachingAStar.getInvalidations());
+	}
+
+	@Test
+	public void testChangeFarAwayKeepsPath() {
+		findPath(20, 20, 60, 20);
+		setBlocked(150, 150, true);
+		findPath(20, 20, 60, 20);
+
+		assertEquals(1, cachingAStar.getHits());
+		assertEquals(0, cachingAStar.getInvalidations());
+	}
+
+	@Test
+	public void testNoPathIsNotCached() {
+		setBlocked(100, 100, true);
+
+		assertNull(findPath(20, 20, 100, 100));
+		assertNull(findPath(20, 20, 100, 100));
+		assertEquals(0, cachingAStar.size());
+		assertEquals(2, cachingAStar.getMisses());
+	}
+
+	@Test
+	public void testLeastRecentlyUsedPathIsEvicted() {
+		for (int i = 0; i < 101; i++) {
+			findPath(10, 10, 20 + i, 30);
+		}
+		assertEquals(100, cachingAStar.size());
+
+		findPath(10, 10, 120, 30);
+		assertEquals(1, cachingAStar.getHits());
+		findPath(10, 10, 20, 30);
+		assertEquals(1, cachingAStar.getHits());
+	}
+
+	@Test
+	public void testCachedPathsEqualSearchesWhileMapChanges() {
+		Random random = new Random(7);
+		for (int i = 0; i < WIDTH * HEIGHT / 8; i++) {
+			map.setBlocked(random.nextInt(WIDTH), random.nextInt(HEIGHT), true);
+		}
+
+		ShortPoint2D[] positions = new ShortPoint2D[20];
+		for (int i = 0; i < positions.length; i++) {
+			positions[i] = new ShortPoint2D(random.nextInt(WIDTH), random.nextInt(HEIGHT));
+		}
+
+		for (int i = 0; i < 5000; i++) {
+			for (int change = 0; change < 5; change++) {
+				setBlocked(random.nextInt(WIDTH), random.nextInt(HEIGHT), random.nextBoolean());
+			}
+
+			ShortPoint2D start = positions[random.nextInt(positions.length)];
+			ShortPoint2D target = positions[random.nextInt(positions.length)];
+			IPathCalculatable requester = getPathable(start.x, start.y);
+			assertSamePath(aStar.findPath(requester, target), cachingAStar.findPath(requester, target));
+		}
+
+		assertTrue(cachingAStar.getHits() > 0);
+	}
+
+	private void setBlocked(int x, int y, boolean blocked) {
+		map.setBlocked(x, y, blocked);
+		cachingAStar.regionChanged(x, y);
+	}
+
+	private Path findPath(int sx, int sy, int tx, int ty) {
+		return cachingAStar.findPath(getPathable(sx, sy), new ShortPoint2D(tx, ty));
+	}
+
+	private static void assertSamePath(Path expected, Path actual) {
+		if (expected == null) {
+			assertNull(actual);
+			return;
+		}
+
+		assertNotNull(actual);
+		assertEquals(expected.getLength(), actual.getLength());
+		for (int i = 0; i < expected.getLength(); i++) {
+			assertEquals(expected.getNextPos(), actual.getNextPos());
+			expected.goToNextStep();
+			actual.goToNextStep();
+		}
+	}
+
+	private static IPathCalculatable getPathable(final int x, final int y) {
+		return new IPathCalculatable() {
+			@Override
+			public ShortPoint2D getPos() {
+				return new ShortPoint2D(x, y);
+			}
+
+			@Override
+			public IPlayer getPlayer() {
+				return new IPlayer.DummyPlayer();
+			}
+
+			@Override
+			public boolean needsPlayersGround() {
+				return false;
+			}
+		};
+	}
+}
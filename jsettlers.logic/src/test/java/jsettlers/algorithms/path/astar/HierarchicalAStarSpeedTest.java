@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.astar;
+
+import static org.junit.Assert.assertNotNull;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.Path;
+import jsettlers.common.Color;
+import jsettlers.common.player.IPlayer;
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.constants.MatchContext;
+import jsettlers.logic.map.grid.MainGridDataAccessor;
+import jsettlers.logic.map.grid.flags.FlagsGrid;
+import jsettlers.logic.map.grid.landscape.LandscapeGrid;
+import jsettlers.logic.map.loading.MapLoadException;
+import jsettlers.logic.map.loading.MapLoader;
+import jsettlers.network.synchronic.timer.NetworkTimer;
+import jsettlers.testutils.map.MapUtils;
+
+/**
+ * Compares the {@link HierarchicalAStar} with the plain {@link BucketQueueAStar} on the bundled maps.
+ * 
+ * @author agent
+ * 
+ */
+public class HierarchicalAStarSpeedTest {
+	private static final int NUMBER_OF_PATHS = 300;
+	private static final int MIN_DISTANCE = 60;
+
+	@Test
+	public void testMountainlake() throws MapLoadException {
+		compareOnMap(MapUtils.getMountainlake());
+	}
+
+	@Test
+	public void testSpezialSumpf() throws MapLoadException {
+		compareOnMap(MapUtils.getSpezialSumpf());
+	}
+
+	private void compareOnMap(MapLoader mapLoader) throws MapLoadException {
+		MainGridDataAccessor gridAccessor = new MainGridDataAccessor(mapLoader.loadMainGrid(null, new MatchContext(new NetworkTimer(true), 0)).getMainGrid());
+		short width = gridAccessor.getWidth();
+		short height = gridAccessor.getHeight();
+
+		CountingPathMap map = new CountingPathMap(gridAccessor.getFlagsGrid(), gridAccessor.getLandscapeGrid());
+		BucketQueueAStar bucketQueueAStar = new BucketQueueAStar(map, width, height);
+		HierarchicalAStar hierarchicalAStar = new HierarchicalAStar(map, new BucketQueueAStar(map, width, height), width, height);
+
+		short[][] requests = createRequests(map, width, height);
+		runRequests(bucketQueueAStar, requests); // warm up and build the abstract graph
+		runRequests(hierarchicalAStar, requests);
+
+		map.closedNodes = 0;
+		long aStarStart = System.nanoTime();
+		long aStarLength = runRequests(bucketQueueAStar, requests);
+		long aStarTime = System.nanoTime() - aStarStart;
+		long aStarNodes = map.closedNodes;
+
+		map.closedNodes = 0;
+		long hierarchicalStart = System.nanoTime();
+		long hierarchicalLength = runRequests(hierarchicalAStar, requests);
+		long hierarchicalTime = System.nanoTime() - hierarchicalStart;
+		long hierarchicalNodes = map.closedNodes;
+
+		for (short[] request : requests) {
+			if (findPath(bucketQueueAStar, request) != null) {
+				assertNotNull(findPath(hierarchicalAStar, request));
+			}
+		}
+
+		System.out.println(mapLoader.getMapName() + " (" + width + "x" + height + "), " + requests.length + " paths:");
+		System.out.println("\tBucketQueueAStar:  " + aStarNodes + " nodes expanded, " + aStarTime / 1000000 + " ms, total length " + aStarLength);
+		System.out.println("\tHierarchicalAStar: " + hierarchicalNodes + " nodes expanded, " + hierarchicalTime / 1000000 + " ms, total length "
+				+ hierarchicalLength);
+	}
+
+	private static long runRequests(AbstractAStar aStar, short[][] requests) {
+		long totalLength = 0;
+		for (short[] request : requests) {
+			Path path = findPath(aStar, request);
+			totalLength += path != null ? path.getLength() : 0;
+		}
+		return totalLength;
+	}
+
+	private static Path findPath(AbstractAStar aStar, short[] request) {
+		return aStar.findPath(new Pathable(request[0], request[1]), request[0], request[1], request[2], request[3]);
+	}
+
+	private static short[][] createRequests(CountingPathMap map, short width, short height) {
+		Random random = new Random(1234);
+		short[][] requests = new short[NUMBER_OF_PATHS][];
+
+		int count = 0;
+		while (count < NUMBER_OF_PATHS) {
+			short sx = (short) random.nextInt(width);
+			short sy = (short) random.nextInt(height);
+			short tx = (short) random.nextInt(width);
+			short ty = (short) random.nextInt(height);
+
+			if (!map.isBlocked(null, sx, sy) && !map.isBlocked(null, tx, ty) && map.getBlockedPartition(sx, sy) == map.getBlockedPartition(tx, ty)
+					&& ShortPoint2D.getOnGridDist(tx - sx, ty - sy) >= MIN_DISTANCE) {
+				requests[count++] = new short[] { sx, sy, tx, ty };
+			}
+		}
+		return requests;
+	}
+
+	private static class CountingPathMap implements IAStarPathMap {
+		private final FlagsGrid flagsGrid;
+		private final LandscapeGrid landscapeGrid;
+		private long closedNodes;
+
+		CountingPathMap(FlagsGrid flagsGrid, LandscapeGrid landscapeGrid) {
+			this.flagsGrid = flagsGrid;
+			this.landscapeGrid = landscapeGrid;
+		}
+
+		@Override
+		public boolean isBlocked(IPathCalculatable requester, int x, int y) {
+			return flagsGrid.isBlocked(x, y);
+		}
+
+		@Override
+		public float getCost(int sx, int sy, int tx, int ty) {
+			return 1;
+		}
+
+		@Override
+		public void markAsOpen(int x, int y) {
+		}
+
+		@Override
+		public void markAsClosed(int x, int y) {
+			closedNodes++;
+		}
+
+		@Override
+		public void setDebugColor(int x, int y, Color color) {
+		}
+
+		@Override
+		public short getBlockedPartition(int x, int y) {
+			return landscapeGrid.getBlockedPartitionAt(x, y);
+		}
+
+		@Override
+		public int getDynamicBlockedPartition(int x, int y) {
+			return 1;
+		}
+	}
+
+	private static class Pathable implements IPathCalculatable {
+		private static final long serialVersionUID = 1L;
+		private final ShortPoint2D position;
+
+		Pathable(short x, short y) {
+			this.position = new ShortPoint2D(x, y);
+		}
+
+		@Override
+		public ShortPoint2D getPos() {
+			return position;
+		}
+
+		@Override
+		public IPlayer getPlayer() {
+			return new IPlayer.DummyPlayer();
+		}
+
+		@Override
+		public boolean needsPlayersGround() {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.astar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.Path;
+import jsettlers.common.movable.EDirection;
+import jsettlers.common.player.IPlayer;
+import jsettlers.common.position.ShortPoint2D;
+
+public class HierarchicalAStarTest {
+
+	private static final short WIDTH = 200;
+	private static final short HEIGHT = 200;
+
+	private final DummyEmptyAStarMap map = new DummyEmptyAStarMap(WIDTH, HEIGHT);
+	private final BucketQueueAStar bucketQueueAStar = new BucketQueueAStar(map, WIDTH, HEIGHT);
+	private final HierarchicalAStar hierarchicalAStar = new HierarchicalAStar(map, bucketQueueAStar, WIDTH, HEIGHT);
+
+	@Test
+	public void testPathsOnEmptyMap() {
+		for (short sx = 5; sx < WIDTH; sx += 37) {
+			for (short sy = 3; sy < HEIGHT; sy += 41) {
+				for (short tx = 7; tx < WIDTH; tx += 43) {
+					for (short ty = 11; ty < HEIGHT; ty += 31) {
+						if (sx == tx && sy == ty) {
+							continue;
+						}
+
+						Path path = findPath(sx, sy, tx, ty);
+						int optimalLength = ShortPoint2D.getOnGridDist(tx - sx, ty - sy);
+						assertTrue(path.getLength() + " vs " + optimalLength, path.getLength() <= optimalLength * 1.5f);
+						assertValidPath(path, sx, sy, tx, ty);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testPathThroughGapInWall() {
+		blockColumn(100, 0, HEIGHT, true);
+		map.setBlocked(100, 170, false);
+		hierarchicalAStar.blockedChanged(100, 170);
+
+		List<ShortPoint2D> positions = assertValidPath(findPath(20, 20, 180, 20), 20, 20, 180, 20);
+		assertTrue(positions.contains(new ShortPoint2D(100, 170)));
+	}
+
+	@Test
+	public void testRepairAfterBlockingChanges() {
+		Path path = findPath(20, 100, 180, 100);
+		int unblockedLength = path.getLength();
+		assertTrue(unblockedLength <= 160 * 1.1f);
+		assertValidPath(path, 20, 100, 180, 100);
+
+		blockColumn(100, 0, HEIGHT - 10, true);
+		for (ShortPoint2D position : assertValidPath(findPath(20, 100, 180, 100), 20, 100, 180, 100)) {
+			assertTrue(position.x != 100 || position.y >= HEIGHT - 10);
+		}
+
+		blockColumn(100, 0, HEIGHT - 10, false);
+		path = findPath(20, 100, 180, 100);
+		assertEquals(unblockedLength, path.getLength());
+		assertValidPath(path, 20, 100, 180, 100);
+	}
+
+	@Test
+	public void testBlockedTarget() {
+		map.setBlocked(150, 150, true);
+		hierarchicalAStar.blockedChanged(150, 150);
+
+		assertNull(findPath(10, 10, 150, 150));
+	}
+
+	private void blockColumn(int x, int fromY, int toY, boolean blocked) {
+		for (int y = fromY; y < toY; y++) {
+			map.setBlocked(x, y, blocked);
+			hierarchicalAStar.blockedChanged(x, y);
+		}
+	}
+
+	private List<ShortPoint2D> assertValidPath(Path path, int sx, int sy, int tx, int ty) {
+		assertNotNull(path);
+		assertEquals(tx, path.getTargetX());
+		assertEquals(ty, path.getTargetY());
+
+		List<ShortPoint2D> positions = getPositions(path);
+		int x = sx;
+		int y = sy;
+		for (ShortPoint2D position : positions) {
+			assertNotNull(position + " is no neighbor of previous step", EDirection.getDirection(position.x - x, position.y - y));
+			assertFalse(map.isBlocked(null, position.x, position.y));
+			x = position.x;
+			y = position.y;
+		}
+		return positions;
+	}
+
+	private static List<ShortPoint2D> getPositions(Path path) {
+		List<ShortPoint2D> positions = new ArrayList<>();
+		for (int i = 0; i < path.getLength(); i++) {
+			positions.add(new ShortPoint2D(path.nextX(), path.nextY()));
+			path.goToNextStep();
+		}
+		return positions;
+	}
+
+	private Path findPath(int sx, int sy, int tx, int ty) {
+		return hierarchicalAStar.findPath(getPathable((short) sx, (short) sy), new ShortPoint2D(tx, ty));
+	}
+
+	private IPathCalculatable getPathable(final short x, final short y) {
+		return new IPathCalculatable() {
+			@Override
+			public ShortPoint2D getPos() {
+				return new ShortPoint2D(x, y);
+			}
+
+			@Override
+			public IPlayer getPlayer() {
+				return new IPlayer.DummyPlayer();
+			}
+
+			@Override
+			public boolean needsPlayersGround() {
+				return false;
+			}
+		};
+	}
+}
@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.astar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Test;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.Path;
+import jsettlers.common.player.IPlayer;
+import jsettlers.common.position.ShortPoint2D;
+
+public class ParallelPathServiceTest {
+
+	private static final short WIDTH = 200;
+	private static final short HEIGHT = 200;
+
+	private final DummyEmptyAStarMap map = createMap();
+	private final BucketQueueAStar aStar = new BucketQueueAStar(map, WIDTH, HEIGHT);
+	private final ParallelPathService pathService = new ParallelPathService(map, WIDTH, HEIGHT, 4);
+
+	@After
+	public void tearDown() {
+		pathService.shutdown();
+	}
+
+	@Test
+	public void testResultsAreEqualToSequentialSearchesAndDeliveredInOrder() {
+		Random random = new Random(42);
+		List<IPathCalculatable> requesters = new ArrayList<>();
+		List<ShortPoint2D> targets = new ArrayList<>();
+		List<Integer> deliveryOrder = new ArrayList<>();
+		List<Path> results = new ArrayList<>();
+
+		for (int i = 0; i < 500; i++) {
+			final int requestIndex = i;
+			IPathCalculatable requester = getPathable(getRandomPosition(random));
+			ShortPoint2D target = getRandomPosition(random);
+			requesters.add(requester);
+			targets.add(target);
+
+			pathService.requestPath(requester, target, path -> {
+				deliveryOrder.add(requestIndex);
+				results.add(path);
+			});
+		}
+		assertEquals(500, pathService.getNumberOfPendingRequests());
+
+		pathService.solvePendingRequests();
+
+		assertEquals(0, pathService.getNumberOfPendingRequests());
+		assertEquals(500, results.size());
+		for (int i = 0; i < 500; i++) {
+			assertEquals(i, (int) deliveryOrder.get(i));
+			assertSamePath(aStar.findPath(requesters.get(i), targets.get(i)), results.get(i));
+		}
+	}
+
+	@Test
+	public void testRequestsOfListenersAreSolvedByNextCall() {
+		IPathCalculatable requester = getPathable(new ShortPoint2D(10, 10));
+		ShortPoint2D target = new ShortPoint2D(150, 150);
+		List<Path> results = new ArrayList<>();
+
+		pathService.requestPath(requester, target, path -> {
+			results.add(path);
+			pathService.requestPath(requester, target, results::add);
+		});
+
+		pathService.solvePendingRequests();
+		assertEquals(1, results.size());
+		assertEquals(1, pathService.getNumberOfPendingRequests());
+
+		pathService.solvePendingRequests();
+		assertEquals(2, results.size());
+		assertSamePath(results.get(0), results.get(1));
+	}
+
+	@Test
+	public void testStartPositionIsCapturedOnRequest() {
+		final ShortPoint2D[] position = { new ShortPoint2D(10, 10) };
+		IPathCalculatable requester = new IPathCalculatable() {
+			@Override
+			public ShortPoint2D getPos() {
+				return position[0];
+			}
+
+			@Override
+			public IPlayer getPlayer() {
+				return new IPlayer.DummyPlayer();
+			}
+
+			@Override
+			public boolean needsPlayersGround() {
+				return false;
+			}
+		};
+		ShortPoint2D target = new ShortPoint2D(20, 20);
+		List<Path> results = new ArrayList<>();
+
+		pathService.requestPath(requester, target, results::add);
+		ShortPoint2D requestPosition = position[0];
+		position[0] = target;
+		pathService.solvePendingRequests();
+
+		assertSamePath(aStar.findPath(getPathable(requestPosition), target), results.get(0));
+	}
+
+	private static void assertSamePath(Path expected, Path actual) {
+		if (expected == null) {
+			assertNull(actual);
+			return;
+		}
+
+		assertEquals(expected.getLength(), actual.getLength());
+		for (int i = 0; i < expected.getLength(); i++) {
+			assertEquals(expected.getNextPos(), actual.getNextPos());
+			expected.goToNextStep();
+			actual.goToNextStep();
+		}
+	}
+
+	private static DummyEmptyAStarMap createMap() {
+		DummyEmptyAStarMap map = new DummyEmptyAStarMap(WIDTH, HEIGHT);
+		Random random = new Random(1);
+		for (int i = 0; i < WIDTH * HEIGHT / 10; i++) {
+			map.setBlocked(random.nextInt(WIDTH), random.nextInt(HEIGHT), true);
+		}
+		return map;
+	}
+
+	private static ShortPoint2D getRandomPosition(Random random) {
+		return new ShortPoint2D(random.nextInt(WIDTH), random.nextInt(HEIGHT));
+	}
+
+	private static IPathCalculatable getPathable(final ShortPoint2D position) {
+		return new IPathCalculatable() {
+			@Override
+			public ShortPoint2D getPos() {
+				return position;
+			}
+
+			@Override
+			public IPlayer getPlayer() {
+				return new IPlayer.DummyPlayer();
+			}
+
+			@Override
+			public boolean needsPlayersGround() {
+				return false;
+			}
+		};
+	}
+}
@@ -0,0 +1,232 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.dijkstra;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.Path;
+import jsettlers.algorithms.path.astar.BucketQueueAStar;
+import jsettlers.algorithms.path.astar.DummyEmptyAStarMap;
+import jsettlers.common.material.ESearchType;
+import jsettlers.common.movable.EDirection;
+import jsettlers.common.player.IPlayer;
+import jsettlers.common.position.ShortPoint2D;
+
+/**
+ * Tests the {@link DijkstraAlgorithm} on a map like the one of the MovableTestsMap (100x100 free positions), where most fitting positions are
+ * enclosed by blocked positions and can't be reached.
+ * 
+ * @author agent
+ * 
+ */
+public class DijkstraAlgorithmTest {
+	private static final short WIDTH = 100;
+	private static final short HEIGHT = 100;
+	private static final ShortPoint2D START = new ShortPoint2D(49, 50);
+	private static final ShortPoint2D REACHABLE_TARGET = new ShortPoint2D(49, 80);
+	private static final short MAX_RADIUS = 40;
+	private static final int[] RING_DELTA_X = { -1, 0, 1, 1, 0, -1 };
+	private static final int[] RING_DELTA_Y = { 0, 1, 1, 0, -1, -1 };
+
+	private final int[] dynamicBlockedPartitions = new int[WIDTH * HEIGHT];
+	private final DummyEmptyAStarMap aStarMap = new DummyEmptyAStarMap(WIDTH, HEIGHT) {
+		@Override
+		public int getDynamicBlockedPartition(int x, int y) {
+			return dynamicBlockedPartitions[y * WIDTH + x];
+		}
+	};
+	private final BitSet fittingPositions = new BitSet(WIDTH * HEIGHT);
+	private final CountingDijkstraMap map = new CountingDijkstraMap();
+	private final BucketQueueAStar aStar = new BucketQueueAStar(aStarMap, WIDTH, HEIGHT);
+	private final DijkstraAlgorithm dijkstra = new DijkstraAlgorithm(map, aStar, WIDTH, HEIGHT);
+
+	private final List<ShortPoint2D> enclosedPositions = new ArrayList<>();
+
+	public DijkstraAlgorithmTest() {
+		for (int y = 30; y <= 70; y += 4) {
+			for (int x = 31; x <= 71; x += 4) {
+				encloseFittingPosition(x, y);
+			}
+		}
+		fittingPositions.set(REACHABLE_TARGET.y * WIDTH + REACHABLE_TARGET.x);
+	}
+
+	private void encloseFittingPosition(int x, int y) {
+		fittingPositions.set(y * WIDTH + x);
+		for (EDirection direction : EDirection.VALUES) {
+			aStarMap.setBlocked(x + direction.gridDeltaX, y + direction.gridDeltaY, true);
+		}
+		enclosedPositions.add(new ShortPoint2D(x, y));
+	}
+
+	@Test
+	public void testFindsSamePathAsAStarPerCandidate() {
+		assertSamePath(findWithAStarPerCandidate(START), find(START));
+	}
+
+	@Test
+	public void testNoReachablePosition() {
+		fittingPositions.clear(REACHABLE_TARGET.y * WIDTH + REACHABLE_TARGET.x);
+		assertNull(find(START));
+	}
+
+	@Test
+	public void testStartInsideBlockedArea() {
+		aStarMap.setBlocked(START.x, START.y, true);
+		assertSamePath(findWithAStarPerCandidate(START), find(START));
+	}
+
+	@Test
+	public void testWalledOffCandidatesDoNotCalculateReachableArea() {
+		for (ShortPoint2D position : enclosedPositions) {
+			dynamicBlockedPartitions[position.y * WIDTH + position.x] = 1;
+		}
+
+		Path path = find(START);
+
+		assertSamePath(findWithAStarPerCandidate(START), path);
+		assertEquals(0, map.isBlockedCalls); // the A* rejected all enclosed candidates without searching, so no flood fill was needed
+	}
+
+	@Test
+	public void testSpeed() {
+		int runs = 20;
+
+		long perCandidateStart = System.nanoTime();
+		for (int i = 0; i < runs; i++) {
+			assertNotNull(findWithAStarPerCandidate(START));
+		}
+		long perCandidateTime = System.nanoTime() - perCandidateStart;
+
+		long dijkstraStart = System.nanoTime();
+		for (int i = 0; i < runs; i++) {
+			assertNotNull(find(START));
+		}
+		long dijkstraTime = System.nanoTime() - dijkstraStart;
+
+		System.out.println(enclosedPositions.size() + " unreachable candidates, " + runs + " searches:");
+		System.out.println("\tA* per candidate:  " + perCandidateTime / 1000000 + " ms");
+		System.out.println("\tDijkstraAlgorithm: " + dijkstraTime / 1000000 + " ms");
+	}
+
+	private Path find(ShortPoint2D start) {
+		return dijkstra.find(new Pathable(start), start.x, start.y, (short) 0, MAX_RADIUS, ESearchType.CUTTABLE_TREE);
+	}
+
+	/**
+	 * Reference implementation running the A* for every fitting position in the same order as the {@link DijkstraAlgorithm}.
+	 */
+	private Path findWithAStarPerCandidate(ShortPoint2D start) {
+		Pathable requester = new Pathable(start);
+		if (fittingPositions.get(start.y * WIDTH + start.x)) {
+			Path path = aStar.findPath(requester, start);
+			if (path != null) {
+				return path;
+			}
+		}
+
+		for (int radius = 0; radius < MAX_RADIUS; radius++) {
+			int x = start.x;
+			int y = start.y - radius;
+			for (int direction = 0; direction < 6; direction++) {
+				for (int length = 0; length < radius; length++) {
+					x += RING_DELTA_X[direction];
+					y += RING_DELTA_Y[direction];
+					if (0 <= x && x < WIDTH && 0 <= y && y < HEIGHT && fittingPositions.get(y * WIDTH + x)) {
+						Path path = aStar.findPath(requester, new ShortPoint2D(x, y));
+						if (path != null) {
+							return path;
+						}
+					}
+				}
+			}
+		}
+		return null;
+	}
+
+	private static void assertSamePath(Path expectedPath, Path path) {
+		assertNotNull(expectedPath);
+		assertNotNull(path);
+		assertEquals(expectedPath.getLength(), path.getLength());
+		while (expectedPath.hasNextStep()) {
+			assertEquals(expectedPath.getNextPos(), path.getNextPos());
+			expectedPath.goToNextStep();
+			path.goToNextStep();
+		}
+	}
+
+	private class CountingDijkstraMap implements IDijkstraPathMap {
+		private int isBlockedCalls;
+
+		@Override
+		public boolean fitsSearchType(int x, int y, ESearchType type, IPathCalculatable requester) {
+			return fittingPositions.get(y * WIDTH + x);
+		}
+
+		@Override
+		public boolean fitsSearchType(int x, int y, Set<ESearchType> types, IPathCalculatable requester) {
+			return fittingPositions.get(y * WIDTH + x);
+		}
+
+		@Override
+		public void setDijkstraSearched(int x, int y) {
+		}
+
+		@Override
+		public boolean isBlocked(IPathCalculatable requester, int x, int y) {
+			isBlockedCalls++;
+			return aStarMap.isBlocked(requester, x, y);
+		}
+
+		@Override
+		public short getBlockedPartition(int x, int y) {
+			return aStarMap.getBlockedPartition(x, y);
+		}
+	}
+
+	private static class Pathable implements IPathCalculatable {
+		private static final long serialVersionUID = 1L;
+		private final ShortPoint2D position;
+
+		Pathable(ShortPoint2D position) {
+			this.position = position;
+		}
+
+		@Override
+		public ShortPoint2D getPos() {
+			return position;
+		}
+
+		@Override
+		public IPlayer getPlayer() {
+			return new IPlayer.DummyPlayer();
+		}
+
+		@Override
+		public boolean needsPlayersGround() {
+			return false;
+		}
+	}
+}
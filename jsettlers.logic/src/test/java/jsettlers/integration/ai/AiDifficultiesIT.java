@@ -27,7 +27,6 @@ import jsettlers.common.ai.EPlayerType;
 import jsettlers.common.logging.StatisticsStopWatch;
 import jsettlers.common.menu.IStartedGame;
 import jsettlers.common.player.ECivilisation;
-import jsettlers.logic.constants.MatchConstants;
 import jsettlers.logic.map.grid.MainGrid;
 import jsettlers.logic.map.loading.MapLoadException;
 import jsettlers.logic.map.loading.MapLoader;
@@ -76,7 +75,7 @@ public class AiDifficultiesIT {
 		JSettlersGame.GameRunner startingGame = createStartingGame(playerSettings);
 		IStartedGame startedGame = ReplayUtils.waitForGameStartup(startingGame);
 
-		MatchConstants.clock().fastForwardTo(90 * MINUTES);
+		startingGame.getMatchContext().clock().fastForwardTo(90 * MINUTES);
 
 		short expectedMinimalProducedSoldiers = 920;
 		short producedSoldiers = startingGame.getMainGrid().getPartitionsGrid().getPlayer(0).getEndgameStatistic().getAmountOfProducedSoldiers();
@@ -102,19 +101,19 @@ public class AiDifficultiesIT {
 		int targetGameTime = 0;
 		do {
 			targetGameTime += JUMP_FORWARD;
-			MatchConstants.clock().fastForwardTo(targetGameTime);
+			startingGame.getMatchContext().clock().fastForwardTo(targetGameTime);
 			aiStatistics.updateStatistics();
 			if (!aiStatistics.isAlive(expectedWinnerSlotId)) {
 				stopAndFail(expectedWinner + " was defeated by " + expectedLooser, startedGame, startingGame.getMainGrid(), expectedWinnerSlotId);
 			}
-			if (MatchConstants.clock().getTime() > maximumTimeToWin) {
+			if (startingGame.getMatchContext().clock().getTime() > maximumTimeToWin) {
 				stopAndFail(expectedWinner + " was not able to defeat " + expectedLooser + " within " + (maximumTimeToWin / 60000)
 						+ " minutes.\nIf the AI code was changed in a way which makes the " + expectedLooser + " stronger with the sideeffect that "
 						+ "the " + expectedWinner + " needs more time to win you could make the " + expectedWinner + " stronger, too, or increase "
 						+ "the maximumTimeToWin.", startedGame, startingGame.getMainGrid(), expectedWinnerSlotId);
 			}
 		} while (aiStatistics.isAlive(expectedLooserSlotId));
-		System.out.println("The battle between " + expectedWinner + " and " + expectedLooser + " took " + (MatchConstants.clock().getTime() / 60000) +
+		System.out.println("The battle between " + expectedWinner + " and " + expectedLooser + " took " + (startingGame.getMatchContext().clock().getTime() / 60000) +
 				" minutes.");
 		ReplayUtils.awaitShutdown(startedGame);
 
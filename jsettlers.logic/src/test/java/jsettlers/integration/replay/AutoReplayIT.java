@@ -15,7 +15,13 @@
 package jsettlers.integration.replay;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java8.util.stream.Collectors;
 
 import jsettlers.common.CommonConstants;
@@ -46,7 +52,7 @@ public class AutoReplayIT {
 		TestUtils.setupTempResourceManager();
 	}
 
-	private static final Object ONLY_ONE_TEST_AT_A_TIME_LOCK = new Object();
+	private static final int PARALLEL_GAMES = 2;
 
 	@Parameters(name = "{index}: {0}")
 	public static Collection<Object[]> replaySets() {
@@ -61,9 +67,24 @@ public class AutoReplayIT {
 
 	@Test
 	public void testReplay() throws IOException, MapLoadException, ClassNotFoundException {
-		synchronized (ONLY_ONE_TEST_AT_A_TIME_LOCK) {
-			MapLoader[] actualSaveGames = ReplayUtils.replayAndCreateSavegames(setting.getReplayFile(), setting.getTimeMinutes());
-			setting.compareSaveGamesAndDelete(actualSaveGames);
+		MapLoader[] actualSaveGames = ReplayUtils.replayAndCreateSavegames(setting.getReplayFile(), setting.getTimeMinutes());
+		setting.compareSaveGamesAndDelete(actualSaveGames);
+	}
+
+	@Test
+	public void testParallelReplays() throws IOException, MapLoadException, ClassNotFoundException, InterruptedException, ExecutionException {
+		ExecutorService executor = Executors.newFixedThreadPool(PARALLEL_GAMES);
+		try {
+			List<Future<MapLoader[]>> results = new ArrayList<>();
+			for (int i = 0; i < PARALLEL_GAMES; i++) {
+				results.add(executor.submit(() -> ReplayUtils.replayAndCreateSavegames(setting.getReplayFile(), setting.getTimeMinutes())));
+			}
+
+			for (Future<MapLoader[]> result : results) {
+				setting.compareSaveGamesAndDelete(result.get());
+			}
+		} finally {
+			executor.shutdownNow();
 		}
 	}
 }
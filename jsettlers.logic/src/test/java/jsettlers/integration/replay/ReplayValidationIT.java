@@ -26,13 +26,12 @@ import org.junit.Test;
 import jsettlers.common.CommonConstants;
 import jsettlers.input.PlayerState;
 import jsettlers.logic.constants.Constants;
-import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.map.grid.MainGrid;
 import jsettlers.logic.map.loading.IGameCreator.MainGridWithUiSettings;
 import jsettlers.logic.map.loading.MapLoadException;
 import jsettlers.logic.map.loading.MapLoader;
 import jsettlers.logic.player.PlayerSetting;
-import jsettlers.main.JSettlersGame;
 import jsettlers.main.replay.ReplayUtils;
 import jsettlers.network.synchronic.timer.NetworkTimer;
 import jsettlers.testutils.TestUtils;
@@ -87,8 +86,8 @@ public class ReplayValidationIT {
 		Thread.sleep(2000L); // loading + saving might happend in less than a second => make sure the next savegame is saved with a different name
 
 		System.out.println("Loading savegame...");
-		MatchConstants.init(new NetworkTimer(true), 0L);
-		MainGridWithUiSettings loadedMap = savegame.loadMainGrid(PlayerSetting.createDefaultSettings(playerId, (byte) savegame.getMaxPlayers()));
+		MatchContext context = new MatchContext(new NetworkTimer(true), 0L);
+		MainGridWithUiSettings loadedMap = savegame.loadMainGrid(PlayerSetting.createDefaultSettings(playerId, (byte) savegame.getMaxPlayers()), context);
 		MainGrid mainGrid = loadedMap.getMainGrid();
 		PlayerState playerState = loadedMap.getPlayerState(playerId);
 
@@ -101,7 +100,7 @@ public class ReplayValidationIT {
 			assertNotNull(savegameOfSavegame);
 		} finally {
 			mainGrid.stopThreads();
-			JSettlersGame.clearState();
+			context.stop();
 		}
 
 		// compare direct savegame with replayed savegame.
@@ -20,6 +20,7 @@ import jsettlers.common.map.shapes.FreeMapArea;
 import jsettlers.common.map.shapes.MapCircle;
 import jsettlers.common.material.EMaterialType;
 import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.map.grid.partition.manager.PartitionManager;
 import jsettlers.logic.map.grid.partition.manager.materials.offers.EOfferPriority;
 import jsettlers.logic.map.grid.partition.manager.materials.offers.MaterialOffer;
@@ -37,8 +38,9 @@ public class PartitionsGridTest {
 	private static final short WIDTH = 200;
 	private static final short HEIGHT = 200;
 
-	private final PartitionsGrid grid = new PartitionsGrid(WIDTH, HEIGHT, PlayerSetting.createDefaultSettings((byte) 0, (byte) 10),
-			IBlockingProvider.DEFAULT_IMPLEMENTATION);
+	private static final EMaterialType[] OFFERED_MATERIALS = { EMaterialType.STONE, EMaterialType.PLANK, EMaterialType.FISH, EMaterialType.COAL };
+
+	private final PartitionsGrid grid = createGrid();
 
 	@Test
 	public void testMergeNoArea() {
@@ -243,11 +245,88 @@ public class PartitionsGridTest {
 		assertEquals(3, grid.getTowerCountAt(94, 71));
 	}
 
+	@Test
+	public void testRelabelAreaMovesOffersLikeChangingEveryPosition() {
+		PartitionsGrid referenceGrid = createGrid();
+		short[] partitions = createDividedPartitionWithOffers(grid);
+		short[] referencePartitions = createDividedPartitionWithOffers(referenceGrid);
+
+		long start = System.nanoTime();
+		grid.relabelArea(partitions[0], new ShortPoint2D(50, 100), partitions[1]);
+		long bulkTime = System.nanoTime() - start;
+
+		start = System.nanoTime();
+		for (int y = 10; y < 190; y++) {
+			for (int x = 10; x < 95; x++) {
+				referenceGrid.changePartitionUncheckedAt(x, y, referencePartitions[1]);
+			}
+		}
+		long referenceTime = System.nanoTime() - start;
+
+		System.out.println("Relabeling 15300 positions with 10200 offers took " + bulkTime / 1000 + " us, changing every position took "
+				+ referenceTime / 1000 + " us.");
+
+		for (int i = 0; i < 2; i++) {
+			Partition partition = grid.partitionObjects[partitions[i]];
+			Partition referencePartition = referenceGrid.partitionObjects[referencePartitions[i]];
+
+			assertEquals(referencePartition.getNumberOfElements(), partition.getNumberOfElements());
+			for (EMaterialType material : OFFERED_MATERIALS) {
+				assertEquals(referencePartition.getMaterialCounts().getAmountOf(material), partition.getMaterialCounts().getAmountOf(material));
+			}
+		}
+
+		for (int y = 10; y < 190; y++) {
+			for (int x = 10; x < 190; x++) {
+				if (x < 95 || x >= 105) {
+					short expectedPartition = x < 95 ? partitions[1] : partitions[0];
+					assertEquals(expectedPartition, grid.getPartitionIdAt(x, y));
+					if ((x + y) % 3 == 0) {
+						assertOfferAt(new ShortPoint2D(x, y), OFFERED_MATERIALS[(x + y) % OFFERED_MATERIALS.length], 1);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Creates a partition consisting of two rectangles separated by a gap, like a partition that has just been divided. Every third position holds an
+	 * offer.
+	 *
+	 * @return The id of the divided partition and the id of a new partition the left rectangle can be relabeled to.
+	 */
+	private static short[] createDividedPartitionWithOffers(PartitionsGrid grid) {
+		short dividedPartition = grid.createNewPartition((byte) 1);
+		for (int y = 10; y < 190; y++) {
+			for (int x = 10; x < 190; x++) {
+				if (x < 95 || x >= 105) {
+					grid.changePartitionUncheckedAt(x, y, dividedPartition);
+				}
+			}
+		}
+
+		Partition partitionObject = grid.partitionObjects[dividedPartition];
+		for (int y = 10; y < 190; y++) {
+			for (int x = 10; x < 190; x++) {
+				if ((x < 95 || x >= 105) && (x + y) % 3 == 0) {
+					partitionObject.addOffer(new ShortPoint2D(x, y), OFFERED_MATERIALS[(x + y) % OFFERED_MATERIALS.length], EOfferPriority.NORMAL);
+				}
+			}
+		}
+
+		return new short[] { dividedPartition, grid.createNewPartition((byte) 1) };
+	}
+
 	private void changePlayerOfTower(int x, int y, int newPlayer) {
 		ShortPoint2D pos = new ShortPoint2D(x, y);
 		grid.changePlayerOfTower(pos, (byte) newPlayer);
 	}
 
+	private static PartitionsGrid createGrid() {
+		return new PartitionsGrid(WIDTH, HEIGHT, PlayerSetting.createDefaultSettings((byte) 0, (byte) 10), IBlockingProvider.DEFAULT_IMPLEMENTATION,
+				new MatchContext(null, 0));
+	}
+
 	private void assertCircleIs(MapCircle circle, short partition) {
 		for (ShortPoint2D pos : circle) {
 			assertEquals(partition, grid.getPartitionIdAt(pos.x, pos.y));
@@ -0,0 +1,271 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.map.grid.partition.manager.datastructures;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import java8.util.function.Predicate;
+import jsettlers.common.position.ILocatable;
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.common.utils.MathUtils;
+import jsettlers.testutils.TestUtils;
+
+/**
+ * Compares the {@link PositionableList} with a plain linear search over the insertion order, which is how the list used to work. Both have to
+ * return exactly the same objects, including the choice between objects with the same distance.
+ *
+ * @author agent
+ */
+public class PositionableListTest {
+	private static final int MAP_SIZE = 200;
+
+	@Test
+	public void testEmptyList() {
+		PositionableList<TestObject> list = new PositionableList<>();
+
+		assertTrue(list.isEmpty());
+		assertNull(list.removeObjectNextTo(pos(10, 10)));
+		assertNull(list.getObjectAt(pos(10, 10)));
+		assertNull(list.removeObjectAt(pos(10, 10)));
+	}
+
+	@Test
+	public void testEqualDistancesReturnFirstInserted() {
+		PositionableList<TestObject> list = new PositionableList<>();
+		List<TestObject> objects = new ArrayList<>();
+		for (int i = 0; i < 100; i++) { // positions on a circle around (100, 100) with the same distance
+			TestObject object = new TestObject(i % 2 == 0 ? pos(100 + 50, 100) : pos(100, 100 - 50), i);
+			objects.add(object);
+			list.insert(object);
+		}
+
+		for (int i = 0; i < objects.size(); i++) {
+			assertSame(objects.get(i), list.removeObjectNextTo(pos(100, 100)));
+		}
+		assertTrue(list.isEmpty());
+	}
+
+	@Test
+	public void testFarAwayObjects() {
+		PositionableList<TestObject> list = new PositionableList<>();
+		for (int i = 0; i < 100; i++) {
+			list.insert(new TestObject(pos(1000, 1000 + i), i));
+		}
+
+		assertEquals(0, list.removeObjectNextTo(pos(0, 0)).id);
+		assertEquals(99, list.removeObjectNextTo(pos(1000, 2000)).id);
+	}
+
+	@Test
+	public void testRandomOperationsMatchLinearSearch() throws IOException, ClassNotFoundException {
+		for (int seed = 0; seed < 20; seed++) {
+			runRandomOperations(new Random(seed), 200 + seed * 50);
+		}
+	}
+
+	private void runRandomOperations(Random random, int numberOfObjects) throws IOException, ClassNotFoundException {
+		PositionableList<TestObject> list = new PositionableList<>();
+		LinearList reference = new LinearList();
+		List<TestObject> contained = new ArrayList<>();
+		int nextId = 0;
+
+		for (int i = 0; i < numberOfObjects; i++) {
+			TestObject object = new TestObject(randomPosition(random), nextId++);
+			list.insert(object);
+			reference.insert(object);
+			contained.add(object);
+		}
+
+		for (int operation = 0; operation < 3000; operation++) {
+			ShortPoint2D position = randomPosition(random);
+
+			switch (random.nextInt(9)) {
+			case 0:
+			case 1:
+				TestObject inserted = new TestObject(randomPosition(random), nextId++);
+				list.insert(inserted);
+				reference.insert(inserted);
+				contained.add(inserted);
+				break;
+			case 2:
+				TestObject expected = reference.removeObjectNextTo(position, null);
+				assertSame(expected, list.removeObjectNextTo(position));
+				contained.remove(expected);
+				break;
+			case 3:
+				int parity = random.nextInt(2);
+				Predicate<TestObject> predicate = object -> object.id % 2 == parity;
+				TestObject expectedAccepted = reference.removeObjectNextTo(position, predicate);
+				assertSame(expectedAccepted, list.removeObjectNextTo(position, predicate));
+				contained.remove(expectedAccepted);
+				break;
+			case 4:
+				if (!contained.isEmpty()) {
+					ShortPoint2D existingPosition = contained.get(random.nextInt(contained.size())).getPos();
+					TestObject expectedAt = reference.removeObjectAt(existingPosition);
+					assertSame(expectedAt, list.removeObjectAt(existingPosition));
+					contained.remove(expectedAt);
+				}
+				break;
+			case 5:
+				if (!contained.isEmpty()) {
+					TestObject removed = contained.remove(random.nextInt(contained.size()));
+					list.remove(removed);
+					reference.remove(removed);
+				}
+				break;
+			case 6:
+				if (!contained.isEmpty()) { // move an object by one or more steps like a pushed movable
+					TestObject moved = contained.get(random.nextInt(contained.size()));
+					ShortPoint2D oldPosition = moved.getPos();
+					moved.position = clamp(oldPosition.x + random.nextInt(21) - 10, oldPosition.y + random.nextInt(21) - 10);
+					list.positionChanged(moved, oldPosition);
+				}
+				break;
+			case 7:
+				assertSame(reference.getObjectAt(position), list.getObjectAt(position));
+				if (!contained.isEmpty()) {
+					ShortPoint2D existingPosition = contained.get(random.nextInt(contained.size())).getPos();
+					assertSame(reference.getObjectAt(existingPosition), list.getObjectAt(existingPosition));
+				}
+				break;
+			case 8:
+				if (random.nextInt(20) == 0) {
+					list = TestUtils.serializeAndDeserialize(list);
+					List<TestObject> deserializedObjects = new ArrayList<>();
+					for (TestObject object : list) {
+						deserializedObjects.add(object);
+					}
+					contained = deserializedObjects;
+					reference = new LinearList();
+					for (TestObject object : deserializedObjects) {
+						reference.insert(object);
+					}
+				}
+				break;
+			}
+
+			assertEquals(reference.data.size(), list.size());
+		}
+
+		assertOrder(reference, list);
+	}
+
+	private static void assertOrder(LinearList reference, PositionableList<TestObject> list) {
+		Iterator<TestObject> iterator = list.iterator();
+		for (TestObject expected : reference.data) {
+			assertSame(expected, iterator.next());
+		}
+	}
+
+	private static ShortPoint2D randomPosition(Random random) {
+		return pos(random.nextInt(MAP_SIZE), random.nextInt(MAP_SIZE));
+	}
+
+	private static ShortPoint2D clamp(int x, int y) {
+		return pos(Math.max(0, Math.min(MAP_SIZE - 1, x)), Math.max(0, Math.min(MAP_SIZE - 1, y)));
+	}
+
+	private static ShortPoint2D pos(int x, int y) {
+		return new ShortPoint2D(x, y);
+	}
+
+	/**
+	 * The old linear implementation of the {@link PositionableList}.
+	 */
+	private static class LinearList {
+		private final LinkedList<TestObject> data = new LinkedList<>();
+
+		void insert(TestObject object) {
+			data.add(object);
+		}
+
+		void remove(TestObject object) {
+			data.remove(object);
+		}
+
+		TestObject getObjectAt(ShortPoint2D position) {
+			for (TestObject curr : data) {
+				if (curr.getPos().equals(position)) {
+					return curr;
+				}
+			}
+			return null;
+		}
+
+		TestObject removeObjectAt(ShortPoint2D position) {
+			TestObject object = getObjectAt(position);
+			data.remove(object);
+			return object;
+		}
+
+		TestObject removeObjectNextTo(ShortPoint2D position, Predicate<TestObject> acceptor) {
+			int bestDistance = Integer.MAX_VALUE;
+			TestObject currBest = null;
+
+			for (TestObject currEntry : data) {
+				if (acceptor != null && !acceptor.test(currEntry)) {
+					continue;
+				}
+
+				int currDist = MathUtils.squareHypot(position, currEntry.getPos());
+				if (bestDistance > currDist) {
+					bestDistance = currDist;
+					currBest = currEntry;
+				}
+			}
+
+			if (currBest != null) {
+				data.remove(currBest);
+			}
+			return currBest;
+		}
+	}
+
+	private static class TestObject implements ILocatable, Serializable {
+		private static final long serialVersionUID = 1L;
+
+		final int id;
+		ShortPoint2D position;
+
+		TestObject(ShortPoint2D position, int id) {
+			this.position = position;
+			this.id = id;
+		}
+
+		@Override
+		public ShortPoint2D getPos() {
+			return position;
+		}
+
+		@Override
+		public String toString() {
+			return "TestObject{" + id + " at " + position + "}";
+		}
+	}
+}
@@ -28,23 +28,10 @@ public class JoblessSupplierMock implements IJoblessSupplier {
 
 	private LinkedList<IManagerBearer> jobless = new LinkedList<>();
 
-	public void addJoblessAt(final ShortPoint2D pos) {
-		jobless.add(new IManagerBearer() {
-			private static final long serialVersionUID = 3833820381369081344L;
-
-			@Override
-			public ShortPoint2D getPos() {
-				return pos;
-			}
-
-			@Override
-			public void deliver(EMaterialType materialType, IMaterialOffer offer, IMaterialRequest request) {
-				offer.distributionAccepted();
-				offer.offerTaken();
-				request.deliveryAccepted();
-				request.deliveryFulfilled();
-			}
-		});
+	public BearerMock addJoblessAt(final ShortPoint2D pos) {
+		BearerMock bearer = new BearerMock(pos);
+		jobless.add(bearer);
+		return bearer;
 	}
 
 	@Override
@@ -52,6 +39,11 @@ public class JoblessSupplierMock implements IJoblessSupplier {
 		return jobless.isEmpty();
 	}
 
+	@Override
+	public int size() {
+		return jobless.size();
+	}
+
 	@Override
 	public IManagerBearer removeJoblessCloseTo(ShortPoint2D position) {
 		int closestDist = Integer.MAX_VALUE;
@@ -65,7 +57,36 @@ public class JoblessSupplierMock implements IJoblessSupplier {
 			}
 		}
 
+		jobless.remove(closest);
 		return closest;
 	}
 
+	public static class BearerMock implements IManagerBearer {
+		private static final long serialVersionUID = 3833820381369081344L;
+
+		private final ShortPoint2D pos;
+		private IMaterialOffer deliveredOffer;
+
+		BearerMock(ShortPoint2D pos) {
+			this.pos = pos;
+		}
+
+		@Override
+		public ShortPoint2D getPos() {
+			return pos;
+		}
+
+		@Override
+		public void deliver(EMaterialType materialType, IMaterialOffer offer, IMaterialRequest request) {
+			offer.distributionAccepted();
+			offer.offerTaken();
+			request.deliveryAccepted();
+			request.deliveryFulfilled();
+			deliveredOffer = offer;
+		}
+
+		public IMaterialOffer getDeliveredOffer() {
+			return deliveredOffer;
+		}
+	}
 }
@@ -14,16 +14,23 @@
  *******************************************************************************/
 package jsettlers.logic.map.grid.partition.manager.materials;
 
+import jsettlers.common.buildings.EBuildingType;
 import jsettlers.common.material.EMaterialType;
 import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.constants.Constants;
+import jsettlers.logic.constants.ExtendedRandom;
+import jsettlers.logic.map.grid.partition.manager.materials.JoblessSupplierMock.BearerMock;
 import jsettlers.logic.map.grid.partition.manager.materials.offers.EOfferPriority;
 import jsettlers.logic.map.grid.partition.manager.materials.offers.OffersList;
+import jsettlers.logic.map.grid.partition.manager.materials.requests.MaterialRequestObject;
 import jsettlers.logic.map.grid.partition.manager.settings.PartitionManagerSettings;
 import jsettlers.testutils.TestUtils;
 import org.junit.Test;
 
 import java.io.IOException;
 
+import static org.junit.Assert.assertEquals;
+
 /**
  * This is a test for the {@link MaterialsManager} class.
  * 
@@ -48,8 +55,71 @@ public class MaterialsManagerTest {
 		TestUtils.serializeAndDeserialize(manager);
 	}
 
+	@Test
+	public void testBatchedDistributionAvoidsCrossingBearers() {
+		offersList.addOffer(pos(12, 10), EMaterialType.PLANK, EOfferPriority.OFFER_TO_ALL);
+		offersList.addOffer(pos(30, 10), EMaterialType.PLANK, EOfferPriority.OFFER_TO_ALL);
+		manager.addRequestObject(EMaterialType.PLANK, new TestMaterialRequest(pos(12, 40)));
+		manager.addRequestObject(EMaterialType.PLANK, new TestMaterialRequest(pos(12, 40)));
+
+		// the bearer at (21|10) is the closest one to both offers, the greedy distribution would send it to (12|10) and the other one to (30|10)
+		BearerMock leftBearer = joblessSupplier.addJoblessAt(pos(0, 10));
+		BearerMock rightBearer = joblessSupplier.addJoblessAt(pos(21, 10));
+
+		Constants.USE_BATCHED_MATERIAL_DISTRIBUTION = true;
+		try {
+			manager.distributeJobs(new ExtendedRandom(1000));
+		} finally {
+			Constants.USE_BATCHED_MATERIAL_DISTRIBUTION = false;
+		}
+
+		assertEquals(pos(12, 10), leftBearer.getDeliveredOffer().getPos());
+		assertEquals(pos(30, 10), rightBearer.getDeliveredOffer().getPos());
+		assertEquals(0, joblessSupplier.size());
+	}
+
 	private ShortPoint2D pos(int x, int y) {
 		return new ShortPoint2D(x, y);
 	}
 
+	private static class TestMaterialRequest extends MaterialRequestObject {
+		private static final long serialVersionUID = -1839201712480981226L;
+
+		private final ShortPoint2D position;
+		private short stillRequired = 1;
+
+		TestMaterialRequest(ShortPoint2D position) {
+			this.position = position;
+		}
+
+		@Override
+		public short getStillNeeded() {
+			return (short) (stillRequired - getInDelivery());
+		}
+
+		@Override
+		public int getInDeliveryable() {
+			return Constants.STACK_SIZE;
+		}
+
+		@Override
+		public ShortPoint2D getPos() {
+			return position;
+		}
+
+		@Override
+		protected void materialDelivered() {
+			stillRequired--;
+		}
+
+		@Override
+		protected boolean isRoundRobinRequest() {
+			return false;
+		}
+
+		@Override
+		public EBuildingType getBuildingType() {
+			return null;
+		}
+	}
 }
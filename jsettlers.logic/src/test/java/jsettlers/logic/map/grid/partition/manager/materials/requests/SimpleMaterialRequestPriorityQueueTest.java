@@ -27,7 +27,7 @@ import jsettlers.common.buildings.EBuildingType;
 import jsettlers.common.material.EPriority;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.logic.constants.Constants;
-import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.constants.ExtendedRandom;
 
 import org.junit.Test;
 
@@ -38,9 +38,7 @@ import org.junit.Test;
  * 
  */
 public class SimpleMaterialRequestPriorityQueueTest {
-	static {
-		MatchConstants.init(null, 1000);
-	}
+	private static final ExtendedRandom RANDOM = new ExtendedRandom(1000);
 
 	@Test
 	public void testInsertAndRemoveOne() {
@@ -174,7 +172,7 @@ public class SimpleMaterialRequestPriorityQueueTest {
 	}
 
 	private static MaterialRequestObject popHighest(SimpleMaterialRequestPriorityQueue queue) {
-		MaterialRequestObject result = queue.getHighestRequest();
+		MaterialRequestObject result = queue.getHighestRequest(RANDOM);
 		if (result != null) {
 			result.deliveryAccepted(); // this needs to be done to emulate the user of the queue.
 		}
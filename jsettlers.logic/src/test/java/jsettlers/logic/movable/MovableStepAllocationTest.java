@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.movable;
+
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import com.sun.management.ThreadMXBean;
+
+import jsettlers.common.movable.EMovableType;
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.constants.MatchContext;
+import jsettlers.logic.map.grid.MainGridDataAccessor;
+import jsettlers.logic.map.loading.MapLoadException;
+import jsettlers.logic.player.Player;
+import jsettlers.network.synchronic.timer.NetworkTimer;
+import jsettlers.testutils.map.MapUtils;
+
+/**
+ * Measures the bytes the game thread allocates per step of walking soldiers on the mountainlake map. Every soldier walks back and forth between two
+ * positions, so the measurement contains the path searches, the steps and the checks for enemies around the soldiers.
+ * <p />
+ * The test fails if the allocations per step grow over {@link #MAX_BYTES_PER_STEP}, because with thousands of walking movables they cause frequent
+ * garbage collections.
+ *
+ * @author agent
+ */
+public class MovableStepAllocationTest {
+	private static final int NUMBER_OF_SOLDIERS = 300;
+	private static final int MIN_ROUTE_LENGTH = 20;
+	private static final int MAX_ROUTE_LENGTH = 60;
+	private static final int TIME_SLICE = 25;
+	private static final int WARMUP_TIME = 60 * 1000;
+	private static final int MEASUREMENT_TIME = 120 * 1000;
+	private static final int MAX_BYTES_PER_STEP = 64; // the new position of every step and the paths
+
+	private final Random random = new Random(42);
+
+	private MainGridDataAccessor grid;
+	private Movable[] soldiers;
+	private ShortPoint2D[][] routes;
+	private int[] nextEventTimes;
+	private int time;
+
+	@Test
+	public void testBytesPerStep() throws MapLoadException {
+		ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+		Assume.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+		threadBean.setThreadAllocatedMemoryEnabled(true);
+
+		MatchContext context = new MatchContext(new NetworkTimer(true), 0);
+		grid = new MainGridDataAccessor(MapUtils.getMountainlake().loadMainGrid(null, context).getMainGrid());
+		createSoldiers(grid.getPartitionsGrid().getPlayer(0));
+
+		run(WARMUP_TIME);
+
+		long threadId = Thread.currentThread().getId();
+		long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+		long steps = run(MEASUREMENT_TIME);
+		long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+		context.stop();
+
+		long bytesPerStep = allocated / Math.max(steps, 1);
+		System.out.println(NUMBER_OF_SOLDIERS + " soldiers walked " + steps + " steps and allocated " + allocated / 1024 + " kB: " + bytesPerStep
+				+ " bytes per step");
+
+		assertTrue(steps > NUMBER_OF_SOLDIERS * 10);
+		assertTrue("allocated " + bytesPerStep + " bytes per step", bytesPerStep <= MAX_BYTES_PER_STEP);
+	}
+
+	private void createSoldiers(Player player) {
+		soldiers = new Movable[NUMBER_OF_SOLDIERS];
+		routes = new ShortPoint2D[NUMBER_OF_SOLDIERS][];
+		nextEventTimes = new int[NUMBER_OF_SOLDIERS];
+
+		for (int i = 0; i < NUMBER_OF_SOLDIERS; i++) {
+			ShortPoint2D start;
+			ShortPoint2D target;
+			do {
+				start = getRandomFreePosition();
+				target = getRandomFreePosition();
+			} while (!isValidRoute(start, target));
+
+			soldiers[i] = new Movable(grid.getMovableGrid(), EMovableType.SWORDSMAN_L1, start, player);
+			routes[i] = new ShortPoint2D[] { start, target };
+			soldiers[i].moveTo(target);
+		}
+	}
+
+	private boolean isValidRoute(ShortPoint2D start, ShortPoint2D target) {
+		int distance = ShortPoint2D.getOnGridDist(target.x - start.x, target.y - start.y);
+		return distance >= MIN_ROUTE_LENGTH && distance <= MAX_ROUTE_LENGTH
+				&& grid.getLandscapeGrid().getBlockedPartitionAt(start.x, start.y) == grid.getLandscapeGrid().getBlockedPartitionAt(target.x, target.y);
+	}
+
+	private ShortPoint2D getRandomFreePosition() {
+		while (true) {
+			int x = random.nextInt(grid.getWidth());
+			int y = random.nextInt(grid.getHeight());
+			if (!grid.getFlagsGrid().isBlocked(x, y) && grid.getMovableGrid().hasNoMovableAt(x, y)) {
+				return new ShortPoint2D(x, y);
+			}
+		}
+	}
+
+	/**
+	 * Runs the timer events of the soldiers for the given game time and sends every soldier that reached one end of its route to the other end.
+	 *
+	 * @return The number of steps the soldiers walked.
+	 */
+	private long run(int duration) {
+		long steps = 0;
+		int endTime = time + duration;
+
+		for (; time < endTime; time += TIME_SLICE) {
+			grid.getMovableGrid().getMatchContext().clock().setTime(time);
+
+			for (int i = 0; i < NUMBER_OF_SOLDIERS; i++) {
+				if (nextEventTimes[i] > time) {
+					continue;
+				}
+
+				Movable soldier = soldiers[i];
+				ShortPoint2D positionBefore = soldier.getPosition();
+				nextEventTimes[i] = time + Math.max(soldier.timerEvent(), 1);
+
+				ShortPoint2D position = soldier.getPosition();
+				if (position != positionBefore) {
+					steps++;
+				}
+
+				ShortPoint2D[] route = routes[i];
+				if (position.equals(route[1])) { // turn around
+					route[1] = route[0];
+					route[0] = position;
+					soldier.moveTo(route[1]);
+				}
+			}
+		}
+		return steps;
+	}
+}
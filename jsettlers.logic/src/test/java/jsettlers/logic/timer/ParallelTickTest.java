@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.timer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import jsettlers.common.position.ShortPoint2D;
+
+public class ParallelTickTest {
+	private static final int TIME_SLICE = 25;
+	private static final short MAP_HEIGHT = 256;
+
+	private final List<PreparingTimerable> executed = new ArrayList<>();
+	private final RescheduleTimer timer = new RescheduleTimer();
+	private ParallelTick parallelTick;
+
+	@Before
+	public void setUp() {
+		parallelTick = new ParallelTick(MAP_HEIGHT, 32, 4);
+		timer.setParallelTick(parallelTick);
+	}
+
+	@After
+	public void tearDown() {
+		timer.setParallelTick(null);
+		parallelTick.shutdown();
+		timer.stop();
+	}
+
+	@Test
+	public void testAllTimerablesArePreparedBeforeTheSlotIsExecuted() {
+		List<PreparingTimerable> added = addTimerables(500);
+
+		timer.timerEvent();
+		timer.timerEvent();
+
+		assertEquals(500, parallelTick.getLastPreparedCount());
+		assertEquals(added, executed); // the order of execution isn't changed
+		for (PreparingTimerable timerable : added) {
+			assertEquals(1, timerable.preparations);
+			assertTrue(timerable.preparedBeforeExecution);
+		}
+	}
+
+	@Test
+	public void testSmallSlotsAreExecutedWithoutPreparation() {
+		List<PreparingTimerable> added = addTimerables(10);
+
+		timer.timerEvent();
+		timer.timerEvent();
+
+		assertEquals(0, parallelTick.getLastPreparedCount());
+		assertEquals(added, executed);
+		for (PreparingTimerable timerable : added) {
+			assertEquals(0, timerable.preparations);
+		}
+	}
+
+	@Test
+	public void testCanceledTimerablesAreNotPrepared() {
+		List<PreparingTimerable> added = addTimerables(100);
+		TimerHandle handle = timer.addCancelable(new PreparingTimerable(new ShortPoint2D(0, 0)), TIME_SLICE);
+		timer.cancel(handle);
+
+		timer.timerEvent();
+		timer.timerEvent();
+
+		assertEquals(100, parallelTick.getLastPreparedCount());
+		assertEquals(0, ((PreparingTimerable) handle.getTimerable()).preparations);
+		assertEquals(added, executed);
+	}
+
+	private List<PreparingTimerable> addTimerables(int count) {
+		List<PreparingTimerable> added = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			PreparingTimerable timerable = new PreparingTimerable(new ShortPoint2D(i % 200, (i * 37) % MAP_HEIGHT));
+			timer.add(timerable, TIME_SLICE);
+			added.add(timerable);
+		}
+		return added;
+	}
+
+	private class PreparingTimerable implements IPreparableTimerable {
+		private static final long serialVersionUID = 1L;
+
+		private final ShortPoint2D position;
+		private int preparations;
+		private boolean preparedBeforeExecution;
+
+		PreparingTimerable(ShortPoint2D position) {
+			this.position = position;
+		}
+
+		@Override
+		public ShortPoint2D getPos() {
+			return position;
+		}
+
+		@Override
+		public void prepareTimerEvent() {
+			preparations++;
+		}
+
+		@Override
+		public int timerEvent() {
+			preparedBeforeExecution = preparations > 0;
+			executed.add(this);
+			return -1;
+		}
+
+		@Override
+		public void kill() {
+		}
+	}
+}
@@ -0,0 +1,298 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.timer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import jsettlers.common.logging.ProfilerCategory;
+import jsettlers.common.logging.TickProfiler;
+import jsettlers.logic.constants.MatchContext;
+import jsettlers.logic.map.loading.MapLoadException;
+
+public class RescheduleTimerTest {
+	private static final int TIME_SLICE = 25;
+
+	private static final List<String> events = new ArrayList<>();
+
+	private RescheduleTimer timer;
+
+	@Before
+	public void setUp() {
+		timer = new RescheduleTimer();
+		events.clear();
+	}
+
+	@After
+	public void tearDown() {
+		timer.stop();
+	}
+
+	@Test
+	public void testTimerablesOfATickAreExecutedInOrderOfAdding() {
+		int targetTick = 3000;
+		timer.add(new RecordingTimerable("far"), targetTick * TIME_SLICE);
+		timer.add(new RecordingTimerable("middle"), targetTick * TIME_SLICE);
+		runTicks(targetTick - 10);
+		timer.add(new RecordingTimerable("near"), 10 * TIME_SLICE);
+
+		runTicks(10);
+		assertTrue(events.isEmpty());
+		runTicks(1);
+		assertEquals(Arrays.asList("far", "middle", "near"), events);
+	}
+
+	@Test
+	public void testDelaysBeyondOneLevel() {
+		int[] delayTicks = { 1, 255, 256, 257, 1280, 65535, 65536, 70000 };
+		for (int delay : delayTicks) {
+			timer.add(new RecordingTimerable(String.valueOf(delay)), delay * TIME_SLICE);
+		}
+
+		int executedTicks = 0;
+		for (int delay : delayTicks) {
+			runTicks(delay - executedTicks);
+			assertFalse(events.contains(String.valueOf(delay)));
+			runTicks(1);
+			assertEquals(String.valueOf(delay), events.get(events.size() - 1));
+			executedTicks = delay + 1;
+		}
+		assertEquals(delayTicks.length, events.size());
+	}
+
+	@Test
+	public void testRescheduling() {
+		timer.add(new RecordingTimerable("repeating", 10 * TIME_SLICE, 3), TIME_SLICE);
+
+		runTicks(2);
+		assertEquals(1, events.size());
+		runTicks(9);
+		assertEquals(1, events.size());
+		runTicks(1);
+		assertEquals(2, events.size());
+		runTicks(100);
+		assertEquals(3, events.size());
+	}
+
+	@Test
+	public void testCancel() {
+		TimerHandle handle = timer.addCancelable(new RecordingTimerable("canceled"), 10 * TIME_SLICE);
+		timer.add(new RecordingTimerable("executed"), 10 * TIME_SLICE);
+		assertTrue(handle.isScheduled());
+
+		timer.cancel(handle);
+		assertFalse(handle.isScheduled());
+
+		runTicks(20);
+		assertEquals(Arrays.asList("executed"), events);
+	}
+
+	@Test
+	public void testSlotWithCancelableAndPlainTimerables() {
+		TimerHandle handle = timer.addCancelable(new RecordingTimerable("canceled"), 10 * TIME_SLICE);
+		List<String> expectedEvents = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			timer.add(new RecordingTimerable("plain" + i), 10 * TIME_SLICE);
+			expectedEvents.add("plain" + i);
+		}
+		handle.cancel();
+
+		runTicks(20);
+		assertEquals(expectedEvents, events);
+	}
+
+	@Test
+	public void testCancelWhileExecuting() {
+		CancelingTimerable timerable = new CancelingTimerable();
+		timerable.handle = timer.addCancelable(timerable, TIME_SLICE);
+
+		runTicks(100);
+		assertEquals(Arrays.asList("canceling"), events);
+		assertFalse(timerable.handle.isScheduled());
+	}
+
+	@Test
+	public void testNonPositiveDelaysAreNotScheduled() {
+		assertNull(timer.addCancelable(new RecordingTimerable("zero"), 0));
+		assertNull(timer.addCancelable(new RecordingTimerable("negative"), -1));
+
+		runTicks(10);
+		assertTrue(events.isEmpty());
+	}
+
+	@Test
+	public void testSaveAndLoadKeepsScheduling() throws IOException, MapLoadException {
+		timer.add(new RecordingTimerable("far"), 70000 * TIME_SLICE);
+		timer.add(new RecordingTimerable("a"), 300 * TIME_SLICE);
+		timer.add(new RecordingTimerable("b"), 300 * TIME_SLICE);
+		runTicks(250);
+		timer.add(new RecordingTimerable("c"), 50 * TIME_SLICE);
+		timer.add(new RecordingTimerable("repeating", 7 * TIME_SLICE, 1000), 2 * TIME_SLICE);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream(out)) {
+			timer.saveTo(oos);
+		}
+		runTicks(70000);
+		List<String> expectedEvents = new ArrayList<>(events);
+
+		events.clear();
+		timer.loadFrom(new ObjectInputStream(new ByteArrayInputStream(out.toByteArray())));
+		runTicks(70000);
+
+		assertEquals(expectedEvents, events);
+		assertEquals(Arrays.asList("a", "b", "c", "repeating"), expectedEvents.subList(7, 11));
+		assertEquals("far", expectedEvents.get(expectedEvents.size() - 1));
+	}
+
+	@Test
+	public void testHandleCancelsAfterSaveAndLoad() throws IOException, ClassNotFoundException, MapLoadException {
+		HandleKeepingTimerable canceled = new HandleKeepingTimerable("canceled");
+		canceled.handle = timer.addCancelable(canceled, 3000 * TIME_SLICE);
+		timer.add(new RecordingTimerable("executed"), 3000 * TIME_SLICE);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream(out)) {
+			timer.saveTo(oos);
+			oos.writeObject(canceled);
+		}
+
+		ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(out.toByteArray()));
+		timer.loadFrom(ois);
+		HandleKeepingTimerable loaded = (HandleKeepingTimerable) ois.readObject();
+		assertTrue(loaded.handle.isScheduled());
+
+		loaded.handle.cancel();
+		assertFalse(loaded.handle.isScheduled());
+
+		runTicks(3001);
+		assertEquals(Arrays.asList("executed"), events);
+	}
+
+	@Test
+	public void testProfilerRecordsTimerablesAndTicks() {
+		TickProfiler profiler = new TickProfiler();
+		timer.setProfiler(profiler);
+		timer.add(new RecordingTimerable("a"), TIME_SLICE);
+		timer.add(new RecordingTimerable("b"), TIME_SLICE);
+		runTicks(2);
+
+		assertEquals(2, profiler.getSnapshot(RecordingTimerable.class).getCount());
+		ProfilerCategory ticks = profiler.getSnapshot(TickProfiler.RESCHEDULE_TIMER_TICK);
+		assertEquals(2, ticks.getCount());
+		assertEquals(2, ticks.getUnits());
+	}
+
+	@Test
+	public void testEveryMatchRecordsWithItsOwnProfiler() {
+		MatchContext profiledMatch = new MatchContext(null, 0);
+		MatchContext otherMatch = new MatchContext(null, 0);
+		TickProfiler profiler = new TickProfiler();
+		profiledMatch.setProfiler(profiler);
+
+		try {
+			profiledMatch.getTimer().add(new RecordingTimerable("profiled"), TIME_SLICE);
+			otherMatch.getTimer().add(new RecordingTimerable("other"), TIME_SLICE);
+			otherMatch.getTimer().add(new RecordingTimerable("other"), TIME_SLICE);
+			for (int i = 0; i < 2; i++) {
+				profiledMatch.getTimer().timerEvent();
+				otherMatch.getTimer().timerEvent();
+			}
+		} finally {
+			profiledMatch.getTimer().stop();
+			otherMatch.getTimer().stop();
+		}
+
+		assertEquals(1, profiler.getSnapshot(RecordingTimerable.class).getCount());
+		assertNull(otherMatch.getProfiler());
+	}
+
+	private void runTicks(int ticks) {
+		for (int i = 0; i < ticks; i++) {
+			timer.timerEvent();
+		}
+	}
+
+	private static class RecordingTimerable implements IScheduledTimerable {
+		private static final long serialVersionUID = 1L;
+
+		private final String name;
+		private final int delay;
+		private int remainingEvents;
+
+		RecordingTimerable(String name) {
+			this(name, -1, 1);
+		}
+
+		RecordingTimerable(String name, int delay, int events) {
+			this.name = name;
+			this.delay = delay;
+			this.remainingEvents = events;
+		}
+
+		@Override
+		public int timerEvent() {
+			events.add(name);
+			remainingEvents--;
+			return remainingEvents > 0 ? delay : -1;
+		}
+
+		@Override
+		public void kill() {
+		}
+	}
+
+	private static class HandleKeepingTimerable extends RecordingTimerable {
+		private static final long serialVersionUID = 1L;
+
+		TimerHandle handle;
+
+		HandleKeepingTimerable(String name) {
+			super(name);
+		}
+	}
+
+	private class CancelingTimerable implements IScheduledTimerable {
+		private static final long serialVersionUID = 1L;
+
+		TimerHandle handle;
+
+		@Override
+		public int timerEvent() {
+			events.add("canceling");
+			timer.cancel(handle);
+			return TIME_SLICE;
+		}
+
+		@Override
+		public void kill() {
+		}
+	}
+}
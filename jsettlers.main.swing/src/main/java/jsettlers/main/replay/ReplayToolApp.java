@@ -15,6 +15,7 @@
 package jsettlers.main.replay;
 
 import jsettlers.common.CommonConstants;
+import jsettlers.common.logging.TickProfiler;
 import jsettlers.common.resources.ResourceManager;
 import jsettlers.logic.map.loading.MapLoadException;
 import jsettlers.main.swing.SwingManagedJSettlers;
@@ -24,7 +25,12 @@ import jsettlers.main.swing.settings.SettingsManager;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+import java8.util.Optional;
 
 /**
  * @author Andreas Eberle
@@ -46,9 +52,27 @@ public class ReplayToolApp {
 			throw new FileNotFoundException("Found replayFile parameter, but file can not be found: " + replayFile);
 		}
 
-		ReplayUtils.replayAndCreateSavegame(new ReplayUtils.ReplayFile(replayFile), targetGameTimeMinutes, "replayForSavegame.log");
+		Optional<String> profileFile = SettingsManager.getInstance().getProfileFile();
+		TickProfiler profiler = profileFile.isPresent() ? new TickProfiler() : null;
+
+		ReplayUtils.replayAndCreateSavegame(new ReplayUtils.ReplayFile(replayFile), targetGameTimeMinutes, "replayForSavegame.log", profiler);
+
+		if (profiler != null) {
+			exportProfile(profiler, new File(profileFile.get()));
+		}
 
 		Thread.sleep(2000L);
 		System.exit(0);
 	}
+
+	private static void exportProfile(TickProfiler profiler, File file) throws IOException {
+		try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8")) {
+			if (file.getName().endsWith(".json")) {
+				profiler.exportJson(writer);
+			} else {
+				profiler.exportCsv(writer);
+			}
+		}
+		System.out.println("Exported tick profile to " + file);
+	}
 }
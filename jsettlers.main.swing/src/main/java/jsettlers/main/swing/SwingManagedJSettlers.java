@@ -21,7 +21,6 @@ import jsettlers.common.menu.IStartingGame;
 import jsettlers.common.resources.ResourceManager;
 import jsettlers.graphics.localization.AbstractLabels;
 import jsettlers.graphics.localization.Labels;
-import jsettlers.logic.constants.MatchConstants;
 import jsettlers.logic.map.loading.MapLoadException;
 import jsettlers.logic.map.loading.MapLoader;
 import jsettlers.logic.map.loading.list.DirectoryMapLister;
@@ -73,6 +72,7 @@ public class SwingManagedJSettlers {
 		CommonConstants.ACTIVATE_ALL_PLAYERS = SettingsManager.getInstance().isActivateAllPlayers();
 		CommonConstants.ENABLE_CONSOLE_LOGGING = SettingsManager.getInstance().useConsoleOutput();
 		CommonConstants.DISABLE_ORIGINAL_MAPS = SettingsManager.getInstance().areOriginalMapsDisabled();
+		CommonConstants.ENABLE_PROFILING = SettingsManager.getInstance().isProfilingEnabled();
 		AbstractLabels.setPreferredLocale(SettingsManager.getInstance().getLocale());
 	}
 
@@ -161,7 +161,7 @@ public class SwingManagedJSettlers {
 					} catch (InterruptedException e) {
 					}
 				}
-				MatchConstants.clock().fastForwardTo(targetGameTime);
+				((JSettlersGame.GameRunner) game).getMatchContext().clock().fastForwardTo(targetGameTime);
 			}
 		}
 	}
@@ -21,6 +21,7 @@ import jsettlers.logic.map.loading.data.IMapData;
 import jsettlers.logic.map.loading.MapLoadException;
 import jsettlers.common.menu.IJoinableGame;
 import jsettlers.common.menu.ILoadableMapPlayer;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.map.loading.EMapStartResources;
 import jsettlers.logic.map.loading.MapLoader;
 import jsettlers.logic.map.loading.list.IListedMap;
@@ -63,14 +64,14 @@ public class NetworkGameMapLoader extends MapLoader {
 	}
 
 	@Override
-	public MainGridWithUiSettings loadMainGrid(PlayerSetting[] playerSettings) throws MapLoadException {
-		return mapLoader.loadMainGrid(playerSettings);
+	public MainGridWithUiSettings loadMainGrid(PlayerSetting[] playerSettings, MatchContext context) throws MapLoadException {
+		return mapLoader.loadMainGrid(playerSettings, context);
 	}
 
 	@Override
-	public MainGridWithUiSettings loadMainGrid(PlayerSetting[] playerSettings, EMapStartResources startResources)
+	public MainGridWithUiSettings loadMainGrid(PlayerSetting[] playerSettings, EMapStartResources startResources, MatchContext context)
 			throws MapLoadException {
-		return mapLoader.loadMainGrid(playerSettings, startResources);
+		return mapLoader.loadMainGrid(playerSettings, startResources, context);
 	}
 
 	@Override
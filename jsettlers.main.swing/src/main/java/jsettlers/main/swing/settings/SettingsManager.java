@@ -56,6 +56,8 @@ public class SettingsManager implements ISoundSettingsProvider {
 	private static final String SETTING_RANDOM = "random";
 	private static final String SETTING_REPLAY_FILE = "replay-file";
 	private static final String SETTING_TARGET_TIME = "target-time";
+	private static final String SETTING_PROFILE = "profile";
+	private static final String SETTING_PROFILE_FILE = "profile-file";
 	private static final String SETTING_MAPS = "maps";
 
 	private static SettingsManager manager;
@@ -212,6 +214,10 @@ public class SettingsManager implements ISoundSettingsProvider {
 		return getOptional(SETTING_ACTIVATE_ALL_PLAYERS);
 	}
 
+	public boolean isProfilingEnabled() {
+		return getOptional(SETTING_PROFILE) || getProfileFile().isPresent();
+	}
+
 	public boolean useConsoleOutput() {
 		return getOptional(SETTING_ENABLE_CONSOLE_LOGGING);
 	}
@@ -244,6 +250,13 @@ public class SettingsManager implements ISoundSettingsProvider {
 		return getAsOptional(SETTING_REPLAY_FILE);
 	}
 
+	/**
+	 * @return The file the tick profile is exported to. The format is JSON if the file name ends with .json, otherwise CSV.
+	 */
+	public Optional<String> getProfileFile() {
+		return getAsOptional(SETTING_PROFILE_FILE);
+	}
+
 	public Optional<Integer> getTargetTime() {
 		return getAsOptional(SETTING_TARGET_TIME).map(Integer::valueOf).map(targetTime -> targetTime * 60 * 1000);
 	}
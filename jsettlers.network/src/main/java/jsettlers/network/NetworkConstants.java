@@ -52,6 +52,16 @@ public final class NetworkConstants {
 		public static final int BROADCAST_BUFFER_LENGTH = BROADCAST_MESSAGE.length();
 
 		public static final long OPEN_MATCHES_SEND_INTERVAL_MS = 5 * 1000;
+
+		/**
+		 * Number of locksteps without tasks that are unlocked with one packet of the compact protocol. The clients are unlocked this number minus one
+		 * locksteps further than needed, so tasks may be delayed by up to this number minus one locksteps.
+		 * <p />
+		 * With 2 the extra delay is capped at one lockstep ({@link Client#LOCKSTEP_PERIOD} ms) and is half a lockstep on average. In the
+		 * LockstepTrafficTest the average task delay rises from 250 ms to 298 ms, while idle matches only need half of the packets. Don't raise it
+		 * without weighing the additional delay of the tasks.
+		 */
+		public static final int COMPACT_EMPTY_LOCKSTEPS_PER_PACKET = 2;
 	}
 
 	public final static class Client {
@@ -144,7 +154,11 @@ public final class NetworkConstants {
 		CHAT_MESSAGE,
 		TIME_SYNC,
 
-		CHANGE_START_FINISHED;
+		CHANGE_START_FINISHED,
+
+		// new keys must be appended, so that older clients and servers still understand the existing keys
+		COMPACT_SYNCHRONOUS_TASK,
+		PROTOCOL_FEATURES;
 
 		private static final ENetworkKey[] values = ENetworkKey.values();
 		private final byte ordinal;
@@ -158,8 +172,12 @@ public final class NetworkConstants {
 		}
 
 		public static ENetworkKey readFrom(DataInputStream dis) throws IOException {
+			return fromOrdinal(dis.readByte());
+		}
+
+		public static ENetworkKey fromOrdinal(byte ordinal) throws IOException {
 			try {
-				return values[dis.readByte()];
+				return values[ordinal];
 			} catch (Exception ex) {
 				throw new IOException(ex);
 			}
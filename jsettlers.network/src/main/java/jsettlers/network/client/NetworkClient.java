@@ -25,6 +25,7 @@ import jsettlers.network.client.interfaces.INetworkConnector;
 import jsettlers.network.client.interfaces.ITaskScheduler;
 import jsettlers.network.client.receiver.IPacketReceiver;
 import jsettlers.network.client.task.TaskPacketListener;
+import jsettlers.network.client.task.packets.CompactTaskPacket;
 import jsettlers.network.client.task.packets.TaskPacket;
 import jsettlers.network.client.time.ISynchronizableClock;
 import jsettlers.network.client.time.TimeSyncSenderTimerTask;
@@ -33,12 +34,14 @@ import jsettlers.network.common.packets.ArrayOfMatchInfosPacket;
 import jsettlers.network.common.packets.BooleanMessagePacket;
 import jsettlers.network.common.packets.ChatMessagePacket;
 import jsettlers.network.common.packets.IdPacket;
+import jsettlers.network.common.packets.IdentifyUserPacket;
 import jsettlers.network.common.packets.MapInfoPacket;
 import jsettlers.network.common.packets.MatchInfoPacket;
 import jsettlers.network.common.packets.MatchInfoUpdatePacket;
 import jsettlers.network.common.packets.MatchStartPacket;
 import jsettlers.network.common.packets.OpenNewMatchPacket;
 import jsettlers.network.common.packets.PlayerInfoPacket;
+import jsettlers.network.common.packets.ProtocolFeaturesPacket;
 import jsettlers.network.infrastructure.channel.AsyncChannel;
 import jsettlers.network.infrastructure.channel.GenericDeserializer;
 import jsettlers.network.infrastructure.channel.IChannelClosedListener;
@@ -65,6 +68,7 @@ public class NetworkClient implements ITaskScheduler, INetworkConnector, INetwor
 	private PlayerInfoPacket playerInfo;
 
 	private MatchInfoPacket matchInfo;
+	private volatile boolean compactLocksteps = false;
 
 	/**
 	 * 
@@ -107,7 +111,11 @@ public class NetworkClient implements ITaskScheduler, INetworkConnector, INetwor
 		channel.registerListener(new IdentifiedUserListener(this));
 		channel.registerListener(generateDefaultListener(NetworkConstants.ENetworkKey.ARRAY_OF_MATCHES, ArrayOfMatchInfosPacket.class,
 				matchesReceiver));
-		channel.sendPacketAsync(NetworkConstants.ENetworkKey.IDENTIFY_USER, playerInfo);
+		// older servers ignore the announced features and never send the features of a match, so the original protocol is used with them
+		channel.registerListener(generateDefaultListener(ENetworkKey.PROTOCOL_FEATURES, ProtocolFeaturesPacket.class,
+				packet -> compactLocksteps = packet.hasFeature(ProtocolFeaturesPacket.COMPACT_LOCKSTEPS)));
+		channel.sendPacketAsync(NetworkConstants.ENetworkKey.IDENTIFY_USER,
+				new IdentifyUserPacket(playerInfo, ProtocolFeaturesPacket.SUPPORTED_FEATURES));
 	}
 
 	/**
@@ -182,7 +190,11 @@ public class NetworkClient implements ITaskScheduler, INetworkConnector, INetwor
 
 	@Override
 	public void scheduleTask(TaskPacket task) {
-		channel.sendPacketAsync(NetworkConstants.ENetworkKey.SYNCHRONOUS_TASK, task);
+		if (compactLocksteps) {
+			channel.sendPacketAsync(NetworkConstants.ENetworkKey.COMPACT_SYNCHRONOUS_TASK, new CompactTaskPacket(task));
+		} else {
+			channel.sendPacketAsync(NetworkConstants.ENetworkKey.SYNCHRONOUS_TASK, task);
+		}
 	}
 
 	private <T extends Packet> DefaultClientPacketListener<T> generateDefaultListener(ENetworkKey key, Class<T> classType,
@@ -18,6 +18,7 @@ import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 
+import jsettlers.network.synchronic.timer.INetworkTimerProfiler;
 import jsettlers.network.synchronic.timer.INetworkTimerable;
 import jsettlers.network.synchronic.timer.ITaskExecutor;
 
@@ -35,6 +36,14 @@ public interface IGameClock extends IPausingSupplier {
 
 	void setTaskExecutor(ITaskExecutor taskExecutor);
 
+	/**
+	 * Sets the profiler receiving the timing measurements of the clock.
+	 * 
+	 * @param profiler
+	 *            The profiler or null to disable the measurements.
+	 */
+	void setProfiler(INetworkTimerProfiler profiler);
+
 	void multiplyGameSpeed(float factor);
 
 	void setGameSpeed(float speedFactor);
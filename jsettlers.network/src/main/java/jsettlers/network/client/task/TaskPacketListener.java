@@ -18,11 +18,15 @@ import java.io.IOException;
 
 import jsettlers.network.NetworkConstants;
 import jsettlers.network.NetworkConstants.ENetworkKey;
+import jsettlers.network.client.task.packets.CompactSyncTasksDeserializer;
 import jsettlers.network.client.task.packets.SyncTasksPacket;
 import jsettlers.network.infrastructure.channel.GenericDeserializer;
+import jsettlers.network.infrastructure.channel.IDeserializingable;
 import jsettlers.network.infrastructure.channel.listeners.PacketChannelListener;
 
 /**
+ * Receives the {@link SyncTasksPacket}s of a match. They are sent with the {@link ENetworkKey#SYNCHRONOUS_TASK} key or, if the compact protocol is
+ * used in the match, with the {@link ENetworkKey#COMPACT_SYNCHRONOUS_TASK} key.
  * 
  * @author Andreas Eberle
  * 
@@ -32,10 +36,16 @@ public class TaskPacketListener extends PacketChannelListener<SyncTasksPacket> {
 	private final ISyncTasksPacketScheduler receiver;
 
 	public TaskPacketListener(ISyncTasksPacketScheduler receiver) {
-		super(NetworkConstants.ENetworkKey.SYNCHRONOUS_TASK, new GenericDeserializer<>(SyncTasksPacket.class));
+		super(new ENetworkKey[] { NetworkConstants.ENetworkKey.SYNCHRONOUS_TASK, NetworkConstants.ENetworkKey.COMPACT_SYNCHRONOUS_TASK },
+				createDeserializers());
 		this.receiver = receiver;
 	}
 
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static IDeserializingable<SyncTasksPacket>[] createDeserializers() {
+		return new IDeserializingable[] { new GenericDeserializer<>(SyncTasksPacket.class), new CompactSyncTasksDeserializer() };
+	}
+
 	@Override
 	protected void receivePacket(ENetworkKey key, SyncTasksPacket packet) throws IOException {
 		receiver.scheduleSyncTasksPacket(packet);
@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.client.task.packets;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import jsettlers.network.NetworkConstants.ENetworkKey;
+import jsettlers.network.infrastructure.channel.IDeserializingable;
+import jsettlers.network.infrastructure.utils.CompactDataInputStream;
+
+/**
+ * Deserializes the {@link SyncTasksPacket}s the server sends with the {@link ENetworkKey#COMPACT_SYNCHRONOUS_TASK} key.
+ * <p />
+ * The compact packets contain the difference of their lockstep number to the one of the previous packet, followed by the number of tasks and the
+ * compactly encoded tasks. As the server coalesces locksteps without tasks, the difference may be larger than one. A packet unlocks all locksteps up
+ * to its lockstep number, its tasks are executed in its lockstep.
+ * <p />
+ * The deserializer stores the last lockstep number, so one instance must be used for all packets of a match.
+ * 
+ * @author agent
+ * 
+ */
+public class CompactSyncTasksDeserializer implements IDeserializingable<SyncTasksPacket> {
+	private int lastLockstepNumber = -1;
+
+	@Override
+	public SyncTasksPacket deserialize(ENetworkKey key, DataInputStream dis) throws IOException {
+		CompactDataInputStream compactStream = new CompactDataInputStream(dis);
+		int lockstepNumber = lastLockstepNumber + compactStream.readVarInt();
+		int numberOfTasks = compactStream.readVarInt();
+
+		List<TaskPacket> tasks = new ArrayList<>(numberOfTasks);
+		for (int i = 0; i < numberOfTasks; i++) {
+			tasks.add(TaskPacket.readTask(compactStream, ETaskEncoding.COMPACT));
+		}
+
+		lastLockstepNumber = lockstepNumber;
+		return new SyncTasksPacket(lockstepNumber, tasks);
+	}
+}
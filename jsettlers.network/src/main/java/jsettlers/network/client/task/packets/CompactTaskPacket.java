@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.client.task.packets;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import jsettlers.network.infrastructure.channel.packet.Packet;
+
+/**
+ * Sends a {@link TaskPacket} with the compact encoding. It is used for the
+ * {@link jsettlers.network.NetworkConstants.ENetworkKey#COMPACT_SYNCHRONOUS_TASK} key.
+ * 
+ * @author agent
+ * 
+ */
+public final class CompactTaskPacket extends Packet {
+	private TaskPacket task;
+
+	public CompactTaskPacket() {
+	}
+
+	public CompactTaskPacket(TaskPacket task) {
+		this.task = task;
+	}
+
+	public TaskPacket getTask() {
+		return task;
+	}
+
+	@Override
+	public void serialize(DataOutputStream dos) throws IOException {
+		task.serialize(dos, ETaskEncoding.COMPACT);
+	}
+
+	@Override
+	public void deserialize(DataInputStream dis) throws IOException {
+		task = TaskPacket.readTask(dis, ETaskEncoding.COMPACT);
+	}
+
+	@Override
+	public int hashCode() {
+		return (task == null) ? 0 : task.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		CompactTaskPacket other = (CompactTaskPacket) obj;
+		if (task == null) {
+			if (other.task != null)
+				return false;
+		} else if (!task.equals(other.task))
+			return false;
+		return true;
+	}
+}
@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.client.task.packets;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import jsettlers.network.infrastructure.utils.CompactDataInputStream;
+import jsettlers.network.infrastructure.utils.CompactDataOutputStream;
+
+/**
+ * The encodings of the {@link TaskPacket}s. The encoding is passed to the serialization and deserialization of the tasks, which write their
+ * integer fields with it.
+ * <p />
+ * The {@link #COMPACT} encoding is only used on the network, if all players of a match support the
+ * {@link jsettlers.network.common.packets.ProtocolFeaturesPacket#COMPACT_LOCKSTEPS} feature. Replays and savegames always use the {@link #NORMAL}
+ * encoding.
+ * 
+ * @author agent
+ * 
+ */
+public enum ETaskEncoding {
+	/**
+	 * Writes the values with their full length.
+	 */
+	NORMAL {
+		@Override
+		public void writeLength(DataOutputStream dos, int length) throws IOException {
+			dos.writeInt(length);
+		}
+
+		@Override
+		public int readLength(DataInputStream dis) throws IOException {
+			return dis.readInt();
+		}
+
+		@Override
+		public void writeInt(DataOutputStream dos, int value) throws IOException {
+			dos.writeInt(value);
+		}
+
+		@Override
+		public int readInt(DataInputStream dis) throws IOException {
+			return dis.readInt();
+		}
+
+		@Override
+		public void writeDelta(DataOutputStream dos, int value, int reference) throws IOException {
+			dos.writeInt(value);
+		}
+
+		@Override
+		public int readDelta(DataInputStream dis, int reference) throws IOException {
+			return dis.readInt();
+		}
+
+		@Override
+		public void writeShort(DataOutputStream dos, int value, int reference) throws IOException {
+			dos.writeShort(value);
+		}
+
+		@Override
+		public short readShort(DataInputStream dis, int reference) throws IOException {
+			return dis.readShort();
+		}
+	},
+
+	/**
+	 * Writes the values as variable length integers, so that values near zero (e.g. ordinals) or near their reference only need one byte.
+	 */
+	COMPACT {
+		@Override
+		public void writeLength(DataOutputStream dos, int length) throws IOException {
+			CompactDataOutputStream.writeVarInt(dos, length);
+		}
+
+		@Override
+		public int readLength(DataInputStream dis) throws IOException {
+			return CompactDataInputStream.readVarInt(dis);
+		}
+
+		@Override
+		public void writeInt(DataOutputStream dos, int value) throws IOException {
+			CompactDataOutputStream.writeSignedVarInt(dos, value);
+		}
+
+		@Override
+		public int readInt(DataInputStream dis) throws IOException {
+			return CompactDataInputStream.readSignedVarInt(dis);
+		}
+
+		@Override
+		public void writeDelta(DataOutputStream dos, int value, int reference) throws IOException {
+			CompactDataOutputStream.writeSignedVarInt(dos, value - reference);
+		}
+
+		@Override
+		public int readDelta(DataInputStream dis, int reference) throws IOException {
+			return reference + CompactDataInputStream.readSignedVarInt(dis);
+		}
+
+		@Override
+		public void writeShort(DataOutputStream dos, int value, int reference) throws IOException {
+			CompactDataOutputStream.writeSignedVarInt(dos, value - reference);
+		}
+
+		@Override
+		public short readShort(DataInputStream dis, int reference) throws IOException {
+			return (short) (reference + CompactDataInputStream.readSignedVarInt(dis));
+		}
+	};
+
+	/**
+	 * Writes the length of a serialized task.
+	 */
+	public abstract void writeLength(DataOutputStream dos, int length) throws IOException;
+
+	/**
+	 * Reads a length written by {@link #writeLength(DataOutputStream, int)}.
+	 */
+	public abstract int readLength(DataInputStream dis) throws IOException;
+
+	/**
+	 * Writes an integer field of a task.
+	 */
+	public abstract void writeInt(DataOutputStream dos, int value) throws IOException;
+
+	public abstract int readInt(DataInputStream dis) throws IOException;
+
+	/**
+	 * Writes an integer field of a task that is usually close to the given reference value. The {@link #COMPACT} encoding only writes the
+	 * difference to the reference, the {@link #NORMAL} encoding writes the value itself.
+	 */
+	public abstract void writeDelta(DataOutputStream dos, int value, int reference) throws IOException;
+
+	public abstract int readDelta(DataInputStream dis, int reference) throws IOException;
+
+	/**
+	 * Writes a short field of a task (e.g. a coordinate) that is usually close to the given reference value. The reference may be 0. The
+	 * {@link #COMPACT} encoding only writes the difference to the reference, the {@link #NORMAL} encoding writes the value as short.
+	 */
+	public abstract void writeShort(DataOutputStream dos, int value, int reference) throws IOException;
+
+	public abstract short readShort(DataInputStream dis, int reference) throws IOException;
+}
@@ -23,43 +23,57 @@ import jsettlers.network.infrastructure.channel.IDeserializingable;
 import jsettlers.network.infrastructure.channel.packet.Packet;
 
 /**
+ * Base class of the tasks that are executed synchronously by all clients of a match.
+ * <p />
+ * The encoding of a task is passed explicitly to {@link #serialize(DataOutputStream, ETaskEncoding)} and
+ * {@link #readTask(DataInputStream, ETaskEncoding)}. Subclasses write their integer fields with the methods of the given {@link ETaskEncoding}.
+ * The plain {@link #serialize(DataOutputStream)} uses the {@link ETaskEncoding#NORMAL} encoding.
  * 
  * @author Andreas Eberle
  * 
  */
 public abstract class TaskPacket extends Packet {
-	public static final IDeserializingable<TaskPacket> DEFAULT_DESERIALIZER = (key, dis) -> {
+	public static final IDeserializingable<TaskPacket> DEFAULT_DESERIALIZER = (key, dis) -> readTask(dis, ETaskEncoding.NORMAL);
+
+	/**
+	 * Reads a task written by {@link #serialize(DataOutputStream, ETaskEncoding)} with the same encoding.
+	 */
+	public static TaskPacket readTask(DataInputStream dis, ETaskEncoding encoding) throws IOException {
 		try {
-			dis.readInt(); // read the length in bytes from the stream. We don't need it here, only the server needs it.
+			encoding.readLength(dis); // read the length in bytes from the stream. We don't need it here, only the server needs it.
 			String className = dis.readUTF();
 			@SuppressWarnings("unchecked")
 			Class<? extends TaskPacket> taskClass = (Class<? extends TaskPacket>) Class.forName(className);
 			TaskPacket packet = taskClass.newInstance();
-			packet.deserializeTask(dis);
+			packet.deserializeTask(dis, encoding);
 			return packet;
 		} catch (Exception e) {
 			throw new IOException(e);
 		}
-	};
+	}
 
 	@Override
 	public final void serialize(DataOutputStream dos) throws IOException {
+		serialize(dos, ETaskEncoding.NORMAL);
+	}
+
+	public final void serialize(DataOutputStream dos, ETaskEncoding encoding) throws IOException {
 		ByteArrayOutputStream bufferOutStream = new ByteArrayOutputStream();
 		DataOutputStream bufferDataOutStream = new DataOutputStream(bufferOutStream);
 
 		bufferDataOutStream.writeUTF(this.getClass().getName());
-		serializeTask(bufferDataOutStream);
+		serializeTask(bufferDataOutStream, encoding);
 		bufferDataOutStream.flush();
 
-		dos.writeInt(bufferOutStream.size());
+		encoding.writeLength(dos, bufferOutStream.size());
 		bufferOutStream.writeTo(dos);
 	}
 
-	protected abstract void serializeTask(DataOutputStream dos) throws IOException;
+	protected abstract void serializeTask(DataOutputStream dos, ETaskEncoding encoding) throws IOException;
 
 	@Override
 	public final void deserialize(DataInputStream dis) throws IOException {
 	}
 
-	protected abstract void deserializeTask(DataInputStream dis) throws IOException;
+	protected abstract void deserializeTask(DataInputStream dis, ETaskEncoding encoding) throws IOException;
 }
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.common.packets;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import jsettlers.network.infrastructure.channel.packet.Packet;
+
+/**
+ * The packet a client logs in with. It consists of the {@link PlayerInfoPacket} of the player followed by the protocol features supported by the
+ * client (see {@link ProtocolFeaturesPacket}).
+ * <p />
+ * The features are appended to the data of the original packet, so older servers read the player info and ignore the remaining bytes. Older
+ * clients do not send the features, in which case they are read as 0.
+ * 
+ * @author agent
+ * 
+ */
+public class IdentifyUserPacket extends Packet {
+	private PlayerInfoPacket playerInfo;
+	private int protocolFeatures;
+
+	public IdentifyUserPacket() {
+	}
+
+	public IdentifyUserPacket(PlayerInfoPacket playerInfo, int protocolFeatures) {
+		this.playerInfo = playerInfo;
+		this.protocolFeatures = protocolFeatures;
+	}
+
+	@Override
+	public void serialize(DataOutputStream dos) throws IOException {
+		playerInfo.serialize(dos);
+		dos.writeInt(protocolFeatures);
+	}
+
+	@Override
+	public void deserialize(DataInputStream dis) throws IOException {
+		playerInfo = new PlayerInfoPacket();
+		playerInfo.deserialize(dis);
+		protocolFeatures = dis.available() >= 4 ? dis.readInt() : 0;
+	}
+
+	public PlayerInfoPacket getPlayerInfo() {
+		return playerInfo;
+	}
+
+	public int getProtocolFeatures() {
+		return protocolFeatures;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((playerInfo == null) ? 0 : playerInfo.hashCode());
+		result = prime * result + protocolFeatures;
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		IdentifyUserPacket other = (IdentifyUserPacket) obj;
+		if (playerInfo == null) {
+			if (other.playerInfo != null)
+				return false;
+		} else if (!playerInfo.equals(other.playerInfo))
+			return false;
+		return protocolFeatures == other.protocolFeatures;
+	}
+}
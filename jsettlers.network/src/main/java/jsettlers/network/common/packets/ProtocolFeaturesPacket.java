@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.common.packets;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import jsettlers.network.infrastructure.channel.packet.Packet;
+
+/**
+ * Negotiates optional protocol features between a client and the server. The client announces the features it supports with its
+ * {@link IdentifyUserPacket}. When a match starts, the server sends this packet with the features used in the match to every player that announced
+ * features. Only features supported by all players of a match are used.
+ * <p />
+ * Older servers ignore the announcement of the client and older clients never announce features, so both keep using the original protocol.
+ * 
+ * @author agent
+ * 
+ */
+public class ProtocolFeaturesPacket extends Packet {
+	/**
+	 * The tasks are sent with the {@link jsettlers.network.NetworkConstants.ENetworkKey#COMPACT_SYNCHRONOUS_TASK} key. Locksteps without tasks
+	 * are coalesced and the lockstep numbers and task fields are written as variable length integers.
+	 */
+	public static final int COMPACT_LOCKSTEPS = 1;
+
+	public static final int SUPPORTED_FEATURES = COMPACT_LOCKSTEPS;
+
+	private int features;
+
+	public ProtocolFeaturesPacket() {
+	}
+
+	public ProtocolFeaturesPacket(int features) {
+		this.features = features;
+	}
+
+	@Override
+	public void serialize(DataOutputStream dos) throws IOException {
+		dos.writeInt(features);
+	}
+
+	@Override
+	public void deserialize(DataInputStream dis) throws IOException {
+		features = dis.readInt();
+	}
+
+	public int getFeatures() {
+		return features;
+	}
+
+	public boolean hasFeature(int feature) {
+		return (features & feature) == feature;
+	}
+
+	@Override
+	public int hashCode() {
+		return features;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		ProtocolFeaturesPacket other = (ProtocolFeaturesPacket) obj;
+		return features == other.features;
+	}
+}
@@ -25,6 +25,7 @@ import java.util.HashMap;
 
 import jsettlers.network.NetworkConstants;
 import jsettlers.network.NetworkConstants.ENetworkKey;
+import jsettlers.network.infrastructure.channel.packet.EncodedPacket;
 import jsettlers.network.infrastructure.channel.packet.Packet;
 import jsettlers.network.infrastructure.channel.ping.IPingUpdateListener;
 import jsettlers.network.infrastructure.channel.ping.IRoundTripTimeSupplier;
@@ -92,6 +93,26 @@ public class Channel implements Runnable, IRoundTripTimeSupplier {
 		thread = new Thread(this, "ChannelForSocket_" + socket);
 	}
 
+	/**
+	 * Creates a channel without a socket. Subclasses using this constructor transport the packets themselves. They need to override
+	 * {@link #startReceiving()}, {@link #sendPacket(ENetworkKey, Packet)}, {@link #close()} and {@link #isClosed()} and hand the received packets to
+	 * {@link #receive(ENetworkKey, int, DataInputStream)}.
+	 * 
+	 * @param logger
+	 *            The logger of the channel.
+	 */
+	protected Channel(Logger logger) {
+		this.logger = new SwitchableLogger(logger);
+		this.socket = null;
+		this.outStream = null;
+		this.inStream = null;
+
+		pingPacketListener = new PingPacketListener(this.logger, this);
+		registerListener(pingPacketListener);
+
+		thread = null;
+	}
+
 	/**
 	 * Starts the message receiving of this {@link Channel}.
 	 * <p />
@@ -104,6 +125,10 @@ public class Channel implements Runnable, IRoundTripTimeSupplier {
 	 */
 	public void start() {
 		started = true;
+		startReceiving();
+	}
+
+	protected void startReceiving() {
 		thread.start();
 	}
 
@@ -117,6 +142,27 @@ public class Channel implements Runnable, IRoundTripTimeSupplier {
 		}
 	}
 
+	/**
+	 * Sends a packet that has already been serialized. The data is written without copying it.
+	 * 
+	 * @param key
+	 *            The key of the packet.
+	 * @param packet
+	 *            The serialized packet.
+	 */
+	public synchronized void sendEncoded(ENetworkKey key, EncodedPacket packet) {
+		if (socket.isClosed())
+			return;
+
+		try {
+			key.writeTo(outStream);
+			outStream.writeInt(packet.getLength());
+			packet.writeTo(outStream);
+			outStream.flush();
+		} catch (IOException e) {
+		}
+	}
+
 	private void sendPacketData(ENetworkKey key, Packet packet) throws IOException {
 		bufferDataOutStream.flush();
 		byteBufferOutStream.reset();
@@ -157,27 +203,7 @@ public class Channel implements Runnable, IRoundTripTimeSupplier {
 				int length = inStream.readInt();
 
 				DataInputStream bufferIn = readBytesToBuffer(inStream, length);
-
-				IChannelListener listener = listenerRegistry.get(key);
-
-				if (listener != null) {
-					try {
-						listener.receive(key, length, bufferIn);
-						if (bufferIn.available() > 0) {
-							logger.warn("Deserialization did not read all bytes of input: " + key + " " + length + " " + bufferIn.available());
-						}
-					} catch (Exception e) { // ignore exceptions thrown in receive
-						e.printStackTrace();
-					}
-				} else {
-					logger.warn("NO LISTENER FOUND for key: " + key + "   (" + socket + ")");
-
-					if (key != NetworkConstants.ENetworkKey.REJECT_PACKET) { // prevent endless loop
-						sendPacket(NetworkConstants.ENetworkKey.REJECT_PACKET,
-								new RejectPacket(NetworkConstants.ENetworkMessage.NO_LISTENER_FOUND, key));
-					}
-				}
-
+				receive(key, length, bufferIn);
 			} catch (Exception e) {
 				try {
 					socket.close();
@@ -188,10 +214,46 @@ public class Channel implements Runnable, IRoundTripTimeSupplier {
 
 		close(); // release the resources
 
+		informChannelClosedListener();
+		logger.info("Channel listener shut down: " + socket);
+	}
+
+	/**
+	 * Hands a received packet to the listener registered for its key. If no listener is registered, a {@link RejectPacket} is sent to the partner.
+	 * 
+	 * @param key
+	 *            The key of the packet.
+	 * @param length
+	 *            The length of the packet data.
+	 * @param bufferIn
+	 *            A stream containing the packet data.
+	 */
+	protected void receive(ENetworkKey key, int length, DataInputStream bufferIn) {
+		IChannelListener listener = listenerRegistry.get(key);
+
+		if (listener != null) {
+			try {
+				listener.receive(key, length, bufferIn);
+				if (bufferIn.available() > 0) {
+					logger.warn("Deserialization did not read all bytes of input: " + key + " " + length + " " + bufferIn.available());
+				}
+			} catch (Exception e) { // ignore exceptions thrown in receive
+				e.printStackTrace();
+			}
+		} else {
+			logger.warn("NO LISTENER FOUND for key: " + key + "   (" + this + ")");
+
+			if (key != NetworkConstants.ENetworkKey.REJECT_PACKET) { // prevent endless loop
+				sendPacket(NetworkConstants.ENetworkKey.REJECT_PACKET,
+						new RejectPacket(NetworkConstants.ENetworkMessage.NO_LISTENER_FOUND, key));
+			}
+		}
+	}
+
+	protected void informChannelClosedListener() {
 		if (channelClosedListener != null) {
 			channelClosedListener.channelClosed();
 		}
-		logger.info("Channel listener shut down: " + socket);
 	}
 
 	private DataInputStream readBytesToBuffer(DataInputStream inStream, int length) throws IOException {
@@ -278,4 +340,9 @@ public class Channel implements Runnable, IRoundTripTimeSupplier {
 	public void setLogger(Logger newLogger) {
 		this.logger.setLogger(newLogger);
 	}
+
+	@Override
+	public String toString() {
+		return String.valueOf(socket);
+	}
 }
@@ -0,0 +1,310 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.infrastructure.channel.nio;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+
+import jsettlers.network.NetworkConstants.ENetworkKey;
+import jsettlers.network.infrastructure.channel.Channel;
+import jsettlers.network.infrastructure.channel.packet.EncodedPacket;
+import jsettlers.network.infrastructure.channel.packet.Packet;
+import jsettlers.network.infrastructure.log.Logger;
+
+/**
+ * A {@link Channel} whose socket is served by a {@link SelectorServer} instead of an own thread. It uses the same framing as the {@link Channel}
+ * (key, length, data), so the partner can use any channel implementation.
+ * <p />
+ * Packets can be sent from any thread. They are serialized into pooled direct buffers and written directly as far as the socket accepts them
+ * without blocking. The rest is written by the selector thread with gathering writes.
+ * The selector thread reads the incoming data and calls the {@link jsettlers.network.infrastructure.channel.IChannelListener}s, so listeners
+ * must not block.
+ * 
+ * @author agent
+ * 
+ */
+public final class NioChannel extends Channel {
+	private static final int HEADER_LENGTH = 5; // key and length
+
+	private final SelectorServer server;
+	private final SocketChannel socketChannel;
+	private final String name;
+	private final ByteBufferPool bufferPool;
+
+	private volatile boolean closed = false;
+
+	// guarded by pendingWrites
+	private final ArrayDeque<ByteBuffer> pendingWrites = new ArrayDeque<>();
+	private final PooledBufferOutputStream packetBuffers;
+	private final DataOutputStream packetOutStream;
+	private ByteBuffer[] writeArray = new ByteBuffer[16];
+	private boolean writeRequested = false;
+
+	// only used by the selector thread
+	private SelectionKey selectionKey;
+	private ByteBuffer readBuffer;
+	private ENetworkKey readKey;
+	private byte[] readData;
+	private int readDataPosition;
+
+	NioChannel(Logger logger, SocketChannel socketChannel, SelectorServer server, ByteBufferPool bufferPool) {
+		super(logger);
+		this.server = server;
+		this.socketChannel = socketChannel;
+		this.bufferPool = bufferPool;
+		this.name = "NioChannel(" + socketChannel.socket().getRemoteSocketAddress() + ")";
+
+		packetBuffers = new PooledBufferOutputStream(bufferPool);
+		packetOutStream = new DataOutputStream(packetBuffers);
+	}
+
+	@Override
+	protected void startReceiving() {
+		server.register(this);
+	}
+
+	@Override
+	public void sendPacket(ENetworkKey key, Packet packet) {
+		boolean requestWrite;
+
+		synchronized (pendingWrites) {
+			if (closed) {
+				return;
+			}
+
+			try {
+				key.writeTo(packetOutStream);
+				packetOutStream.writeInt(0); // the length is set when the packet has been serialized
+				packet.serialize(packetOutStream);
+
+				packetBuffers.putInt(1, packetBuffers.size() - HEADER_LENGTH);
+				packetBuffers.moveBuffersTo(pendingWrites);
+			} catch (IOException e) {
+				packetBuffers.release();
+				return;
+			}
+
+			requestWrite = writeDirectly();
+		}
+
+		if (requestWrite) {
+			server.requestWrite(this);
+		}
+	}
+
+	/**
+	 * Sends a packet that has already been serialized. Only the header is written into a pooled buffer, the data is shared with the other
+	 * receivers of the packet.
+	 */
+	@Override
+	public void sendEncoded(ENetworkKey key, EncodedPacket packet) {
+		boolean requestWrite;
+
+		synchronized (pendingWrites) {
+			if (closed) {
+				return;
+			}
+
+			try {
+				key.writeTo(packetOutStream);
+				packetOutStream.writeInt(packet.getLength());
+				packetBuffers.moveBuffersTo(pendingWrites);
+				pendingWrites.addLast(packet.asReadOnlyBuffer());
+			} catch (IOException e) {
+				packetBuffers.release();
+				return;
+			}
+
+			requestWrite = writeDirectly();
+		}
+
+		if (requestWrite) {
+			server.requestWrite(this);
+		}
+	}
+
+	/**
+	 * Tries to send the queued packets directly, the selector thread only writes what the socket did not accept. Must be called with the lock of
+	 * pendingWrites.
+	 * 
+	 * @return true if the selector thread needs to write the rest of the data.
+	 */
+	private boolean writeDirectly() {
+		if (writeRequested) {
+			return false; // the selector thread writes the packet with the data queued before
+		}
+
+		boolean requestWrite = false;
+		try {
+			writeQueuedBuffers();
+		} catch (IOException e) {
+			requestWrite = true; // the selector thread closes the channel
+		}
+
+		if (!pendingWrites.isEmpty()) {
+			writeRequested = true;
+			requestWrite = true;
+		}
+		return requestWrite;
+	}
+
+	/**
+	 * Called by the selector thread when the channel has been registered.
+	 */
+	void registered(SelectionKey selectionKey) {
+		this.selectionKey = selectionKey;
+		this.readBuffer = bufferPool.take();
+	}
+
+	/**
+	 * Called by the selector thread to read the available data and to dispatch the completely received packets.
+	 * 
+	 * @throws IOException
+	 *             If the socket failed or the partner sent invalid data.
+	 */
+	void readAvailableData() throws IOException {
+		if (socketChannel.read(readBuffer) < 0) {
+			close();
+			return;
+		}
+
+		readBuffer.flip();
+		while (!closed) {
+			if (readData == null) {
+				if (readBuffer.remaining() < HEADER_LENGTH) {
+					break;
+				}
+
+				readKey = ENetworkKey.fromOrdinal(readBuffer.get());
+				int length = readBuffer.getInt();
+				if (length < 0) {
+					throw new IOException("Invalid length " + length + " of packet " + readKey);
+				}
+				readData = new byte[length];
+				readDataPosition = 0;
+			}
+
+			int chunk = Math.min(readBuffer.remaining(), readData.length - readDataPosition);
+			readBuffer.get(readData, readDataPosition, chunk);
+			readDataPosition += chunk;
+
+			if (readDataPosition < readData.length) {
+				break;
+			}
+
+			byte[] data = readData;
+			readData = null;
+			receive(readKey, data.length, new DataInputStream(new ByteArrayInputStream(data)));
+		}
+		readBuffer.compact();
+	}
+
+	/**
+	 * Called by the selector thread to write as much of the pending data as the socket accepts. If data remains, the channel waits until the
+	 * socket is writable again.
+	 * 
+	 * @throws IOException
+	 *             If the socket failed.
+	 */
+	void writePendingData() throws IOException {
+		synchronized (pendingWrites) {
+			writeQueuedBuffers();
+
+			if (selectionKey != null) { // otherwise, the data is written when the channel has been registered
+				writeRequested = !pendingWrites.isEmpty();
+				selectionKey.interestOps(writeRequested ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+			}
+		}
+	}
+
+	/**
+	 * Writes the pending buffers with a gathering write and gives the completely written ones back to the pool. Must be called with the lock
+	 * of pendingWrites.
+	 */
+	private void writeQueuedBuffers() throws IOException {
+		int numberOfBuffers = pendingWrites.size();
+		if (numberOfBuffers == 0) {
+			return;
+		}
+
+		writeArray = pendingWrites.toArray(writeArray);
+		socketChannel.write(writeArray, 0, numberOfBuffers);
+
+		for (int i = 0; i < numberOfBuffers && !writeArray[i].hasRemaining(); i++) {
+			releaseBuffer(pendingWrites.pollFirst());
+		}
+	}
+
+	private void releaseBuffer(ByteBuffer buffer) {
+		if (!buffer.isReadOnly()) { // read only buffers belong to EncodedPackets
+			bufferPool.release(buffer);
+		}
+	}
+
+	/**
+	 * Called by the selector thread after the channel has been closed.
+	 */
+	void releaseResources() {
+		if (readBuffer != null) {
+			bufferPool.release(readBuffer);
+			readBuffer = null;
+		}
+
+		synchronized (pendingWrites) {
+			ByteBuffer buffer;
+			while ((buffer = pendingWrites.pollFirst()) != null) {
+				releaseBuffer(buffer);
+			}
+		}
+
+		informChannelClosedListener();
+	}
+
+	SocketChannel getSocketChannel() {
+		return socketChannel;
+	}
+
+	@Override
+	public void close() {
+		synchronized (pendingWrites) {
+			if (closed) {
+				return;
+			}
+			closed = true;
+		}
+
+		try {
+			socketChannel.close();
+		} catch (IOException e) {
+		}
+		server.channelClosed(this);
+	}
+
+	@Override
+	public boolean isClosed() {
+		return closed;
+	}
+
+	@Override
+	public String toString() {
+		return name;
+	}
+}
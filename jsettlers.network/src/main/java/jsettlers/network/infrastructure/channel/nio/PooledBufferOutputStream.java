@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.infrastructure.channel.nio;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * An {@link OutputStream} writing into buffers of a {@link ByteBufferPool}. A new buffer is taken whenever the current one is full, so the
+ * written data is never copied.
+ * 
+ * @author agent
+ * 
+ */
+final class PooledBufferOutputStream extends OutputStream {
+	private final ByteBufferPool pool;
+	private final ArrayList<ByteBuffer> buffers = new ArrayList<>();
+
+	private ByteBuffer currentBuffer;
+	private int size;
+
+	PooledBufferOutputStream(ByteBufferPool pool) {
+		this.pool = pool;
+	}
+
+	@Override
+	public void write(int b) {
+		ensureSpace();
+		currentBuffer.put((byte) b);
+		size++;
+	}
+
+	@Override
+	public void write(byte[] data, int offset, int length) {
+		while (length > 0) {
+			ensureSpace();
+			int chunk = Math.min(length, currentBuffer.remaining());
+			currentBuffer.put(data, offset, chunk);
+			offset += chunk;
+			length -= chunk;
+			size += chunk;
+		}
+	}
+
+	private void ensureSpace() {
+		if (currentBuffer == null || !currentBuffer.hasRemaining()) {
+			currentBuffer = pool.take();
+			buffers.add(currentBuffer);
+		}
+	}
+
+	/**
+	 * @return The number of bytes written since the buffers have been moved or released the last time.
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Overwrites four already written bytes with the given int.
+	 * 
+	 * @param position
+	 *            The position of the int in the written data. The int must be in the first buffer.
+	 * @param value
+	 *            The new value.
+	 */
+	void putInt(int position, int value) {
+		buffers.get(0).putInt(position, value);
+	}
+
+	/**
+	 * Flips the written buffers and adds them to the given collection. The stream is empty afterwards.
+	 * 
+	 * @param target
+	 *            The collection receiving the buffers.
+	 */
+	void moveBuffersTo(Collection<ByteBuffer> target) {
+		for (int i = 0; i < buffers.size(); i++) {
+			ByteBuffer buffer = buffers.get(i);
+			buffer.flip();
+			target.add(buffer);
+		}
+		clear();
+	}
+
+	/**
+	 * Gives the written buffers back to the pool. The stream is empty afterwards.
+	 */
+	void release() {
+		for (int i = 0; i < buffers.size(); i++) {
+			pool.release(buffers.get(i));
+		}
+		clear();
+	}
+
+	private void clear() {
+		buffers.clear();
+		currentBuffer = null;
+		size = 0;
+	}
+}
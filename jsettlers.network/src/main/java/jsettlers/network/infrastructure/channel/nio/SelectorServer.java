@@ -0,0 +1,206 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.infrastructure.channel.nio;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import jsettlers.network.infrastructure.log.Logger;
+
+/**
+ * Serves the sockets of all clients with a single thread and a {@link Selector}. This replaces the two threads per client of the
+ * {@link jsettlers.network.infrastructure.channel.Channel} on servers with many clients.
+ * <p />
+ * The server thread accepts new clients, reads the incoming packets and writes the packets queued by other threads. Other threads only
+ * communicate with it by queues and by waking up the selector.
+ * 
+ * @author agent
+ * 
+ */
+public final class SelectorServer implements Runnable {
+	private static final int BUFFER_SIZE = 4096;
+	private static final int MAX_POOLED_BUFFERS = 1024;
+
+	private final Logger logger;
+	private final INewChannelListener newChannelListener;
+	private final Selector selector;
+	private final ServerSocketChannel serverChannel;
+	private final ByteBufferPool bufferPool = new ByteBufferPool(BUFFER_SIZE, MAX_POOLED_BUFFERS);
+
+	private final ConcurrentLinkedQueue<NioChannel> registerRequests = new ConcurrentLinkedQueue<>();
+	private final ConcurrentLinkedQueue<NioChannel> writeRequests = new ConcurrentLinkedQueue<>();
+	private final ConcurrentLinkedQueue<NioChannel> closedChannels = new ConcurrentLinkedQueue<>();
+
+	private volatile boolean canceled = false;
+
+	public SelectorServer(Logger logger, int port, INewChannelListener newChannelListener) throws IOException {
+		this.logger = logger;
+		this.newChannelListener = newChannelListener;
+		this.selector = Selector.open();
+
+		this.serverChannel = ServerSocketChannel.open();
+		serverChannel.socket().setReuseAddress(true);
+		serverChannel.bind(new InetSocketAddress(port));
+		serverChannel.configureBlocking(false);
+		serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+	}
+
+	@Override
+	public void run() {
+		while (!canceled) {
+			try {
+				selector.select();
+			} catch (IOException e) {
+				e.printStackTrace();
+				break;
+			}
+
+			processRequests();
+
+			Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+			while (iterator.hasNext()) {
+				SelectionKey key = iterator.next();
+				iterator.remove();
+
+				if (key.isValid() && key.isAcceptable()) {
+					acceptClient();
+				} else {
+					handleChannel(key);
+				}
+			}
+		}
+
+		closeAll();
+	}
+
+	private void processRequests() {
+		NioChannel channel;
+		while ((channel = registerRequests.poll()) != null) {
+			try {
+				channel.registered(channel.getSocketChannel().register(selector, SelectionKey.OP_READ, channel));
+				channel.writePendingData(); // packets may have been sent before the channel has been started
+			} catch (IOException e) {
+				channel.close();
+			}
+		}
+
+		while ((channel = writeRequests.poll()) != null) {
+			if (!channel.isClosed()) {
+				try {
+					channel.writePendingData();
+				} catch (IOException | CancelledKeyException e) {
+					channel.close();
+				}
+			}
+		}
+
+		while ((channel = closedChannels.poll()) != null) {
+			channel.releaseResources();
+		}
+	}
+
+	private void acceptClient() {
+		try {
+			SocketChannel socketChannel = serverChannel.accept();
+			if (socketChannel == null) {
+				return;
+			}
+
+			socketChannel.configureBlocking(false);
+			socketChannel.socket().setTcpNoDelay(true);
+
+			newChannelListener.channelAccepted(new NioChannel(logger, socketChannel, this, bufferPool));
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	private static void handleChannel(SelectionKey key) {
+		NioChannel channel = (NioChannel) key.attachment();
+		try {
+			if (key.isReadable()) {
+				channel.readAvailableData();
+			}
+			if (key.isValid() && key.isWritable()) {
+				channel.writePendingData();
+			}
+		} catch (IOException | CancelledKeyException e) {
+			channel.close();
+		}
+	}
+
+	private void closeAll() {
+		processRequests();
+		for (SelectionKey key : selector.keys()) {
+			if (key.attachment() instanceof NioChannel) {
+				((NioChannel) key.attachment()).close();
+			}
+		}
+		processRequests();
+
+		try {
+			selector.close();
+		} catch (IOException e) {
+		}
+	}
+
+	void register(NioChannel channel) {
+		registerRequests.add(channel);
+		selector.wakeup();
+	}
+
+	void requestWrite(NioChannel channel) {
+		writeRequests.add(channel);
+		selector.wakeup();
+	}
+
+	void channelClosed(NioChannel channel) {
+		closedChannels.add(channel);
+		selector.wakeup();
+	}
+
+	/**
+	 * @return The port the server is listening on.
+	 */
+	public int getPort() {
+		return serverChannel.socket().getLocalPort();
+	}
+
+	/**
+	 * @return The pool of the buffers used to read and write the data of the clients.
+	 */
+	public ByteBufferPool getBufferPool() {
+		return bufferPool;
+	}
+
+	/**
+	 * Stops the server thread. All channels are closed.
+	 */
+	public void shutdown() {
+		canceled = true;
+		try {
+			serverChannel.close();
+		} catch (IOException e) {
+		}
+		selector.wakeup();
+	}
+}
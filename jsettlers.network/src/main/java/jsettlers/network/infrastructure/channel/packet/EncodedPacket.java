@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.infrastructure.channel.packet;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import jsettlers.network.infrastructure.channel.Channel;
+
+/**
+ * The serialized data of a {@link Packet}. It is used to send the same packet to several {@link Channel}s: The packet is only serialized once and
+ * the channels write the immutable serialized data with {@link Channel#sendEncoded(jsettlers.network.NetworkConstants.ENetworkKey, EncodedPacket)}
+ * without copying it into their own buffers. The receiver deserializes the original packet.
+ * 
+ * @author agent
+ * 
+ */
+public final class EncodedPacket {
+	private final byte[] data;
+
+	private EncodedPacket(byte[] data) {
+		this.data = data;
+	}
+
+	/**
+	 * Serializes the given packet.
+	 * 
+	 * @param packet
+	 *            The packet to be serialized.
+	 * @return An {@link EncodedPacket} containing the serialized data of the given packet.
+	 * @throws IOException
+	 *             If the packet could not be serialized.
+	 */
+	public static EncodedPacket encode(Packet packet) throws IOException {
+		return encode(packet, new ByteArrayOutputStream());
+	}
+
+	/**
+	 * Serializes the given packet with the given buffer. Senders encoding many packets can reuse the buffer, so only the array of the
+	 * {@link EncodedPacket} is allocated.
+	 * 
+	 * @param packet
+	 *            The packet to be serialized.
+	 * @param buffer
+	 *            The buffer used for the serialization. It is reset before it is used.
+	 * @return An {@link EncodedPacket} containing the serialized data of the given packet.
+	 * @throws IOException
+	 *             If the packet could not be serialized.
+	 */
+	public static EncodedPacket encode(Packet packet, ByteArrayOutputStream buffer) throws IOException {
+		buffer.reset();
+		DataOutputStream dataOut = new DataOutputStream(buffer);
+		packet.serialize(dataOut);
+		dataOut.flush();
+		return new EncodedPacket(buffer.toByteArray());
+	}
+
+	/**
+	 * @return The length of the serialized data.
+	 */
+	public int getLength() {
+		return data.length;
+	}
+
+	/**
+	 * Writes the serialized data to the given stream.
+	 * 
+	 * @param out
+	 *            The stream to write to.
+	 * @throws IOException
+	 *             If an I/O error occurs.
+	 */
+	public void writeTo(OutputStream out) throws IOException {
+		out.write(data);
+	}
+
+	/**
+	 * @return A new read only buffer containing the serialized data. The data is shared, not copied.
+	 */
+	public ByteBuffer asReadOnlyBuffer() {
+		return ByteBuffer.wrap(data).asReadOnlyBuffer();
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(data);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		EncodedPacket other = (EncodedPacket) obj;
+		return Arrays.equals(data, other.data);
+	}
+}
@@ -51,6 +51,11 @@ public class PingPacketListener extends PacketChannelListener<PingPacket> implem
 
 	@Override
 	protected void receivePacket(ENetworkKey key, PingPacket receivedPing) {
+		if (receivedPing.getReceiverTime() == 0) { // the first ping of the other side does not contain a time of ours to measure the rtt
+			sendPing(receivedPing.getSenderTime());
+			return;
+		}
+
 		long now = System.currentTimeMillis();
 		int rtt = (int) (now - receivedPing.getReceiverTime());
 		int jitter = Math.abs(currRtt.getRtt() - rtt);
@@ -19,25 +19,52 @@ import java.io.IOException;
 import java.io.OutputStream;
 
 /**
+ * Writes the data to the underlying stream after a delay. The delay of every millisecond slot of data randomly walks between the minimum and
+ * maximum delay, so the stream simulates the latency and the jitter of a real network connection without reordering the data.
  * 
  * @author Andreas Eberle
  * 
  */
 public class DelayedOutputStream extends OutputStream {
+	public static final int DEFAULT_MIN_DELAY = 80;
+	public static final int DEFAULT_MAX_DELAY = 120;
 
 	private static final int BUFFER_LENGTH = 2000;
+	private static final int MAX_DELAY_STEP = 10;
 
 	private final Thread thread;
 	private final ByteArrayOutputStream[] buffers = new ByteArrayOutputStream[BUFFER_LENGTH];
 	private final OutputStream out;
+	private final int minDelay;
+	private final int maxDelay;
 
-	private boolean closed;
+	private volatile boolean closed;
 
-	private int currWriteSlot = 200;
+	private volatile int currWriteSlot;
 	private int currReadSlot = 0;
 
 	public DelayedOutputStream(OutputStream out) {
+		this(out, DEFAULT_MIN_DELAY, DEFAULT_MAX_DELAY);
+	}
+
+	/**
+	 * 
+	 * @param out
+	 *            The stream the delayed data is written to.
+	 * @param minDelay
+	 *            The minimum delay of the data in milliseconds.
+	 * @param maxDelay
+	 *            The maximum delay of the data in milliseconds.
+	 */
+	public DelayedOutputStream(OutputStream out, int minDelay, int maxDelay) {
+		if (minDelay < 1 || maxDelay < minDelay || maxDelay >= BUFFER_LENGTH) {
+			throw new IllegalArgumentException("invalid delay range: " + minDelay + " - " + maxDelay);
+		}
+
 		this.out = out;
+		this.minDelay = minDelay;
+		this.maxDelay = maxDelay;
+		this.currWriteSlot = minDelay;
 		for (int i = 0; i < buffers.length; i++) {
 			buffers[i] = new ByteArrayOutputStream();
 		}
@@ -60,10 +87,6 @@ public class DelayedOutputStream extends OutputStream {
 	}
 
 	private final class DelayedOutStreamWriter extends Thread {
-		private static final int MIN_DELAY = 80;
-		private static final int MAX_DELAY = 120;
-		private static final int MAX_DELAY_STEP = 10;
-
 		private DelayedOutStreamWriter() {
 			super("delayedOutStreamWriter");
 		}
@@ -75,8 +98,8 @@ public class DelayedOutputStream extends OutputStream {
 				currWriteSlot = (currWriteSlot + 1) % BUFFER_LENGTH;
 
 				int currDist = (BUFFER_LENGTH + currWriteSlot - currReadSlot) % BUFFER_LENGTH;
-				int targetDistance = Math.min(MAX_DELAY,
-						Math.max(MIN_DELAY, (int) (currDist + Math.random() * MAX_DELAY_STEP * 2 - MAX_DELAY_STEP)));
+				int targetDistance = Math.min(maxDelay,
+						Math.max(minDelay, (int) (currDist + Math.random() * MAX_DELAY_STEP * 2 - MAX_DELAY_STEP)));
 
 				// System.out.println("ssdsf");
 				if (targetDistance >= currDist) {
@@ -98,8 +121,11 @@ public class DelayedOutputStream extends OutputStream {
 			ByteArrayOutputStream currBuffer = buffers[currReadSlot];
 			currReadSlot = (currReadSlot + 1) % BUFFER_LENGTH;
 			try {
-				currBuffer.writeTo(DelayedOutputStream.this.out);
-				currBuffer.reset();
+				if (currBuffer.size() > 0) {
+					currBuffer.writeTo(DelayedOutputStream.this.out);
+					currBuffer.reset();
+					DelayedOutputStream.this.out.flush(); // a buffering stream would add its own delay
+				}
 			} catch (IOException e1) {
 				e1.printStackTrace();
 			}
@@ -32,8 +32,12 @@ public class DelayedSocket implements ISocket {
 	private final DelayedOutputStream delayedOut;
 
 	public DelayedSocket(Socket socket) throws IOException {
+		this(socket, DelayedOutputStream.DEFAULT_MIN_DELAY, DelayedOutputStream.DEFAULT_MAX_DELAY);
+	}
+
+	public DelayedSocket(Socket socket, int minDelay, int maxDelay) throws IOException {
 		this.socket = socket;
-		this.delayedOut = new DelayedOutputStream(socket.getOutputStream());
+		this.delayedOut = new DelayedOutputStream(socket.getOutputStream(), minDelay, maxDelay);
 	}
 
 	@Override
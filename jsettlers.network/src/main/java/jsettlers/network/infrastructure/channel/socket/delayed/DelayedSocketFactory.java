@@ -28,11 +28,29 @@ import jsettlers.network.infrastructure.channel.socket.SocketConnectException;
  * 
  */
 public class DelayedSocketFactory implements ISocketFactory {
+	private final int minDelay;
+	private final int maxDelay;
+
+	public DelayedSocketFactory() {
+		this(DelayedOutputStream.DEFAULT_MIN_DELAY, DelayedOutputStream.DEFAULT_MAX_DELAY);
+	}
+
+	/**
+	 * 
+	 * @param minDelay
+	 *            The minimum delay of the sent data in milliseconds.
+	 * @param maxDelay
+	 *            The maximum delay of the sent data in milliseconds. The difference to the minimum delay is the jitter of the connection.
+	 */
+	public DelayedSocketFactory(int minDelay, int maxDelay) {
+		this.minDelay = minDelay;
+		this.maxDelay = maxDelay;
+	}
 
 	@Override
 	public ISocket generateSocket(String host, int port) throws SocketConnectException {
 		try {
-			return new DelayedSocket(new Socket(host, port));
+			return new DelayedSocket(new Socket(host, port), minDelay, maxDelay);
 		} catch (IOException e) {
 			e.printStackTrace();
 			throw new SocketConnectException("Error during socket connection");
@@ -42,7 +60,7 @@ public class DelayedSocketFactory implements ISocketFactory {
 	@Override
 	public ISocket generateSocket(Socket socket) throws SocketConnectException {
 		try {
-			return new DelayedSocket(socket);
+			return new DelayedSocket(socket, minDelay, maxDelay);
 		} catch (IOException e) {
 			e.printStackTrace();
 			throw new SocketConnectException("Error during socket connection");
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.infrastructure.utils;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A {@link DataInputStream} that can additionally read the variable length integers written by the {@link CompactDataOutputStream}.
+ * 
+ * @author agent
+ * 
+ */
+public class CompactDataInputStream extends DataInputStream {
+	private static final int MAX_VAR_INT_BYTES = 5;
+
+	public CompactDataInputStream(InputStream in) {
+		super(in);
+	}
+
+	/**
+	 * Reads a value written with {@link CompactDataOutputStream#writeVarInt(int)}.
+	 * 
+	 * @return
+	 * @throws IOException
+	 *             If an I/O error occurs or the value is longer than an integer.
+	 */
+	public int readVarInt() throws IOException {
+		return readVarInt(this);
+	}
+
+	/**
+	 * Reads a value written with {@link CompactDataOutputStream#writeVarInt(int)} from any {@link DataInput}.
+	 * 
+	 * @param in
+	 * @return
+	 * @throws IOException
+	 *             If an I/O error occurs or the value is longer than an integer.
+	 */
+	public static int readVarInt(DataInput in) throws IOException {
+		int value = 0;
+		for (int i = 0; i < MAX_VAR_INT_BYTES; i++) {
+			int currentByte = in.readUnsignedByte();
+			value |= (currentByte & 0x7F) << (7 * i);
+
+			if ((currentByte & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IOException("Variable length integer is too long.");
+	}
+
+	/**
+	 * Reads a value written with {@link CompactDataOutputStream#writeSignedVarInt(int)}.
+	 * 
+	 * @return
+	 * @throws IOException
+	 */
+	public int readSignedVarInt() throws IOException {
+		return readSignedVarInt(this);
+	}
+
+	/**
+	 * Reads a value written with {@link CompactDataOutputStream#writeSignedVarInt(int)} from any {@link DataInput}.
+	 * 
+	 * @param in
+	 * @return
+	 * @throws IOException
+	 */
+	public static int readSignedVarInt(DataInput in) throws IOException {
+		int value = readVarInt(in);
+		return (value >>> 1) ^ -(value & 1);
+	}
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.infrastructure.utils;
+
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A {@link DataOutputStream} that can additionally write integers with a variable length. Small values only need one byte instead of four. The
+ * values can be read with the {@link CompactDataInputStream}.
+ * 
+ * @author agent
+ * 
+ */
+public class CompactDataOutputStream extends DataOutputStream {
+
+	public CompactDataOutputStream(OutputStream out) {
+		super(out);
+	}
+
+	/**
+	 * Writes the given value with seven bits per byte. The highest bit of each byte signals that another byte follows. Values from 0 to 127 need
+	 * one byte, negative values need five bytes.
+	 * 
+	 * @param value
+	 *            The value is interpreted as unsigned integer.
+	 * @throws IOException
+	 */
+	public void writeVarInt(int value) throws IOException {
+		writeVarInt(this, value);
+	}
+
+	/**
+	 * Writes the given value like {@link #writeVarInt(int)} to any {@link DataOutput}.
+	 * 
+	 * @param out
+	 * @param value
+	 *            The value is interpreted as unsigned integer.
+	 * @throws IOException
+	 */
+	public static void writeVarInt(DataOutput out, int value) throws IOException {
+		while ((value & ~0x7F) != 0) {
+			out.write((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.write(value);
+	}
+
+	/**
+	 * Writes the given value with the zigzag encoding, so that values near zero need few bytes regardless of their sign. Values from -64 to 63 need
+	 * one byte.
+	 * 
+	 * @param value
+	 * @throws IOException
+	 */
+	public void writeSignedVarInt(int value) throws IOException {
+		writeSignedVarInt(this, value);
+	}
+
+	/**
+	 * Writes the given value like {@link #writeSignedVarInt(int)} to any {@link DataOutput}.
+	 * 
+	 * @param out
+	 * @param value
+	 * @throws IOException
+	 */
+	public static void writeSignedVarInt(DataOutput out, int value) throws IOException {
+		writeVarInt(out, (value << 1) ^ (value >> 31));
+	}
+}
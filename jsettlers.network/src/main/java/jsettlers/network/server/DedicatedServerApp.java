@@ -21,7 +21,7 @@ import java.util.Scanner;
 import jsettlers.network.server.match.Match;
 
 /**
- * This class starts a dedicated server.
+ * This class starts a dedicated server. With the argument <code>--selector</code>, all clients are served by a single thread.
  * 
  * @author Andreas Eberle
  * 
@@ -29,7 +29,14 @@ import jsettlers.network.server.match.Match;
 public class DedicatedServerApp {
 
 	public static void main(String args[]) throws IOException {
-		GameServerThread gameServer = new GameServerThread(false);
+		boolean useSelector = false;
+		for (String arg : args) {
+			if ("--selector".equals(arg)) {
+				useSelector = true;
+			}
+		}
+
+		GameServerThread gameServer = new GameServerThread(false, useSelector);
 		gameServer.start();
 
 		Scanner s = new Scanner(System.in);
@@ -43,6 +50,9 @@ public class DedicatedServerApp {
 				System.out.println("listing matches (" + matches.size() + "):");
 				for (Match match : matches) {
 					System.out.println("\t" + match);
+					if (match.getScheduledLockstep() != null) {
+						System.out.println("\t\tlocksteps: " + match.getScheduledLockstep());
+					}
 				}
 			}
 		}
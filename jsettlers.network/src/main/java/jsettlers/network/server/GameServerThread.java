@@ -21,6 +21,7 @@ import java.net.SocketException;
 
 import jsettlers.network.NetworkConstants;
 import jsettlers.network.infrastructure.channel.Channel;
+import jsettlers.network.infrastructure.channel.nio.SelectorServer;
 import jsettlers.network.infrastructure.channel.socket.ISocketFactory;
 import jsettlers.network.infrastructure.log.Logger;
 import jsettlers.network.infrastructure.log.LoggerManager;
@@ -39,6 +40,7 @@ public final class GameServerThread extends Thread {
 	private static final Logger LOGGER = LoggerManager.ROOT_LOGGER;
 
 	private final ServerSocket serverSocket;
+	private final SelectorServer selectorServer;
 	private final ServerManager manager;
 	private final LanServerBroadcastThread lanBroadcastThread;
 
@@ -46,10 +48,30 @@ public final class GameServerThread extends Thread {
 	private boolean canceled = false;
 
 	public GameServerThread(boolean lan) throws IOException {
+		this(lan, false);
+	}
+
+	/**
+	 * 
+	 * @param lan
+	 *            If <code>true</code>, the server address is broadcasted in the local network.
+	 * @param useSelector
+	 *            If <code>true</code>, all clients are served by this thread with a {@link SelectorServer}. Otherwise every client gets its own
+	 *            {@link Channel} thread.
+	 * @throws IOException
+	 */
+	public GameServerThread(boolean lan, boolean useSelector) throws IOException {
 		super("GameServer");
-		this.serverSocket = new ServerSocket(NetworkConstants.Server.SERVER_PORT);
 		this.manager = new ServerManager(new InMemoryDB());
 
+		if (useSelector) {
+			this.serverSocket = null;
+			this.selectorServer = new SelectorServer(LOGGER, NetworkConstants.Server.SERVER_PORT, this::clientAccepted);
+		} else {
+			this.serverSocket = new ServerSocket(NetworkConstants.Server.SERVER_PORT);
+			this.selectorServer = null;
+		}
+
 		this.setDaemon(true);
 
 		if (lan) {
@@ -64,15 +86,17 @@ public final class GameServerThread extends Thread {
 	public void run() {
 		LOGGER.log("Server up and running!\n");
 		System.out.println("Server up and running!");
+
+		if (selectorServer != null) {
+			selectorServer.run();
+			return;
+		}
+
 		while (!canceled) {
 			try {
 				Socket clientSocket = serverSocket.accept();
 
-				Channel clientChannel = new Channel(LOGGER, ISocketFactory.DEFAULT_FACTORY.generateSocket(clientSocket));
-				manager.identifyNewChannel(clientChannel);
-				clientChannel.start();
-
-				LOGGER.log("accepted new client (" + ++counter + "): " + clientSocket);
+				clientAccepted(new Channel(LOGGER, ISocketFactory.DEFAULT_FACTORY.generateSocket(clientSocket)));
 			} catch (SocketException e) {
 			} catch (IOException e) {
 				e.printStackTrace();
@@ -80,6 +104,13 @@ public final class GameServerThread extends Thread {
 		}
 	}
 
+	private void clientAccepted(Channel clientChannel) {
+		manager.identifyNewChannel(clientChannel);
+		clientChannel.start();
+
+		LOGGER.log("accepted new client (" + ++counter + "): " + clientChannel);
+	}
+
 	/**
 	 * NOTE: THIS METHOD IS BLOCKING for the given time
 	 * 
@@ -120,9 +151,13 @@ public final class GameServerThread extends Thread {
 
 	public synchronized void shutdown() {
 		canceled = true;
-		try {
-			serverSocket.close();
-		} catch (IOException e) {
+		if (selectorServer != null) {
+			selectorServer.shutdown();
+		} else {
+			try {
+				serverSocket.close();
+			} catch (IOException e) {
+			}
 		}
 
 		if (lanBroadcastThread != null)
@@ -36,6 +36,7 @@ import jsettlers.network.server.listeners.matches.OpenNewMatchListener;
 import jsettlers.network.server.listeners.matches.StartMatchListener;
 import jsettlers.network.server.match.Match;
 import jsettlers.network.server.match.MatchesListSendingTimerTask;
+import jsettlers.network.server.match.lockstep.LockstepScheduler;
 import jsettlers.network.server.match.Player;
 
 /**
@@ -48,7 +49,7 @@ public class ServerManager implements IServerManager {
 
 	private final IDBFacade database;
 	private final Timer sendMatchesListTimer = new Timer("SendMatchesListTimer", true);
-	private final Timer matchesTaskDistributionTimer = new Timer("MatchesTaskDistributionTimer", true);
+	private final LockstepScheduler lockstepScheduler = new LockstepScheduler("MatchesLockstep");
 	private final MatchesListSendingTimerTask matchSendingTask;
 
 	public ServerManager(IDBFacade db) {
@@ -58,11 +59,12 @@ public class ServerManager implements IServerManager {
 
 	public synchronized void start() {
 		sendMatchesListTimer.schedule(matchSendingTask, 0, NetworkConstants.Server.OPEN_MATCHES_SEND_INTERVAL_MS);
+		lockstepScheduler.start();
 	}
 
 	public synchronized void shutdown() {
 		sendMatchesListTimer.cancel();
-		matchesTaskDistributionTimer.cancel();
+		lockstepScheduler.shutdown();
 	}
 
 	public void identifyNewChannel(Channel channel) {
@@ -132,7 +134,7 @@ public class ServerManager implements IServerManager {
 	@Override
 	public void startMatch(Player player) {
 		try {
-			player.startMatch(matchesTaskDistributionTimer);
+			player.startMatch(lockstepScheduler);
 		} catch (IllegalStateException e) {
 			e.printStackTrace();
 			player.sendPacket(NetworkConstants.ENetworkKey.REJECT_PACKET,
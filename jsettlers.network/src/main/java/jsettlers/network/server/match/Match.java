@@ -14,9 +14,10 @@
  *******************************************************************************/
 package jsettlers.network.server.match;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.Date;
 import java.util.LinkedList;
-import java.util.Timer;
 import java.util.UUID;
 
 import jsettlers.network.NetworkConstants;
@@ -27,11 +28,15 @@ import jsettlers.network.common.packets.MatchInfoPacket;
 import jsettlers.network.common.packets.MatchInfoUpdatePacket;
 import jsettlers.network.common.packets.MatchStartPacket;
 import jsettlers.network.common.packets.PlayerInfoPacket;
+import jsettlers.network.common.packets.ProtocolFeaturesPacket;
 import jsettlers.network.common.packets.TimeSyncPacket;
+import jsettlers.network.infrastructure.channel.packet.EncodedPacket;
 import jsettlers.network.infrastructure.channel.packet.Packet;
 import jsettlers.network.infrastructure.log.Logger;
 import jsettlers.network.infrastructure.log.LoggerManager;
 import jsettlers.network.server.exceptions.NotAllPlayersReadyException;
+import jsettlers.network.server.match.lockstep.LockstepScheduler;
+import jsettlers.network.server.match.lockstep.ScheduledLockstep;
 import jsettlers.network.server.match.lockstep.TaskCollectingListener;
 import jsettlers.network.server.match.lockstep.TaskSendingTimerTask;
 
@@ -51,10 +56,13 @@ public class Match {
 	private final MapInfoPacket map;
 	private final String name;
 	private final long randomSeed;
+	private final ByteArrayOutputStream encodingBuffer = new ByteArrayOutputStream(); // guarded by players
 
 	private EMatchState state = EMatchState.OPENED;
 	private TaskCollectingListener taskCollectingListener;
 	private TaskSendingTimerTask taskSendingTimerTask;
+	private ScheduledLockstep scheduledLockstep;
+	private int protocolFeatures;
 
 	public Match(String name, int maxPlayers, MapInfoPacket map, long randomSeed) {
 		this.maxPlayers = maxPlayers;
@@ -154,6 +162,7 @@ public class Match {
 	}
 
 	/**
+	 * The packet is only serialized once for all receivers (see {@link EncodedPacket}).
 	 * 
 	 * @param sendingPlayer
 	 *            The sending player will not receive the message. If the message shall be send to all players in the match, <code>null</code> can be
@@ -163,9 +172,17 @@ public class Match {
 	 */
 	public void sendMessage(Player sendingPlayer, ENetworkKey key, Packet packet) {
 		synchronized (players) {
+			EncodedPacket encodedPacket;
+			try {
+				encodedPacket = EncodedPacket.encode(packet, encodingBuffer);
+			} catch (IOException e) {
+				e.printStackTrace();
+				return;
+			}
+
 			for (Player curr : players) {
 				if (sendingPlayer == null || !curr.getId().equals(sendingPlayer.getId())) {
-					curr.sendPacket(key, packet);
+					curr.sendEncoded(key, encodedPacket);
 				}
 			}
 		}
@@ -203,7 +220,7 @@ public class Match {
 		}
 	}
 
-	public synchronized void startMatch(Timer timer) throws NotAllPlayersReadyException {
+	public synchronized void startMatch(LockstepScheduler lockstepScheduler) throws NotAllPlayersReadyException {
 		if (state == EMatchState.RUNNING || state == EMatchState.FINISHED) {
 			return; // match already started
 		}
@@ -214,13 +231,16 @@ public class Match {
 					throw new NotAllPlayersReadyException();
 				}
 			}
+			protocolFeatures = getCommonProtocolFeatures();
 		}
 
 		state = EMatchState.RUNNING;
 
+		boolean compactLocksteps = (protocolFeatures & ProtocolFeaturesPacket.COMPACT_LOCKSTEPS) != 0;
 		this.taskCollectingListener = new TaskCollectingListener();
-		this.taskSendingTimerTask = new TaskSendingTimerTask(logger, taskCollectingListener, this);
-		timer.schedule(taskSendingTimerTask, NetworkConstants.Client.LOCKSTEP_PERIOD, NetworkConstants.Client.LOCKSTEP_PERIOD / 2 - 2);
+		this.taskSendingTimerTask = new TaskSendingTimerTask(logger, taskCollectingListener, this, compactLocksteps);
+		this.scheduledLockstep = lockstepScheduler.schedule(taskSendingTimerTask, NetworkConstants.Client.LOCKSTEP_PERIOD,
+				NetworkConstants.Client.LOCKSTEP_PERIOD / 2 - 2);
 
 		synchronized (players) {
 			int i = 0;
@@ -234,8 +254,24 @@ public class Match {
 		}
 	}
 
+	private int getCommonProtocolFeatures() {
+		int features = ProtocolFeaturesPacket.SUPPORTED_FEATURES;
+		for (Player player : players) {
+			features &= player.getSupportedProtocolFeatures();
+		}
+		return features;
+	}
+
 	private void sendMatchStartPacketToPlayer(Player player) {
 		player.matchStarted(taskCollectingListener);
+
+		int playerFeatures = player.getSupportedProtocolFeatures();
+		if ((playerFeatures & protocolFeatures) != protocolFeatures) {
+			logger.warn("Player " + player.getId() + " does not support the protocol features of the match: " + protocolFeatures);
+		}
+		if (playerFeatures != 0) { // only clients announcing features know the packet
+			player.sendPacket(NetworkConstants.ENetworkKey.PROTOCOL_FEATURES, new ProtocolFeaturesPacket(protocolFeatures));
+		}
 		player.sendPacket(NetworkConstants.ENetworkKey.MATCH_STARTED, new MatchStartPacket(new MatchInfoPacket(this), 0L));
 	}
 
@@ -244,13 +280,21 @@ public class Match {
 		taskSendingTimerTask.receivedLockstepAcknowledge(packet.getTime() / NetworkConstants.Client.LOCKSTEP_PERIOD);
 	}
 
+	/**
+	 * @return The {@link ScheduledLockstep} running the lockstep task of this match. It supplies the timing statistics of the locksteps. If the
+	 *         match has not been started, <code>null</code> is returned.
+	 */
+	public ScheduledLockstep getScheduledLockstep() {
+		return scheduledLockstep;
+	}
+
 	public Logger getMatchLogger() {
 		return logger;
 	}
 
 	private void shutdownMatch() {
 		if (state == EMatchState.RUNNING) {
-			taskSendingTimerTask.cancel();
+			scheduledLockstep.cancel();
 			taskSendingTimerTask = null;
 
 			synchronized (players) {
@@ -14,8 +14,6 @@
  *******************************************************************************/
 package jsettlers.network.server.match;
 
-import java.util.Timer;
-
 import jsettlers.network.NetworkConstants;
 import jsettlers.network.NetworkConstants.ENetworkKey;
 import jsettlers.network.NetworkConstants.ENetworkMessage;
@@ -23,9 +21,11 @@ import jsettlers.network.common.packets.ChatMessagePacket;
 import jsettlers.network.common.packets.PlayerInfoPacket;
 import jsettlers.network.common.packets.TimeSyncPacket;
 import jsettlers.network.infrastructure.channel.Channel;
+import jsettlers.network.infrastructure.channel.packet.EncodedPacket;
 import jsettlers.network.infrastructure.channel.packet.Packet;
 import jsettlers.network.infrastructure.log.LoggerManager;
 import jsettlers.network.server.exceptions.NotAllPlayersReadyException;
+import jsettlers.network.server.match.lockstep.LockstepScheduler;
 import jsettlers.network.server.match.lockstep.TaskCollectingListener;
 
 /**
@@ -39,6 +39,7 @@ public class Player {
 
 	private EPlayerState state = EPlayerState.LOGGED_IN;
 	private Match match;
+	private volatile int supportedProtocolFeatures = 0;
 
 	public Player(PlayerInfoPacket playerInfo, Channel channel) {
 		this.playerInfo = playerInfo;
@@ -60,6 +61,7 @@ public class Player {
 
 			state = EPlayerState.LOGGED_IN;
 			channel.removeListener(ENetworkKey.SYNCHRONOUS_TASK);
+			channel.removeListener(ENetworkKey.COMPACT_SYNCHRONOUS_TASK);
 			channel.setLogger(LoggerManager.ROOT_LOGGER);
 		}
 	}
@@ -81,13 +83,17 @@ public class Player {
 		channel.sendPacket(key, packet);
 	}
 
+	public void sendEncoded(ENetworkKey key, EncodedPacket packet) {
+		channel.sendEncoded(key, packet);
+	}
+
 	public synchronized boolean isInMatch() {
 		return state == EPlayerState.IN_MATCH || state == EPlayerState.IN_RUNNING_MATCH;
 	}
 
-	public void startMatch(Timer timer) throws IllegalStateException, NotAllPlayersReadyException {
+	public void startMatch(LockstepScheduler lockstepScheduler) throws IllegalStateException, NotAllPlayersReadyException {
 		EPlayerState.assertState(state, EPlayerState.IN_MATCH);
-		match.startMatch(timer);
+		match.startMatch(lockstepScheduler);
 	}
 
 	void matchStarted(TaskCollectingListener taskListener) {
@@ -113,6 +119,17 @@ public class Player {
 		}
 	}
 
+	/**
+	 * @return The protocol features announced by the client of this player. Older clients do not announce features, so 0 is returned for them.
+	 */
+	public int getSupportedProtocolFeatures() {
+		return supportedProtocolFeatures;
+	}
+
+	public void setSupportedProtocolFeatures(int supportedProtocolFeatures) {
+		this.supportedProtocolFeatures = supportedProtocolFeatures;
+	}
+
 	public EPlayerState getState() {
 		return state;
 	}
@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.server.match.lockstep;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The time source of a {@link LockstepScheduler}. It lets tests advance the time of the scheduler by hand instead of depending on the timing
+ * of the machine.
+ * 
+ * @author agent
+ * 
+ */
+public interface ILockstepClock {
+	ILockstepClock SYSTEM = new ILockstepClock() {
+		@Override
+		public long nanoTime() {
+			return System.nanoTime();
+		}
+
+		@Override
+		public void parkNanos(long nanos) {
+			LockSupport.parkNanos(nanos);
+		}
+	};
+
+	/**
+	 * @return The current time in nanoseconds. Only the differences between two values are meaningful.
+	 */
+	long nanoTime();
+
+	/**
+	 * Blocks the calling thread for at most the given time. The method may return earlier, e.g. when the thread is unparked.
+	 * 
+	 * @param nanos
+	 *            The time to wait.
+	 */
+	void parkNanos(long nanos);
+}
@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.server.match.lockstep;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives the lockstep tasks of all running matches of a server.
+ * <p />
+ * The due tasks are found with a hashed timer wheel: A single timer thread advances the wheel every tick and hands the due tasks to a pool of
+ * worker threads (one per core by default). So the timer never waits for a task and a slow match only blocks one worker. If a task is due
+ * while its previous run has not finished yet, the run is skipped instead of queuing up behind the slow one.
+ * <p />
+ * The timer thread only wakes up for the ticks that have due tasks. If the wheel is empty, it wakes up once per rotation of the wheel or when a
+ * task is scheduled. So an idle server does not wake up every tick.
+ * <p />
+ * Tasks never run before their deadline. They are late by at most one tick plus the time the timer thread and the workers need to wake up.
+ * 
+ * @author agent
+ * 
+ */
+public final class LockstepScheduler {
+	public static final int DEFAULT_TICK_MS = 2;
+
+	private static final int WHEEL_SIZE = 256; // must be a power of two
+
+	private final long tickNanos;
+	private final ILockstepClock clock;
+	private final ArrayList<ArrayList<ScheduledLockstep>> wheel = new ArrayList<>(WHEEL_SIZE);
+	private final ConcurrentLinkedQueue<ScheduledLockstep> newLocksteps = new ConcurrentLinkedQueue<>();
+	private final ExecutorService workers;
+	private final Thread timerThread;
+
+	private volatile boolean canceled = false;
+	private long startNanos;
+	private long currentTick; // the next tick to be processed
+	private long lastProcessedTick = -1;
+
+	public LockstepScheduler(String name) {
+		this(name, Runtime.getRuntime().availableProcessors(), DEFAULT_TICK_MS);
+	}
+
+	/**
+	 * 
+	 * @param name
+	 *            The name of the threads.
+	 * @param numberOfWorkers
+	 *            The number of threads running the tasks.
+	 * @param tickMs
+	 *            The resolution of the timer wheel.
+	 */
+	public LockstepScheduler(String name, int numberOfWorkers, int tickMs) {
+		this(name, numberOfWorkers, tickMs, ILockstepClock.SYSTEM);
+	}
+
+	/**
+	 * 
+	 * @param name
+	 *            The name of the threads.
+	 * @param numberOfWorkers
+	 *            The number of threads running the tasks.
+	 * @param tickMs
+	 *            The resolution of the timer wheel.
+	 * @param clock
+	 *            The time source of the deadlines and the timing statistics.
+	 */
+	public LockstepScheduler(String name, int numberOfWorkers, int tickMs, ILockstepClock clock) {
+		this.tickNanos = tickMs * 1000000L;
+		this.clock = clock;
+
+		for (int i = 0; i < WHEEL_SIZE; i++) {
+			wheel.add(new ArrayList<>());
+		}
+
+		AtomicInteger workerCounter = new AtomicInteger();
+		this.workers = Executors.newFixedThreadPool(numberOfWorkers, runnable -> {
+			Thread worker = new Thread(runnable, name + "Worker" + workerCounter.getAndIncrement());
+			worker.setDaemon(true);
+			return worker;
+		});
+
+		this.timerThread = new Thread(this::runTimer, name + "Timer");
+		timerThread.setDaemon(true);
+	}
+
+	public void start() {
+		startNanos = clock.nanoTime();
+		timerThread.start();
+	}
+
+	/**
+	 * Schedules the given task for repeated execution. The deadlines are calculated from the first one, so a late run does not shift the
+	 * following ones.
+	 * 
+	 * @param task
+	 *            The task to be run.
+	 * @param initialDelayMs
+	 *            The delay until the first run.
+	 * @param periodMs
+	 *            The time between two runs. Must be at least one tick.
+	 * @return The {@link ScheduledLockstep} to cancel the task and to get the timing statistics.
+	 */
+	public ScheduledLockstep schedule(Runnable task, int initialDelayMs, int periodMs) {
+		ScheduledLockstep lockstep = new ScheduledLockstep(task, clock, clock.nanoTime() + initialDelayMs * 1000000L, periodMs * 1000000L);
+		newLocksteps.add(lockstep);
+		LockSupport.unpark(timerThread); // the timer may be parked until a later tick
+		return lockstep;
+	}
+
+	public void shutdown() {
+		canceled = true;
+		LockSupport.unpark(timerThread);
+	}
+
+	private void runTimer() {
+		while (!canceled) {
+			addNewLocksteps();
+
+			long sleepNanos = startNanos + currentTick * tickNanos - clock.nanoTime();
+			if (sleepNanos > 0) {
+				clock.parkNanos(sleepNanos);
+				continue;
+			}
+
+			processTick();
+
+			lastProcessedTick = currentTick;
+			currentTick = findNextDueTick();
+		}
+
+		workers.shutdown();
+	}
+
+	private void addNewLocksteps() {
+		ScheduledLockstep lockstep;
+		while ((lockstep = newLocksteps.poll()) != null) {
+			insert(lockstep, lastProcessedTick + 1);
+			currentTick = Math.min(currentTick, lockstep.tick);
+		}
+	}
+
+	/**
+	 * @return The next tick with a due or canceled lockstep. If there is none within one rotation of the wheel, the tick one rotation after the last
+	 *         processed one.
+	 */
+	private long findNextDueTick() {
+		for (long tick = lastProcessedTick + 1; tick < lastProcessedTick + WHEEL_SIZE; tick++) {
+			for (ScheduledLockstep lockstep : wheel.get((int) (tick & (WHEEL_SIZE - 1)))) {
+				if (lockstep.tick <= tick || lockstep.isCanceled()) {
+					return tick;
+				}
+			}
+		}
+		return lastProcessedTick + WHEEL_SIZE;
+	}
+
+	private void insert(ScheduledLockstep lockstep, long minimumTick) {
+		long tick = Math.max(minimumTick, (lockstep.deadline - startNanos + tickNanos - 1) / tickNanos);
+		lockstep.tick = tick;
+		wheel.get((int) (tick & (WHEEL_SIZE - 1))).add(lockstep);
+	}
+
+	private void processTick() {
+		ArrayList<ScheduledLockstep> slot = wheel.get((int) (currentTick & (WHEEL_SIZE - 1)));
+
+		int i = 0;
+		while (i < slot.size()) {
+			ScheduledLockstep lockstep = slot.get(i);
+			if (!lockstep.isCanceled() && lockstep.tick > currentTick) {
+				i++; // due in a later round of the wheel
+				continue;
+			}
+
+			slot.set(i, slot.get(slot.size() - 1));
+			slot.remove(slot.size() - 1);
+
+			if (!lockstep.isCanceled()) {
+				dispatch(lockstep);
+				lockstep.deadline += lockstep.periodNanos;
+				insert(lockstep, currentTick + 1);
+			}
+		}
+	}
+
+	private void dispatch(ScheduledLockstep lockstep) {
+		if (!lockstep.tryStartRun(lockstep.deadline)) {
+			return; // the previous run is still running
+		}
+
+		try {
+			workers.execute(lockstep);
+		} catch (RejectedExecutionException e) {
+			lockstep.cancel();
+		}
+	}
+}
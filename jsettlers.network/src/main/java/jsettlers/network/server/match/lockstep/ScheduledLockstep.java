@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.server.match.lockstep;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A task scheduled with a {@link LockstepScheduler}. It measures how exactly the task is run.
+ * <p />
+ * The lateness of a run is the time between its deadline and its start. The jitter is the change of the lateness between two successive runs,
+ * i.e. the deviation of the time between the runs from the period.
+ * 
+ * @author agent
+ * 
+ */
+public final class ScheduledLockstep implements Runnable {
+	private final Runnable task;
+	private final ILockstepClock clock;
+	final long periodNanos;
+
+	// only used by the timer thread
+	long deadline;
+	long tick;
+
+	private final AtomicBoolean running = new AtomicBoolean();
+	private volatile boolean canceled = false;
+	private long runDeadline;
+
+	// guarded by this
+	private int runs;
+	private int skippedRuns;
+	private long latenessSumNanos;
+	private long maxLatenessNanos;
+	private long maxJitterNanos;
+	private long lastLatenessNanos;
+
+	ScheduledLockstep(Runnable task, ILockstepClock clock, long firstDeadline, long periodNanos) {
+		this.task = task;
+		this.clock = clock;
+		this.deadline = firstDeadline;
+		this.periodNanos = periodNanos;
+	}
+
+	/**
+	 * Called by the timer thread when the task is due.
+	 * 
+	 * @return <code>true</code> if the task has to be run. <code>false</code> if the previous run has not finished yet.
+	 */
+	boolean tryStartRun(long deadline) {
+		if (!running.compareAndSet(false, true)) {
+			synchronized (this) {
+				skippedRuns++;
+			}
+			return false;
+		}
+
+		runDeadline = deadline; // the worker sees this value because it is handed over by the executor
+		return true;
+	}
+
+	@Override
+	public void run() {
+		recordStart(clock.nanoTime() - runDeadline);
+
+		try {
+			if (!canceled) {
+				task.run();
+			}
+		} catch (RuntimeException e) {
+			e.printStackTrace();
+		} finally {
+			running.set(false);
+		}
+	}
+
+	private synchronized void recordStart(long latenessNanos) {
+		if (runs > 0) {
+			maxJitterNanos = Math.max(maxJitterNanos, Math.abs(latenessNanos - lastLatenessNanos));
+		}
+		runs++;
+		latenessSumNanos += latenessNanos;
+		maxLatenessNanos = Math.max(maxLatenessNanos, latenessNanos);
+		lastLatenessNanos = latenessNanos;
+	}
+
+	/**
+	 * Stops the execution of the task. A currently running execution is not interrupted.
+	 */
+	public void cancel() {
+		canceled = true;
+	}
+
+	public boolean isCanceled() {
+		return canceled;
+	}
+
+	/**
+	 * @return <code>true</code> if a run of the task has been started and has not finished yet.
+	 */
+	public boolean isRunning() {
+		return running.get();
+	}
+
+	public synchronized int getNumberOfRuns() {
+		return runs;
+	}
+
+	/**
+	 * @return The number of runs that have been skipped because the previous run was still running.
+	 */
+	public synchronized int getNumberOfSkippedRuns() {
+		return skippedRuns;
+	}
+
+	public synchronized float getAverageLatenessMs() {
+		return runs == 0 ? 0 : latenessSumNanos / (runs * 1000000f);
+	}
+
+	public synchronized float getMaxLatenessMs() {
+		return maxLatenessNanos / 1000000f;
+	}
+
+	public synchronized float getMaxJitterMs() {
+		return maxJitterNanos / 1000000f;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return String.format(Locale.ENGLISH, "runs: %d skipped: %d lateness avg: %.2f ms max: %.2f ms jitter max: %.2f ms", runs, skippedRuns,
+				getAverageLatenessMs(), getMaxLatenessMs(), getMaxJitterMs());
+	}
+}
@@ -20,13 +20,14 @@ import java.util.List;
 import jsettlers.network.NetworkConstants;
 import jsettlers.network.NetworkConstants.ENetworkKey;
 import jsettlers.network.infrastructure.channel.GenericDeserializer;
+import jsettlers.network.infrastructure.channel.IDeserializingable;
 import jsettlers.network.infrastructure.channel.listeners.PacketChannelListener;
 import jsettlers.network.infrastructure.channel.packet.Packet;
 import jsettlers.network.server.packets.ServersideTaskPacket;
 
 /**
  * This listener collects {@link Packet}s for the {@link NetworkConstants}.Keys.SYNCHRONOUS_TASK key and adds them to a list. The elements can then be
- * removed from the list to be send to the clients as batch.
+ * removed from the list to be send to the clients as batch. The tasks of the {@link ENetworkKey#COMPACT_SYNCHRONOUS_TASK} key are collected the same way.
  * 
  * @author Andreas Eberle
  * 
@@ -35,7 +36,12 @@ public class TaskCollectingListener extends PacketChannelListener<ServersideTask
 	private List<ServersideTaskPacket> currTasksList = new LinkedList<>();
 
 	public TaskCollectingListener() {
-		super(ENetworkKey.SYNCHRONOUS_TASK, new GenericDeserializer<>(ServersideTaskPacket.class));
+		super(new ENetworkKey[] { ENetworkKey.SYNCHRONOUS_TASK, ENetworkKey.COMPACT_SYNCHRONOUS_TASK }, createDeserializers());
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static IDeserializingable<ServersideTaskPacket>[] createDeserializers() {
+		return new IDeserializingable[] { new GenericDeserializer<>(ServersideTaskPacket.class), ServersideTaskPacket.COMPACT_DESERIALIZER };
 	}
 
 	/**
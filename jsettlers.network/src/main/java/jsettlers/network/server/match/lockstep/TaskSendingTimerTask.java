@@ -16,47 +16,85 @@ package jsettlers.network.server.match.lockstep;
 
 import java.util.List;
 import java.util.Locale;
-import java.util.TimerTask;
 
 import jsettlers.network.NetworkConstants;
 import jsettlers.network.infrastructure.channel.ping.IPingUpdateListener;
 import jsettlers.network.infrastructure.log.Logger;
 import jsettlers.network.infrastructure.utils.MaximumSlotBuffer;
 import jsettlers.network.server.match.Match;
+import jsettlers.network.server.packets.ServersideCompactSyncTasksPacket;
 import jsettlers.network.server.packets.ServersideSyncTasksPacket;
 import jsettlers.network.server.packets.ServersideTaskPacket;
 
 /**
+ * Sends the collected tasks of a match to its players. It is run by the {@link LockstepScheduler}.
+ * <p />
+ * If all players support the compact protocol, the tasks are sent as {@link ServersideCompactSyncTasksPacket}s. Then locksteps without tasks are
+ * coalesced: When the clients need to be unlocked further, one packet unlocks {@link NetworkConstants.Server#COMPACT_EMPTY_LOCKSTEPS_PER_PACKET}
+ * locksteps at once, instead of sending an empty packet for every lockstep. This trades task delay for fewer packets: A task arriving at the
+ * server after the coalesced packet waits up to one additional lockstep for the next one, which raises the average task delay by about half a
+ * lockstep.
  * 
  * @author Andreas Eberle
  * 
  */
-public class TaskSendingTimerTask extends TimerTask {
+public class TaskSendingTimerTask implements Runnable {
 	private final Logger logger;
 	private final TaskCollectingListener taskCollectingListener;
 	private final Match match;
+	private final boolean compactLocksteps;
 
 	private int lockstepCounter = 0;
+	private int lastSentLockstep = -1;
 	private int currentLockstepMax = NetworkConstants.Client.LOCKSTEP_DEFAULT_LEAD_STEPS;
 
 	private int minimumLeadTimeMs = NetworkConstants.Client.LOCKSTEP_DEFAULT_LEAD_STEPS * NetworkConstants.Client.LOCKSTEP_PERIOD;
 	private int leadSteps = minimumLeadTimeMs / NetworkConstants.Client.LOCKSTEP_PERIOD;
 
-	public TaskSendingTimerTask(Logger logger, TaskCollectingListener taskCollectingListener, Match match) {
+	public TaskSendingTimerTask(Logger logger, TaskCollectingListener taskCollectingListener, Match match, boolean compactLocksteps) {
 		this.logger = logger;
 		this.taskCollectingListener = taskCollectingListener;
 		this.match = match;
+		this.compactLocksteps = compactLocksteps;
 	}
 
 	@Override
 	public void run() {
-		if (lockstepCounter > currentLockstepMax) {
+		if (compactLocksteps) {
+			sendCompactLockstep();
+		} else {
+			if (lockstepCounter > currentLockstepMax) {
+				return;
+			}
+
+			List<ServersideTaskPacket> tasksList = taskCollectingListener.getAndResetTasks();
+			ServersideSyncTasksPacket syncTasksPacket = new ServersideSyncTasksPacket(lockstepCounter++, tasksList);
+			match.broadcastMessage(NetworkConstants.ENetworkKey.SYNCHRONOUS_TASK, syncTasksPacket);
+		}
+	}
+
+	private void sendCompactLockstep() {
+		int neededLockstepMax = currentLockstepMax;
+		int lockstepMax = neededLockstepMax + NetworkConstants.Server.COMPACT_EMPTY_LOCKSTEPS_PER_PACKET - 1;
+		if (lockstepCounter > lockstepMax) {
 			return;
 		}
 
+		int lockstep;
 		List<ServersideTaskPacket> tasksList = taskCollectingListener.getAndResetTasks();
-		ServersideSyncTasksPacket syncTasksPacket = new ServersideSyncTasksPacket(lockstepCounter++, tasksList);
-		match.broadcastMessage(NetworkConstants.ENetworkKey.SYNCHRONOUS_TASK, syncTasksPacket);
+		if (!tasksList.isEmpty()) {
+			lockstep = lockstepCounter; // tasks are sent for the next lockstep to keep their delay low
+		} else if (lastSentLockstep < neededLockstepMax) {
+			lockstep = lockstepMax;
+		} else {
+			return; // the clients are unlocked far enough
+		}
+
+		ServersideCompactSyncTasksPacket syncTasksPacket = new ServersideCompactSyncTasksPacket(lockstep - lastSentLockstep, tasksList);
+		match.broadcastMessage(NetworkConstants.ENetworkKey.COMPACT_SYNCHRONOUS_TASK, syncTasksPacket);
+
+		lastSentLockstep = lockstep;
+		lockstepCounter = lockstep + 1;
 	}
 
 	public void receivedLockstepAcknowledge(int acknowledgedLockstep) {
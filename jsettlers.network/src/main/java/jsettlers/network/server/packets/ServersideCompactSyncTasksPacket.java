@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.server.packets;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import jsettlers.network.client.task.packets.CompactSyncTasksDeserializer;
+import jsettlers.network.client.task.packets.ETaskEncoding;
+import jsettlers.network.infrastructure.channel.packet.Packet;
+import jsettlers.network.infrastructure.utils.CompactDataInputStream;
+import jsettlers.network.infrastructure.utils.CompactDataOutputStream;
+
+/**
+ * The compact variant of the {@link ServersideSyncTasksPacket} that is sent with the
+ * {@link jsettlers.network.NetworkConstants.ENetworkKey#COMPACT_SYNCHRONOUS_TASK} key. Instead of the lockstep number, it contains the difference to
+ * the lockstep number of the previous packet. The clients read it with the {@link CompactSyncTasksDeserializer}.
+ * 
+ * @author agent
+ * 
+ */
+public class ServersideCompactSyncTasksPacket extends Packet {
+
+	private int lockstepDelta;
+	private List<ServersideTaskPacket> tasks;
+
+	public ServersideCompactSyncTasksPacket() {
+	}
+
+	public ServersideCompactSyncTasksPacket(int lockstepDelta, List<ServersideTaskPacket> tasks) {
+		this.lockstepDelta = lockstepDelta;
+		this.tasks = tasks;
+	}
+
+	@Override
+	public void serialize(DataOutputStream dos) throws IOException {
+		CompactDataOutputStream compactStream = new CompactDataOutputStream(dos);
+		compactStream.writeVarInt(lockstepDelta);
+		compactStream.writeVarInt(tasks.size());
+
+		for (ServersideTaskPacket curr : tasks) {
+			curr.serialize(compactStream, ETaskEncoding.COMPACT);
+		}
+		compactStream.flush();
+	}
+
+	@Override
+	public void deserialize(DataInputStream dis) throws IOException {
+		CompactDataInputStream compactStream = new CompactDataInputStream(dis);
+		lockstepDelta = compactStream.readVarInt();
+		int numberOfTasks = compactStream.readVarInt();
+		tasks = new ArrayList<>(numberOfTasks);
+
+		for (int i = 0; i < numberOfTasks; i++) {
+			ServersideTaskPacket curr = new ServersideTaskPacket();
+			curr.deserialize(compactStream, ETaskEncoding.COMPACT);
+			tasks.add(curr);
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + lockstepDelta;
+		result = prime * result + ((tasks == null) ? 0 : tasks.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		ServersideCompactSyncTasksPacket other = (ServersideCompactSyncTasksPacket) obj;
+		if (lockstepDelta != other.lockstepDelta)
+			return false;
+		if (tasks == null) {
+			if (other.tasks != null)
+				return false;
+		} else if (!tasks.equals(other.tasks))
+			return false;
+		return true;
+	}
+}
@@ -19,16 +19,31 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.Arrays;
 
+import jsettlers.network.client.task.packets.ETaskEncoding;
+import jsettlers.network.client.task.packets.TaskPacket;
+import jsettlers.network.infrastructure.channel.IDeserializingable;
 import jsettlers.network.infrastructure.channel.packet.Packet;
 
 /**
  * This class extends the {@link Packet} class and does not really deserialize the data. It just stores the bytes to write them back on the stream
  * again.
+ * <p />
+ * Like the {@link TaskPacket}, the length of the data is written with the given {@link ETaskEncoding}. The {@link Packet} methods use the
+ * {@link ETaskEncoding#NORMAL} encoding.
  * 
  * @author Andreas Eberle
  * 
  */
 public final class ServersideTaskPacket extends Packet {
+	/**
+	 * Deserializes the tasks the clients send with the {@link jsettlers.network.NetworkConstants.ENetworkKey#COMPACT_SYNCHRONOUS_TASK} key.
+	 */
+	public static final IDeserializingable<ServersideTaskPacket> COMPACT_DESERIALIZER = (key, dis) -> {
+		ServersideTaskPacket packet = new ServersideTaskPacket();
+		packet.deserialize(dis, ETaskEncoding.COMPACT);
+		return packet;
+	};
+
 	private byte[] data;
 
 	public ServersideTaskPacket() {
@@ -40,13 +55,21 @@ public final class ServersideTaskPacket extends Packet {
 
 	@Override
 	public void serialize(DataOutputStream dos) throws IOException {
-		dos.writeInt(data.length);
+		serialize(dos, ETaskEncoding.NORMAL);
+	}
+
+	public void serialize(DataOutputStream dos, ETaskEncoding encoding) throws IOException {
+		encoding.writeLength(dos, data.length);
 		dos.write(data);
 	}
 
 	@Override
 	public void deserialize(DataInputStream dis) throws IOException {
-		final int length = dis.readInt();
+		deserialize(dis, ETaskEncoding.NORMAL);
+	}
+
+	public void deserialize(DataInputStream dis, ETaskEncoding encoding) throws IOException {
+		final int length = encoding.readLength(dis);
 		this.data = new byte[length];
 
 		int alreadyRead = 0;
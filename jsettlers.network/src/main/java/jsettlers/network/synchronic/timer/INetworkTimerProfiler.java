@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.synchronic.timer;
+
+/**
+ * Receives the timing measurements of the {@link NetworkTimer}.
+ * 
+ * @author agent
+ * 
+ */
+public interface INetworkTimerProfiler {
+
+	/**
+	 * Called after the timer had to wait for the unlock of the next lockstep.
+	 * 
+	 * @param nanos
+	 *            The time waited in nanoseconds.
+	 */
+	void lockstepWaited(long nanos);
+
+	/**
+	 * Called after every run of the timer, i.e. every {@value NetworkTimer#TIME_SLICE} ms of game time.
+	 * 
+	 * @param nanos
+	 *            The duration of the run in nanoseconds including the lockstep wait.
+	 */
+	void runExecuted(long nanos);
+}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.synchronic.timer;
+
+/**
+ * Adapts the speed of the {@link NetworkTimer} to the arrival of the lockstep unlocks. Instead of running into the end of the unlocked locksteps
+ * and waiting for the next packet, the clock keeps a buffer of unlocked game time, so a late packet only slows the game down slightly instead of
+ * stopping it.
+ * <p />
+ * The jitter of the unlocks is measured by the change of the buffered game time from one unlock to the next. While the buffer is smaller than
+ * {@link NetworkTimer#TIME_SLICE} plus this jitter, the clock is slowed down, down to {@link #MIN_SPEED} when only one time slice is left. The
+ * game time lost by slowing down or by waiting is caught up while the buffer is larger than needed. The catch up quickly reaches
+ * {@link #MAX_SPEED}, because the server unlocks the locksteps relative to the acknowledged game time, so a buffer not used right away is lost.
+ * Therefore the game progresses at least as fast as with a constant speed, which permanently loses the time spent waiting for the locksteps.
+ * 
+ * @author agent
+ * 
+ */
+final class LockstepSpeedController {
+	static final float MIN_SPEED = 0.25f;
+	static final float MAX_SPEED = 2.5f;
+
+	private static final float JITTER_GAIN = 1 / 16f;
+	private static final float CATCH_UP_RANGE = 0.5f; // of the target buffered time, until the catch up reaches MAX_SPEED
+	private static final int MAX_LAG = 3000;
+
+	private int lastBufferedTime = -1;
+	private float jitter;
+	private float lag;
+
+	/**
+	 * Measures the jitter of the unlocks.
+	 * 
+	 * @param bufferedTime
+	 *            The game time in ms that can be simulated with the locksteps unlocked by the received packet.
+	 */
+	synchronized void unlockReceived(int bufferedTime) {
+		if (lastBufferedTime >= 0) {
+			jitter += (Math.abs(bufferedTime - lastBufferedTime) - jitter) * JITTER_GAIN;
+		}
+		lastBufferedTime = Math.max(0, bufferedTime);
+	}
+
+	/**
+	 * @param bufferedTime
+	 *            The game time in ms that can currently be simulated without waiting for an unlock.
+	 * @return The factor the game speed needs to be multiplied with.
+	 */
+	synchronized float getSpeed(int bufferedTime) {
+		int targetBufferedTime = getTargetBufferedTime();
+
+		if (bufferedTime < targetBufferedTime) {
+			int timeAboveLastSlice = Math.max(0, bufferedTime - NetworkTimer.TIME_SLICE);
+			return MIN_SPEED + (1 - MIN_SPEED) * timeAboveLastSlice / Math.max(1, targetBufferedTime - NetworkTimer.TIME_SLICE);
+		} else if (lag > 0) {
+			return Math.min(MAX_SPEED, 1 + (MAX_SPEED - 1) * (bufferedTime - targetBufferedTime) / (CATCH_UP_RANGE * targetBufferedTime));
+		} else {
+			return 1;
+		}
+	}
+
+	/**
+	 * Records the game time lost against the game speed. A negative time is caught up time.
+	 * 
+	 * @param time
+	 *            The lost game time in ms.
+	 */
+	synchronized void timeLost(float time) {
+		lag = Math.max(0, Math.min(MAX_LAG, lag + time));
+	}
+
+	synchronized int getTargetBufferedTime() {
+		return NetworkTimer.TIME_SLICE + (int) jitter;
+	}
+
+	synchronized float getLag() {
+		return lag;
+	}
+}
@@ -36,6 +36,10 @@ import java8.util.Comparators;
 
 /**
  * This is a basic game timer. All synchronous actions must be based on this clock. The {@link NetworkTimer} also triggers the execution of synchronous tasks in the network game.
+ * <p />
+ * The timer thread never blocks for the unlock of the next lockstep. If the lockstep is not yet unlocked, the run is retried in the next time slice.
+ * To keep such stalls rare, the {@link LockstepSpeedController} slows the clock down while only a few unlocked locksteps are buffered and catches
+ * up the lost time afterwards.
  *
  * @author Andreas Eberle
  *
@@ -52,19 +56,23 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 	private final List<INetworkTimerable> timerablesToBeRemoved = new LinkedList<>();
 
 	private final LinkedList<SyncTasksPacket> tasks = new LinkedList<>();
+	private final LockstepSpeedController lockstepSpeedController = new LockstepSpeedController();
 
 	private int time = 0;
-	private int maxAllowedLockstep = -1;
+	private volatile int maxAllowedLockstep = -1;
 
 	private boolean isPausing;
 	private int pauseTime;
 	private float speedFactor = 1.0f;
 	private float progress = 0.0f;
+	private volatile boolean adaptiveSpeed = true;
+	private long stallStart;
 
 	private boolean scheduled = false;
 
 	private ITaskExecutor taskExecutor;
 	private DataOutputStream replayLogStream;
+	private volatile INetworkTimerProfiler profiler;
 
 	public NetworkTimer() {
 		this.timer = new Timer("NetworkTimer");
@@ -98,28 +106,73 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 	public void run() {
 		if (!isPausing) {
 			if (pauseTime <= 0) { // this is used for synchronizing the network clients
-				progress += speedFactor;
+				float increment = adaptiveSpeed ? speedFactor * lockstepSpeedController.getSpeed(getBufferedTime()) : speedFactor;
+				float lostProgress = speedFactor - increment;
+				progress += increment;
 
 				while (progress >= 1) {
+					if (getBufferedTime() < TIME_SLICE) { // don't block the timer thread, the run is retried in the next time slice
+						lockstepStalled();
+						lostProgress += progress - 1;
+						progress = 1;
+						break;
+					}
+
+					lockstepResumed();
 					executeRun();
 					progress--;
 				}
+
+				lockstepSpeedController.timeLost(lostProgress * TIME_SLICE);
 			} else {
 				pauseTime -= TIME_SLICE;
 			}
 		}
 	}
 
+	private void lockstepStalled() {
+		if (stallStart == 0) {
+			stallStart = System.nanoTime();
+		}
+	}
+
+	private void lockstepResumed() {
+		if (stallStart != 0) {
+			INetworkTimerProfiler profiler = this.profiler;
+			if (profiler != null) {
+				profiler.lockstepWaited(System.nanoTime() - stallStart);
+			}
+			stallStart = 0;
+		}
+	}
+
+	/**
+	 * @return The game time in ms that can be simulated until the end of the unlocked locksteps.
+	 */
+	private int getBufferedTime() {
+		long endOfUnlockedTime = ((long) maxAllowedLockstep + 1) * NetworkConstants.Client.LOCKSTEP_PERIOD - TIME_SLICE;
+		return (int) Math.min(Integer.MAX_VALUE, endOfUnlockedTime - time);
+	}
+
 	private synchronized void executeRun() {
+		final INetworkTimerProfiler profiler = this.profiler;
+		final long runStart = profiler != null ? System.nanoTime() : 0;
+
 		try {
 			time += TIME_SLICE;
 			final int lockstep = time / NetworkConstants.Client.LOCKSTEP_PERIOD;
 
-			// check if the lockstep is allowed
+			// check if the lockstep is allowed, only fast forwarding needs to wait here
 			synchronized (lockstepLock) {
-				while (lockstep > maxAllowedLockstep) {
-					System.out.println("WAITING for lockstep!");
-					lockstepLock.wait();
+				if (lockstep > maxAllowedLockstep) {
+					final long waitStart = System.nanoTime();
+					while (lockstep > maxAllowedLockstep) {
+						System.out.println("WAITING for lockstep!");
+						lockstepLock.wait();
+					}
+					if (profiler != null) {
+						profiler.lockstepWaited(System.nanoTime() - waitStart);
+					}
 				}
 			}
 
@@ -156,6 +209,10 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 			System.err.println("WARNING: Networking Timer catched Throwable!!!");
 			t.printStackTrace();
 		}
+
+		if (profiler != null) {
+			profiler.runExecuted(System.nanoTime() - runStart);
+		}
 	}
 
 	private void executeTasksPacket(SyncTasksPacket tasksPacket) {
@@ -277,6 +334,22 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 		this.speedFactor *= factor;
 	}
 
+	/**
+	 * Enables or disables the adaption of the clock speed to the buffered locksteps. If it is disabled, the clock runs with the game speed until it
+	 * needs to wait for the next lockstep. It is enabled by default.
+	 *
+	 * @param adaptiveSpeed
+	 *            <code>true</code> to slow down and catch up the clock depending on the buffered locksteps.
+	 */
+	public void setAdaptiveSpeed(boolean adaptiveSpeed) {
+		this.adaptiveSpeed = adaptiveSpeed;
+	}
+
+	@Override
+	public void setProfiler(INetworkTimerProfiler profiler) {
+		this.profiler = profiler;
+	}
+
 	@Override
 	public void setTaskExecutor(ITaskExecutor taskExecutor) {
 		this.taskExecutor = taskExecutor;
@@ -284,8 +357,9 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 
 	@Override
 	public void scheduleSyncTasksPacket(SyncTasksPacket tasksPacket) {
+		// with the compact protocol, a packet may unlock several locksteps at once
 		assert maxAllowedLockstep == Integer.MAX_VALUE
-				|| maxAllowedLockstep + 1 == tasksPacket.getLockstepNumber() : "received unlock for wrong step! current max allowed: "
+				|| maxAllowedLockstep < tasksPacket.getLockstepNumber() : "received unlock for wrong step! current max allowed: "
 						+ maxAllowedLockstep + " new: " + tasksPacket.getLockstepNumber();
 
 		if (!tasksPacket.getTasks().isEmpty()) {
@@ -297,6 +371,7 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 			}
 		}
 		maxAllowedLockstep = Math.max(maxAllowedLockstep, tasksPacket.getLockstepNumber());
+		lockstepSpeedController.unlockReceived(getBufferedTime());
 
 		synchronized (lockstepLock) {
 			lockstepLock.notifyAll();
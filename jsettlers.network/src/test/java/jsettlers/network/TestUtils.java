@@ -44,11 +44,15 @@ public final class TestUtils {
 	}
 
 	public static AsyncChannel[] setUpAsyncLoopbackChannels() throws IOException {
+		return setUpAsyncLoopbackChannels(ISocketFactory.DEFAULT_FACTORY);
+	}
+
+	public static AsyncChannel[] setUpAsyncLoopbackChannels(ISocketFactory socketFactory) throws IOException {
 		final AsyncChannel[] channels = new AsyncChannel[2];
 
 		Socket[] sockets = setUpLoppbackSockets();
-		channels[0] = new AsyncChannel(ISocketFactory.DEFAULT_FACTORY.generateSocket(sockets[0]));
-		channels[1] = new AsyncChannel(ISocketFactory.DEFAULT_FACTORY.generateSocket(sockets[1]));
+		channels[0] = new AsyncChannel(socketFactory.generateSocket(sockets[0]));
+		channels[1] = new AsyncChannel(socketFactory.generateSocket(sockets[1]));
 
 		channels[0].start();
 		channels[1].start();
@@ -57,7 +61,7 @@ public final class TestUtils {
 		return channels;
 	}
 
-	private static Socket[] setUpLoppbackSockets() throws IOException {
+	public static Socket[] setUpLoppbackSockets() throws IOException {
 		Socket[] sockets = new Socket[2];
 
 		PipedInputStream in1 = new PipedInputStream();
@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import jsettlers.network.NetworkConstants.ENetworkKey;
+import jsettlers.network.TestUtils;
+import jsettlers.network.common.packets.ArrayOfMatchInfosPacket;
+import jsettlers.network.common.packets.IdentifyUserPacket;
+import jsettlers.network.common.packets.MatchInfoPacket;
+import jsettlers.network.common.packets.PlayerInfoPacket;
+import jsettlers.network.common.packets.ProtocolFeaturesPacket;
+import jsettlers.network.infrastructure.channel.AsyncChannel;
+import jsettlers.network.infrastructure.channel.Channel;
+import jsettlers.network.infrastructure.channel.GenericDeserializer;
+import jsettlers.network.infrastructure.channel.packet.EmptyPacket;
+import jsettlers.network.infrastructure.channel.socket.ISocket;
+import jsettlers.network.infrastructure.channel.socket.ISocketFactory;
+import jsettlers.network.server.match.EPlayerState;
+
+/**
+ * Tests that the login of the {@link NetworkClient} announcing the protocol features is understood by servers that only know the keys and packets
+ * from before the negotiation of protocol features and that the login of older clients is understood by the current server.
+ * 
+ * @author agent
+ * 
+ */
+public class LoginCompatibilityTest {
+	/**
+	 * The last key known by servers and clients from before the negotiation of protocol features.
+	 */
+	private static final ENetworkKey LAST_OLD_KEY = ENetworkKey.CHANGE_START_FINISHED;
+	private static final long TIMEOUT_MS = 5000;
+
+	private AsyncChannel clientChannel;
+	private OldServerChannel serverChannel;
+
+	@Before
+	public void setUp() throws IOException {
+		Socket[] sockets = TestUtils.setUpLoppbackSockets();
+		clientChannel = new AsyncChannel(ISocketFactory.DEFAULT_FACTORY.generateSocket(sockets[0]));
+		serverChannel = new OldServerChannel(ISocketFactory.DEFAULT_FACTORY.generateSocket(sockets[1]));
+
+		clientChannel.start();
+		serverChannel.start();
+	}
+
+	@After
+	public void tearDown() {
+		clientChannel.close();
+		serverChannel.close();
+	}
+
+	@Test
+	public void testOldServerAcceptsLogin() throws InterruptedException {
+		BlockingQueue<PlayerInfoPacket> receivedPlayerInfos = new LinkedBlockingQueue<>();
+		// the listener of older servers
+		serverChannel.registerListener(new DefaultClientPacketListener<>(ENetworkKey.IDENTIFY_USER, new GenericDeserializer<>(PlayerInfoPacket.class),
+				receivedPlayerInfos::add));
+
+		NetworkClient client = new NetworkClient(clientChannel, null);
+		BlockingQueue<ArrayOfMatchInfosPacket> receivedMatches = new LinkedBlockingQueue<>();
+		client.logIn("playerId", "playerName", receivedMatches::add);
+
+		PlayerInfoPacket playerInfo = receivedPlayerInfos.poll(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+		assertNotNull(playerInfo);
+		assertEquals(new PlayerInfoPacket("playerId", "playerName", false), playerInfo);
+
+		serverChannel.sendPacket(ENetworkKey.IDENTIFY_USER, new EmptyPacket());
+		serverChannel.sendPacket(ENetworkKey.ARRAY_OF_MATCHES, new ArrayOfMatchInfosPacket(new MatchInfoPacket[0]));
+		assertNotNull(receivedMatches.poll(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+
+		assertEquals(EPlayerState.LOGGED_IN, client.getState());
+		assertNull(serverChannel.unknownKey);
+		assertFalse(serverChannel.isClosed());
+	}
+
+	@Test
+	public void testLoginOfOldClientHasNoProtocolFeatures() throws InterruptedException {
+		BlockingQueue<IdentifyUserPacket> receivedLogins = new LinkedBlockingQueue<>();
+		// the listener of the current server
+		serverChannel.registerListener(new DefaultClientPacketListener<>(ENetworkKey.IDENTIFY_USER, new GenericDeserializer<>(IdentifyUserPacket.class),
+				receivedLogins::add));
+
+		PlayerInfoPacket playerInfo = new PlayerInfoPacket("playerId", "playerName", false);
+		clientChannel.sendPacket(ENetworkKey.IDENTIFY_USER, playerInfo); // the login of older clients
+
+		IdentifyUserPacket login = receivedLogins.poll(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+		assertNotNull(login);
+		assertEquals(playerInfo, login.getPlayerInfo());
+		assertEquals(0, login.getProtocolFeatures());
+	}
+
+	@Test
+	public void testLoginOfCurrentClientHasProtocolFeatures() throws InterruptedException {
+		BlockingQueue<IdentifyUserPacket> receivedLogins = new LinkedBlockingQueue<>();
+		serverChannel.registerListener(new DefaultClientPacketListener<>(ENetworkKey.IDENTIFY_USER, new GenericDeserializer<>(IdentifyUserPacket.class),
+				receivedLogins::add));
+
+		NetworkClient client = new NetworkClient(clientChannel, null);
+		client.logIn("playerId", "playerName", null);
+
+		IdentifyUserPacket login = receivedLogins.poll(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+		assertNotNull(login);
+		assertEquals(new PlayerInfoPacket("playerId", "playerName", false), login.getPlayerInfo());
+		assertEquals(ProtocolFeaturesPacket.SUPPORTED_FEATURES, login.getProtocolFeatures());
+	}
+
+	/**
+	 * A channel of a server that only knows the keys up to {@link LoginCompatibilityTest#LAST_OLD_KEY}. Such servers fail to read packets with a
+	 * newer key and close the connection.
+	 */
+	private static class OldServerChannel extends Channel {
+		private volatile ENetworkKey unknownKey;
+
+		OldServerChannel(ISocket socket) throws IOException {
+			super(socket);
+		}
+
+		@Override
+		protected void receive(ENetworkKey key, int length, DataInputStream bufferIn) {
+			if (key.ordinal() > LAST_OLD_KEY.ordinal()) {
+				unknownKey = key;
+				close();
+			} else {
+				super.receive(key, length, bufferIn);
+			}
+		}
+	}
+}
@@ -21,6 +21,7 @@ import java.util.LinkedList;
 
 import jsettlers.network.client.task.packets.SyncTasksPacket;
 import jsettlers.network.client.task.packets.TaskPacket;
+import jsettlers.network.synchronic.timer.INetworkTimerProfiler;
 import jsettlers.network.synchronic.timer.INetworkTimerable;
 import jsettlers.network.synchronic.timer.ITaskExecutor;
 
@@ -67,6 +68,11 @@ public class NetworkClientClockMock implements INetworkClientClock {
 		return temp;
 	}
 
+	@Override
+	public void setProfiler(INetworkTimerProfiler profiler) {
+		throw new UnsupportedOperationException("not mocked");
+	}
+
 	@Override
 	public void setTaskExecutor(ITaskExecutor taskExecutor) {
 		throw new UnsupportedOperationException("not mocked");
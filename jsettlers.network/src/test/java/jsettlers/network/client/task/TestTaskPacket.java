@@ -18,6 +18,7 @@ import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 
+import jsettlers.network.client.task.packets.ETaskEncoding;
 import jsettlers.network.client.task.packets.TaskPacket;
 
 /**
@@ -41,16 +42,16 @@ public class TestTaskPacket extends TaskPacket {
 	}
 
 	@Override
-	protected void serializeTask(DataOutputStream dos) throws IOException {
+	protected void serializeTask(DataOutputStream dos, ETaskEncoding encoding) throws IOException {
 		dos.writeUTF(testString);
-		dos.writeInt(testInt);
+		encoding.writeInt(dos, testInt);
 		dos.writeByte(testByte);
 	}
 
 	@Override
-	protected void deserializeTask(DataInputStream dis) throws IOException {
+	protected void deserializeTask(DataInputStream dis, ETaskEncoding encoding) throws IOException {
 		testString = dis.readUTF();
-		testInt = dis.readInt();
+		testInt = encoding.readInt(dis);
 		testByte = dis.readByte();
 	}
 
@@ -25,6 +25,7 @@ import jsettlers.network.NetworkConstants;
 import jsettlers.network.NetworkConstants.ENetworkMessage;
 import jsettlers.network.TestUtils;
 import jsettlers.network.client.task.TestTaskPacket;
+import jsettlers.network.client.task.packets.CompactTaskPacket;
 import jsettlers.network.client.task.packets.SyncTasksPacket;
 import jsettlers.network.client.task.packets.TaskPacket;
 import jsettlers.network.infrastructure.channel.Channel;
@@ -78,6 +79,9 @@ public class PacketSerializationTest {
 		Object[][] data = new Object[][] {
 				{ new EmptyPacket(), EmptyPacket.DEFAULT_DESERIALIZER },
 				{ new PlayerInfoPacket("IDBLA82348-#�l�34r", "NameBKUIH893428())/\"�/", true), d(PlayerInfoPacket.class) },
+				{ new IdentifyUserPacket(new PlayerInfoPacket("IDBLA82348", "Name23)(/\"", false), ProtocolFeaturesPacket.SUPPORTED_FEATURES),
+						d(IdentifyUserPacket.class) },
+				{ new ProtocolFeaturesPacket(ProtocolFeaturesPacket.COMPACT_LOCKSTEPS), d(ProtocolFeaturesPacket.class) },
 				{ new MapInfoPacket("id<30u9Hjdi w3", "Nameo8/(�\"(/!=�", "authorId8unsdkjfn8932", "authorName uHh89023u9h", 6),
 						d(MapInfoPacket.class) },
 				{ createMatchInfoPacket(), d(MatchInfoPacket.class) },
@@ -97,6 +101,7 @@ public class PacketSerializationTest {
 						new ServersideTaskPacket("ehgdhd".getBytes()))), d(ServersideSyncTasksPacket.class) },
 
 				{ new TestTaskPacket("tesdfk��l9/&%/%&\"\\u8u23jo", 23424, (byte) -2), TaskPacket.DEFAULT_DESERIALIZER },
+				{ new CompactTaskPacket(new TestTaskPacket("dsfsdfk9/&%/", -23424, (byte) 7)), d(CompactTaskPacket.class) },
 				{ new SyncTasksPacket(234, Arrays.asList(new TestTaskPacket("dsfdsdf", 23, (byte) -3),
 						new TestTaskPacket("dsfs��#��dsdf", 4345, (byte) 5))), d(SyncTasksPacket.class) },
 
@@ -31,6 +31,7 @@ import jsettlers.network.NetworkConstants.ENetworkKey;
 import jsettlers.network.TestUtils;
 import jsettlers.network.infrastructure.channel.listeners.BufferingPacketListener;
 import jsettlers.network.infrastructure.channel.packet.EmptyPacket;
+import jsettlers.network.infrastructure.channel.packet.EncodedPacket;
 import jsettlers.network.infrastructure.channel.reject.RejectPacket;
 
 /**
@@ -75,6 +76,23 @@ public class ChannelTest {
 		assertEquals(testPackage, listener2.packets.get(0));
 	}
 
+	@Test
+	public void testEncodedPacket() throws Exception {
+		TestPacketListener listener = new TestPacketListener(ENetworkKey.TEST_PACKET);
+		c2.registerListener(listener);
+
+		TestPacket testPacket = new TestPacket("encoded", 4711);
+		EncodedPacket encodedPacket = EncodedPacket.encode(testPacket);
+		c1.sendEncoded(ENetworkKey.TEST_PACKET, encodedPacket);
+		c1.sendEncoded(ENetworkKey.TEST_PACKET, encodedPacket);
+
+		Thread.sleep(80L);
+
+		assertEquals(2, listener.packets.size());
+		assertEquals(testPacket, listener.packets.get(0));
+		assertEquals(testPacket, listener.packets.get(1));
+	}
+
 	@Test
 	public void testMultiPackets() throws Exception {
 		TestPacketListener listener = new TestPacketListener(ENetworkKey.TEST_PACKET);
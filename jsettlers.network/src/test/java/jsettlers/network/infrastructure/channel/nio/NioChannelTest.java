@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.infrastructure.channel.nio;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import jsettlers.network.NetworkConstants.ENetworkKey;
+import jsettlers.network.infrastructure.channel.Channel;
+import jsettlers.network.infrastructure.channel.TestPacket;
+import jsettlers.network.infrastructure.channel.TestPacketListener;
+import jsettlers.network.infrastructure.channel.packet.EncodedPacket;
+import jsettlers.network.infrastructure.log.LoggerManager;
+
+/**
+ * Test for the classes {@link NioChannel} and {@link SelectorServer}. The server side channel talks to a normal {@link Channel}.
+ * 
+ * @author agent
+ * 
+ */
+public class NioChannelTest {
+	private SelectorServer server;
+	private Channel serverChannel;
+	private Channel clientChannel;
+
+	@Before
+	public void setUp() throws IOException, InterruptedException {
+		LinkedBlockingQueue<Channel> acceptedChannels = new LinkedBlockingQueue<>();
+		server = new SelectorServer(LoggerManager.ROOT_LOGGER, 0, acceptedChannels::add);
+		new Thread(server, "SelectorServer").start();
+
+		clientChannel = new Channel("localhost", server.getPort());
+		clientChannel.start();
+
+		serverChannel = acceptedChannels.poll(1, TimeUnit.SECONDS);
+		serverChannel.start();
+		serverChannel.initPinging();
+	}
+
+	@After
+	public void tearDown() {
+		clientChannel.close();
+		server.shutdown();
+	}
+
+	@Test
+	public void testConnection() throws Exception {
+		TestPacketListener serverListener = new TestPacketListener(ENetworkKey.TEST_PACKET);
+		TestPacketListener clientListener = new TestPacketListener(ENetworkKey.TEST_PACKET);
+		serverChannel.registerListener(serverListener);
+		clientChannel.registerListener(clientListener);
+
+		TestPacket testPacket = new TestPacket("dlkfjs", -23423);
+		serverChannel.sendPacket(ENetworkKey.TEST_PACKET, testPacket);
+		clientChannel.sendPacket(ENetworkKey.TEST_PACKET, testPacket);
+
+		Thread.sleep(80L);
+
+		assertEquals(1, serverListener.packets.size());
+		assertEquals(testPacket, serverListener.packets.get(0));
+
+		assertEquals(1, clientListener.packets.size());
+		assertEquals(testPacket, clientListener.packets.get(0));
+	}
+
+	@Test
+	public void testEncodedPacket() throws Exception {
+		TestPacketListener clientListener = new TestPacketListener(ENetworkKey.TEST_PACKET);
+		clientChannel.registerListener(clientListener);
+
+		TestPacket testPacket = new TestPacket("encoded", 4711);
+		EncodedPacket encodedPacket = EncodedPacket.encode(testPacket);
+		for (int i = 0; i < 100; i++) {
+			serverChannel.sendEncoded(ENetworkKey.TEST_PACKET, encodedPacket);
+		}
+
+		Thread.sleep(80L);
+
+		assertEquals(100, clientListener.packets.size());
+		for (TestPacket received : clientListener.packets) {
+			assertEquals(testPacket, received);
+		}
+	}
+
+	@Test
+	public void testMultiPackets() throws Exception {
+		TestPacketListener serverListener = new TestPacketListener(ENetworkKey.TEST_PACKET);
+		TestPacketListener clientListener = new TestPacketListener(ENetworkKey.TEST_PACKET);
+		serverChannel.registerListener(serverListener);
+		clientChannel.registerListener(clientListener);
+
+		final int NUMBER_OF_PACKETS = 2000;
+
+		for (int i = 0; i < NUMBER_OF_PACKETS; i++) {
+			serverChannel.sendPacket(ENetworkKey.TEST_PACKET, new TestPacket(i));
+			clientChannel.sendPacket(ENetworkKey.TEST_PACKET, new TestPacket(i));
+		}
+
+		Thread.sleep(200L);
+
+		assertEquals(NUMBER_OF_PACKETS, serverListener.packets.size());
+		assertEquals(NUMBER_OF_PACKETS, clientListener.packets.size());
+
+		for (int i = 0; i < NUMBER_OF_PACKETS; i++) {
+			assertEquals(i, serverListener.packets.get(i).getTestInt());
+			assertEquals(i, clientListener.packets.get(i).getTestInt());
+		}
+	}
+
+	@Test
+	public void testPacketsLargerThanBuffers() throws Exception {
+		TestPacketListener serverListener = new TestPacketListener(ENetworkKey.TEST_PACKET);
+		TestPacketListener clientListener = new TestPacketListener(ENetworkKey.TEST_PACKET);
+		serverChannel.registerListener(serverListener);
+		clientChannel.registerListener(clientListener);
+
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < 20000; i++) {
+			builder.append((char) ('a' + i % 26));
+		}
+		TestPacket testPacket = new TestPacket(builder.toString(), 42);
+
+		serverChannel.sendPacket(ENetworkKey.TEST_PACKET, testPacket);
+		clientChannel.sendPacket(ENetworkKey.TEST_PACKET, testPacket);
+
+		Thread.sleep(100L);
+
+		assertEquals(1, serverListener.packets.size());
+		assertEquals(testPacket, serverListener.packets.get(0));
+		assertEquals(1, clientListener.packets.size());
+		assertEquals(testPacket, clientListener.packets.get(0));
+	}
+
+	@Test
+	public void testRoundTripTime() throws InterruptedException {
+		Thread.sleep(100L);
+
+		assertTrue(serverChannel.getRoundTripTime().getLastUpdated() - System.currentTimeMillis() < 5);
+		assertTrue(clientChannel.getRoundTripTime().getLastUpdated() - System.currentTimeMillis() < 5);
+	}
+
+	@Test
+	public void testCloseServerSide() throws InterruptedException {
+		final int[] closed = new int[1];
+		serverChannel.setChannelClosedListener(() -> closed[0]++);
+
+		assertFalse(serverChannel.isClosed());
+		assertFalse(clientChannel.isClosed());
+
+		serverChannel.close();
+		assertTrue(serverChannel.isClosed());
+
+		Thread.sleep(40L);
+		assertTrue(clientChannel.isClosed());
+		assertEquals(1, closed[0]);
+	}
+
+	@Test
+	public void testCloseClientSide() throws InterruptedException {
+		final int[] closed = new int[1];
+		serverChannel.setChannelClosedListener(() -> closed[0]++);
+
+		clientChannel.close();
+
+		Thread.sleep(40L);
+		assertTrue(serverChannel.isClosed());
+		assertEquals(1, closed[0]);
+
+		serverChannel.close();
+		Thread.sleep(20L);
+		assertEquals(1, closed[0]);
+	}
+
+	@Test
+	public void testSendingOnClosedChannel() {
+		serverChannel.close();
+		serverChannel.sendPacket(ENetworkKey.TEST_PACKET, new TestPacket("sdfsdf", 1434));
+	}
+
+	@Test
+	public void testBuffersAreReleased() throws InterruptedException {
+		for (int i = 0; i < 100; i++) {
+			serverChannel.sendPacket(ENetworkKey.TEST_PACKET, new TestPacket(i));
+		}
+		Thread.sleep(50L);
+
+		int pooledBuffers = server.getBufferPool().getNumberOfPooledBuffers();
+		assertTrue(pooledBuffers > 0); // the written buffers
+
+		serverChannel.close();
+		Thread.sleep(40L);
+
+		assertTrue(server.getBufferPool().getNumberOfPooledBuffers() > pooledBuffers); // the read buffer
+	}
+}
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.infrastructure.utils;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+
+/**
+ * Tests the {@link CompactDataOutputStream} and the {@link CompactDataInputStream}.
+ * 
+ * @author agent
+ * 
+ */
+public class CompactDataStreamsTest {
+	private static final int[] TEST_VALUES = { 0, 1, -1, 63, -64, 64, 127, 128, 300, -300, 16383, 16384, 1 << 28, Integer.MAX_VALUE,
+			Integer.MIN_VALUE };
+
+	@Test
+	public void testVarIntRoundTrip() throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		CompactDataOutputStream out = new CompactDataOutputStream(buffer);
+		for (int value : TEST_VALUES) {
+			out.writeVarInt(value);
+			out.writeSignedVarInt(value);
+		}
+		out.flush();
+
+		CompactDataInputStream in = new CompactDataInputStream(new ByteArrayInputStream(buffer.toByteArray()));
+		for (int value : TEST_VALUES) {
+			assertEquals(value, in.readVarInt());
+			assertEquals(value, in.readSignedVarInt());
+		}
+		assertEquals(0, in.available());
+	}
+
+	@Test
+	public void testEncodedLengths() throws IOException {
+		assertEquals(1, getVarIntLength(0));
+		assertEquals(1, getVarIntLength(127));
+		assertEquals(2, getVarIntLength(128));
+		assertEquals(2, getVarIntLength(16383));
+		assertEquals(3, getVarIntLength(16384));
+		assertEquals(5, getVarIntLength(-1));
+
+		assertEquals(1, getSignedVarIntLength(-64));
+		assertEquals(1, getSignedVarIntLength(63));
+		assertEquals(2, getSignedVarIntLength(64));
+		assertEquals(2, getSignedVarIntLength(-1024));
+		assertEquals(5, getSignedVarIntLength(Integer.MIN_VALUE));
+	}
+
+	@Test(expected = IOException.class)
+	public void testTooLongVarInt() throws IOException {
+		byte[] data = { (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0 };
+		new CompactDataInputStream(new ByteArrayInputStream(data)).readVarInt();
+	}
+
+	private static int getVarIntLength(int value) throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		new CompactDataOutputStream(buffer).writeVarInt(value);
+		return buffer.size();
+	}
+
+	private static int getSignedVarIntLength(int value) throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		new CompactDataOutputStream(buffer).writeSignedVarInt(value);
+		return buffer.size();
+	}
+}
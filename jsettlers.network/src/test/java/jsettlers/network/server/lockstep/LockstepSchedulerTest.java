@@ -0,0 +1,279 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.server.lockstep;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import jsettlers.network.server.match.lockstep.ILockstepClock;
+import jsettlers.network.server.match.lockstep.LockstepScheduler;
+import jsettlers.network.server.match.lockstep.ScheduledLockstep;
+
+/**
+ * Tests the {@link LockstepScheduler} class.
+ * <p />
+ * The scheduler is driven by a {@link ManualClock} that is advanced tick by tick. After every tick, the test waits until the timer thread has
+ * handled it and the started runs have finished, so the timing statistics do not depend on the speed of the machine. The timing on a real clock
+ * is checked by the ConcurrentMatchesIT.
+ * 
+ * @author agent
+ * 
+ */
+public class LockstepSchedulerTest {
+	private static final int TICK_MS = LockstepScheduler.DEFAULT_TICK_MS;
+	private static final int PERIOD_MS = 20;
+	private static final long TIMEOUT_MS = 10000;
+
+	private final ManualClock clock = new ManualClock();
+	private final LockstepScheduler scheduler = new LockstepScheduler("TestLockstep", 2, TICK_MS, clock);
+
+	@After
+	public void tearDown() {
+		scheduler.shutdown();
+	}
+
+	@Test
+	public void testPeriodicExecution() throws InterruptedException {
+		AtomicInteger counter = new AtomicInteger();
+		ScheduledLockstep lockstep = scheduler.schedule(counter::incrementAndGet, 0, PERIOD_MS);
+
+		start(lockstep);
+		advance(49 * PERIOD_MS, lockstep);
+
+		assertEquals(50, counter.get());
+		assertEquals(50, lockstep.getNumberOfRuns());
+		assertEquals(0, lockstep.getNumberOfSkippedRuns());
+		assertEquals(0, lockstep.getMaxLatenessMs(), 0);
+		assertEquals(0, lockstep.getMaxJitterMs(), 0);
+
+		advance(PERIOD_MS - TICK_MS, lockstep);
+		assertEquals(50, counter.get());
+	}
+
+	@Test
+	public void testLatenessIsMeasuredFromTheDeadline() throws InterruptedException {
+		ScheduledLockstep lockstep = scheduler.schedule(() -> {
+		}, TICK_MS / 2, PERIOD_MS);
+
+		start(lockstep);
+		advance(10 * PERIOD_MS, lockstep);
+
+		// the deadlines are in the middle of a tick, so every run is started half a tick late
+		assertEquals(10, lockstep.getNumberOfRuns());
+		assertEquals(TICK_MS / 2f, lockstep.getAverageLatenessMs(), 0.001f);
+		assertEquals(TICK_MS / 2f, lockstep.getMaxLatenessMs(), 0.001f);
+		assertEquals(0, lockstep.getMaxJitterMs(), 0.001f);
+	}
+
+	@Test
+	public void testInitialDelay() throws InterruptedException {
+		AtomicInteger counter = new AtomicInteger();
+		ScheduledLockstep lockstep = scheduler.schedule(counter::incrementAndGet, 10 * PERIOD_MS, PERIOD_MS);
+
+		start(lockstep);
+		advance(10 * PERIOD_MS - TICK_MS, lockstep);
+		assertEquals(0, counter.get());
+
+		advance(TICK_MS, lockstep);
+		assertEquals(1, counter.get());
+		assertEquals(0, lockstep.getMaxLatenessMs(), 0);
+	}
+
+	@Test
+	public void testCancel() throws InterruptedException {
+		AtomicInteger counter = new AtomicInteger();
+		ScheduledLockstep lockstep = scheduler.schedule(counter::incrementAndGet, 0, PERIOD_MS);
+
+		start(lockstep);
+		advance(4 * PERIOD_MS, lockstep);
+		assertEquals(5, counter.get());
+
+		lockstep.cancel();
+		advance(5 * PERIOD_MS, lockstep);
+		assertEquals(5, counter.get());
+	}
+
+	@Test
+	public void testSlowTaskDoesNotDelayOthers() throws InterruptedException {
+		CountDownLatch slowTaskReleased = new CountDownLatch(1);
+		ScheduledLockstep slowLockstep = scheduler.schedule(() -> await(slowTaskReleased), 0, PERIOD_MS);
+
+		List<ScheduledLockstep> fastLocksteps = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			fastLocksteps.add(scheduler.schedule(() -> {
+			}, (i % 10) * TICK_MS, PERIOD_MS));
+		}
+		ScheduledLockstep[] fastLockstepsArray = fastLocksteps.toArray(new ScheduledLockstep[fastLocksteps.size()]);
+
+		try {
+			start(fastLockstepsArray);
+			advance(50 * PERIOD_MS - TICK_MS, fastLockstepsArray); // the slow task blocks one of the two workers all the time
+
+			assertEquals(1, slowLockstep.getNumberOfRuns());
+			assertEquals(49, slowLockstep.getNumberOfSkippedRuns());
+
+			for (ScheduledLockstep fastLockstep : fastLocksteps) {
+				assertEquals(fastLockstep.toString(), 50, fastLockstep.getNumberOfRuns());
+				assertEquals(0, fastLockstep.getNumberOfSkippedRuns());
+				assertEquals(fastLockstep.toString(), 0, fastLockstep.getMaxLatenessMs(), 0);
+			}
+		} finally {
+			slowTaskReleased.countDown();
+		}
+	}
+
+	@Test
+	public void testExceptionDoesNotStopTask() throws InterruptedException {
+		AtomicInteger counter = new AtomicInteger();
+		System.out.println("DON'T WORRY, EXCEPTIONS ARE EXPECTED AFTER THIS:");
+		ScheduledLockstep lockstep = scheduler.schedule(() -> {
+			counter.incrementAndGet();
+			throw new IllegalStateException("test");
+		}, 0, PERIOD_MS);
+
+		start(lockstep);
+		advance(4 * PERIOD_MS, lockstep);
+		assertEquals(5, counter.get());
+	}
+
+	@Test
+	public void testTimerOnlyWakesUpForDueTicks() throws InterruptedException {
+		ScheduledLockstep lockstep = scheduler.schedule(() -> {
+		}, 0, PERIOD_MS);
+
+		start(lockstep);
+		assertEquals(PERIOD_MS * 1000000L, clock.getParkedNanos()); // parked until the next deadline instead of the next tick
+
+		lockstep.cancel();
+		advance(PERIOD_MS, lockstep);
+		assertTrue(clock.getParkedNanos() >= 10 * PERIOD_MS * 1000000L); // the wheel is empty
+
+		AtomicInteger counter = new AtomicInteger();
+		ScheduledLockstep newLockstep = scheduler.schedule(counter::incrementAndGet, 0, PERIOD_MS);
+		clock.awaitParkedNanos(TICK_MS * 1000000L); // scheduling wakes up the timer
+		advance(TICK_MS, newLockstep);
+		assertEquals(1, counter.get());
+	}
+
+	private void start(ScheduledLockstep... awaitedLocksteps) throws InterruptedException {
+		scheduler.start();
+		clock.awaitTimerParked();
+		awaitFinishedRuns(awaitedLocksteps);
+	}
+
+	/**
+	 * Advances the clock tick by tick and waits after every tick until the timer thread handled it and the runs of the given locksteps are
+	 * finished.
+	 */
+	private void advance(int ms, ScheduledLockstep... awaitedLocksteps) throws InterruptedException {
+		for (int i = 0; i < ms / TICK_MS; i++) {
+			clock.advanceOneTick();
+			awaitFinishedRuns(awaitedLocksteps);
+		}
+	}
+
+	private static void awaitFinishedRuns(ScheduledLockstep... locksteps) throws InterruptedException {
+		long timeout = System.currentTimeMillis() + TIMEOUT_MS;
+		for (ScheduledLockstep lockstep : locksteps) {
+			while (lockstep.isRunning()) {
+				if (System.currentTimeMillis() > timeout) {
+					fail("run did not finish: " + lockstep);
+				}
+				Thread.sleep(1);
+			}
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+		}
+	}
+
+	/**
+	 * A clock that is only advanced by the test.
+	 */
+	private static class ManualClock implements ILockstepClock {
+		private final ThreadLocal<Long> lastReadNanos = new ThreadLocal<>();
+		private long nanos = 1000000000L;
+		private long timerParkedUntil = Long.MIN_VALUE;
+
+		@Override
+		public synchronized long nanoTime() {
+			lastReadNanos.set(nanos);
+			return nanos;
+		}
+
+		@Override
+		public synchronized void parkNanos(long parkNanos) {
+			// the time may have been advanced since the timer calculated the park time
+			timerParkedUntil = (lastReadNanos.get() != null ? lastReadNanos.get() : nanos) + parkNanos;
+			notifyAll();
+			try {
+				wait(10); // returning early lets the timer thread check whether it has been shut down
+			} catch (InterruptedException e) {
+			}
+		}
+
+		/**
+		 * @return The time until the end of the last park of the timer thread.
+		 */
+		synchronized long getParkedNanos() {
+			return timerParkedUntil - nanos;
+		}
+
+		/**
+		 * Waits until the timer thread parks for at most the given time.
+		 */
+		synchronized void awaitParkedNanos(long maximumNanos) throws InterruptedException {
+			long timeout = System.currentTimeMillis() + TIMEOUT_MS;
+			while (timerParkedUntil - nanos > maximumNanos) {
+				if (System.currentTimeMillis() > timeout) {
+					fail("timer thread did not wake up");
+				}
+				wait(10);
+			}
+		}
+
+		synchronized void advanceOneTick() throws InterruptedException {
+			nanos += TICK_MS * 1000000L;
+			notifyAll();
+			awaitTimerParked();
+		}
+
+		/**
+		 * Waits until the timer thread has handled all ticks up to the current time.
+		 */
+		synchronized void awaitTimerParked() throws InterruptedException {
+			long timeout = System.currentTimeMillis() + TIMEOUT_MS;
+			while (timerParkedUntil <= nanos) {
+				if (System.currentTimeMillis() > timeout) {
+					fail("timer thread did not handle the tick");
+				}
+				wait(10);
+			}
+		}
+	}
+}
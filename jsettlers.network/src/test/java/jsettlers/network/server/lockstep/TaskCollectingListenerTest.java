@@ -17,6 +17,7 @@ package jsettlers.network.server.lockstep;
 import static org.junit.Assert.assertEquals;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.After;
@@ -25,11 +26,16 @@ import org.junit.Test;
 
 import jsettlers.network.NetworkConstants;
 import jsettlers.network.TestUtils;
+import jsettlers.network.client.task.SyncTasksPacketSchedulerMock;
+import jsettlers.network.client.task.TaskPacketListener;
 import jsettlers.network.client.task.TestTaskPacket;
+import jsettlers.network.client.task.packets.CompactTaskPacket;
+import jsettlers.network.client.task.packets.SyncTasksPacket;
 import jsettlers.network.client.task.packets.TaskPacket;
 import jsettlers.network.infrastructure.channel.Channel;
 import jsettlers.network.infrastructure.channel.listeners.BufferingPacketListener;
 import jsettlers.network.server.match.lockstep.TaskCollectingListener;
+import jsettlers.network.server.packets.ServersideCompactSyncTasksPacket;
 import jsettlers.network.server.packets.ServersideTaskPacket;
 
 /**
@@ -91,4 +97,39 @@ public class TaskCollectingListenerTest {
 		assertEquals(testPacket1, packets.get(0)); // check that the packets are correctly received
 		assertEquals(testPacket2, packets.get(1));
 	}
+
+	@Test
+	public void testCompactSendAndReceive() throws InterruptedException {
+		SyncTasksPacketSchedulerMock clientScheduler = new SyncTasksPacketSchedulerMock();
+		client.registerListener(new TaskPacketListener(clientScheduler));
+
+		TaskCollectingListener serverListener = new TaskCollectingListener();
+		server.registerListener(serverListener);
+
+		TestTaskPacket testPacket1 = new TestTaskPacket("TestMessage42", 4711, (byte) -3);
+		TestTaskPacket testPacket2 = new TestTaskPacket("Other message", -2342323, (byte) 4);
+		client.sendPacket(NetworkConstants.ENetworkKey.COMPACT_SYNCHRONOUS_TASK, new CompactTaskPacket(testPacket1));
+		client.sendPacket(NetworkConstants.ENetworkKey.COMPACT_SYNCHRONOUS_TASK, new CompactTaskPacket(testPacket2));
+
+		Thread.sleep(50L);
+
+		List<ServersideTaskPacket> serversideTaskPackets = serverListener.getAndResetTasks();
+		assertEquals(2, serversideTaskPackets.size());
+
+		// unlock the locksteps 0 to 3 at once, then send the tasks for lockstep 4 and unlock up to lockstep 7
+		server.sendPacket(NetworkConstants.ENetworkKey.COMPACT_SYNCHRONOUS_TASK,
+				new ServersideCompactSyncTasksPacket(4, Collections.<ServersideTaskPacket> emptyList()));
+		server.sendPacket(NetworkConstants.ENetworkKey.COMPACT_SYNCHRONOUS_TASK, new ServersideCompactSyncTasksPacket(1, serversideTaskPackets));
+		server.sendPacket(NetworkConstants.ENetworkKey.COMPACT_SYNCHRONOUS_TASK,
+				new ServersideCompactSyncTasksPacket(3, Collections.<ServersideTaskPacket> emptyList()));
+
+		Thread.sleep(50L);
+
+		List<SyncTasksPacket> packets = clientScheduler.popBufferedPackets();
+		assertEquals(1, packets.size());
+		assertEquals(4, packets.get(0).getLockstepNumber());
+		assertEquals(testPacket1, packets.get(0).getTasks().get(0));
+		assertEquals(testPacket2, packets.get(0).getTasks().get(1));
+		assertEquals(7, clientScheduler.getUnlockedLockstepNumber());
+	}
 }
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.benchmark;
+
+import java.util.Arrays;
+
+import jsettlers.common.ai.EPlayerType;
+import jsettlers.common.menu.IStartedGame;
+import jsettlers.common.player.ECivilisation;
+import jsettlers.logic.constants.MatchContext;
+import jsettlers.logic.map.loading.MapLoader;
+import jsettlers.logic.player.PlayerSetting;
+import jsettlers.main.JSettlersGame;
+import jsettlers.main.replay.ReplayUtils;
+import jsettlers.network.client.OfflineNetworkConnector;
+import jsettlers.testutils.map.MapUtils;
+
+/**
+ * Lets two AI players play against each other on the map used by the AiDifficultiesIT.
+ * 
+ * @author agent
+ * 
+ */
+public class AiBattleScenario implements ISimulationScenario {
+	private static final int NUMBER_OF_PLAYERS = 12;
+	private static final byte FIRST_SLOT = 9;
+	private static final byte SECOND_SLOT = 7;
+
+	private final EPlayerType firstPlayer;
+	private final EPlayerType secondPlayer;
+	private final int targetTimeMinutes;
+
+	private MatchContext lastMatchContext;
+
+	public AiBattleScenario(EPlayerType firstPlayer, EPlayerType secondPlayer, int targetTimeMinutes) {
+		this.firstPlayer = firstPlayer;
+		this.secondPlayer = secondPlayer;
+		this.targetTimeMinutes = targetTimeMinutes;
+	}
+
+	@Override
+	public String getName() {
+		return "ai-" + getShortName(firstPlayer) + "-vs-" + getShortName(secondPlayer) + "-" + targetTimeMinutes + "m";
+	}
+
+	private static String getShortName(EPlayerType playerType) {
+		return playerType.name().replace("AI_", "").replace('_', '-').toLowerCase();
+	}
+
+	@Override
+	public int simulate() throws Exception {
+		PlayerSetting[] playerSettings = new PlayerSetting[NUMBER_OF_PLAYERS];
+		Arrays.fill(playerSettings, new PlayerSetting());
+		playerSettings[FIRST_SLOT] = new PlayerSetting(firstPlayer, ECivilisation.ROMAN, (byte) 0);
+		playerSettings[SECOND_SLOT] = new PlayerSetting(secondPlayer, ECivilisation.ROMAN, (byte) 1);
+
+		MapLoader map = MapUtils.getSpezialSumpf();
+		JSettlersGame game = new JSettlersGame(map, 0L, new OfflineNetworkConnector(), getFirstAvailablePlayer(playerSettings), playerSettings);
+		JSettlersGame.GameRunner startingGame = (JSettlersGame.GameRunner) game.start();
+		IStartedGame startedGame = ReplayUtils.waitForGameStartup(startingGame);
+
+		int targetGameTime = targetTimeMinutes * 60 * 1000;
+		lastMatchContext = startingGame.getMatchContext();
+		lastMatchContext.clock().fastForwardTo(targetGameTime);
+		ReplayUtils.awaitShutdown(startedGame);
+		return targetGameTime;
+	}
+
+	/**
+	 * @return The {@link MatchContext} of the last simulated game or null if no game has been simulated yet.
+	 */
+	public MatchContext getLastMatchContext() {
+		return lastMatchContext;
+	}
+
+	private static byte getFirstAvailablePlayer(PlayerSetting[] playerSettings) {
+		for (byte i = 0; i < playerSettings.length; i++) {
+			if (playerSettings[i].isAvailable()) {
+				return i;
+			}
+		}
+		return 0;
+	}
+}
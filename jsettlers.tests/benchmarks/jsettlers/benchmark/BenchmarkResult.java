@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.benchmark;
+
+import java.util.Locale;
+
+/**
+ * The measurements of a single run of an {@link ISimulationScenario}.
+ * 
+ * @author agent
+ * 
+ */
+public class BenchmarkResult {
+	private final long simulatedMs;
+	private final long wallMs;
+	private final long peakHeapBytes;
+	private final long allocatedBytes;
+	private final int gcPauses;
+	private final long gcPauseTotalMs;
+	private final long gcPauseMaxMs;
+
+	public BenchmarkResult(long simulatedMs, long wallMs, JvmMetricsRecorder metrics) {
+		this.simulatedMs = simulatedMs;
+		this.wallMs = Math.max(1, wallMs);
+		this.peakHeapBytes = metrics.getPeakHeapBytes();
+		this.allocatedBytes = metrics.getAllocatedBytes();
+		this.gcPauses = metrics.getGcPauses();
+		this.gcPauseTotalMs = metrics.getGcPauseTotalMs();
+		this.gcPauseMaxMs = metrics.getGcPauseMaxMs();
+	}
+
+	public double getSimulatedPerWallMs() {
+		return (double) simulatedMs / wallMs;
+	}
+
+	/**
+	 * @return The allocation rate in bytes per wall clock second or -1 if the allocations could not be measured.
+	 */
+	public long getAllocationRate() {
+		return allocatedBytes < 0 ? -1 : allocatedBytes * 1000 / wallMs;
+	}
+
+	public long getWallMs() {
+		return wallMs;
+	}
+
+	public long getPeakHeapBytes() {
+		return peakHeapBytes;
+	}
+
+	public long getGcPauseTotalMs() {
+		return gcPauseTotalMs;
+	}
+
+	/**
+	 * Appends this result as JSON object. The keys are always written in the same order, so that results of different runs can be diffed.
+	 */
+	public void appendJson(StringBuilder json, String indent) {
+		json.append("{\n");
+		appendField(json, indent, "simulatedMs", Long.toString(simulatedMs), false);
+		appendField(json, indent, "wallMs", Long.toString(wallMs), false);
+		appendField(json, indent, "simulatedPerWallMs", String.format(Locale.ENGLISH, "%.3f", getSimulatedPerWallMs()), false);
+		appendField(json, indent, "peakHeapBytes", Long.toString(peakHeapBytes), false);
+		appendField(json, indent, "allocatedBytes", Long.toString(allocatedBytes), false);
+		appendField(json, indent, "allocationRateBytesPerSecond", Long.toString(getAllocationRate()), false);
+		appendField(json, indent, "gcPauses", Integer.toString(gcPauses), false);
+		appendField(json, indent, "gcPauseTotalMs", Long.toString(gcPauseTotalMs), false);
+		appendField(json, indent, "gcPauseMaxMs", Long.toString(gcPauseMaxMs), true);
+		json.append(indent).append('}');
+	}
+
+	private static void appendField(StringBuilder json, String indent, String key, String value, boolean last) {
+		json.append(indent).append("\t\"").append(key).append("\": ").append(value).append(last ? "\n" : ",\n");
+	}
+}
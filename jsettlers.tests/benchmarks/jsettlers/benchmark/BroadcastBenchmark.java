@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import jsettlers.network.NetworkConstants.ENetworkKey;
+import jsettlers.network.common.packets.MapInfoPacket;
+import jsettlers.network.common.packets.PlayerInfoPacket;
+import jsettlers.network.infrastructure.channel.Channel;
+import jsettlers.network.infrastructure.channel.packet.Packet;
+import jsettlers.network.infrastructure.channel.socket.ISocket;
+import jsettlers.network.infrastructure.log.LoggerManager;
+import jsettlers.network.server.match.Match;
+import jsettlers.network.server.match.Player;
+import jsettlers.network.server.packets.ServersideSyncTasksPacket;
+import jsettlers.network.server.packets.ServersideTaskPacket;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Measures the server side broadcast of the lockstep packets: A {@link ServersideSyncTasksPacket} is sent to all players of a {@link Match}
+ * once by serializing it for every player and once with {@link Match#broadcastMessage(ENetworkKey, Packet)}, which serializes it only once. The channels write to sockets discarding the data, so only the server side costs are measured.
+ * <p />
+ * Arguments:
+ * <ul>
+ * <li>--players=&lt;n&gt; The number of players in the match. Defaults to 8.</li>
+ * <li>--tasks=&lt;n&gt; The number of tasks in every lockstep. Defaults to 4.</li>
+ * <li>--locksteps=&lt;n&gt; The number of broadcasted locksteps per measurement. Defaults to 200000.</li>
+ * </ul>
+ * 
+ * @author agent
+ * 
+ */
+public class BroadcastBenchmark {
+	private static final int TASK_SIZE = 40;
+	private static final int RUNS = 5;
+
+	private BroadcastBenchmark() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		int numberOfPlayers = 8;
+		int numberOfTasks = 4;
+		int locksteps = 200000;
+		for (String arg : args) {
+			int value = Integer.parseInt(arg.substring(arg.indexOf('=') + 1));
+			if (arg.startsWith("--players=")) {
+				numberOfPlayers = value;
+			} else if (arg.startsWith("--tasks=")) {
+				numberOfTasks = value;
+			} else if (arg.startsWith("--locksteps=")) {
+				locksteps = value;
+			} else {
+				throw new IllegalArgumentException("Unknown argument: " + arg);
+			}
+		}
+
+		Match match = new Match("benchmark", numberOfPlayers, new MapInfoPacket("map", "map", "author", "", numberOfPlayers), 0);
+		List<Player> players = new ArrayList<>();
+		for (int i = 0; i < numberOfPlayers; i++) {
+			Player player = new Player(new PlayerInfoPacket("player" + i, "Player " + i, true), new Channel(LoggerManager.ROOT_LOGGER,
+					new DiscardingSocket()));
+			player.joinMatch(match);
+			players.add(player);
+		}
+
+		List<ServersideTaskPacket> tasks = new ArrayList<>();
+		Random random = new Random(0);
+		for (int i = 0; i < numberOfTasks; i++) {
+			byte[] data = new byte[TASK_SIZE];
+			random.nextBytes(data);
+			tasks.add(new ServersideTaskPacket(data));
+		}
+
+		StringBuilder report = new StringBuilder();
+		for (int run = 0; run < RUNS; run++) { // the first runs warm up the JIT
+			report.setLength(0);
+			for (boolean serializeOnce : new boolean[] { false, true }) {
+				long allocatedBefore = getAllocatedBytes();
+				long start = System.nanoTime();
+
+				for (int lockstep = 0; lockstep < locksteps; lockstep++) {
+					ServersideSyncTasksPacket packet = new ServersideSyncTasksPacket(lockstep, tasks);
+					if (serializeOnce) {
+						match.broadcastMessage(ENetworkKey.SYNCHRONOUS_TASK, packet);
+					} else {
+						for (Player player : players) {
+							player.sendPacket(ENetworkKey.SYNCHRONOUS_TASK, packet);
+						}
+					}
+				}
+
+				long duration = System.nanoTime() - start;
+				long allocated = getAllocatedBytes() - allocatedBefore;
+				report.append(String.format(Locale.ENGLISH, "%-16s players: %2d tasks: %2d   %8.0f ns/lockstep %8.0f bytes/lockstep%n",
+						serializeOnce ? "serialize once" : "per player", numberOfPlayers, numberOfTasks, (double) duration / locksteps,
+						(double) allocated / locksteps));
+			}
+		}
+
+		System.out.println(report);
+		System.exit(0);
+	}
+
+	private static long getAllocatedBytes() {
+		return ((ThreadMXBean) ManagementFactory.getThreadMXBean()).getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	private static class DiscardingSocket implements ISocket {
+		private final OutputStream out = new OutputStream() {
+			@Override
+			public void write(int b) {
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) {
+			}
+		};
+
+		@Override
+		public OutputStream getOutputStream() {
+			return out;
+		}
+
+		@Override
+		public InputStream getInputStream() {
+			return new ByteArrayInputStream(new byte[0]);
+		}
+
+		@Override
+		public boolean isClosed() {
+			return false;
+		}
+
+		@Override
+		public void close() {
+		}
+
+		@Override
+		public String toString() {
+			return "DiscardingSocket";
+		}
+	}
+}
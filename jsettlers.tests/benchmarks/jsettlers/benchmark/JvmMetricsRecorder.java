@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.benchmark;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Records the heap usage, the allocated bytes and the garbage collection pauses of the JVM while a scenario is simulated.
+ * <p />
+ * The allocated bytes of the threads and the used heap are sampled every {@value #SAMPLING_PERIOD} ms. As the heap usage is also taken from the
+ * notifications of the garbage collectors right before every collection, the peak heap is close to the real peak. Allocations of threads ending
+ * between two samples are partly missed.
+ * 
+ * @author agent
+ * 
+ */
+public final class JvmMetricsRecorder implements NotificationListener {
+	private static final long SAMPLING_PERIOD = 100; // ms
+
+	private final ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+	private final List<NotificationEmitter> registeredEmitters = new ArrayList<>();
+	private final Map<Long, Long> allocatedBytesAtStart = new HashMap<>();
+	private final Map<Long, Long> allocatedBytesByThread = new HashMap<>();
+	private final Set<String> heapPoolNames = new HashSet<>();
+
+	private Thread samplingThread;
+	private volatile boolean running;
+
+	private long peakHeapBytes;
+	private int gcPauses;
+	private long gcPauseTotalMs;
+	private long gcPauseMaxMs;
+
+	public void start() {
+		System.gc();
+
+		if (threadBean.isThreadAllocatedMemorySupported()) {
+			threadBean.setThreadAllocatedMemoryEnabled(true);
+			sampleAllocatedBytes(allocatedBytesAtStart);
+		}
+		peakHeapBytes = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP) {
+				heapPoolNames.add(pool.getName());
+			}
+		}
+
+		for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+			if (collector instanceof NotificationEmitter) {
+				NotificationEmitter emitter = (NotificationEmitter) collector;
+				emitter.addNotificationListener(this, null, null);
+				registeredEmitters.add(emitter);
+			}
+		}
+
+		running = true;
+		samplingThread = new Thread(this::sample, "JvmMetricsRecorder");
+		samplingThread.setDaemon(true);
+		samplingThread.start();
+	}
+
+	public void stop() throws InterruptedException {
+		running = false;
+		samplingThread.join();
+		sampleOnce();
+
+		for (NotificationEmitter emitter : registeredEmitters) {
+			try {
+				emitter.removeNotificationListener(this);
+			} catch (Exception e) {
+				e.printStackTrace();
+			}
+		}
+		registeredEmitters.clear();
+	}
+
+	private void sample() {
+		while (running) {
+			sampleOnce();
+			try {
+				Thread.sleep(SAMPLING_PERIOD);
+			} catch (InterruptedException e) {
+				return;
+			}
+		}
+	}
+
+	private synchronized void sampleOnce() {
+		peakHeapBytes = Math.max(peakHeapBytes, ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+		if (threadBean.isThreadAllocatedMemoryEnabled()) {
+			sampleAllocatedBytes(allocatedBytesByThread);
+		}
+	}
+
+	private void sampleAllocatedBytes(Map<Long, Long> target) {
+		long[] threadIds = threadBean.getAllThreadIds();
+		long[] allocatedBytes = threadBean.getThreadAllocatedBytes(threadIds);
+		for (int i = 0; i < threadIds.length; i++) {
+			if (allocatedBytes[i] >= 0) {
+				target.put(threadIds[i], allocatedBytes[i]);
+			}
+		}
+	}
+
+	@Override
+	public synchronized void handleNotification(Notification notification, Object handback) {
+		if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+			return;
+		}
+
+		GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+		long heapBeforeGc = 0;
+		for (Map.Entry<String, MemoryUsage> pool : info.getGcInfo().getMemoryUsageBeforeGc().entrySet()) {
+			if (heapPoolNames.contains(pool.getKey())) {
+				heapBeforeGc += pool.getValue().getUsed();
+			}
+		}
+		peakHeapBytes = Math.max(peakHeapBytes, heapBeforeGc);
+
+		if (!info.getGcAction().toLowerCase(Locale.ENGLISH).contains("concurrent")) { // concurrent cycles don't stop the game
+			long duration = info.getGcInfo().getDuration();
+			gcPauses++;
+			gcPauseTotalMs += duration;
+			gcPauseMaxMs = Math.max(gcPauseMaxMs, duration);
+		}
+	}
+
+	/**
+	 * @return The peak heap usage in bytes.
+	 */
+	public synchronized long getPeakHeapBytes() {
+		return peakHeapBytes;
+	}
+
+	/**
+	 * @return The bytes allocated by all threads since {@link #start()} or -1 if the JVM doesn't support measuring them.
+	 */
+	public synchronized long getAllocatedBytes() {
+		if (!threadBean.isThreadAllocatedMemoryEnabled()) {
+			return -1;
+		}
+
+		long allocated = 0;
+		for (Map.Entry<Long, Long> entry : allocatedBytesByThread.entrySet()) {
+			Long atStart = allocatedBytesAtStart.get(entry.getKey());
+			allocated += entry.getValue() - (atStart == null ? 0 : atStart);
+		}
+		return allocated;
+	}
+
+	public synchronized int getGcPauses() {
+		return gcPauses;
+	}
+
+	public synchronized long getGcPauseTotalMs() {
+		return gcPauseTotalMs;
+	}
+
+	public synchronized long getGcPauseMaxMs() {
+		return gcPauseMaxMs;
+	}
+}
@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.benchmark;
+
+import jsettlers.integration.replay.AutoReplaySetting;
+import jsettlers.logic.map.loading.MapLoader;
+import jsettlers.main.replay.ReplayUtils;
+
+/**
+ * Replays one of the bundled replays of the {@link AutoReplaySetting}s to a fixed game time.
+ * 
+ * @author agent
+ * 
+ */
+public class ReplayScenario implements ISimulationScenario {
+	private final AutoReplaySetting setting;
+	private final int targetTimeMinutes;
+
+	public ReplayScenario(AutoReplaySetting setting, int targetTimeMinutes) {
+		this.setting = setting;
+		this.targetTimeMinutes = targetTimeMinutes;
+	}
+
+	@Override
+	public String getName() {
+		return "replay-" + setting.getTypeName() + "-" + targetTimeMinutes + "m";
+	}
+
+	@Override
+	public int simulate() throws Exception {
+		MapLoader[] savegames = ReplayUtils.replayAndCreateSavegames(setting.getReplayFile(), new int[] { targetTimeMinutes });
+		for (MapLoader savegame : savegames) {
+			savegame.getListedMap().delete();
+		}
+		return targetTimeMinutes * 60 * 1000;
+	}
+}
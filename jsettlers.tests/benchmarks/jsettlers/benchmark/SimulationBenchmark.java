@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.benchmark;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import jsettlers.common.CommonConstants;
+import jsettlers.common.ai.EPlayerType;
+import jsettlers.integration.replay.AutoReplaySetting;
+import jsettlers.logic.constants.Constants;
+import jsettlers.testutils.TestUtils;
+
+/**
+ * Headless benchmark of the game simulation. It replays the bundled replays and lets AI players fight each other to fixed game times and writes
+ * the simulation speed, the peak heap, the allocation rate and the gc pauses as JSON file.
+ * <p />
+ * Arguments:
+ * <ul>
+ * <li>--output=&lt;file&gt; The JSON file to write. Defaults to simulation-benchmark.json.</li>
+ * <li>--warmups=&lt;n&gt; The number of unmeasured runs of every scenario. Defaults to 1.</li>
+ * <li>--iterations=&lt;n&gt; The number of measured runs of every scenario. Defaults to 3.</li>
+ * <li>--scenarios=&lt;a,b,...&gt; Only runs the scenarios with the given names.</li>
+ * </ul>
+ * The commit written to the output is taken from the system property {@value #COMMIT_PROPERTY}.
+ * 
+ * @author agent
+ * 
+ */
+public class SimulationBenchmark {
+	private static final String COMMIT_PROPERTY = "benchmark.commit";
+
+	private static final int REPLAY_TIME_MINUTES = 20;
+	private static final int AI_TIME_MINUTES = 30;
+
+	private SimulationBenchmark() {
+	}
+
+	public static List<ISimulationScenario> getDefaultScenarios() {
+		List<ISimulationScenario> scenarios = new ArrayList<>();
+		for (AutoReplaySetting setting : AutoReplaySetting.getDefaultSettings()) {
+			scenarios.add(new ReplayScenario(setting, REPLAY_TIME_MINUTES));
+		}
+		scenarios.add(new AiBattleScenario(EPlayerType.AI_VERY_HARD, EPlayerType.AI_HARD, AI_TIME_MINUTES));
+		scenarios.add(new AiBattleScenario(EPlayerType.AI_EASY, EPlayerType.AI_VERY_EASY, AI_TIME_MINUTES));
+		return scenarios;
+	}
+
+	public static void main(String[] args) throws Exception {
+		File output = new File("simulation-benchmark.json");
+		int warmups = 1;
+		int iterations = 3;
+		List<String> selectedScenarios = null;
+
+		for (String arg : args) {
+			if (arg.startsWith("--output=")) {
+				output = new File(value(arg));
+			} else if (arg.startsWith("--warmups=")) {
+				warmups = Integer.parseInt(value(arg));
+			} else if (arg.startsWith("--iterations=")) {
+				iterations = Integer.parseInt(value(arg));
+			} else if (arg.startsWith("--scenarios=")) {
+				selectedScenarios = Arrays.asList(value(arg).split(","));
+			} else {
+				throw new IllegalArgumentException("Unknown argument: " + arg);
+			}
+		}
+
+		setupConstants();
+
+		List<ISimulationScenario> scenarios = getDefaultScenarios();
+		if (selectedScenarios != null) {
+			for (String selectedScenario : selectedScenarios) {
+				if (!containsScenario(scenarios, selectedScenario)) {
+					throw new IllegalArgumentException("Unknown scenario: " + selectedScenario);
+				}
+			}
+		}
+
+		StringBuilder json = new StringBuilder();
+		json.append("{\n");
+		json.append("\t\"commit\": \"").append(System.getProperty(COMMIT_PROPERTY, "unknown")).append("\",\n");
+		json.append("\t\"javaVersion\": \"").append(System.getProperty("java.version")).append("\",\n");
+		json.append("\t\"availableProcessors\": ").append(Runtime.getRuntime().availableProcessors()).append(",\n");
+		json.append("\t\"maxHeapBytes\": ").append(Runtime.getRuntime().maxMemory()).append(",\n");
+		json.append("\t\"warmups\": ").append(warmups).append(",\n");
+		json.append("\t\"iterations\": ").append(iterations).append(",\n");
+		json.append("\t\"scenarios\": [");
+
+		boolean first = true;
+		for (ISimulationScenario scenario : scenarios) {
+			if (selectedScenarios != null && !selectedScenarios.contains(scenario.getName())) {
+				continue;
+			}
+
+			for (int i = 0; i < warmups; i++) {
+				System.out.println("Warmup " + (i + 1) + "/" + warmups + " of " + scenario.getName());
+				run(scenario);
+			}
+
+			List<BenchmarkResult> results = new ArrayList<>();
+			for (int i = 0; i < iterations; i++) {
+				System.out.println("Iteration " + (i + 1) + "/" + iterations + " of " + scenario.getName());
+				results.add(run(scenario));
+			}
+
+			json.append(first ? "\n" : ",\n");
+			first = false;
+			appendScenario(json, scenario, results);
+		}
+		json.append("\n\t]\n}\n");
+
+		File outputDirectory = output.getAbsoluteFile().getParentFile();
+		if (outputDirectory != null) {
+			outputDirectory.mkdirs();
+		}
+		try (Writer writer = new OutputStreamWriter(new FileOutputStream(output), StandardCharsets.UTF_8)) {
+			writer.write(json.toString());
+		}
+		System.out.println("Benchmark results written to " + output.getAbsolutePath());
+		System.exit(0);
+	}
+
+	private static boolean containsScenario(List<ISimulationScenario> scenarios, String name) {
+		for (ISimulationScenario scenario : scenarios) {
+			if (scenario.getName().equals(name)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static String value(String arg) {
+		return arg.substring(arg.indexOf('=') + 1);
+	}
+
+	static void setupConstants() {
+		CommonConstants.ENABLE_CONSOLE_LOGGING = true;
+		CommonConstants.CONTROL_ALL = true;
+		CommonConstants.USE_SAVEGAME_COMPRESSION = true;
+		Constants.FOG_OF_WAR_DEFAULT_ENABLED = false;
+
+		TestUtils.setupTempResourceManager();
+	}
+
+	private static BenchmarkResult run(ISimulationScenario scenario) throws Exception {
+		JvmMetricsRecorder metrics = new JvmMetricsRecorder();
+		metrics.start();
+		long start = System.nanoTime();
+		int simulatedMs = scenario.simulate();
+		long wallMs = (System.nanoTime() - start) / 1000000;
+		metrics.stop();
+		return new BenchmarkResult(simulatedMs, wallMs, metrics);
+	}
+
+	private static void appendScenario(StringBuilder json, ISimulationScenario scenario, List<BenchmarkResult> results) {
+		json.append("\t\t{\n");
+		json.append("\t\t\t\"name\": \"").append(scenario.getName()).append("\",\n");
+
+		if (!results.isEmpty()) {
+			List<BenchmarkResult> sorted = new ArrayList<>(results);
+			Collections.sort(sorted, Comparator.comparingDouble(BenchmarkResult::getSimulatedPerWallMs));
+			json.append("\t\t\t\"median\": ");
+			sorted.get(sorted.size() / 2).appendJson(json, "\t\t\t");
+			json.append(",\n");
+		}
+
+		json.append("\t\t\t\"runs\": [");
+		for (int i = 0; i < results.size(); i++) {
+			json.append(i == 0 ? "\n\t\t\t\t" : ",\n\t\t\t\t");
+			results.get(i).appendJson(json, "\t\t\t\t");
+		}
+		json.append("\n\t\t\t]\n\t\t}");
+	}
+}
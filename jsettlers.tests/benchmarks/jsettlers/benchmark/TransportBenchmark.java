@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.benchmark;
+
+import java.util.Locale;
+
+import jsettlers.common.ai.EPlayerType;
+import jsettlers.logic.constants.Constants;
+import jsettlers.logic.map.grid.partition.manager.materials.TransportStatistics;
+
+/**
+ * Compares the greedy job distribution of the bearers with the batched one (see {@link Constants#USE_BATCHED_MATERIAL_DISTRIBUTION}). The same
+ * AI battles are played with both modes and the delivered materials per game minute and the steps the bearers walked for them are printed.
+ * <p />
+ * Arguments:
+ * <ul>
+ * <li>--minutes=&lt;n&gt; The game time to simulate. Defaults to 60.</li>
+ * </ul>
+ * 
+ * @author agent
+ * 
+ */
+public class TransportBenchmark {
+	private TransportBenchmark() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		int minutes = 60;
+		for (String arg : args) {
+			if (arg.startsWith("--minutes=")) {
+				minutes = Integer.parseInt(arg.substring(arg.indexOf('=') + 1));
+			} else {
+				throw new IllegalArgumentException("Unknown argument: " + arg);
+			}
+		}
+
+		SimulationBenchmark.setupConstants();
+
+		AiBattleScenario[] scenarios = {
+				new AiBattleScenario(EPlayerType.AI_VERY_HARD, EPlayerType.AI_HARD, minutes),
+				new AiBattleScenario(EPlayerType.AI_EASY, EPlayerType.AI_VERY_EASY, minutes) };
+
+		StringBuilder report = new StringBuilder();
+		for (AiBattleScenario scenario : scenarios) {
+			for (boolean batched : new boolean[] { false, true }) {
+				Constants.USE_BATCHED_MATERIAL_DISTRIBUTION = batched;
+				scenario.simulate();
+
+				TransportStatistics statistics = scenario.getLastMatchContext().transportStatistics();
+				int deliveries = statistics.getDeliveries();
+				long walkedSteps = statistics.getWalkedSteps();
+				report.append(String.format(Locale.ENGLISH, "%-30s %-8s deliveries/minute: %8.1f walked steps: %10d steps/delivery: %6.1f%n",
+						scenario.getName(), batched ? "batched" : "greedy", (double) deliveries / minutes, walkedSteps,
+						deliveries == 0 ? 0 : (double) walkedSteps / deliveries));
+			}
+		}
+		Constants.USE_BATCHED_MATERIAL_DISTRIBUTION = false;
+
+		System.out.println(report);
+		System.exit(0);
+	}
+}
@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import jsettlers.network.NetworkConstants;
+import jsettlers.network.NetworkConstants.ENetworkKey;
+import jsettlers.network.common.packets.BooleanMessagePacket;
+import jsettlers.network.common.packets.IdPacket;
+import jsettlers.network.common.packets.MapInfoPacket;
+import jsettlers.network.common.packets.OpenNewMatchPacket;
+import jsettlers.network.common.packets.TimeSyncPacket;
+import jsettlers.network.infrastructure.channel.packet.EmptyPacket;
+import jsettlers.network.server.match.EPlayerState;
+import jsettlers.network.server.match.Match;
+import jsettlers.network.server.match.lockstep.LockstepScheduler;
+import jsettlers.network.server.match.lockstep.ScheduledLockstep;
+
+/**
+ * Runs 100 two player matches at the same time on a local {@link GameServerThread} and checks that the {@link LockstepScheduler} runs the
+ * lockstep tasks of all of them on time.
+ * 
+ * @author agent
+ * 
+ */
+public class ConcurrentMatchesIT {
+	private static final int NUMBER_OF_MATCHES = 100;
+	private static final int NUMBER_OF_CLIENTS = 2 * NUMBER_OF_MATCHES;
+	private static final int GAME_DURATION_MS = 5000;
+	private static final long TIMEOUT_MS = 20000;
+
+	private static final float MAX_AVERAGE_LATENESS_MS = 5;
+	// single runs may be delayed by the garbage collector, but the clients' lead of several locksteps must cover them
+	private static final float MAX_LATENESS_MS = NetworkConstants.Client.LOCKSTEP_PERIOD / 2;
+	private static final float MAX_JITTER_MS = NetworkConstants.Client.LOCKSTEP_PERIOD / 2;
+
+	private GameServerThread gameServer;
+	private SimulatedClients clients;
+
+	@Before
+	public void setUp() throws Exception {
+		gameServer = new GameServerThread(false, true);
+		gameServer.start();
+		clients = new SimulatedClients();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		clients.close();
+		gameServer.shutdown();
+		gameServer.join();
+	}
+
+	@Test
+	public void testLockstepJitterOfConcurrentMatches() throws Exception {
+		startMatches();
+
+		long start = System.currentTimeMillis();
+		for (int time = 0; time < GAME_DURATION_MS; time = (int) (System.currentTimeMillis() - start)) {
+			for (int client = 0; client < NUMBER_OF_CLIENTS; client++) { // the clients acknowledge the locksteps with the time sync
+				clients.send(client, ENetworkKey.TIME_SYNC, new TimeSyncPacket(time));
+			}
+			Thread.sleep(NetworkConstants.Client.LOCKSTEP_PERIOD);
+		}
+
+		List<Match> matches = gameServer.getDatabase().getMatches();
+		assertEquals(NUMBER_OF_MATCHES, matches.size());
+
+		int expectedRuns = GAME_DURATION_MS / (NetworkConstants.Client.LOCKSTEP_PERIOD / 2 - 2);
+		float maxAverageLateness = 0;
+		float maxLateness = 0;
+		float maxJitter = 0;
+		for (Match match : matches) {
+			ScheduledLockstep lockstep = match.getScheduledLockstep();
+			assertNotNull(lockstep);
+			assertTrue(lockstep.toString(), lockstep.getNumberOfRuns() >= expectedRuns * 9 / 10);
+			assertEquals(lockstep.toString(), 0, lockstep.getNumberOfSkippedRuns());
+
+			maxAverageLateness = Math.max(maxAverageLateness, lockstep.getAverageLatenessMs());
+			maxLateness = Math.max(maxLateness, lockstep.getMaxLatenessMs());
+			maxJitter = Math.max(maxJitter, lockstep.getMaxJitterMs());
+		}
+
+		System.out.println(String.format(Locale.ENGLISH, "%d matches: average lateness (worst match): %.2f ms max lateness: %.2f ms max jitter: %.2f ms",
+				NUMBER_OF_MATCHES, maxAverageLateness, maxLateness, maxJitter));
+		assertTrue(maxAverageLateness < MAX_AVERAGE_LATENESS_MS);
+		assertTrue(maxLateness < MAX_LATENESS_MS);
+		assertTrue(maxJitter < MAX_JITTER_MS);
+
+		int expectedLocksteps = GAME_DURATION_MS / NetworkConstants.Client.LOCKSTEP_PERIOD;
+		for (int client = 0; client < NUMBER_OF_CLIENTS; client++) {
+			assertTrue(clients.getNumberOfReceivedPackets(client, ENetworkKey.SYNCHRONOUS_TASK) >= expectedLocksteps * 8 / 10);
+		}
+	}
+
+	private void startMatches() throws Exception {
+		clients.connect(NUMBER_OF_CLIENTS);
+		waitFor(() -> gameServer.getDatabase().getPlayers(EPlayerState.LOGGED_IN).size() == NUMBER_OF_CLIENTS);
+
+		for (int match = 0; match < NUMBER_OF_MATCHES; match++) {
+			clients.send(2 * match, ENetworkKey.REQUEST_OPEN_NEW_MATCH, new OpenNewMatchPacket("match" + match, 2, new MapInfoPacket("map", "map",
+					"author", "", 2), match));
+		}
+		waitFor(() -> {
+			for (int match = 0; match < NUMBER_OF_MATCHES; match++) {
+				if (clients.getLastMatchInfoUpdate(2 * match) == null) {
+					return false;
+				}
+			}
+			return true;
+		});
+
+		for (int match = 0; match < NUMBER_OF_MATCHES; match++) {
+			String matchId = clients.getLastMatchInfoUpdate(2 * match).getMatchInfo().getId();
+			clients.send(2 * match + 1, ENetworkKey.REQUEST_JOIN_MATCH, new IdPacket(matchId));
+		}
+		waitFor(() -> gameServer.getDatabase().getPlayers(EPlayerState.IN_MATCH).size() == NUMBER_OF_CLIENTS);
+
+		for (int client = 0; client < NUMBER_OF_CLIENTS; client++) {
+			clients.send(client, ENetworkKey.CHANGE_READY_STATE, new BooleanMessagePacket(true));
+		}
+		waitFor(() -> gameServer.getDatabase().getPlayers(EPlayerState.IN_MATCH).stream().allMatch(player -> player.getPlayerInfo().isReady()));
+
+		for (int match = 0; match < NUMBER_OF_MATCHES; match++) {
+			clients.send(2 * match, ENetworkKey.REQUEST_START_MATCH, new EmptyPacket());
+		}
+		waitFor(() -> clients.getNumberOfReceivedPackets(ENetworkKey.MATCH_STARTED) == NUMBER_OF_CLIENTS);
+	}
+
+	private static void waitFor(SimulatedClients.Condition condition) throws InterruptedException {
+		SimulatedClients.waitFor(condition, TIMEOUT_MS);
+	}
+}
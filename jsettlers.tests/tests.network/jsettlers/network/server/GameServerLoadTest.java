@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import jsettlers.network.NetworkConstants.ENetworkKey;
+import jsettlers.network.common.packets.ChatMessagePacket;
+import jsettlers.network.server.match.EPlayerState;
+import jsettlers.network.server.match.Player;
+
+/**
+ * Connects a few hundred simulated lobby clients to a {@link GameServerThread} on localhost and broadcasts chat messages to all of them. The
+ * threads and heap the server needs for the clients and the broadcast latency are reported for the blocking and the selector based transport.
+ * <p />
+ * The {@link SimulatedClients} are served by a single thread, so the thread count only grows by the threads of the server.
+ * 
+ * @author agent
+ * 
+ */
+public class GameServerLoadTest {
+	private static final int NUMBER_OF_CLIENTS = 300;
+	private static final int NUMBER_OF_BROADCASTS = 20;
+	private static final long TIMEOUT_MS = 20000;
+
+	@Test
+	public void testBlockingServer() throws Exception {
+		LoadResult result = runLoad(false);
+		assertTrue(result.additionalThreads > NUMBER_OF_CLIENTS / 2); // one per client, but threads of other tests may still be terminating
+	}
+
+	@Test
+	public void testSelectorServer() throws Exception {
+		LoadResult result = runLoad(true);
+		assertTrue(result.additionalThreads < NUMBER_OF_CLIENTS / 10);
+	}
+
+	private static LoadResult runLoad(boolean useSelector) throws Exception {
+		GameServerThread gameServer = new GameServerThread(false, useSelector);
+		gameServer.start();
+		SimulatedClients clients = new SimulatedClients();
+
+		try {
+			Thread.sleep(100L);
+			int threadsBefore = Thread.activeCount();
+			long heapBefore = getUsedHeap();
+
+			clients.connect(NUMBER_OF_CLIENTS);
+			waitFor(() -> gameServer.getDatabase().getPlayers(EPlayerState.LOGGED_IN).size() == NUMBER_OF_CLIENTS);
+
+			LoadResult result = new LoadResult();
+			result.additionalThreads = Thread.activeCount() - threadsBefore - 1; // the client selector thread
+			result.additionalHeap = getUsedHeap() - heapBefore;
+
+			List<Player> players = gameServer.getDatabase().getPlayers(EPlayerState.LOGGED_IN);
+			long latencySum = 0;
+			for (int i = 0; i < NUMBER_OF_BROADCASTS; i++) {
+				ChatMessagePacket packet = new ChatMessagePacket("server", "broadcast " + i);
+				int expectedMessages = (i + 1) * NUMBER_OF_CLIENTS;
+
+				long start = System.nanoTime();
+				for (Player player : players) {
+					player.sendPacket(ENetworkKey.CHAT_MESSAGE, packet);
+				}
+				waitFor(() -> clients.getNumberOfReceivedPackets(ENetworkKey.CHAT_MESSAGE) == expectedMessages);
+
+				long latency = clients.getLastReceiveTime(ENetworkKey.CHAT_MESSAGE) - start;
+				latencySum += latency;
+				result.maxLatency = Math.max(result.maxLatency, latency);
+			}
+			result.averageLatency = latencySum / NUMBER_OF_BROADCASTS;
+			assertEquals(NUMBER_OF_BROADCASTS * NUMBER_OF_CLIENTS, clients.getNumberOfReceivedPackets(ENetworkKey.CHAT_MESSAGE));
+
+			System.out.println((useSelector ? "selector" : "blocking") + " server with " + NUMBER_OF_CLIENTS + " clients: "
+					+ result.additionalThreads + " threads, " + result.additionalHeap / 1024 + " KB heap, broadcast latency average "
+					+ result.averageLatency / 1000 + " us, max " + result.maxLatency / 1000 + " us");
+			return result;
+		} finally {
+			clients.close();
+			gameServer.shutdown();
+			gameServer.join(); // the port is free afterwards
+		}
+	}
+
+	private static long getUsedHeap() throws InterruptedException {
+		Runtime runtime = Runtime.getRuntime();
+		System.gc();
+		Thread.sleep(100L);
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	private static void waitFor(SimulatedClients.Condition condition) throws InterruptedException {
+		SimulatedClients.waitFor(condition, TIMEOUT_MS);
+	}
+
+	private static class LoadResult {
+		int additionalThreads;
+		long additionalHeap;
+		long averageLatency;
+		long maxLatency;
+	}
+}
@@ -0,0 +1,233 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.Test;
+
+import jsettlers.common.buildings.EBuildingType;
+import jsettlers.common.material.EPriority;
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.input.tasks.ConstructBuildingTask;
+import jsettlers.input.tasks.DestroyBuildingGuiTask;
+import jsettlers.input.tasks.EGuiAction;
+import jsettlers.input.tasks.MovableGuiTask;
+import jsettlers.input.tasks.MoveToGuiTask;
+import jsettlers.input.tasks.SetBuildingPriorityGuiTask;
+import jsettlers.input.tasks.WorkAreaGuiTask;
+import jsettlers.network.NetworkConstants;
+import jsettlers.network.NetworkConstants.ENetworkKey;
+import jsettlers.network.client.task.TaskPacketListener;
+import jsettlers.network.client.task.packets.CompactTaskPacket;
+import jsettlers.network.client.task.packets.TaskPacket;
+import jsettlers.network.common.packets.MapInfoPacket;
+import jsettlers.network.infrastructure.channel.packet.Packet;
+import jsettlers.network.server.match.Match;
+import jsettlers.network.server.match.lockstep.TaskCollectingListener;
+import jsettlers.network.server.match.lockstep.TaskSendingTimerTask;
+
+/**
+ * Measures the bytes per minute of the lockstep traffic of a typical 4 player match with the original and the compact protocol. The match is
+ * simulated with a virtual clock: Every player issues about 20 tasks per minute, the server runs the {@link TaskSendingTimerTask} with its usual
+ * period and the clients acknowledge the locksteps they reached with their time synchronization. The sent packets are decoded again like on the
+ * clients to check that all tasks arrive and how long they are delayed until their lockstep begins.
+ * <p />
+ * Only the task and lockstep packets are counted, the time synchronization and ping packets are the same for both protocols.
+ * 
+ * @author agent
+ * 
+ */
+public class LockstepTrafficTest {
+	private static final int NUMBER_OF_PLAYERS = 4;
+	private static final int SIMULATED_MINUTES = 10;
+	private static final int TASKS_PER_PLAYER_AND_MINUTE = 20;
+	private static final int LATENCY_MS = 20;
+	private static final int HEADER_LENGTH = 5; // key and length of every packet
+	private static final int LOCKSTEP_PERIOD = NetworkConstants.Client.LOCKSTEP_PERIOD;
+	private static final int SENDING_PERIOD = LOCKSTEP_PERIOD / 2 - 2;
+
+	@Test
+	public void testCompactProtocolNeedsLessBytes() throws IOException {
+		TrafficResult original = simulateMatch(false);
+		TrafficResult compact = simulateMatch(true);
+
+		System.out.println("lockstep traffic of a " + NUMBER_OF_PLAYERS + " player match:");
+		System.out.println("original protocol: " + original);
+		System.out.println("compact protocol:  " + compact);
+
+		assertTrue(compact.downstreamBytes < original.downstreamBytes * 0.6);
+		assertTrue(compact.upstreamBytes < original.upstreamBytes);
+		assertTrue(compact.downstreamPackets <= original.downstreamPackets);
+		assertTrue(compact.unlockedLockstep >= original.unlockedLockstep);
+		assertTrue(compact.getAverageTaskDelay() <= original.getAverageTaskDelay() + LOCKSTEP_PERIOD);
+	}
+
+	private static TrafficResult simulateMatch(boolean compact) throws IOException {
+		Random random = new Random(42);
+		TrafficResult result = new TrafficResult();
+		List<TaskPacket> sentTasks = new ArrayList<>();
+
+		RecordingMatch match = new RecordingMatch(result);
+		TaskCollectingListener taskCollector = new TaskCollectingListener();
+		TaskSendingTimerTask taskSender = new TaskSendingTimerTask(match.getMatchLogger(), taskCollector, match, compact);
+
+		for (int time = 0; time < SIMULATED_MINUTES * 60 * 1000; time++) {
+			if (time >= LOCKSTEP_PERIOD && (time - LOCKSTEP_PERIOD) % SENDING_PERIOD == 0) {
+				taskSender.run();
+			}
+
+			if (time % NetworkConstants.Client.TIME_SYNC_SEND_INTERVALL == 0) {
+				// the game time of the clients can not pass the unlocked locksteps
+				int clientTime = Math.min(time - LATENCY_MS, (result.unlockedLockstep + 1) * LOCKSTEP_PERIOD);
+				if (clientTime >= 0) {
+					taskSender.receivedLockstepAcknowledge(clientTime / LOCKSTEP_PERIOD);
+				}
+			}
+
+			if (time % LOCKSTEP_PERIOD == LOCKSTEP_PERIOD / 2) {
+				for (byte player = 0; player < NUMBER_OF_PLAYERS; player++) {
+					if (random.nextInt(60 * 1000 / LOCKSTEP_PERIOD) < TASKS_PER_PLAYER_AND_MINUTE) {
+						TaskPacket task = createTypicalTask(random, player);
+						sentTasks.add(task);
+						match.taskSendTimes.add(time);
+						sendTask(taskCollector, task, compact, result);
+					}
+				}
+			}
+		}
+
+		assertEquals(sentTasks, match.receivedTasks);
+		return result;
+	}
+
+	private static TaskPacket createTypicalTask(Random random, byte player) {
+		ShortPoint2D position = new ShortPoint2D(random.nextInt(400), random.nextInt(400));
+		int type = random.nextInt(10);
+
+		if (type < 4) {
+			return new MoveToGuiTask(player, position, createSelection(random));
+		} else if (type < 6) {
+			return new ConstructBuildingTask(EGuiAction.BUILD, player, position, EBuildingType.VALUES[random.nextInt(EBuildingType.NUMBER_OF_BUILDINGS)]);
+		} else if (type < 7) {
+			ShortPoint2D workArea = new ShortPoint2D(position.x + random.nextInt(21) - 10, position.y + random.nextInt(21) - 10);
+			return new WorkAreaGuiTask(EGuiAction.SET_WORK_AREA, player, workArea, position);
+		} else if (type < 8) {
+			return new MovableGuiTask(random.nextBoolean() ? EGuiAction.STOP_WORKING : EGuiAction.START_WORKING, player, createSelection(random));
+		} else if (type < 9) {
+			return new SetBuildingPriorityGuiTask(player, position, EPriority.VALUES[random.nextInt(EPriority.NUMBER_OF_PRIORITIES)]);
+		} else {
+			return new DestroyBuildingGuiTask(player, position);
+		}
+	}
+
+	private static List<Integer> createSelection(Random random) {
+		int size = 1 + random.nextInt(20);
+		List<Integer> selection = new ArrayList<>(size);
+		int id = 2000 + random.nextInt(10000);
+		for (int i = 0; i < size; i++) {
+			selection.add(id);
+			id += 1 + random.nextInt(4);
+		}
+		return selection;
+	}
+
+	private static void sendTask(TaskCollectingListener taskCollector, TaskPacket task, boolean compact, TrafficResult result) throws IOException {
+		byte[] data = serialize(compact ? new CompactTaskPacket(task) : task);
+		result.upstreamBytes += HEADER_LENGTH + data.length;
+
+		try {
+			taskCollector.receive(compact ? ENetworkKey.COMPACT_SYNCHRONOUS_TASK : ENetworkKey.SYNCHRONOUS_TASK, data.length,
+					new DataInputStream(new ByteArrayInputStream(data)));
+		} catch (ClassNotFoundException e) {
+			throw new IOException(e);
+		}
+	}
+
+	private static byte[] serialize(Packet packet) throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		DataOutputStream dos = new DataOutputStream(buffer);
+		packet.serialize(dos);
+		dos.flush();
+		return buffer.toByteArray();
+	}
+
+	/**
+	 * Counts the bytes sent to the players instead of sending them and decodes them like the clients.
+	 */
+	private static class RecordingMatch extends Match {
+		private final TrafficResult result;
+		private final TaskPacketListener clientListener;
+		private final List<TaskPacket> receivedTasks = new ArrayList<>();
+		private final List<Integer> taskSendTimes = new ArrayList<>();
+
+		RecordingMatch(TrafficResult result) {
+			super("LockstepTrafficTest", NUMBER_OF_PLAYERS, new MapInfoPacket("map", "map", "author", "author", NUMBER_OF_PLAYERS), 0L);
+			this.result = result;
+			this.clientListener = new TaskPacketListener(packet -> {
+				assertTrue(packet.getLockstepNumber() > result.unlockedLockstep);
+				result.unlockedLockstep = packet.getLockstepNumber();
+				for (TaskPacket task : packet.getTasks()) {
+					result.taskDelays += packet.getLockstepNumber() * LOCKSTEP_PERIOD - taskSendTimes.get(receivedTasks.size());
+					receivedTasks.add(task);
+				}
+				result.receivedTasks = receivedTasks.size();
+			});
+		}
+
+		@Override
+		public void broadcastMessage(ENetworkKey key, Packet packet) {
+			try {
+				byte[] data = serialize(packet);
+				result.downstreamBytes += NUMBER_OF_PLAYERS * (HEADER_LENGTH + data.length);
+				result.downstreamPackets += NUMBER_OF_PLAYERS;
+
+				clientListener.receive(key, data.length, new DataInputStream(new ByteArrayInputStream(data)));
+			} catch (IOException | ClassNotFoundException e) {
+				throw new AssertionError(e);
+			}
+		}
+	}
+
+	private static class TrafficResult {
+		private long upstreamBytes;
+		private long downstreamBytes;
+		private long downstreamPackets;
+		private int unlockedLockstep = -1;
+		private long taskDelays;
+		private int receivedTasks;
+
+		long getAverageTaskDelay() {
+			return taskDelays / receivedTasks;
+		}
+
+		@Override
+		public String toString() {
+			return String.format(Locale.ENGLISH, "upstream: %5d bytes/min   downstream: %6d bytes/min in %4d packets/min   average task delay: %3d ms",
+					upstreamBytes / SIMULATED_MINUTES, downstreamBytes / SIMULATED_MINUTES, downstreamPackets / SIMULATED_MINUTES, getAverageTaskDelay());
+		}
+	}
+}
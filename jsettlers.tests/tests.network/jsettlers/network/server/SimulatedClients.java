@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.server;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import jsettlers.network.NetworkConstants;
+import jsettlers.network.NetworkConstants.ENetworkKey;
+import jsettlers.network.common.packets.MatchInfoUpdatePacket;
+import jsettlers.network.common.packets.PlayerInfoPacket;
+import jsettlers.network.infrastructure.channel.packet.Packet;
+
+/**
+ * Clients of a {@link GameServerThread} on localhost that speak the network protocol without the client classes. All of them are served by one
+ * selector thread, so hundreds of clients can be simulated without adding hundreds of threads to the measured process.
+ * <p />
+ * The clients count the received packets of every key. The last received {@link MatchInfoUpdatePacket} of every client is kept.
+ * 
+ * @author agent
+ * 
+ */
+final class SimulatedClients implements Runnable {
+	private static final int HEADER_LENGTH = 5;
+	private static final int NUMBER_OF_KEYS = ENetworkKey.values().length;
+
+	private final Selector selector;
+	private final List<SocketChannel> sockets = new ArrayList<>();
+	private final Thread thread;
+	private volatile boolean canceled = false;
+
+	private AtomicIntegerArray receivedPackets;
+	private final AtomicLongArray lastReceiveTimes = new AtomicLongArray(NUMBER_OF_KEYS);
+	private AtomicReferenceArray<MatchInfoUpdatePacket> lastMatchInfoUpdates;
+
+	SimulatedClients() throws IOException {
+		selector = Selector.open();
+		thread = new Thread(this, "SimulatedClients");
+	}
+
+	/**
+	 * Connects the given number of clients and identifies them at the server.
+	 * 
+	 * @param numberOfClients
+	 *            The number of clients.
+	 */
+	void connect(int numberOfClients) throws IOException {
+		receivedPackets = new AtomicIntegerArray(numberOfClients * NUMBER_OF_KEYS);
+		lastMatchInfoUpdates = new AtomicReferenceArray<>(numberOfClients);
+
+		for (int i = 0; i < numberOfClients; i++) {
+			SocketChannel socket = SocketChannel.open(new InetSocketAddress("localhost", NetworkConstants.Server.SERVER_PORT));
+			socket.socket().setTcpNoDelay(true);
+			sockets.add(socket);
+
+			send(i, ENetworkKey.IDENTIFY_USER, new PlayerInfoPacket("client" + i, "Client " + i, false));
+
+			socket.configureBlocking(false);
+			socket.register(selector, SelectionKey.OP_READ, new ClientState(i));
+		}
+		thread.start();
+	}
+
+	/**
+	 * Sends a packet. The packet must be small enough to be written without waiting.
+	 */
+	void send(int client, ENetworkKey key, Packet packet) throws IOException {
+		ByteArrayOutputStream data = new ByteArrayOutputStream();
+		packet.serialize(new DataOutputStream(data));
+
+		ByteArrayOutputStream frame = new ByteArrayOutputStream();
+		DataOutputStream frameOut = new DataOutputStream(frame);
+		key.writeTo(frameOut);
+		frameOut.writeInt(data.size());
+		data.writeTo(frameOut);
+
+		SocketChannel socket = sockets.get(client);
+		ByteBuffer buffer = ByteBuffer.wrap(frame.toByteArray());
+		synchronized (socket) {
+			while (buffer.hasRemaining()) {
+				socket.write(buffer);
+			}
+		}
+	}
+
+	int getNumberOfReceivedPackets(int client, ENetworkKey key) {
+		return receivedPackets.get(client * NUMBER_OF_KEYS + key.ordinal());
+	}
+
+	int getNumberOfReceivedPackets(ENetworkKey key) {
+		int sum = 0;
+		for (int client = 0; client < sockets.size(); client++) {
+			sum += getNumberOfReceivedPackets(client, key);
+		}
+		return sum;
+	}
+
+	/**
+	 * @return The {@link System#nanoTime()} when the last packet with the given key has been received by any client.
+	 */
+	long getLastReceiveTime(ENetworkKey key) {
+		return lastReceiveTimes.get(key.ordinal());
+	}
+
+	MatchInfoUpdatePacket getLastMatchInfoUpdate(int client) {
+		return lastMatchInfoUpdates.get(client);
+	}
+
+	@Override
+	public void run() {
+		while (!canceled) {
+			try {
+				selector.select();
+
+				Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+				while (iterator.hasNext()) {
+					SelectionKey key = iterator.next();
+					iterator.remove();
+					if (key.isValid() && key.isReadable()) {
+						read((SocketChannel) key.channel(), (ClientState) key.attachment());
+					}
+				}
+			} catch (IOException e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	private void read(SocketChannel socket, ClientState client) throws IOException {
+		ByteBuffer buffer = client.buffer;
+		if (socket.read(buffer) < 0) {
+			socket.close();
+			return;
+		}
+
+		buffer.flip();
+		while (buffer.remaining() >= HEADER_LENGTH) {
+			int length = buffer.getInt(buffer.position() + 1);
+			if (buffer.remaining() < HEADER_LENGTH + length) {
+				break;
+			}
+
+			ENetworkKey key = ENetworkKey.fromOrdinal(buffer.get());
+			buffer.getInt();
+
+			if (key == ENetworkKey.MATCH_INFO_UPDATE) {
+				byte[] data = new byte[length];
+				buffer.get(data);
+				MatchInfoUpdatePacket packet = new MatchInfoUpdatePacket();
+				packet.deserialize(new DataInputStream(new ByteArrayInputStream(data)));
+				lastMatchInfoUpdates.set(client.index, packet);
+			} else {
+				buffer.position(buffer.position() + length);
+			}
+
+			lastReceiveTimes.set(key.ordinal(), System.nanoTime());
+			receivedPackets.incrementAndGet(client.index * NUMBER_OF_KEYS + key.ordinal());
+		}
+		buffer.compact();
+	}
+
+	void close() throws IOException, InterruptedException {
+		canceled = true;
+		selector.wakeup();
+		if (thread.isAlive()) {
+			thread.join();
+		}
+
+		for (SocketChannel socket : sockets) {
+			socket.close();
+		}
+		selector.close();
+	}
+
+	/**
+	 * Waits until the given condition is fulfilled.
+	 * 
+	 * @throws AssertionError
+	 *             If the condition is not fulfilled within the given time.
+	 */
+	static void waitFor(Condition condition, long timeoutMs) throws InterruptedException {
+		long end = System.currentTimeMillis() + timeoutMs;
+		while (!condition.isFulfilled()) {
+			if (System.currentTimeMillis() > end) {
+				throw new AssertionError("timeout");
+			}
+			Thread.sleep(1L);
+		}
+	}
+
+	interface Condition {
+		boolean isFulfilled();
+	}
+
+	private static class ClientState {
+		final int index;
+		final ByteBuffer buffer = ByteBuffer.allocateDirect(16 * 1024); // off heap, so only the server is measured
+
+		ClientState(int index) {
+			this.index = index;
+		}
+	}
+}
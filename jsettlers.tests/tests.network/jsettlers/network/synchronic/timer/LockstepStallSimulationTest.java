@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.synchronic.timer;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Timer;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import jsettlers.network.NetworkConstants;
+import jsettlers.network.NetworkConstants.ENetworkKey;
+import jsettlers.network.TestUtils;
+import jsettlers.network.client.task.TaskPacketListener;
+import jsettlers.network.client.time.TimeSyncSenderTimerTask;
+import jsettlers.network.common.packets.MapInfoPacket;
+import jsettlers.network.common.packets.TimeSyncPacket;
+import jsettlers.network.infrastructure.channel.AsyncChannel;
+import jsettlers.network.infrastructure.channel.GenericDeserializer;
+import jsettlers.network.infrastructure.channel.listeners.PacketChannelListener;
+import jsettlers.network.infrastructure.channel.packet.Packet;
+import jsettlers.network.infrastructure.channel.socket.delayed.DelayedSocketFactory;
+import jsettlers.network.server.match.Match;
+import jsettlers.network.server.match.lockstep.TaskCollectingListener;
+import jsettlers.network.server.match.lockstep.TaskSendingTimerTask;
+
+/**
+ * Runs a {@link NetworkTimer} against the lockstep unlocks of a {@link TaskSendingTimerTask} over a connection with latency and jitter simulated by
+ * the {@link DelayedSocketFactory}. Like in a real match, the server unlocks the locksteps acknowledged by the time synchronization of the client
+ * plus its lead. The lead is not adapted to the ping, so the default lead is too short for the jitter of the connection and the clock regularly
+ * reaches the end of the unlocked locksteps. The stalls of the clock are counted with and without adapting its speed to the buffered locksteps.
+ * Adapting the speed must reduce the stalls without losing game time.
+ * 
+ * @author agent
+ * 
+ */
+public class LockstepStallSimulationTest {
+	private static final int MIN_DELAY = 60;
+	private static final int MAX_DELAY = 220;
+	private static final int SIMULATED_SECONDS = 20;
+	private static final int SENDING_PERIOD = NetworkConstants.Client.LOCKSTEP_PERIOD / 2 - 2;
+
+	@Test
+	public void testAdaptiveSpeedReducesStalls() throws IOException, InterruptedException {
+		StallResult constantSpeed = simulateMatch(false);
+		StallResult adaptiveSpeed = simulateMatch(true);
+
+		System.out.println("lockstep stalls with " + MIN_DELAY + " - " + MAX_DELAY + " ms delay in both directions:");
+		System.out.println("constant speed: " + constantSpeed);
+		System.out.println("adaptive speed: " + adaptiveSpeed);
+
+		assertTrue(adaptiveSpeed.stalls < constantSpeed.stalls);
+		assertTrue(adaptiveSpeed.gameTime >= constantSpeed.gameTime);
+	}
+
+	private static StallResult simulateMatch(boolean adaptive) throws IOException, InterruptedException {
+		AsyncChannel[] channels = TestUtils.setUpAsyncLoopbackChannels(new DelayedSocketFactory(MIN_DELAY, MAX_DELAY));
+		AsyncChannel clientChannel = channels[0]; // like the NetworkClient, this channel initiated the pinging
+		AsyncChannel serverChannel = channels[1];
+
+		ScheduledExecutorService server = Executors.newSingleThreadScheduledExecutor();
+		Match match = new Match("LockstepStallSimulationTest", 1, new MapInfoPacket("map", "map", "author", "author", 1), 0L) {
+			@Override
+			public void broadcastMessage(ENetworkKey key, Packet packet) {
+				serverChannel.sendPacket(key, packet);
+			}
+		};
+		TaskSendingTimerTask taskSender = new TaskSendingTimerTask(match.getMatchLogger(), new TaskCollectingListener(), match, true);
+		serverChannel.registerListener(new PacketChannelListener<TimeSyncPacket>(ENetworkKey.TIME_SYNC, new GenericDeserializer<>(TimeSyncPacket.class)) {
+			@Override
+			protected void receivePacket(ENetworkKey key, TimeSyncPacket packet) {
+				server.execute(() -> taskSender.receivedLockstepAcknowledge(packet.getTime() / NetworkConstants.Client.LOCKSTEP_PERIOD));
+			}
+		});
+
+		StallResult result = new StallResult();
+		NetworkTimer clock = new NetworkTimer();
+		clock.setAdaptiveSpeed(adaptive);
+		clock.setProfiler(result);
+		clientChannel.registerListener(new TaskPacketListener(clock));
+		Timer timeSyncTimer = new Timer("TimeSyncTimer");
+
+		server.scheduleAtFixedRate(taskSender, 0, SENDING_PERIOD, TimeUnit.MILLISECONDS);
+		timeSyncTimer.schedule(new TimeSyncSenderTimerTask(clientChannel, clock), 0, NetworkConstants.Client.TIME_SYNC_SEND_INTERVALL);
+		clock.startExecution();
+
+		Thread.sleep(SIMULATED_SECONDS * 1000);
+
+		clock.stopExecution();
+		timeSyncTimer.cancel();
+		server.shutdownNow();
+		clientChannel.close();
+		serverChannel.close();
+
+		result.gameTime = clock.getTime();
+		return result;
+	}
+
+	private static class StallResult implements INetworkTimerProfiler {
+		private int stalls;
+		private long stalledNanos;
+		private int gameTime;
+
+		@Override
+		public synchronized void lockstepWaited(long nanos) {
+			stalls++;
+			stalledNanos += nanos;
+		}
+
+		@Override
+		public void runExecuted(long nanos) {
+		}
+
+		@Override
+		public synchronized String toString() {
+			return String.format(Locale.ENGLISH, "%3d stalls   stalled: %5d ms   game time after %d s: %5d ms", stalls, stalledNanos / 1000000,
+					SIMULATED_SECONDS, gameTime);
+		}
+	}
+}
@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.borders;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.util.Arrays;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.junit.Test;
+
+import jsettlers.common.position.ShortPoint2D;
+
+/**
+ * Compares the marking of positions in the {@link BordersThread} with the {@link LinkedBlockingQueue} of points it used before for large
+ * territory changes. A conquered tower area with a radius of 40 changes its player on a 768x768 map. Every changed position is enqueued twice, like
+ * the grid does when a position changes its player. The area is occupied by two players in turn and freed again.
+ * <p />
+ * Both variants work on their own grid. After every change, the borders calculated with the bitmap must equal the ones calculated with the queue.
+ * The time the game thread needs to enqueue the positions and the time until all borders are calculated are printed.
+ *
+ * @author agent
+ */
+public class BordersThreadBenchmarkTest {
+	private static final short MAP_SIZE = 768;
+	private static final int RADIUS = 40;
+	private static final int WARMUP_RUNS = 50;
+	private static final int MEASUREMENT_RUNS = 100;
+	private static final byte[] PLAYERS = { 1, 2, -1 };
+
+	@Test
+	public void benchmark() throws InterruptedException {
+		BenchmarkGrid queueGrid = new BenchmarkGrid();
+		BenchmarkGrid bitmapGrid = new BenchmarkGrid();
+		BordersThread queueBordersThread = new BordersThread(queueGrid, MAP_SIZE, MAP_SIZE);
+		BordersThread bitmapBordersThread = new BordersThread(bitmapGrid, MAP_SIZE, MAP_SIZE);
+
+		long[] queueTimes = new long[2];
+		long[] bitmapTimes = new long[2];
+		for (int run = 0; run < WARMUP_RUNS + MEASUREMENT_RUNS; run++) {
+			boolean measure = run >= WARMUP_RUNS;
+			byte player = PLAYERS[run % PLAYERS.length];
+			runQueue(queueBordersThread, queueGrid, player, measure ? queueTimes : new long[2]);
+			runBitmap(bitmapBordersThread, bitmapGrid, player, measure ? bitmapTimes : new long[2]);
+
+			assertArrayEquals("borders differ after run " + run, queueGrid.borders, bitmapGrid.borders);
+		}
+
+		System.out.println("BordersThread, conquest with radius " + RADIUS + ": queue: enqueue " + queueTimes[0] / MEASUREMENT_RUNS / 1000
+				+ " us, until calculated " + queueTimes[1] / MEASUREMENT_RUNS / 1000 + " us; bitmap: enqueue " + bitmapTimes[0] / MEASUREMENT_RUNS / 1000
+				+ " us, until calculated " + bitmapTimes[1] / MEASUREMENT_RUNS / 1000 + " us");
+	}
+
+	private void runQueue(BordersThread bordersThread, BenchmarkGrid grid, byte player, long[] times) {
+		LinkedBlockingQueue<ShortPoint2D> queue = new LinkedBlockingQueue<>();
+		long start = System.nanoTime();
+		for (int y = MAP_SIZE / 2 - RADIUS; y <= MAP_SIZE / 2 + RADIUS; y++) {
+			for (int x = MAP_SIZE / 2 - RADIUS; x <= MAP_SIZE / 2 + RADIUS; x++) {
+				if (grid.changePlayer(x, y, player)) {
+					queue.offer(new ShortPoint2D(x, y));
+					queue.offer(new ShortPoint2D(x, y));
+				}
+			}
+		}
+		long enqueued = System.nanoTime();
+
+		ShortPoint2D position;
+		while ((position = queue.poll()) != null) {
+			bordersThread.calculateForPosition(position.x, position.y);
+		}
+		long calculated = System.nanoTime();
+
+		times[0] += enqueued - start;
+		times[1] += calculated - start;
+	}
+
+	private void runBitmap(BordersThread bordersThread, BenchmarkGrid grid, byte player, long[] times) throws InterruptedException {
+		long start = System.nanoTime();
+		for (int y = MAP_SIZE / 2 - RADIUS; y <= MAP_SIZE / 2 + RADIUS; y++) {
+			for (int x = MAP_SIZE / 2 - RADIUS; x <= MAP_SIZE / 2 + RADIUS; x++) {
+				if (grid.changePlayer(x, y, player)) {
+					bordersThread.checkPosition(x, y);
+					bordersThread.checkPosition(x, y);
+				}
+			}
+		}
+		long enqueued = System.nanoTime();
+
+		bordersThread.processMarkedPositions(false);
+		long calculated = System.nanoTime();
+
+		times[0] += enqueued - start;
+		times[1] += calculated - start;
+	}
+
+	private static class BenchmarkGrid implements IBordersThreadGrid {
+		private final byte[] players = new byte[MAP_SIZE * MAP_SIZE];
+		private final boolean[] borders = new boolean[MAP_SIZE * MAP_SIZE];
+
+		BenchmarkGrid() {
+			Arrays.fill(players, (byte) 0);
+		}
+
+		boolean changePlayer(int x, int y, byte player) {
+			int dx = x - MAP_SIZE / 2;
+			int dy = y - MAP_SIZE / 2;
+			if (dx * dx + dy * dy > RADIUS * RADIUS) {
+				return false;
+			}
+			players[x + y * MAP_SIZE] = player;
+			return true;
+		}
+
+		@Override
+		public byte getPlayerIdAt(int x, int y) {
+			return players[x + y * MAP_SIZE];
+		}
+
+		@Override
+		public void setBorderAt(int x, int y, boolean isBorder) {
+			borders[x + y * MAP_SIZE] = isBorder;
+		}
+
+		@Override
+		public boolean isInBounds(int x, int y) {
+			return x >= 0 && x < MAP_SIZE && y >= 0 && y < MAP_SIZE;
+		}
+
+		@Override
+		public short getBlockedPartition(int x, int y) {
+			return 1;
+		}
+	}
+}
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.fogofwar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.junit.Test;
+
+import jsettlers.common.mapobject.IMapObject;
+import jsettlers.common.movable.IMovable;
+import jsettlers.common.player.IPlayer;
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.constants.Constants;
+
+/**
+ * Measures the memory and the update costs of the {@link TeamVisibilityGrid} for 8 teams on a map of the size of the largest bundled map
+ * (768x768). Every team has its buildings and movables spread over its own sector of the map, every sixth building is a tower. Between two updates, a tenth of the movables walk
+ * one step, like the settlers do in the 800 ms between two updates of the game.
+ * <p />
+ * The average time per update and the used memory are printed. Afterwards, the incrementally updated visibility is compared to the one of a
+ * grid that applies all views at once.
+ *
+ * @author agent
+ */
+public class TeamVisibilityGridBenchmarkTest {
+	private static final short MAP_SIZE = 768;
+	private static final int TEAMS = 8;
+	private static final int BUILDINGS_PER_TEAM = 60;
+	private static final int MOVABLES_PER_TEAM = 400;
+	private static final int WARMUP_UPDATES = 50;
+	private static final int MEASUREMENT_UPDATES = 200;
+
+	private final ConcurrentLinkedQueue<BenchmarkViewer> movables = new ConcurrentLinkedQueue<>();
+	private final ConcurrentLinkedQueue<BenchmarkViewer> buildings = new ConcurrentLinkedQueue<>();
+
+	@Test
+	public void benchmark() {
+		Random random = new Random(42);
+		for (byte team = 0; team < TEAMS; team++) {
+			IPlayer player = new IPlayer.DummyPlayer(team);
+			int sectorX = (team % 4) * MAP_SIZE / 4;
+			int sectorY = (team / 4) * MAP_SIZE / 2;
+
+			for (int i = 0; i < BUILDINGS_PER_TEAM; i++) {
+				buildings.add(new BenchmarkViewer(randomPosition(random, sectorX, sectorY), i % 6 == 0 ? 40 : 5, player));
+			}
+			for (int i = 0; i < MOVABLES_PER_TEAM; i++) {
+				movables.add(new BenchmarkViewer(randomPosition(random, sectorX, sectorY), Constants.MOVABLE_VIEW_DISTANCE, player));
+			}
+		}
+
+		TeamVisibilityGrid grid = new TeamVisibilityGrid(MAP_SIZE, MAP_SIZE, new BenchmarkGrid());
+		long start = System.nanoTime();
+		grid.update();
+		long initialTime = System.nanoTime() - start;
+
+		runUpdates(grid, random, WARMUP_UPDATES);
+		start = System.nanoTime();
+		runUpdates(grid, random, MEASUREMENT_UPDATES);
+		long time = System.nanoTime() - start;
+
+		long bitsBytes = 2L * TEAMS * MAP_SIZE * MAP_SIZE / 8;
+		System.out.println("TeamVisibilityGrid, " + TEAMS + " teams on " + MAP_SIZE + "x" + MAP_SIZE + " with " + buildings.size() + " buildings and "
+				+ movables.size() + " movables: initial update: " + initialTime / 1000000 + " ms, update: " + time / MEASUREMENT_UPDATES / 1000
+				+ " us, memory: " + grid.getUsedBytes() / 1024 + " KiB (bits: " + bitsBytes / 1024 + " KiB, counters of seen chunks: "
+				+ (grid.getUsedBytes() - bitsBytes) / 1024 + " KiB)");
+
+		assertEqualsFullRecomputation(grid);
+	}
+
+	private void assertEqualsFullRecomputation(TeamVisibilityGrid grid) {
+		TeamVisibilityGrid recomputed = new TeamVisibilityGrid(MAP_SIZE, MAP_SIZE, new BenchmarkGrid());
+		recomputed.update();
+
+		for (byte team = 0; team < TEAMS; team++) {
+			for (int y = 0; y < MAP_SIZE; y++) {
+				for (int x = 0; x < MAP_SIZE; x++) {
+					assertEquals(recomputed.isVisible(team, x, y), grid.isVisible(team, x, y));
+					assertTrue(!recomputed.isExplored(team, x, y) || grid.isExplored(team, x, y));
+				}
+			}
+		}
+	}
+
+	private void runUpdates(TeamVisibilityGrid grid, Random random, int updates) {
+		for (int update = 0; update < updates; update++) {
+			for (BenchmarkViewer movable : movables) {
+				if (random.nextInt(10) == 0) {
+					ShortPoint2D position = movable.position;
+					int x = Math.max(0, Math.min(MAP_SIZE - 1, position.x + random.nextInt(3) - 1));
+					int y = Math.max(0, Math.min(MAP_SIZE - 1, position.y + random.nextInt(3) - 1));
+					movable.position = new ShortPoint2D(x, y);
+				}
+			}
+			grid.update();
+		}
+	}
+
+	private static ShortPoint2D randomPosition(Random random, int sectorX, int sectorY) {
+		return new ShortPoint2D(sectorX + random.nextInt(MAP_SIZE / 4), sectorY + random.nextInt(MAP_SIZE / 2));
+	}
+
+	private static class BenchmarkViewer implements IViewDistancable {
+		private final IPlayer player;
+		private final short viewDistance;
+		private ShortPoint2D position;
+
+		BenchmarkViewer(ShortPoint2D position, int viewDistance, IPlayer player) {
+			this.position = position;
+			this.viewDistance = (short) viewDistance;
+			this.player = player;
+		}
+
+		@Override
+		public ShortPoint2D getPos() {
+			return position;
+		}
+
+		@Override
+		public IPlayer getPlayer() {
+			return player;
+		}
+
+		@Override
+		public short getViewDistance() {
+			return viewDistance;
+		}
+	}
+
+	private class BenchmarkGrid implements IFogOfWarGrid {
+		@Override
+		public IMovable getMovableAt(short x, short y) {
+			return null;
+		}
+
+		@Override
+		public IMapObject getMapObjectsAt(short x, short y) {
+			return null;
+		}
+
+		@Override
+		public ConcurrentLinkedQueue<? extends IViewDistancable> getMovableViewDistancables() {
+			return movables;
+		}
+
+		@Override
+		public ConcurrentLinkedQueue<? extends IViewDistancable> getBuildingViewDistancables() {
+			return buildings;
+		}
+	}
+}
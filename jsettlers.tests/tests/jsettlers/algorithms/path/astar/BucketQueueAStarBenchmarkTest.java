@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.astar;
+
+import static org.junit.Assert.assertNotNull;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.Path;
+import jsettlers.common.Color;
+import jsettlers.common.player.IPlayer;
+import jsettlers.common.position.ShortPoint2D;
+
+/**
+ * Measures the latency of short, medium and long path searches of the {@link BucketQueueAStar} on a 1024x1024 grid with some scattered obstacles.
+ * <p />
+ * Every scenario is run with a number of warm up iterations first, then the average time per search over the measurement iterations is printed.
+ * 
+ * @author agent
+ * 
+ */
+public class BucketQueueAStarBenchmarkTest {
+	private static final short SIZE = 1024;
+	private static final int WARMUP_ITERATIONS = 3;
+	private static final int MEASUREMENT_ITERATIONS = 5;
+
+	private final BenchmarkMap map = new BenchmarkMap(SIZE, SIZE, 4321);
+	private final BucketQueueAStar aStar = new BucketQueueAStar(map, SIZE, SIZE);
+
+	@Test
+	public void benchmarkShortPaths() {
+		runBenchmark("short (3 - 5 steps)", 3, 5, 20000);
+	}
+
+	@Test
+	public void benchmarkMediumPaths() {
+		runBenchmark("medium (30 - 50 steps)", 30, 50, 2000);
+	}
+
+	@Test
+	public void benchmarkLongPaths() {
+		runBenchmark("long (300 - 500 steps)", 300, 500, 50);
+	}
+
+	private void runBenchmark(String name, int minDistance, int maxDistance, int searchesPerIteration) {
+		short[][] requests = createRequests(minDistance, maxDistance, searchesPerIteration);
+
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			runIteration(requests);
+		}
+
+		long totalTime = 0;
+		for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+			totalTime += runIteration(requests);
+		}
+
+		long averageNanos = totalTime / ((long) MEASUREMENT_ITERATIONS * searchesPerIteration);
+		System.out.println("BucketQueueAStar " + SIZE + "x" + SIZE + ", " + name + ": " + averageNanos / 1000f + " us/search");
+	}
+
+	private long runIteration(short[][] requests) {
+		long start = System.nanoTime();
+		for (short[] request : requests) {
+			Path path = aStar.findPath(map.requester, request[0], request[1], request[2], request[3]);
+			assertNotNull(path);
+		}
+		return System.nanoTime() - start;
+	}
+
+	private short[][] createRequests(int minDistance, int maxDistance, int count) {
+		Random random = new Random(minDistance);
+		short[][] requests = new short[count][];
+
+		int created = 0;
+		while (created < count) {
+			short sx = (short) random.nextInt(SIZE);
+			short sy = (short) random.nextInt(SIZE);
+			short tx = (short) (sx + random.nextInt(2 * maxDistance + 1) - maxDistance);
+			short ty = (short) (sy + random.nextInt(2 * maxDistance + 1) - maxDistance);
+
+			int distance = ShortPoint2D.getOnGridDist(tx - sx, ty - sy);
+			if (0 <= tx && tx < SIZE && 0 <= ty && ty < SIZE && minDistance <= distance && distance <= maxDistance
+					&& !map.isBlocked(sx, sy) && !map.isBlocked(tx, ty)
+					&& aStar.findPath(map.requester, sx, sy, tx, ty) != null) {
+				requests[created++] = new short[] { sx, sy, tx, ty };
+			}
+		}
+		return requests;
+	}
+
+	private static class BenchmarkMap implements IAStarPathMap {
+		private final short width;
+		private final boolean[] blocked;
+
+		private final IPathCalculatable requester = new IPathCalculatable() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public ShortPoint2D getPos() {
+				return null;
+			}
+
+			@Override
+			public IPlayer getPlayer() {
+				return new IPlayer.DummyPlayer();
+			}
+
+			@Override
+			public boolean needsPlayersGround() {
+				return false;
+			}
+		};
+
+		BenchmarkMap(short width, short height, long seed) {
+			this.width = width;
+			this.blocked = new boolean[width * height];
+
+			Random random = new Random(seed);
+			for (int i = 0; i < blocked.length; i++) {
+				blocked[i] = random.nextInt(10) == 0;
+			}
+		}
+
+		boolean isBlocked(int x, int y) {
+			return blocked[y * width + x];
+		}
+
+		@Override
+		public boolean isBlocked(IPathCalculatable requester, int x, int y) {
+			return isBlocked(x, y);
+		}
+
+		@Override
+		public float getCost(int sx, int sy, int tx, int ty) {
+			return 1;
+		}
+
+		@Override
+		public void markAsOpen(int x, int y) {
+		}
+
+		@Override
+		public void markAsClosed(int x, int y) {
+		}
+
+		@Override
+		public void setDebugColor(int x, int y, Color color) {
+		}
+
+		@Override
+		public short getBlockedPartition(int x, int y) {
+			return 1;
+		}
+
+		@Override
+		public int getDynamicBlockedPartition(int x, int y) {
+			return 1;
+		}
+	}
+}
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.map.grid.partition.manager.datastructures;
+
+import static org.junit.Assert.assertSame;
+
+import java.util.LinkedList;
+import java.util.Random;
+
+import org.junit.Test;
+
+import jsettlers.common.position.ILocatable;
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.common.utils.MathUtils;
+
+/**
+ * Compares the {@link PositionableList} with the linear search over a {@link LinkedList} it replaced. The objects are spread over a 300x300 area
+ * like the jobless bearers of a big partition. Every operation takes the object closest to a random position and inserts it again at another
+ * random position, like a bearer that gets a job and becomes jobless again later.
+ * <p />
+ * The time per operation is printed for 100, 1000 and 10000 objects.
+ *
+ * @author agent
+ */
+public class PositionableListBenchmarkTest {
+	private static final int AREA_SIZE = 300;
+	private static final int WARMUP_OPERATIONS = 20000;
+	private static final int MEASUREMENT_OPERATIONS = 20000;
+
+	@Test
+	public void benchmark100() {
+		benchmark(100);
+	}
+
+	@Test
+	public void benchmark1000() {
+		benchmark(1000);
+	}
+
+	@Test
+	public void benchmark10000() {
+		benchmark(10000);
+	}
+
+	private void benchmark(int numberOfObjects) {
+		PositionableList<BenchmarkObject> list = new PositionableList<>();
+		LinearList linearList = new LinearList();
+		Random random = new Random(42);
+		for (int i = 0; i < numberOfObjects; i++) {
+			ShortPoint2D position = randomPosition(random);
+			list.insert(new BenchmarkObject(position));
+			linearList.insert(new BenchmarkObject(position));
+		}
+
+		ShortPoint2D[] positions = new ShortPoint2D[WARMUP_OPERATIONS + MEASUREMENT_OPERATIONS];
+		for (int i = 0; i < positions.length; i++) {
+			positions[i] = randomPosition(random);
+		}
+
+		runOperations(list, positions, 0, WARMUP_OPERATIONS);
+		long start = System.nanoTime();
+		runOperations(list, positions, WARMUP_OPERATIONS, MEASUREMENT_OPERATIONS);
+		long time = System.nanoTime() - start;
+
+		runOperations(linearList, positions, 0, WARMUP_OPERATIONS);
+		long linearStart = System.nanoTime();
+		runOperations(linearList, positions, WARMUP_OPERATIONS, MEASUREMENT_OPERATIONS);
+		long linearTime = System.nanoTime() - linearStart;
+
+		for (int i = 0; i < 100; i++) { // both lists hold the same positions, so they have to find the same ones
+			ShortPoint2D position = randomPosition(random);
+			assertSame(linearList.removeObjectNextTo(position).getPos(), list.removeObjectNextTo(position).getPos());
+		}
+
+		System.out.println("PositionableList, " + numberOfObjects + " objects: grid buckets: " + time / MEASUREMENT_OPERATIONS + " ns/op, linked list: "
+				+ linearTime / MEASUREMENT_OPERATIONS + " ns/op");
+	}
+
+	private static void runOperations(PositionableList<BenchmarkObject> list, ShortPoint2D[] positions, int first, int count) {
+		for (int i = first; i < first + count; i++) {
+			BenchmarkObject object = list.removeObjectNextTo(positions[i]);
+			object.position = positions[positions.length - 1 - i];
+			list.insert(object);
+		}
+	}
+
+	private static void runOperations(LinearList list, ShortPoint2D[] positions, int first, int count) {
+		for (int i = first; i < first + count; i++) {
+			BenchmarkObject object = list.removeObjectNextTo(positions[i]);
+			object.position = positions[positions.length - 1 - i];
+			list.insert(object);
+		}
+	}
+
+	private static ShortPoint2D randomPosition(Random random) {
+		return new ShortPoint2D(random.nextInt(AREA_SIZE), random.nextInt(AREA_SIZE));
+	}
+
+	/**
+	 * The linear search the {@link PositionableList} used before.
+	 */
+	private static class LinearList {
+		private final LinkedList<BenchmarkObject> data = new LinkedList<>();
+
+		void insert(BenchmarkObject object) {
+			data.add(object);
+		}
+
+		BenchmarkObject removeObjectNextTo(ShortPoint2D position) {
+			int bestDistance = Integer.MAX_VALUE;
+			BenchmarkObject currBest = null;
+
+			for (BenchmarkObject currEntry : data) {
+				int currDist = MathUtils.squareHypot(position, currEntry.getPos());
+
+				if (bestDistance > currDist) {
+					bestDistance = currDist;
+					currBest = currEntry;
+				}
+			}
+
+			if (currBest != null) {
+				data.remove(currBest);
+			}
+			return currBest;
+		}
+	}
+
+	private static class BenchmarkObject implements ILocatable {
+		ShortPoint2D position;
+
+		BenchmarkObject(ShortPoint2D position) {
+			this.position = position;
+		}
+
+		@Override
+		public ShortPoint2D getPos() {
+			return position;
+		}
+	}
+}
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.timer;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Test;
+
+import jsettlers.network.client.interfaces.IGameClock;
+import jsettlers.network.synchronic.timer.INetworkTimerProfiler;
+import jsettlers.network.synchronic.timer.INetworkTimerable;
+import jsettlers.network.synchronic.timer.ITaskExecutor;
+
+/**
+ * Measures the overhead of the {@link RescheduleTimer} with 100k {@link IScheduledTimerable}s that reschedule themselves with mixed delays between
+ * 25 ms and 30 s.
+ * <p />
+ * After some warm up ticks, the average time per tick and per executed timerable is printed.
+ * 
+ * @author agent
+ * 
+ */
+public class RescheduleTimerBenchmarkTest {
+	private static final int NUMBER_OF_TIMERABLES = 100000;
+	private static final int WARMUP_TICKS = 4000;
+	private static final int MEASUREMENT_TICKS = 8000;
+
+	private final BenchmarkClock clock = new BenchmarkClock();
+	private final RescheduleTimer timer = new RescheduleTimer();
+
+	@After
+	public void tearDown() {
+		timer.stop();
+	}
+
+	@Test
+	public void benchmarkMixedDelays() {
+		timer.schedule(clock);
+
+		Random random = new Random(42);
+		BenchmarkTimerable[] timerables = new BenchmarkTimerable[NUMBER_OF_TIMERABLES];
+
+		long startScheduling = System.nanoTime();
+		for (int i = 0; i < NUMBER_OF_TIMERABLES; i++) {
+			timerables[i] = new BenchmarkTimerable(random.nextLong());
+			timer.add(timerables[i], timerables[i].nextDelay());
+		}
+		long schedulingTime = System.nanoTime() - startScheduling;
+
+		runTicks(WARMUP_TICKS);
+		long eventsBefore = countEvents(timerables);
+
+		long start = System.nanoTime();
+		runTicks(MEASUREMENT_TICKS);
+		long time = System.nanoTime() - start;
+
+		long events = countEvents(timerables) - eventsBefore;
+		assertTrue(events > 0);
+
+		System.out.println("RescheduleTimer, " + NUMBER_OF_TIMERABLES + " timerables: scheduling: " + schedulingTime / NUMBER_OF_TIMERABLES + " ns/add, "
+				+ time / MEASUREMENT_TICKS / 1000f + " us/tick, " + time / events + " ns/event (" + events / MEASUREMENT_TICKS + " events/tick)");
+	}
+
+	private void runTicks(int ticks) {
+		for (int i = 0; i < ticks; i++) {
+			clock.timerable.timerEvent();
+		}
+	}
+
+	private static long countEvents(BenchmarkTimerable[] timerables) {
+		long events = 0;
+		for (BenchmarkTimerable timerable : timerables) {
+			events += timerable.events;
+		}
+		return events;
+	}
+
+	private static class BenchmarkTimerable implements IScheduledTimerable {
+		private static final long serialVersionUID = 1L;
+
+		private long state;
+		long events;
+
+		BenchmarkTimerable(long seed) {
+			this.state = seed;
+		}
+
+		int nextDelay() {
+			state = state * 6364136223846793005L + 1442695040888963407L;
+			int value = (int) (state >>> 33);
+			switch (value % 10) {
+			case 0:
+				return 5000 + value % 25000; // long delays like the ones of buildings
+			case 1:
+			case 2:
+			case 3:
+				return 500 + value % 4500;
+			default:
+				return 25 + value % 475; // short delays like the ones of walking movables
+			}
+		}
+
+		@Override
+		public int timerEvent() {
+			events++;
+			return nextDelay();
+		}
+
+		@Override
+		public void kill() {
+		}
+	}
+
+	private static class BenchmarkClock implements IGameClock {
+		INetworkTimerable timerable;
+
+		@Override
+		public void schedule(INetworkTimerable timerable, short delay) {
+			this.timerable = timerable;
+		}
+
+		@Override
+		public void remove(INetworkTimerable timerable) {
+			this.timerable = null;
+		}
+
+		@Override
+		public int getTime() {
+			return 0;
+		}
+
+		@Override
+		public void setTime(int newTime) {
+		}
+
+		@Override
+		public void setProfiler(INetworkTimerProfiler profiler) {
+		}
+
+		@Override
+		public void setTaskExecutor(ITaskExecutor taskExecutor) {
+		}
+
+		@Override
+		public void multiplyGameSpeed(float factor) {
+		}
+
+		@Override
+		public void setGameSpeed(float speedFactor) {
+		}
+
+		@Override
+		public void invertPausing() {
+		}
+
+		@Override
+		public void setPausing(boolean b) {
+		}
+
+		@Override
+		public boolean isPausing() {
+			return false;
+		}
+
+		@Override
+		public void fastForward() {
+		}
+
+		@Override
+		public void startExecution() {
+		}
+
+		@Override
+		public void stopExecution() {
+		}
+
+		@Override
+		public void setReplayLogStream(DataOutputStream replayFileStream) {
+		}
+
+		@Override
+		public void saveRemainingTasks(DataOutputStream dos) {
+		}
+
+		@Override
+		public void loadReplayLogFromStream(DataInputStream dataInputStream) {
+		}
+
+		@Override
+		public void fastForwardTo(int targetGameTime) {
+		}
+	}
+}
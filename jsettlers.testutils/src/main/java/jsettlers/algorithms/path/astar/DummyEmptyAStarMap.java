@@ -61,4 +61,9 @@ public class DummyEmptyAStarMap implements IAStarPathMap {
 	public short getBlockedPartition(int x, int y) {
 		return 1;
 	}
+
+	@Override
+	public int getDynamicBlockedPartition(int x, int y) {
+		return 1;
+	}
 }
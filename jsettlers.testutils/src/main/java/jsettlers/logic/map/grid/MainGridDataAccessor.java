@@ -17,6 +17,7 @@ package jsettlers.logic.map.grid;
 import jsettlers.logic.map.grid.flags.FlagsGrid;
 import jsettlers.logic.map.grid.landscape.LandscapeGrid;
 import jsettlers.logic.map.grid.partition.PartitionsGrid;
+import jsettlers.logic.movable.interfaces.AbstractMovableGrid;
 
 public class MainGridDataAccessor {
 	private MainGrid grid;
@@ -44,4 +45,8 @@ public class MainGridDataAccessor {
 	public PartitionsGrid getPartitionsGrid() {
 		return grid.partitionsGrid;
 	}
+
+	public AbstractMovableGrid getMovableGrid() {
+		return grid.movablePathfinderGrid;
+	}
 }
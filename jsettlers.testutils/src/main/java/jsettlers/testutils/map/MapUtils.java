@@ -23,7 +23,7 @@ import java.io.ObjectInputStream;
 
 import jsettlers.common.menu.UIState;
 import jsettlers.logic.constants.ExtendedRandom;
-import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.map.grid.MainGrid;
 import jsettlers.logic.map.loading.MapLoadException;
 import jsettlers.logic.map.loading.MapLoader;
@@ -51,18 +51,16 @@ public final class MapUtils {
 		try (InputStream expectedStream = RemakeMapLoader.getMapInputStream(expectedSavegame.getListedMap());
 				CountingInputStream actualStream = new CountingInputStream(RemakeMapLoader.getMapInputStream(actualSavegame.getListedMap()))) {
 			MapFileHeader expectedHeader = MapFileHeader.readFromStream(expectedStream);
-			MatchConstants.init(new NetworkTimer(true), 0L);
-			MatchConstants.deserialize(new ObjectInputStream(expectedStream));
-			int expectedTime = MatchConstants.clock().getTime();
-			ExtendedRandom expectedRandom = MatchConstants.random();
-			MatchConstants.clearState();
+			MatchContext expectedContext = new MatchContext(new NetworkTimer(true), 0L);
+			expectedContext.deserialize(new ObjectInputStream(expectedStream));
+			int expectedTime = expectedContext.clock().getTime();
+			ExtendedRandom expectedRandom = expectedContext.random();
 
 			MapFileHeader actualHeader = MapFileHeader.readFromStream(actualStream);
-			MatchConstants.init(new NetworkTimer(true), 1L);
-			MatchConstants.deserialize(new ObjectInputStream(actualStream));
-			int actualTime = MatchConstants.clock().getTime();
-			ExtendedRandom actualRandom = MatchConstants.random();
-			MatchConstants.clearState();
+			MatchContext actualContext = new MatchContext(new NetworkTimer(true), 1L);
+			actualContext.deserialize(new ObjectInputStream(actualStream));
+			int actualTime = actualContext.clock().getTime();
+			ExtendedRandom actualRandom = actualContext.random();
 
 			assertEquals("Map ID", expectedHeader.getBaseMapId(), actualHeader.getBaseMapId());
 			assertEquals("Map time", expectedTime, actualTime);
@@ -82,7 +80,7 @@ public final class MapUtils {
 		try {
 			System.out.println("Writing savegame with final state of failed test.");
 			mainGrid.save(playerId, uiState);
-			return ReplayUtils.getNewestSavegame();
+			return mainGrid.getLastSavegame();
 		} catch (IOException e) {
 			System.err.println("Tried to create a savegame but failed:");
 			e.printStackTrace();
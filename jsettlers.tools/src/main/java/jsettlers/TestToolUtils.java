@@ -23,6 +23,7 @@ import jsettlers.common.menu.IMapInterfaceConnector;
 import jsettlers.common.menu.IStartedGame;
 import jsettlers.common.player.ECivilisation;
 import jsettlers.graphics.map.draw.ImageProvider;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.player.Player;
 import jsettlers.logic.player.Team;
 import jsettlers.main.swing.SwingManagedJSettlers;
@@ -33,7 +34,7 @@ import java.io.IOException;
 
 public class TestToolUtils extends TestUtils {
 	public static IMapInterfaceConnector openTestWindow(final IGraphicsGrid map) throws JSettlersLookAndFeelExecption, IOException {
-		Player player = new Player((byte) 0, new Team((byte) 0), (byte) 42, EPlayerType.HUMAN, ECivilisation.ROMAN);
+		Player player = new Player((byte) 0, new Team((byte) 0), (byte) 42, EPlayerType.HUMAN, ECivilisation.ROMAN, new MatchContext(null, 0));
 		IStartedGame game = new FakeMapGame(map, player);
 		return openTestWindow(game);
 	}
@@ -21,7 +21,7 @@ import jsettlers.TestToolUtils;
 import jsettlers.common.Color;
 import jsettlers.common.map.EDebugColorModes;
 import jsettlers.logic.map.loading.MapLoadException;
-import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.map.grid.partition.PartitionsGrid;
 import jsettlers.logic.map.loading.list.MapList;
 import jsettlers.main.swing.SwingManagedJSettlers;
@@ -33,9 +33,8 @@ public class TestExecutionWithDebugDisplay {
 
 	public static void main(String args[]) throws MapLoadException, InterruptedException, JSettlersLookAndFeelExecption, IOException, SwingResourceLoader.ResourceSetupException {
 		SwingManagedJSettlers.setupResources(true, args);
-		MatchConstants.init(new NetworkTimer(true), 0);
-
-		MainGrid grid = MapList.getDefaultList().getMapByName("SoldierFightingTestMap").loadMainGrid(null).getMainGrid();
+		MatchContext context = new MatchContext(new NetworkTimer(true), 0);
+		MainGrid grid = MapList.getDefaultList().getMapByName("SoldierFightingTestMap").loadMainGrid(null, context).getMainGrid();
 		MainGridDataAccessor gridAccessor = new MainGridDataAccessor(grid);
 
 		short width = gridAccessor.getWidth();
@@ -37,6 +37,7 @@ import jsettlers.common.movable.EDirection;
 import jsettlers.common.movable.IMovable;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.common.action.Action;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.player.PlayerSetting;
 import jsettlers.main.swing.lookandfeel.JSettlersLookAndFeelExecption;
 import jsettlers.main.swing.resources.SwingResourceLoader;
@@ -75,7 +76,7 @@ public class PartitionsGridTestingWnd {
 
 	private PartitionsGridTestingWnd() {
 		this.grid = new PartitionsGrid(WIDTH, HEIGHT, PlayerSetting.createDefaultSettings((byte) 0, (byte) 10),
-				(x, y) -> blockedGrid.get(x + y * WIDTH));
+				(x, y) -> blockedGrid.get(x + y * WIDTH), new MatchContext(null, 0));
 	}
 
 	private void startTest() {
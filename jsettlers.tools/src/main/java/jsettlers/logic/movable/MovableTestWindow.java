@@ -25,7 +25,7 @@ import jsettlers.common.player.ECivilisation;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.common.action.PointAction;
 import jsettlers.input.SelectionSet;
-import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.movable.interfaces.ILogicMovable;
 import jsettlers.logic.movable.testmap.MovableTestsMap;
 import jsettlers.logic.player.Player;
@@ -35,7 +35,8 @@ import jsettlers.main.swing.resources.SwingResourceLoader;
 import jsettlers.network.synchronic.timer.NetworkTimer;
 
 public class MovableTestWindow {
-	private static final Player PLAYER_0 = new Player((byte) 0, new Team((byte) 0), (byte) 1, EPlayerType.HUMAN, ECivilisation.ROMAN);
+	private final MatchContext context = new MatchContext(new NetworkTimer(true), 1000);
+	private final Player player0 = new Player((byte) 0, new Team((byte) 0), (byte) 1, EPlayerType.HUMAN, ECivilisation.ROMAN, context);
 	private final ILogicMovable movable;
 
 	public static void main(String args[]) throws InterruptedException, JSettlersLookAndFeelExecption, IOException, SwingResourceLoader.ResourceSetupException {
@@ -43,13 +44,12 @@ public class MovableTestWindow {
 	}
 
 	private MovableTestWindow() throws InterruptedException, JSettlersLookAndFeelExecption, IOException, SwingResourceLoader.ResourceSetupException {
-		MatchConstants.init(new NetworkTimer(true), 1000);
-		MatchConstants.clock().startExecution();
+		context.clock().startExecution();
 
-		MovableTestsMap grid = new MovableTestsMap(100, 100, PLAYER_0);
+		MovableTestsMap grid = new MovableTestsMap(100, 100, player0, context);
 		IMapInterfaceConnector connector = TestToolUtils.openTestWindow(grid);
 
-		movable = new Movable(grid.getMovableGrid(), EMovableType.PIONEER, new ShortPoint2D(49, 50), PLAYER_0);
+		movable = new Movable(grid.getMovableGrid(), EMovableType.PIONEER, new ShortPoint2D(49, 50), player0);
 		movable.setSelected(true);
 
 		connector.setSelection(new SelectionSet(movable));
@@ -60,13 +60,13 @@ public class MovableTestWindow {
 				movable.moveTo(((PointAction) action).getPosition());
 				break;
 			case SPEED_FASTER:
-				MatchConstants.clock().multiplyGameSpeed(1.2f);
+				context.clock().multiplyGameSpeed(1.2f);
 				break;
 			case SPEED_SLOWER:
-				MatchConstants.clock().multiplyGameSpeed(1 / 1.2f);
+				context.clock().multiplyGameSpeed(1 / 1.2f);
 				break;
 			case FAST_FORWARD:
-				MatchConstants.clock().fastForward();
+				context.clock().fastForward();
 				break;
 			default:
 				break;
@@ -76,17 +76,17 @@ public class MovableTestWindow {
 		grid.getMovableGrid().dropMaterial(new ShortPoint2D(40, 40), EMaterialType.PLANK, true, false);
 		grid.getMovableGrid().dropMaterial(new ShortPoint2D(60, 60), EMaterialType.STONE, true, false);
 
-		new Movable(grid.getMovableGrid(), EMovableType.BEARER, new ShortPoint2D(30, 30), PLAYER_0);
-		new Movable(grid.getMovableGrid(), EMovableType.BEARER, new ShortPoint2D(31, 31), PLAYER_0);
-		new Movable(grid.getMovableGrid(), EMovableType.BEARER, new ShortPoint2D(32, 32), PLAYER_0);
-		new Movable(grid.getMovableGrid(), EMovableType.BEARER, new ShortPoint2D(33, 33), PLAYER_0);
+		new Movable(grid.getMovableGrid(), EMovableType.BEARER, new ShortPoint2D(30, 30), player0);
+		new Movable(grid.getMovableGrid(), EMovableType.BEARER, new ShortPoint2D(31, 31), player0);
+		new Movable(grid.getMovableGrid(), EMovableType.BEARER, new ShortPoint2D(32, 32), player0);
+		new Movable(grid.getMovableGrid(), EMovableType.BEARER, new ShortPoint2D(33, 33), player0);
 
-		new Movable(grid.getMovableGrid(), EMovableType.BEARER, new ShortPoint2D(50, 50), PLAYER_0);
+		new Movable(grid.getMovableGrid(), EMovableType.BEARER, new ShortPoint2D(50, 50), player0);
 
 		{// test automatic distribution of many movables next to each other
 			for (int x = 30; x < 40; x++) {
 				for (int y = 80; y < 90; y++) {
-					new Movable(grid.getMovableGrid(), EMovableType.BEARER, new ShortPoint2D(x, y), PLAYER_0);
+					new Movable(grid.getMovableGrid(), EMovableType.BEARER, new ShortPoint2D(x, y), player0);
 				}
 			}
 		}
@@ -94,9 +94,9 @@ public class MovableTestWindow {
 		{
 			Thread.sleep(3000L);
 			// circle of three movables blocking each others path
-			ILogicMovable m1 = new Movable(grid.getMovableGrid(), EMovableType.PIONEER, new ShortPoint2D(50, 65), PLAYER_0);
-			ILogicMovable m2 = new Movable(grid.getMovableGrid(), EMovableType.PIONEER, new ShortPoint2D(51, 65), PLAYER_0);
-			ILogicMovable m3 = new Movable(grid.getMovableGrid(), EMovableType.PIONEER, new ShortPoint2D(50, 64), PLAYER_0);
+			ILogicMovable m1 = new Movable(grid.getMovableGrid(), EMovableType.PIONEER, new ShortPoint2D(50, 65), player0);
+			ILogicMovable m2 = new Movable(grid.getMovableGrid(), EMovableType.PIONEER, new ShortPoint2D(51, 65), player0);
+			ILogicMovable m3 = new Movable(grid.getMovableGrid(), EMovableType.PIONEER, new ShortPoint2D(50, 64), player0);
 
 			m1.moveTo(new ShortPoint2D(52, 65));
 			m2.moveTo(new ShortPoint2D(49, 63));
@@ -17,7 +17,9 @@ package jsettlers.logic.movable.testmap;
 import java.util.LinkedList;
 
 import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.IPathRequestListener;
 import jsettlers.algorithms.path.Path;
+import jsettlers.algorithms.path.PreparedPath;
 import jsettlers.algorithms.path.astar.BucketQueueAStar;
 import jsettlers.algorithms.path.astar.IAStarPathMap;
 import jsettlers.common.Color;
@@ -35,7 +37,7 @@ import jsettlers.common.material.ESearchType;
 import jsettlers.common.movable.EDirection;
 import jsettlers.common.movable.IMovable;
 import jsettlers.common.position.ShortPoint2D;
-import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.constants.MatchContext;
 import jsettlers.logic.map.grid.partition.manager.manageables.IManageableBearer;
 import jsettlers.logic.map.grid.partition.manager.manageables.IManageableBricklayer;
 import jsettlers.logic.map.grid.partition.manager.manageables.IManageableDigger;
@@ -59,11 +61,13 @@ public class MovableTestsMap implements IGraphicsGrid, IAStarPathMap {
 	private final EMaterialType materialTypeMap[][];
 	private final byte materialAmountMap[][];
 	private final BucketQueueAStar aStar;
+	private final MatchContext context;
 
-	public MovableTestsMap(int width, int height, Player defaultPlayer) {
+	public MovableTestsMap(int width, int height, Player defaultPlayer, MatchContext context) {
 		this.width = (short) width;
 		this.height = (short) height;
 		this.defaultPlayer = defaultPlayer;
+		this.context = context;
 
 		this.movableMap = new ILogicMovable[width][height];
 		this.materialTypeMap = new EMaterialType[width][height];
@@ -138,6 +142,11 @@ public class MovableTestsMap implements IGraphicsGrid, IAStarPathMap {
 	private final AbstractMovableGrid movableGrid = new AbstractMovableGrid() {
 		private static final long serialVersionUID = 610513829074598238L;
 
+		@Override
+		public MatchContext getMatchContext() {
+			return context;
+		}
+
 		@Override
 		public void leavePosition(ShortPoint2D position, ILogicMovable movable) {
 			if (movableMap[position.x][position.y] == movable) {
@@ -168,11 +177,26 @@ public class MovableTestsMap implements IGraphicsGrid, IAStarPathMap {
 			return aStar.findPath(pathRequester, targetPos);
 		}
 
+		@Override
+		public Path calculatePathTo(IPathCalculatable pathRequester, ShortPoint2D targetPos, PreparedPath preparedPath) {
+			return calculatePathTo(pathRequester, targetPos);
+		}
+
+		@Override
+		public PreparedPath preparePathTo(IPathCalculatable pathRequester, ShortPoint2D targetPos) {
+			return null;
+		}
+
+		@Override
+		public void requestPathTo(IPathCalculatable pathRequester, ShortPoint2D targetPos, IPathRequestListener listener) {
+			listener.pathCalculated(calculatePathTo(pathRequester, targetPos));
+		}
+
 		@Override
 		public void addJobless(IManageableBearer bearer) {
 			if (!materials.isEmpty()) {
 				ShortPoint2D source = materials.pop();
-				final ShortPoint2D targetPos = new ShortPoint2D(MatchConstants.random().nextInt(width), MatchConstants.random().nextInt(height));
+				final ShortPoint2D targetPos = new ShortPoint2D(context.random().nextInt(width), context.random().nextInt(height));
 				bearer.deliver(materialTypeMap[source.x][source.y], new IMaterialOffer() {
 					@Override
 					public void distributionAccepted() {
@@ -387,6 +411,22 @@ public class MovableTestsMap implements IGraphicsGrid, IAStarPathMap {
 		public void removeJobless(IManageableBricklayer bricklayer) {
 		}
 
+		@Override
+		public void joblessPositionChanged(IManageableBearer bearer, ShortPoint2D oldPosition) {
+		}
+
+		@Override
+		public void joblessPositionChanged(IManageableWorker worker, ShortPoint2D oldPosition) {
+		}
+
+		@Override
+		public void joblessPositionChanged(IManageableDigger digger, ShortPoint2D oldPosition) {
+		}
+
+		@Override
+		public void joblessPositionChanged(IManageableBricklayer bricklayer, ShortPoint2D oldPosition) {
+		}
+
 		@Override
 		public ELandscapeType getLandscapeTypeAt(int x, int y) {
 			return ELandscapeType.GRASS;
@@ -425,8 +465,8 @@ public class MovableTestsMap implements IGraphicsGrid, IAStarPathMap {
 		}
 
 		@Override
-		public boolean isValidNextPathPosition(IPathCalculatable pathCalculatable, ShortPoint2D nextPos, ShortPoint2D targetPos) {
-			return isValidPosition(pathCalculatable, nextPos.x, nextPos.y);
+		public boolean isValidNextPathPosition(IPathCalculatable pathCalculatable, int nextX, int nextY, ShortPoint2D targetPos) {
+			return isValidPosition(pathCalculatable, nextX, nextY);
 		}
 
 		@Override
@@ -468,6 +508,11 @@ public class MovableTestsMap implements IGraphicsGrid, IAStarPathMap {
 		return 1;
 	}
 
+	@Override
+	public int getDynamicBlockedPartition(int x, int y) {
+		return 1;
+	}
+
 	@Override
 	public IPartitionData getPartitionData(int x, int y) {
 		return null;